@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons;
+
+import org.atlanmod.commons.annotation.Static;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * The entry point of the benchmarks.
+ * <p>
+ * Each selected benchmark is executed once per thread count, with the {@link GCProfiler} enabled so that the
+ * allocation rate is reported beside the throughput. Usage:
+ * <pre>{@code
+ * java [-Dbenchmarks.threads=1,4,8] -jar benchmarks.jar [regexp...]
+ * }</pre>
+ * By default, all benchmarks are executed with {@code 1} thread and with the number of available processors.
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class Benchmarks {
+
+    /**
+     * The system property that defines the comma-separated list of thread counts.
+     */
+    @Nonnull
+    private static final String THREADS_PROPERTY = "benchmarks.threads";
+
+    private Benchmarks() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Runs the benchmarks matching the given regular expressions, or all benchmarks if none is given.
+     *
+     * @param args the regular expressions of the benchmarks to run
+     *
+     * @throws RunnerException if an error occurs during the execution
+     */
+    public static void main(String[] args) throws RunnerException {
+        final String defaultThreads = "1," + Runtime.getRuntime().availableProcessors();
+
+        final int[] threads = Arrays.stream(System.getProperty(THREADS_PROPERTY, defaultThreads).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .distinct()
+                .toArray();
+
+        for (int t : threads) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .threads(t)
+                    .addProfiler(GCProfiler.class);
+
+            Arrays.stream(args).forEach(options::include);
+
+            new Runner(options.build()).run();
+        }
+    }
+}
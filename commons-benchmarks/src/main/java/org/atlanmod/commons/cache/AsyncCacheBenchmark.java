@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.atlanmod.commons.concurrent.MoreExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures the loading of {@link #count} missing keys with a slow loader, that simulates a disk read,
+ * by a synchronous {@link Cache} and by an {@link AsyncCache}.
+ * <p>
+ * The synchronous cache loads the keys one after the other, while the asynchronous cache overlaps their loads on its
+ * executor.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class AsyncCacheBenchmark extends AbstractBenchmark {
+
+    /**
+     * The time of a single load, in microseconds.
+     */
+    private static final long LOAD_TIME = 1000;
+
+    /**
+     * The number of keys to load.
+     */
+    @Param({"4", "16"})
+    public int count;
+
+    /**
+     * The keys to load.
+     */
+    private List<Integer> keys;
+
+    /**
+     * The executor of the asynchronous cache.
+     */
+    private ExecutorService executor;
+
+    /**
+     * A synchronous loading cache.
+     */
+    private Cache<Integer, Integer> cache;
+
+    /**
+     * An asynchronous loading cache.
+     */
+    private AsyncCache<Integer, Integer> asyncCache;
+
+    @Setup
+    public void setUp() {
+        keys = IntStream.range(0, count).boxed().collect(Collectors.toList());
+        executor = MoreExecutors.newFixedThreadPool(count, "loader");
+
+        cache = CacheBuilder.builder().build(AsyncCacheBenchmark::load);
+        asyncCache = CacheBuilder.builder().executor(executor).buildAsync(AsyncCacheBenchmark::load);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MoreExecutors.shutdown(executor, 1, TimeUnit.SECONDS, false);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> syncGetAll() {
+        cache.invalidateAll();
+        for (Integer key : keys) {
+            cache.get(key);
+        }
+        return cache.getAll(keys);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> asyncGetAll() {
+        asyncCache.synchronous().invalidateAll();
+        return asyncCache.getAllAsync(keys).join();
+    }
+
+    /**
+     * Loads the value of the {@code key}, blocking the current thread as an I/O would do.
+     *
+     * @param key the key to load
+     *
+     * @return the value of the key
+     */
+    private static Integer load(Integer key) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(LOAD_TIME));
+        return key;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures {@link Cache#getAll(Iterable)} on {@link #count} missing keys, with a backend that has a
+ * fixed cost per call, such as a disk seek or a network round-trip.
+ * <p>
+ * Without bulk loader, the missing keys are loaded one by one; with a bulk loader, they are loaded by a single call.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class BulkLoadBenchmark extends AbstractBenchmark {
+
+    /**
+     * The cost of a call to the backend, in microseconds.
+     */
+    private static final long CALL_TIME = 100;
+
+    /**
+     * The number of keys to load.
+     */
+    @Param({"16", "512"})
+    public int count;
+
+    /**
+     * The keys to load.
+     */
+    private List<Integer> keys;
+
+    /**
+     * A cache that loads the keys one by one.
+     */
+    private Cache<Integer, Integer> singleCache;
+
+    /**
+     * A cache that loads the missing keys with a bulk loader.
+     */
+    private Cache<Integer, Integer> bulkCache;
+
+    /**
+     * A manual cache, on which the missing keys are loaded with a bulk mapping function.
+     */
+    private Cache<Integer, Integer> manualCache;
+
+    /**
+     * The bulk mapping function.
+     */
+    private Function<Set<? extends Integer>, Map<Integer, Integer>> bulkMappingFunction;
+
+    @Setup
+    public void setUp() {
+        keys = IntStream.range(0, count).boxed().collect(Collectors.toList());
+        bulkMappingFunction = BulkLoadBenchmark::loadAll;
+
+        singleCache = CacheBuilder.builder().build(BulkLoadBenchmark::load);
+        bulkCache = CacheBuilder.builder().build(BulkLoadBenchmark::load, bulkMappingFunction);
+        manualCache = CacheBuilder.builder().build();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> singleLoads() {
+        singleCache.invalidateAll();
+        return singleCache.getAll(keys);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> bulkLoader() {
+        bulkCache.invalidateAll();
+        return bulkCache.getAll(keys);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> bulkFunction() {
+        manualCache.invalidateAll();
+        return manualCache.getAll(keys, bulkMappingFunction);
+    }
+
+    /**
+     * Loads the value of the {@code key} with a single call.
+     *
+     * @param key the key to load
+     *
+     * @return the value of the key
+     */
+    private static Integer load(Integer key) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(CALL_TIME));
+        return key;
+    }
+
+    /**
+     * Loads the values of the {@code keys} with a single call.
+     *
+     * @param keys the keys to load
+     *
+     * @return the values of the keys
+     */
+    private static Map<Integer, Integer> loadAll(Set<? extends Integer> keys) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(CALL_TIME));
+        return keys.stream().collect(Collectors.toMap(k -> k, k -> k));
+    }
+}
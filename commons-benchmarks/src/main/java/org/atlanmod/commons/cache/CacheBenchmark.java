@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures the {@code get} and {@code put} operations of {@link CaffeineManualCache} and
+ * {@link CaffeineLoadingCache}, on a working set of {@link #size} keys, with and without expiration.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class CacheBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of distinct keys.
+     */
+    @Param({"1024", "131072"})
+    public int size;
+
+    /**
+     * The pre-allocated keys, to avoid measuring the boxing of integers.
+     */
+    private Integer[] keys;
+
+    /**
+     * A manual cache, pre-filled with all {@link #keys}.
+     */
+    private Cache<Integer, Integer> manualCache;
+
+    /**
+     * A loading cache, pre-filled with all {@link #keys}.
+     */
+    private Cache<Integer, Integer> loadingCache;
+
+    /**
+     * A loading cache with expiration and refresh, pre-filled with all {@link #keys}.
+     */
+    private Cache<Integer, Integer> expiringCache;
+
+    @Setup
+    public void setUp() {
+        keys = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+
+        manualCache = CacheBuilder.builder().maximumSize(size).build();
+        loadingCache = CacheBuilder.builder().maximumSize(size).build(k -> (Integer) k);
+        expiringCache = CacheBuilder.builder().maximumSize(size)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .refreshAfterWrite(Duration.ofMinutes(5))
+                .build(k -> (Integer) k);
+
+        for (Integer key : keys) {
+            manualCache.put(key, key);
+            loadingCache.get(key);
+            expiringCache.get(key);
+        }
+    }
+
+    @Benchmark
+    public Integer manualGet(Cursor cursor) {
+        return manualCache.get(keys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public void manualPut(Cursor cursor) {
+        Integer key = keys[cursor.next(size)];
+        manualCache.put(key, key);
+    }
+
+    @Benchmark
+    public Integer loadingGet(Cursor cursor) {
+        return loadingCache.get(keys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public Integer expiringGet(Cursor cursor) {
+        return expiringCache.get(keys[cursor.next(size)]);
+    }
+
+    /**
+     * A per-thread position in the key set, so that each thread walks the keys in its own order.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        /**
+         * The current position.
+         */
+        private int position = (int) Thread.currentThread().getId() * 7919;
+
+        /**
+         * Returns the next position, lower than {@code bound}.
+         *
+         * @param bound the upper bound (exclusive); must be a power of 2
+         *
+         * @return the next position
+         */
+        int next(int bound) {
+            return (position += 0x9E37) & (bound - 1);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures {@link Cache#put(Object, Object)} on {@link #size} keys, when each modification is written
+ * to a storage immediately, and when the modifications are written behind by a {@link WriteBehindCache}.
+ * <p>
+ * The storage has a fixed cost per call.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class WriteBehindBenchmark extends AbstractBenchmark {
+
+    /**
+     * The cost of a call to the storage, in microseconds.
+     */
+    private static final long CALL_TIME = 50;
+
+    /**
+     * The number of distinct keys.
+     */
+    @Param({"1024", "65536"})
+    public int size;
+
+    /**
+     * The pre-allocated keys, to avoid measuring the boxing of integers.
+     */
+    private Integer[] keys;
+
+    /**
+     * The storage.
+     */
+    private SlowWriter writer;
+
+    /**
+     * The cache written through.
+     */
+    private Cache<Integer, Integer> cache;
+
+    /**
+     * The cache written behind.
+     */
+    private WriteBehindCache<Integer, Integer> writeBehindCache;
+
+    @Setup
+    public void setUp() {
+        keys = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        writer = new SlowWriter();
+
+        cache = CacheBuilder.builder().maximumSize(size).build();
+        writeBehindCache = CacheBuilder.writeBehind(CacheBuilder.builder().maximumSize(size).build(), writer, 512, 4096, Duration.ofMillis(100));
+    }
+
+    @TearDown
+    public void tearDown() {
+        writeBehindCache.close();
+    }
+
+    @Benchmark
+    public void writeThrough() {
+        Integer key = keys[ThreadLocalRandom.current().nextInt(size)];
+        cache.put(key, key);
+        writer.writeAll(Collections.singletonMap(key, key));
+    }
+
+    @Benchmark
+    public void writeBehind() {
+        Integer key = keys[ThreadLocalRandom.current().nextInt(size)];
+        writeBehindCache.put(key, key);
+    }
+
+    /**
+     * A {@link CacheWriter} with a fixed cost per call.
+     */
+    private static final class SlowWriter implements CacheWriter<Integer, Integer> {
+
+        @Override
+        public void writeAll(Map<? extends Integer, ? extends Integer> entries) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(CALL_TIME));
+        }
+
+        @Override
+        public void deleteAll(Set<? extends Integer> keys) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(CALL_TIME));
+        }
+    }
+}
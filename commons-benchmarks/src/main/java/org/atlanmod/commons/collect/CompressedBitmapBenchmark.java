@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares {@link CompressedBitmap} to {@link Flags} on two postings lists of identifiers between
+ * {@code 0} and {@link #UNIVERSE}, by intersecting them and by iterating over their values.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class CompressedBitmapBenchmark extends AbstractBenchmark {
+
+    /**
+     * The greatest identifier.
+     */
+    private static final int UNIVERSE = 1 << 24;
+
+    /**
+     * The number of identifiers of each list.
+     */
+    @Param({"10000", "1000000"})
+    private int count;
+
+    /**
+     * The left list, as a bitmap.
+     */
+    private CompressedBitmap leftBitmap;
+
+    /**
+     * The right list, as a bitmap.
+     */
+    private CompressedBitmap rightBitmap;
+
+    /**
+     * The left list, as flags.
+     */
+    private Flags leftFlags;
+
+    /**
+     * The right list, as flags.
+     */
+    private Flags rightFlags;
+
+    /**
+     * The reusable result of the intersection of flags.
+     */
+    private Flags target;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(count);
+        leftBitmap = new CompressedBitmap();
+        rightBitmap = new CompressedBitmap();
+        leftFlags = new Flags(UNIVERSE);
+        rightFlags = new Flags(UNIVERSE);
+        target = new Flags(UNIVERSE);
+
+        for (int i = 0; i < count; i++) {
+            final int left = random.nextInt(UNIVERSE);
+            leftBitmap.set(left);
+            leftFlags.set(left);
+
+            final int right = random.nextInt(UNIVERSE);
+            rightBitmap.set(right);
+            rightFlags.set(right);
+        }
+        leftBitmap.optimize();
+        rightBitmap.optimize();
+    }
+
+    @Benchmark
+    public long bitmapAnd() {
+        final CompressedBitmap result = leftBitmap.copy();
+        result.and(rightBitmap);
+        return result.cardinality();
+    }
+
+    @Benchmark
+    public int flagsAnd() {
+        target.clear(0, UNIVERSE);
+        target.or(leftFlags);
+        target.and(rightFlags);
+        return target.cardinality();
+    }
+
+    @Benchmark
+    public long bitmapIterate() {
+        final long[] sum = new long[1];
+        leftBitmap.forEach(v -> sum[0] += v);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long flagsIterate() {
+        long sum = 0;
+        for (int i = leftFlags.nextSetBit(0); i >= 0; i = leftFlags.nextSetBit(i + 1)) {
+            sum += i;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures the contention of threads marking random bits of the same set, with the lock-free
+ * {@link ConcurrentFlags#setIfAbsent(int)} and with a {@link Flags} guarded by a lock.
+ * <p>
+ * A small set makes all threads modify the same words; a large set spreads them.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class ConcurrentFlagsBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of threads.
+     */
+    private static final int THREADS = 4;
+
+    /**
+     * The number of bits of the set.
+     */
+    @Param({"64", "1048576"})
+    private int size;
+
+    /**
+     * The lock-free set.
+     */
+    private ConcurrentFlags concurrent;
+
+    /**
+     * The set guarded by a lock.
+     */
+    private SynchronizedFlags synchronizedFlags;
+
+    @Setup
+    public void setUp() {
+        concurrent = new ConcurrentFlags(size);
+        synchronizedFlags = new SynchronizedFlags(size);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public boolean concurrentSetIfAbsent() {
+        final int index = ThreadLocalRandom.current().nextInt(size);
+        concurrent.clear(index);
+        return concurrent.setIfAbsent(index);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public boolean synchronizedSetIfAbsent() {
+        final int index = ThreadLocalRandom.current().nextInt(size);
+        synchronizedFlags.clear(index);
+        return synchronizedFlags.setIfAbsent(index);
+    }
+
+    /**
+     * A {@link Flags} with synchronized methods.
+     */
+    private static final class SynchronizedFlags {
+
+        /**
+         * The guarded set.
+         */
+        private final Flags flags;
+
+        /**
+         * Creates a set with a predetermined number of elements.
+         *
+         * @param size the number of elements
+         */
+        SynchronizedFlags(int size) {
+            flags = new Flags(size);
+        }
+
+        /**
+         * Sets the bit at the specified index to true, if it is not already set.
+         *
+         * @param index a bit index
+         *
+         * @return {@code true} if the bit has been set by this call
+         */
+        synchronized boolean setIfAbsent(int index) {
+            if (flags.get(index)) {
+                return false;
+            }
+            flags.set(index);
+            return true;
+        }
+
+        /**
+         * Sets the bit at the specified index to false.
+         *
+         * @param index a bit index
+         */
+        synchronized void clear(int index) {
+            flags.clear(index);
+        }
+    }
+}
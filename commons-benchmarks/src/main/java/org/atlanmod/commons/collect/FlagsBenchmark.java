@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures the word-level operations of {@link Flags} against a bit-per-bit loop on {@link
+ * Flags#get(int)}, against {@link BitSet}, and against the atomic operations of {@link OffHeapFlags}.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class FlagsBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of bits of each set.
+     */
+    private static final int SIZE = 1 << 16;
+
+    /**
+     * The percentage of set bits.
+     */
+    @Param({"1", "50"})
+    private int density;
+
+    /**
+     * The left operand.
+     */
+    private Flags left;
+
+    /**
+     * The right operand.
+     */
+    private Flags right;
+
+    /**
+     * The reusable result of the operations.
+     */
+    private Flags target;
+
+    /**
+     * The left operand, off-heap.
+     */
+    private OffHeapFlags leftOffHeap;
+
+    /**
+     * The right operand, off-heap.
+     */
+    private OffHeapFlags rightOffHeap;
+
+    /**
+     * The reusable result of the off-heap operations.
+     */
+    private OffHeapFlags targetOffHeap;
+
+    /**
+     * The left operand, as a {@link BitSet}.
+     */
+    private BitSet leftBitSet;
+
+    /**
+     * The right operand, as a {@link BitSet}.
+     */
+    private BitSet rightBitSet;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SIZE);
+        left = new Flags(SIZE);
+        right = new Flags(SIZE);
+        target = new Flags(SIZE);
+        leftOffHeap = OffHeapFlags.allocateDirect(SIZE);
+        rightOffHeap = OffHeapFlags.allocateDirect(SIZE);
+        targetOffHeap = OffHeapFlags.allocateDirect(SIZE);
+        leftBitSet = new BitSet(SIZE);
+        rightBitSet = new BitSet(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            if (random.nextInt(100) < density) {
+                left.set(i);
+                leftOffHeap.set(i);
+                leftBitSet.set(i);
+            }
+            if (random.nextInt(100) < density) {
+                right.set(i);
+                rightOffHeap.set(i);
+                rightBitSet.set(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public int cardinalityWithGet() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (left.get(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int cardinality() {
+        return left.cardinality();
+    }
+
+    @Benchmark
+    public int cardinalityOffHeap() {
+        return leftOffHeap.cardinality();
+    }
+
+    @Benchmark
+    public long iterateWithGet() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (left.get(i)) {
+                sum += i;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateWithNextSetBit() {
+        long sum = 0;
+        for (int i = left.nextSetBit(0); i >= 0; i = left.nextSetBit(i + 1)) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int orCardinality() {
+        target.clear(0, SIZE);
+        target.or(left);
+        target.or(right);
+        return target.cardinality();
+    }
+
+    @Benchmark
+    public int orCardinalityOffHeap() {
+        targetOffHeap.clear(0, SIZE);
+        targetOffHeap.or(leftOffHeap);
+        targetOffHeap.or(rightOffHeap);
+        return targetOffHeap.cardinality();
+    }
+
+    @Benchmark
+    public int orCardinalityBitSet() {
+        BitSet result = (BitSet) leftBitSet.clone();
+        result.or(rightBitSet);
+        return result.cardinality();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares the hashing of a batch of {@link #size} keys one at a time, with
+ * {@link Hasher#hashAll(long[], long[])} and with {@link Hasher#parallelHashAll(long[], long[])}.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class BulkHasherBenchmark extends AbstractBenchmark {
+
+    /**
+     * The name of the hasher, as defined in {@link StandardHashers}.
+     */
+    @Param({"MURMUR3", "XX", "XX128"})
+    public String hasher;
+
+    /**
+     * The number of keys in a batch.
+     */
+    @Param({"1024", "1048576"})
+    public int size;
+
+    /**
+     * The hasher under test.
+     */
+    private Hasher instance;
+
+    /**
+     * The keys to hash.
+     */
+    private long[] keys;
+
+    /**
+     * The hash codes of the keys.
+     */
+    private long[] hashes;
+
+    @Setup
+    public void setUp() {
+        instance = StandardHashers.forName(hasher);
+        keys = new Random(size).longs(size).toArray();
+        hashes = new long[size];
+    }
+
+    @Benchmark
+    public long[] oneByOne() {
+        for (int i = 0; i < keys.length; i++) {
+            hashes[i] = instance.hashToLong(keys[i]);
+        }
+        return hashes;
+    }
+
+    @Benchmark
+    public long[] hashAll() {
+        instance.hashAll(keys, hashes);
+        return hashes;
+    }
+
+    @Benchmark
+    public long[] parallelHashAll() {
+        instance.parallelHashAll(keys, hashes);
+        return hashes;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures the use of {@code SHA-256} digests as {@link HashMap} keys, with a {@link BinaryHashCode}
+ * and with a {@link CompactHashCode}.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class HashCodeBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of keys in the map.
+     */
+    private static final int SIZE = 1 << 16;
+
+    /**
+     * The representation of the hash codes.
+     */
+    @Param({"binary", "compact"})
+    public String representation;
+
+    /**
+     * The map under test.
+     */
+    private Map<HashCode, Integer> map;
+
+    /**
+     * Copies of the keys of the {@link #map}, that are equal but not identical.
+     */
+    private HashCode[] keys;
+
+    /**
+     * The index of the next key to look up.
+     */
+    private int index;
+
+    @Setup
+    public void setUp() {
+        final Function<byte[], HashCode> factory = "binary".equals(representation)
+                ? BinaryHashCode::new
+                : CompactHashCode::new;
+
+        map = new HashMap<>(SIZE * 2);
+        keys = new HashCode[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            final byte[] digest = StandardHashers.SHA256.hash(i).toBytes();
+            map.put(factory.apply(digest), i);
+            keys[i] = factory.apply(digest.clone());
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        return map.get(keys[index++ & (SIZE - 1)]);
+    }
+
+    @Benchmark
+    public String toHexString() {
+        return keys[index++ & (SIZE - 1)].toHexString();
+    }
+}
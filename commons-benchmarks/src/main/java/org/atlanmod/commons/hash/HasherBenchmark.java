@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures every {@link StandardHashers} entry, on {@code byte} arrays and direct buffers of
+ * {@link #size} bytes, and on primitive values.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class HasherBenchmark extends AbstractBenchmark {
+
+    /**
+     * The name of the hasher, as defined in {@link StandardHashers}.
+     */
+    @Param({"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO", "XX3", "MURMUR3_128", "XX128"})
+    public String hasher;
+
+    /**
+     * The size of the hashed array, in bytes.
+     */
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    /**
+     * The hasher under test.
+     */
+    private Hasher instance;
+
+    /**
+     * The data to hash.
+     */
+    private byte[] data;
+
+    /**
+     * The data to hash, in a direct buffer.
+     */
+    private ByteBuffer directData;
+
+    @Setup
+    public void setUp() {
+        instance = StandardHashers.forName(hasher);
+
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+
+        directData = ByteBuffer.allocateDirect(size).put(data).flip();
+    }
+
+    @Benchmark
+    public HashCode hashBytes() {
+        return instance.hash(data);
+    }
+
+    @Benchmark
+    public HashCode hashDirectBuffer() {
+        return instance.hash(directData);
+    }
+
+    @Benchmark
+    public HashCode hashLong() {
+        return instance.hash((long) size);
+    }
+
+    @Benchmark
+    public long hashBytesToLong() {
+        return instance.hashToLong(data);
+    }
+
+    @Benchmark
+    public long hashLongToLong() {
+        return instance.hashToLong((long) size);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.MessageDigest;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares the per-thread digests of {@link NativeHasher} against a single digest shared behind a
+ * lock. Run it with several thread counts to observe the scalability.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class NativeHasherBenchmark extends AbstractBenchmark {
+
+    /**
+     * The name of the algorithm, as defined in {@link MessageDigest}.
+     */
+    @Param({"MD5", "SHA-256"})
+    public String algorithm;
+
+    /**
+     * The size of the hashed array, in bytes.
+     */
+    @Param({"64", "4096"})
+    public int size;
+
+    /**
+     * The hasher using per-thread digests.
+     */
+    private Hasher concurrent;
+
+    /**
+     * The hasher using a single digest, guarded by a lock.
+     */
+    private Hasher synchronizedHasher;
+
+    /**
+     * The data to hash.
+     */
+    private byte[] data;
+
+    @Setup
+    public void setUp() throws Exception {
+        concurrent = new NativeHasher(algorithm);
+
+        final MessageDigest shared = MessageDigest.getInstance(algorithm);
+        synchronizedHasher = bytes -> {
+            synchronized (shared) {
+                return new BinaryHashCode(shared.digest(bytes));
+            }
+        };
+
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+    }
+
+    @Benchmark
+    public HashCode perThread() {
+        return concurrent.hash(data);
+    }
+
+    @Benchmark
+    public HashCode locked() {
+        return synchronizedHasher.hash(data);
+    }
+}
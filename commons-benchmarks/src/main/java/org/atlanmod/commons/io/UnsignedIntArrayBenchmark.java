@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares {@link #SIZE} counters stored as {@link UnsignedInt}s to counters stored in an
+ * {@link UnsignedIntArray}, by incrementing random counters and summing all of them.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class UnsignedIntArrayBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of counters.
+     */
+    private static final int SIZE = 1 << 20;
+
+    /**
+     * The number of counters incremented in each invocation.
+     */
+    private static final int UPDATES = 1024;
+
+    /**
+     * The boxed counters.
+     */
+    private UnsignedInt[] boxed;
+
+    /**
+     * The packed counters.
+     */
+    private UnsignedIntArray packed;
+
+    /**
+     * The indices of the counters to increment.
+     */
+    private int[] indices;
+
+    @Setup
+    public void setUp() {
+        boxed = new UnsignedInt[SIZE];
+        Arrays.fill(boxed, UnsignedInt.fromLong(0));
+        packed = new UnsignedIntArray(SIZE);
+        indices = new Random(SIZE).ints(UPDATES, 0, SIZE).toArray();
+    }
+
+    @Benchmark
+    public UnsignedInt[] boxedIncrement() {
+        for (int index : indices) {
+            boxed[index] = UnsignedInt.fromLong(boxed[index].longValue() + 1);
+        }
+        return boxed;
+    }
+
+    @Benchmark
+    public UnsignedIntArray packedIncrement() {
+        for (int index : indices) {
+            packed.add(index, 1);
+        }
+        return packed;
+    }
+
+    @Benchmark
+    public long boxedSum() {
+        long sum = 0;
+        for (UnsignedInt value : boxed) {
+            sum += value.longValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long packedSum() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += packed.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares {@link VarInts} to {@link UnsignedVarInt} on a sorted list of {@link #SIZE} identifiers,
+ * and the plain encoding of the list to its delta encoding.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class VarIntsBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of identifiers.
+     */
+    private static final int SIZE = 1024;
+
+    /**
+     * The sorted identifiers.
+     */
+    private long[] ids;
+
+    /**
+     * The plain encoding of {@link #ids}.
+     */
+    private byte[] plain;
+
+    /**
+     * The delta encoding of {@link #ids}.
+     */
+    private byte[] deltas;
+
+    /**
+     * The reusable array of bytes.
+     */
+    private byte[] bytes;
+
+    /**
+     * The reusable array of identifiers.
+     */
+    private long[] values;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SIZE);
+        ids = new long[SIZE];
+        long current = 1L << 32;
+        for (int i = 0; i < SIZE; i++) {
+            current += 1 + random.nextInt(200);
+            ids[i] = current;
+        }
+
+        plain = new byte[VarInts.sizeOf(ids, 0, SIZE)];
+        VarInts.writeLongs(ids, 0, SIZE, plain, 0);
+
+        deltas = new byte[VarInts.deltaSizeOf(ids, 0, SIZE)];
+        VarInts.writeDeltas(ids, 0, SIZE, deltas, 0);
+
+        bytes = new byte[SIZE * VarInts.MAX_LONG_SIZE];
+        values = new long[SIZE];
+    }
+
+    @Benchmark
+    public int unsignedVarIntToBytes() {
+        int size = 0;
+        for (long id : ids) {
+            final byte[] encoded = UnsignedVarInt.fromLong(id).toBytes();
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long unsignedVarIntFromBytes() {
+        long sum = 0;
+        for (int i = 0, index = 0; i < SIZE; i++) {
+            final int length = VarInts.sizeOf(ids[i]);
+            final byte[] encoded = new byte[length];
+            System.arraycopy(plain, index, encoded, 0, length);
+            sum += UnsignedVarInt.fromBytes(encoded).longValue();
+            index += length;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int writeLongs() {
+        return VarInts.writeLongs(ids, 0, SIZE, bytes, 0);
+    }
+
+    @Benchmark
+    public int readLongs() {
+        return VarInts.readLongs(plain, 0, values, 0, SIZE);
+    }
+
+    @Benchmark
+    public int writeDeltas() {
+        return VarInts.writeDeltas(ids, 0, SIZE, bytes, 0);
+    }
+
+    @Benchmark
+    public int readDeltas() {
+        return VarInts.readDeltas(deltas, 0, values, 0, SIZE);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.atlanmod.commons.primitive.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares the allocation-free methods of {@link Base16Codec} and {@link Base64Codec} to the encoding
+ * in a new string and to {@link Base64}, on arrays of {@link #size} bytes, and measures the encoding of {@code long}
+ * identifiers with a {@link StringSerializer}.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class CodecBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of bytes to encode.
+     */
+    @Param({"8", "1024"})
+    public int size;
+
+    /**
+     * The data to encode.
+     */
+    private byte[] data;
+
+    /**
+     * The Base16 representation of {@link #data}.
+     */
+    private String base16;
+
+    /**
+     * The Base64 representation of {@link #data}.
+     */
+    private String base64;
+
+    /**
+     * The reusable array of characters.
+     */
+    private char[] chars;
+
+    /**
+     * The reusable array of bytes.
+     */
+    private byte[] bytes;
+
+    /**
+     * The reusable builder.
+     */
+    private StringBuilder builder;
+
+    /**
+     * The Base16 serializer of identifiers.
+     */
+    private StringSerializer<Long> idSerializer;
+
+    /**
+     * The identifier to encode.
+     */
+    private long id;
+
+    @Setup
+    public void setUp() {
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+
+        base16 = Base16Codec.encode(data);
+        base64 = Base64.getEncoder().encodeToString(data);
+
+        chars = new char[size * 2];
+        bytes = new byte[size * 2];
+        builder = new StringBuilder(size * 2);
+
+        idSerializer = StringSerializerFactory.base16(BinarySerializerFactory.getInstance().forType(Long.class));
+        id = new Random(size).nextLong();
+    }
+
+    @Benchmark
+    public String base16ToString() {
+        return Base16Codec.encode(data);
+    }
+
+    @Benchmark
+    public int base16IntoChars() {
+        return Base16Codec.encode(data, 0, data.length, chars, 0);
+    }
+
+    @Benchmark
+    public int base16IntoBytes() {
+        return Base16Codec.encode(data, 0, data.length, bytes, 0);
+    }
+
+    @Benchmark
+    public byte[] base16DecodeLegacy() {
+        return Strings.toBytesBinary(base16);
+    }
+
+    @Benchmark
+    public int base16Decode() {
+        return Base16Codec.decode(base16, 0, base16.length(), bytes, 0);
+    }
+
+    @Benchmark
+    public String base64Jdk() {
+        return Base64.getEncoder().encodeToString(data);
+    }
+
+    @Benchmark
+    public String base64ToString() {
+        return Base64Codec.encode(data);
+    }
+
+    @Benchmark
+    public int base64IntoBytes() {
+        return Base64Codec.encode(data, 0, data.length, bytes, 0);
+    }
+
+    @Benchmark
+    public byte[] base64DecodeJdk() {
+        return Base64.getDecoder().decode(base64);
+    }
+
+    @Benchmark
+    public int base64Decode() {
+        return Base64Codec.decode(base64, 0, base64.length(), bytes, 0);
+    }
+
+    @Benchmark
+    public String idToString() throws IOException {
+        return idSerializer.serialize(id);
+    }
+
+    @Benchmark
+    public int idIntoBuilder() throws IOException {
+        builder.setLength(0);
+        idSerializer.serialize(id, builder);
+        return builder.length();
+    }
+}
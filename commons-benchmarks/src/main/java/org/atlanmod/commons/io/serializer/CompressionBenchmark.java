@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares the throughput of each {@link Compression} on a FST payload of {@link #size} records, to
+ * the uncompressed serialization ({@code NONE}).
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class CompressionBenchmark extends AbstractBenchmark {
+
+    /**
+     * The name of the compression, as defined in {@link Compression}, or {@code NONE}.
+     */
+    @Param({"NONE", "DEFLATE", "DEFLATE_FAST", "LZ"})
+    public String compression;
+
+    /**
+     * The number of records in the serialized list.
+     */
+    @Param({"16", "1024"})
+    public int size;
+
+    /**
+     * The serializer under test.
+     */
+    private BinarySerializer<ArrayList<String>> serializer;
+
+    /**
+     * The object to serialize.
+     */
+    private ArrayList<String> value;
+
+    /**
+     * The serialized object.
+     */
+    private byte[] data;
+
+    @Setup
+    public void setUp() throws IOException {
+        final BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        final BinarySerializer<ArrayList<String>> delegate = factory.forAny();
+        serializer = "NONE".equals(compression)
+                ? delegate
+                : factory.compressed(delegate, Compression.valueOf(compression), 0);
+
+        // Records with a repetitive structure, as found in caches and logs
+        Random random = new Random(size);
+        value = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            value.add("{id=" + i + ", kind=" + (random.nextInt(4) == 0 ? "attribute" : "reference") + ", value=" + random.nextInt(1000) + "}");
+        }
+
+        data = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public ArrayList<String> deserialize() throws IOException {
+        return serializer.deserialize(data);
+    }
+}
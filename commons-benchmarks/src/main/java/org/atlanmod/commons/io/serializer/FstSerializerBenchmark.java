@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares the FST serialization with the shared configuration and with a configuration per thread,
+ * when returning a new array and when writing in an existing one. Run it with several thread counts to observe the
+ * contention.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class FstSerializerBenchmark extends AbstractBenchmark {
+
+    /**
+     * The FST configuration: {@code shared} or {@code perThread}.
+     */
+    @Param({"shared", "perThread"})
+    public String configuration;
+
+    /**
+     * The number of elements in the serialized list.
+     */
+    @Param({"1", "64", "4096"})
+    public int size;
+
+    /**
+     * The serializer under test.
+     */
+    private BinarySerializer<ArrayList<Integer>> serializer;
+
+    /**
+     * The object to serialize.
+     */
+    private ArrayList<Integer> value;
+
+    @Setup
+    public void setUp() {
+        final BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        serializer = "shared".equals(configuration) ? factory.forAny() : factory.forAnyPerThread();
+
+        Random random = new Random(size);
+        value = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            value.add(random.nextInt());
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public int serializeIntoArray(Output output) throws IOException {
+        return serializer.serialize(value, output.array, 0);
+    }
+
+    /**
+     * The destination array of each thread.
+     */
+    @State(Scope.Thread)
+    public static class Output {
+
+        /**
+         * The reusable array, large enough for any serialized list.
+         */
+        byte[] array = new byte[1 << 16];
+    }
+}
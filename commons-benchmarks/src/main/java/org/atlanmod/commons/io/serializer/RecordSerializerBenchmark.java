@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.atlanmod.commons.collect.CloseableIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures the serialization of a sequence of {@link #count} records, one by one with
+ * {@link BinarySerializer#serialize(Object, java.io.OutputStream)}, and as a whole with
+ * {@link BinarySerializer#serializeAll(Iterable, java.io.OutputStream)} and
+ * {@link BinarySerializer#deserializeAll(java.io.InputStream)}.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class RecordSerializerBenchmark extends AbstractBenchmark {
+
+    /**
+     * The serializer: {@code object} for FST, or {@code value} for the built-in {@code String} serializer.
+     */
+    @Param({"object", "value"})
+    public String serializer;
+
+    /**
+     * The number of records.
+     */
+    @Param({"1024"})
+    public int count;
+
+    /**
+     * The serializer under test.
+     */
+    private BinarySerializer<String> instance;
+
+    /**
+     * The records to serialize.
+     */
+    private List<String> records;
+
+    /**
+     * The serialized records.
+     */
+    private byte[] data;
+
+    @Setup
+    public void setUp() throws IOException {
+        final BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        instance = "value".equals(serializer) ? factory.forType(String.class) : factory.forAny();
+
+        records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add("record-" + i);
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        instance.serializeAll(records, baos);
+        data = baos.toByteArray();
+    }
+
+    @Benchmark
+    public int serializeOneByOne() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length);
+        for (String record : records) {
+            instance.serialize(record, baos);
+        }
+        return baos.size();
+    }
+
+    @Benchmark
+    public int serializeAll() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length);
+        instance.serializeAll(records, baos);
+        return baos.size();
+    }
+
+    @Benchmark
+    public void deserializeAll(Blackhole blackhole) {
+        try (CloseableIterator<String> it = instance.deserializeAll(new ByteArrayInputStream(data))) {
+            it.forEachRemaining(blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures the round-trips of {@link ObjectBinarySerializer}, {@link Base16Serializer} and
+ * {@link Base64Serializer}, on lists of {@link #size} integers.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class SerializerBenchmark extends AbstractBenchmark {
+
+    /**
+     * The number of elements in the serialized list.
+     */
+    @Param({"1", "64", "4096"})
+    public int size;
+
+    /**
+     * The binary serializer under test.
+     */
+    private BinarySerializer<ArrayList<Integer>> binarySerializer;
+
+    /**
+     * The Base16 serializer under test.
+     */
+    private StringSerializer<ArrayList<Integer>> base16Serializer;
+
+    /**
+     * The Base64 serializer under test.
+     */
+    private StringSerializer<ArrayList<Integer>> base64Serializer;
+
+    /**
+     * The object to serialize.
+     */
+    private ArrayList<Integer> value;
+
+    /**
+     * The binary form of {@link #value}.
+     */
+    private byte[] binary;
+
+    /**
+     * The Base16 form of {@link #value}.
+     */
+    private String base16;
+
+    /**
+     * The Base64 form of {@link #value}.
+     */
+    private String base64;
+
+    @Setup
+    public void setUp() throws IOException {
+        binarySerializer = BinarySerializerFactory.getInstance().forAny();
+        base16Serializer = StringSerializerFactory.base16(binarySerializer);
+        base64Serializer = StringSerializerFactory.base64(binarySerializer);
+
+        Random random = new Random(size);
+        value = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            value.add(random.nextInt());
+        }
+
+        binary = binarySerializer.serialize(value);
+        base16 = base16Serializer.serialize(value);
+        base64 = base64Serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() throws IOException {
+        return binarySerializer.serialize(value);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> binaryDeserialize() throws IOException {
+        return binarySerializer.deserialize(binary);
+    }
+
+    @Benchmark
+    public String base16Serialize() throws IOException {
+        return base16Serializer.serialize(value);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> base16Deserialize() throws IOException {
+        return base16Serializer.deserialize(base16);
+    }
+
+    @Benchmark
+    public String base64Serialize() throws IOException {
+        return base64Serializer.serialize(value);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> base64Deserialize() throws IOException {
+        return base64Serializer.deserialize(base64);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that compares the generic serializer of {@link BinarySerializerFactory#forAny()} with the dedicated
+ * serializers of {@link BinarySerializerFactory#forType(Class)}, on a {@link Long} and on a {@link String}.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class ValueSerializerBenchmark extends AbstractBenchmark {
+
+    /**
+     * The kind of serializer: {@code any} or {@code type}.
+     */
+    @Param({"any", "type"})
+    public String serializer;
+
+    /**
+     * The serializer of {@link Long}s under test.
+     */
+    private BinarySerializer<Long> longSerializer;
+
+    /**
+     * The serializer of {@link String}s under test.
+     */
+    private BinarySerializer<String> stringSerializer;
+
+    /**
+     * The binary form of a {@link Long}.
+     */
+    private byte[] longData;
+
+    /**
+     * The binary form of a {@link String}.
+     */
+    private byte[] stringData;
+
+    @Setup
+    public void setUp() throws IOException {
+        final BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        final boolean any = "any".equals(serializer);
+
+        longSerializer = any ? factory.forAny() : factory.forType(Long.class);
+        stringSerializer = any ? factory.forAny() : factory.forType(String.class);
+
+        longData = longSerializer.serialize(0x123456789L);
+        stringData = stringSerializer.serialize("org.atlanmod.commons.io.serializer");
+    }
+
+    @Benchmark
+    public byte[] serializeLong() throws IOException {
+        return longSerializer.serialize(0x123456789L);
+    }
+
+    @Benchmark
+    public Long deserializeLong() throws IOException {
+        return longSerializer.deserialize(longData);
+    }
+
+    @Benchmark
+    public byte[] serializeString() throws IOException {
+        return stringSerializer.serialize("org.atlanmod.commons.io.serializer");
+    }
+
+    @Benchmark
+    public String deserializeString() throws IOException {
+        return stringSerializer.deserialize(stringData);
+    }
+}
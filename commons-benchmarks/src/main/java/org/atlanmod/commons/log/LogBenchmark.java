@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A benchmark that measures {@link Log#info(CharSequence, Object...)} through the {@link AsyncLogger}, with messages of
+ * {@link #size} characters.
+ * <p>
+ * The measured time is the time spent by the caller: the formatting and the writing are done asynchronously. The
+ * output is redirected to a temporary file.
+ */
+@State(Scope.Benchmark)
+@ParametersAreNonnullByDefault
+public class LogBenchmark extends AbstractBenchmark {
+
+    /**
+     * The length of the logged message.
+     */
+    @Param({"16", "256"})
+    public int size;
+
+    /**
+     * The logged message, with one parameter.
+     */
+    private String message;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Must be defined before the first use of the logger
+        File output = File.createTempFile("benchmark", ".log");
+        output.deleteOnExit();
+        System.setProperty("org.slf4j.simpleLogger.logFile", output.getAbsolutePath());
+
+        char[] chars = new char[Math.max(0, size - 3)];
+        Arrays.fill(chars, 'x');
+        message = new String(chars) + "{0}";
+    }
+
+    @Benchmark
+    public void infoEnabled() {
+        Log.info(message, size);
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        Log.debug(message, size);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A semi-persistent mapping from keys to the asynchronous computations of their values. Values are loaded by the
+ * loader given to {@link CacheBuilder#buildAsync(Function)}, on the {@link CacheBuilder#executor(Executor) executor}
+ * of the cache, and are stored in the cache until either evicted or manually invalidated.
+ * <p>
+ * The calling thread is never blocked by a load: misses on distinct keys are loaded concurrently, and concurrent
+ * requests of a key that is being loaded share the same {@link CompletableFuture}, so each key is loaded at most once
+ * at a time. If a computation completes exceptionally or with {@code null}, the entry is automatically removed.
+ * <p>
+ * Implementations of this interface are expected to be thread-safe, and can be safely accessed by multiple concurrent
+ * threads.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ *
+ * @see Cache
+ * @since 1.1.1
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public interface AsyncCache<K, V> {
+
+    /**
+     * Returns the future value associated with the {@code key} in this cache, or {@code null} if there is no cached
+     * future value for the {@code key}.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return the future value to which the specified key is mapped, or {@code null} if this cache contains no mapping
+     * for the key
+     */
+    @Nullable
+    CompletableFuture<V> getIfPresent(K key);
+
+    /**
+     * Returns the future value associated with the {@code key} in this cache, loading that value asynchronously if
+     * necessary. If the {@code key} is being loaded by another call, the future of this load is returned.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return the current (existing or computed) future value associated with the specified key
+     */
+    @Nonnull
+    CompletableFuture<V> getAsync(K key);
+
+    /**
+     * Returns the future value associated with the {@code key} in this cache, obtaining that value from the {@code
+     * mappingFunction} if necessary. The {@code mappingFunction} is executed asynchronously, instead of the loader of
+     * this cache.
+     *
+     * @param key             the key whose associated value is to be returned
+     * @param mappingFunction the function to compute a value
+     *
+     * @return the current (existing or computed) future value associated with the specified key
+     */
+    @Nonnull
+    CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Returns the future map of the values associated with the {@code keys} in this cache, loading the missing values
+     * asynchronously.
+     * <p>
+     * All the missing keys are requested at once, so their loads overlap; keys that are already being loaded are not
+     * loaded again. The returned future completes when all the values are loaded, and exceptionally if any load fails.
+     * The entries whose value is loaded as {@code null} are not included in the returned map.
+     *
+     * @param keys the keys whose associated values are to be returned
+     *
+     * @return the future unmodifiable mapping of keys to values for the specified keys
+     */
+    @Nonnull
+    CompletableFuture<Map<K, V>> getAllAsync(Iterable<? extends K> keys);
+
+    /**
+     * Returns the future map of the values associated with the {@code keys} in this cache, obtaining the missing values
+     * from the {@code mappingFunction}.
+     * <p>
+     * The {@code mappingFunction} is executed asynchronously and once, with the set of all the keys that are neither
+     * present nor being loaded in this cache, instead of the loader of this cache.
+     *
+     * @param keys            the keys whose associated values are to be returned
+     * @param mappingFunction the function to compute the values of the missing keys
+     *
+     * @return the future unmodifiable mapping of keys to values for the specified keys
+     *
+     * @see Cache#getAll(Iterable, Function)
+     */
+    @Nonnull
+    CompletableFuture<Map<K, V>> getAllAsync(Iterable<? extends K> keys, Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> mappingFunction);
+
+    /**
+     * Associates the {@code value} with the {@code key} in this cache. If the cache previously contained a value
+     * associated with the {@code key}, the old value is replaced by the new {@code value}.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the future value to be associated with the specified key
+     */
+    void put(K key, CompletableFuture<? extends V> value);
+
+    /**
+     * Returns a view of the entries stored in this cache as a synchronous {@link Cache}. A computation of the view
+     * blocks the calling thread until the value is loaded; invalidation, statistics and maintenance are done through
+     * this view.
+     *
+     * @return a synchronous view of this cache
+     */
+    @Nonnull
+    Cache<K, V> synchronous();
+}
@@ -0,0 +1,597 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.concurrent.MoreThreads;
+import org.atlanmod.commons.log.Log;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkState;
+
+/**
+ * A {@link WriteBehindCache} that buffers the modifications of a {@link Cache} in a map, flushed by a single background
+ * thread.
+ * <p>
+ * A modification is applied to the cache and added to the buffer atomically, under a lock, so that the buffer always
+ * holds the latest state of each key. Reads do not take the lock: they look up the buffer, then the batch being
+ * written, then the cache.
+ * <p>
+ * The keys of the batch being written count towards the capacity, so that a batch that cannot be written can be
+ * restored in the buffer without exceeding it.
+ * <p>
+ * The background thread is a daemon thread, and a shutdown hook closes the cache when the application exits. Both are
+ * released by {@link #close()}.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+@ParametersAreNonnullByDefault
+class BufferedWriteBehindCache<K, V> implements WriteBehindCache<K, V> {
+
+    /**
+     * The factory of the background threads and of the shutdown hooks.
+     */
+    @Nonnull
+    private static final ThreadFactory THREAD_FACTORY = MoreThreads.newThreadFactory("write-behind");
+
+    /**
+     * The cache that holds the values.
+     */
+    @Nonnull
+    private final Cache<K, V> cache;
+
+    /**
+     * The writer of the modifications.
+     */
+    @Nonnull
+    private final CacheWriter<? super K, ? super V> writer;
+
+    /**
+     * The number of buffered keys that triggers a flush.
+     */
+    @Nonnegative
+    private final int batchSize;
+
+    /**
+     * The maximum number of buffered keys, including the keys being written, above which the modifications of new keys
+     * block.
+     */
+    @Nonnegative
+    private final int capacity;
+
+    /**
+     * The maximum time a modification stays in the buffer before being flushed, in nanoseconds.
+     */
+    @Nonnegative
+    private final long maxDelay;
+
+    /**
+     * The shutdown hook that closes this cache when the application exits.
+     */
+    @Nonnull
+    private final Thread shutdownHook;
+
+    /**
+     * The lock that guards the modifications of the buffer.
+     */
+    @Nonnull
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * The condition signaled when the buffer, or the batch being written, is released.
+     */
+    @Nonnull
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * The condition signaled when the buffer may need to be flushed.
+     */
+    @Nonnull
+    private final Condition flushNeeded = lock.newCondition();
+
+    /**
+     * The lock that ensures that a single batch is written at a time.
+     */
+    @Nonnull
+    private final Lock flushLock = new ReentrantLock();
+
+    /**
+     * The buffered modifications: the new value of each modified key, or {@link Optional#empty()} if the key has been
+     * invalidated.
+     */
+    @Nonnull
+    private final Map<K, Optional<V>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The modifications that are being written.
+     */
+    @Nonnull
+    private volatile Map<K, Optional<V>> inFlight = Collections.emptyMap();
+
+    /**
+     * The time of the oldest buffered modification, in nanoseconds.
+     */
+    private long firstPendingTime;
+
+    /**
+     * The time before which no background flush is attempted after a failure, in nanoseconds.
+     */
+    private long retryTime;
+
+    /**
+     * Whether this cache has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@code BufferedWriteBehindCache}, starts its background thread and registers its shutdown hook.
+     *
+     * @param cache     the cache that holds the values
+     * @param writer    the writer of the modifications
+     * @param batchSize the number of buffered keys that triggers a flush
+     * @param capacity  the maximum number of buffered keys, including the keys being written
+     * @param maxDelay  the maximum time a modification stays in the buffer before being flushed
+     */
+    protected BufferedWriteBehindCache(Cache<K, V> cache, CacheWriter<? super K, ? super V> writer, int batchSize, int capacity, Duration maxDelay) {
+        this.cache = cache;
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.maxDelay = maxDelay.toNanos();
+        this.retryTime = System.nanoTime();
+
+        this.shutdownHook = THREAD_FACTORY.newThread(this::close);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        THREAD_FACTORY.newThread(this::runFlusher).start();
+    }
+
+    // region Reads
+
+    @Nullable
+    @Override
+    public V get(K key) {
+        checkNotNull(key, "key");
+
+        final Optional<V> buffered = buffered(key);
+        return buffered != null ? buffered.orElse(null) : cache.get(key);
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+        checkNotNull(key, "key");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        final Optional<V> buffered = buffered(key);
+        if (buffered == null) {
+            return cache.get(key, mappingFunction);
+        }
+
+        // A key waiting to be deleted is absent: its value is computed, but the deletion remains buffered
+        return buffered.isPresent() ? buffered.get() : mappingFunction.apply(key);
+    }
+
+    @Nonnull
+    @Override
+    public Map<K, V> getAll(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        return getAllBuffered(keys, cache::getAll);
+    }
+
+    @Nonnull
+    @Override
+    public Map<K, V> getAll(Iterable<? extends K> keys, Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> mappingFunction) {
+        checkNotNull(keys, "keys");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        return getAllBuffered(keys, k -> cache.getAll(k, mappingFunction));
+    }
+
+    @Override
+    public boolean contains(K key) {
+        checkNotNull(key, "key");
+
+        final Optional<V> buffered = buffered(key);
+        return buffered != null ? buffered.isPresent() : cache.contains(key);
+    }
+
+    // endregion
+
+    // region Writes
+
+    @Override
+    public void put(K key, V value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        modify(key, Optional.of(value), k -> cache.put(k, value));
+    }
+
+    @Override
+    public void putIfAbsent(K key, V value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        awaitCapacity(key);
+        try {
+            final Optional<V> buffered = buffered(key);
+            if ((buffered == null || !buffered.isPresent()) && cache.asMap().putIfAbsent(key, value) == null) {
+                enqueue(key, Optional.of(value));
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        checkNotNull(map, "map");
+
+        map.forEach(this::put);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        checkNotNull(key, "key");
+
+        modify(key, Optional.empty(), cache::invalidate);
+    }
+
+    @Override
+    public void invalidateAll(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        keys.forEach(this::invalidate);
+    }
+
+    @Override
+    public void invalidateAll() {
+        final Set<K> keys = new HashSet<>(cache.asMap().keySet());
+        pending.forEach((k, v) -> {
+            if (v.isPresent()) {
+                keys.add(k);
+            }
+        });
+
+        keys.forEach(this::invalidate);
+    }
+
+    // endregion
+
+    // region Delegation
+
+    @Override
+    public long size() {
+        return cache.size();
+    }
+
+    @Override
+    public void refresh(K key) {
+        checkNotNull(key, "key");
+
+        // The storage does not contain the buffered modifications yet
+        if (buffered(key) == null) {
+            cache.refresh(key);
+        }
+    }
+
+    @Override
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+
+    @Nonnull
+    @Override
+    public ConcurrentMap<K, V> asMap() {
+        return cache.asMap();
+    }
+
+    @Nonnull
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // endregion
+
+    // region Flush
+
+    @Override
+    public void flush() {
+        flushLock.lock();
+        try {
+            final Map<K, Optional<V>> batch;
+
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                // Publish the batch before clearing the buffer, so that readers always find the modifications
+                batch = new HashMap<>(pending);
+                inFlight = batch;
+                pending.clear();
+            }
+            finally {
+                lock.unlock();
+            }
+
+            boolean written = false;
+            try {
+                write(batch);
+                written = true;
+            }
+            finally {
+                lock.lock();
+                try {
+                    if (!written) {
+                        // Restore the modifications that have not been overridden since: the buffer and the batch
+                        // together never exceed the capacity
+                        batch.forEach(pending::putIfAbsent);
+                        firstPendingTime = System.nanoTime();
+                        retryTime = firstPendingTime + maxDelay;
+                    }
+                    inFlight = Collections.emptyMap();
+                    notFull.signalAll();
+                }
+                finally {
+                    lock.unlock();
+                }
+            }
+        }
+        finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushNeeded.signalAll();
+            notFull.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        }
+        catch (IllegalStateException e) {
+            // The application is exiting, and this cache is closed by its shutdown hook
+        }
+        flush();
+    }
+
+    @Nonnull
+    @Override
+    public Map<K, V> pendingWrites() {
+        final Map<K, V> result = new HashMap<>();
+        inFlight.forEach((k, v) -> result.put(k, v.orElse(null)));
+        pending.forEach((k, v) -> result.put(k, v.orElse(null)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    // endregion
+
+    /**
+     * Returns the buffered modification of the {@code key}.
+     *
+     * @param key the key
+     *
+     * @return the new value of the {@code key}, {@link Optional#empty()} if it has been invalidated, or {@code null}
+     * if it has not been modified since the last flush
+     */
+    @Nullable
+    private Optional<V> buffered(K key) {
+        final Optional<V> buffered = pending.get(key);
+        return buffered != null ? buffered : inFlight.get(key);
+    }
+
+    /**
+     * Returns the values of the {@code keys}, from the buffer if they have been modified, or from the {@code loader}.
+     *
+     * @param keys   the keys
+     * @param loader the function that returns the values of unmodified keys
+     *
+     * @return the unmodifiable mapping of keys to values
+     */
+    @Nonnull
+    private Map<K, V> getAllBuffered(Iterable<? extends K> keys, Function<List<K>, Map<K, V>> loader) {
+        final Map<K, V> result = new HashMap<>();
+        final List<K> unmodified = new ArrayList<>();
+
+        for (K key : keys) {
+            final Optional<V> buffered = buffered(key);
+            if (buffered == null) {
+                unmodified.add(key);
+            }
+            else {
+                buffered.ifPresent(v -> result.put(key, v));
+            }
+        }
+
+        if (!unmodified.isEmpty()) {
+            result.putAll(loader.apply(unmodified));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Applies the modification of the {@code key} to the cache, and adds it to the buffer.
+     *
+     * @param key          the modified key
+     * @param modification the new value of the key, or {@link Optional#empty()} if it is invalidated
+     * @param apply        the function that applies the modification to the cache
+     */
+    private void modify(K key, Optional<V> modification, Consumer<K> apply) {
+        awaitCapacity(key);
+        try {
+            apply.accept(key);
+            enqueue(key, modification);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires the lock of the buffer, waiting until the buffer can hold the modification of the {@code key}, in
+     * addition to the batch being written. The caller must release the lock.
+     *
+     * @param key the key to modify
+     *
+     * @throws IllegalStateException if this cache is closed, or if the current thread is interrupted while waiting
+     */
+    private void awaitCapacity(K key) {
+        lock.lock();
+        try {
+            // A modified key replaces its previous modification, and does not need more room
+            while (!closed && pending.size() + inFlight.size() >= capacity && !pending.containsKey(key)) {
+                notFull.await();
+            }
+            checkState(!closed, "the cache is closed");
+        }
+        catch (InterruptedException e) {
+            lock.unlock();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the write buffer", e);
+        }
+        catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the modification of the {@code key} to the buffer, and wakes up the background thread if needed. The
+     * caller must hold the lock.
+     *
+     * @param key          the modified key
+     * @param modification the new value of the key, or {@link Optional#empty()} if it is invalidated
+     */
+    private void enqueue(K key, Optional<V> modification) {
+        if (pending.isEmpty()) {
+            firstPendingTime = System.nanoTime();
+        }
+        pending.put(key, modification);
+
+        final int size = pending.size();
+        if (size == 1 || size == batchSize) {
+            flushNeeded.signal();
+        }
+    }
+
+    /**
+     * Writes the {@code batch} with the {@link #writer}.
+     *
+     * @param batch the modifications to write
+     */
+    private void write(Map<K, Optional<V>> batch) {
+        final Map<K, V> values = new HashMap<>();
+        final Set<K> deletions = new HashSet<>();
+        batch.forEach((k, v) -> {
+            if (v.isPresent()) {
+                values.put(k, v.get());
+            }
+            else {
+                deletions.add(k);
+            }
+        });
+
+        if (!values.isEmpty()) {
+            writer.writeAll(Collections.unmodifiableMap(values));
+        }
+        if (!deletions.isEmpty()) {
+            writer.deleteAll(Collections.unmodifiableSet(deletions));
+        }
+    }
+
+    /**
+     * Flushes the buffer in the background until this cache is closed.
+     */
+    private void runFlusher() {
+        while (awaitFlush()) {
+            try {
+                flush();
+            }
+            catch (RuntimeException e) {
+                Log.error(e, "Unable to write the modifications of the cache, retrying in {0} ms", maxDelay / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Waits until the buffer is large enough, or its oldest modification is old enough, to be flushed.
+     *
+     * @return {@code true} if the buffer must be flushed, {@code false} if this cache has been closed
+     */
+    private boolean awaitFlush() {
+        lock.lock();
+        try {
+            while (!closed) {
+                if (pending.isEmpty()) {
+                    flushNeeded.await();
+                    continue;
+                }
+
+                final long now = System.nanoTime();
+                long deadline = pending.size() >= batchSize ? now : firstPendingTime + maxDelay;
+                if (retryTime - deadline > 0) {
+                    deadline = retryTime;
+                }
+
+                final long remaining = deadline - now;
+                if (remaining <= 0) {
+                    return true;
+                }
+                flushNeeded.awaitNanos(remaining);
+            }
+            return false;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+}
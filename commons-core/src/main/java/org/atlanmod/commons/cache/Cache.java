@@ -8,7 +8,11 @@
 
 package org.atlanmod.commons.cache;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
@@ -17,6 +21,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.annotation.concurrent.ThreadSafe;
 
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * A semi-persistent mapping from keys to values. Cache entries are manually added using {@link #get(Object, Function)}
  * or {@link #put(Object, Object)}, and are stored in the cache until either evicted or manually invalidated.
@@ -73,6 +79,59 @@ public interface Cache<K, V> {
     @Nonnull
     Map<K, V> getAll(Iterable<? extends K> keys);
 
+    /**
+     * Returns a map of the values associated with the {@code keys} in this cache, obtaining the missing values from
+     * the {@code mappingFunction}.
+     * <p>
+     * The {@code mappingFunction} is called once, with the set of all the keys that are not present in this cache, and
+     * returns their values; the returned entries are entered into this cache. The {@code mappingFunction} is not called
+     * if all the values are present. Keys without value in the returned map are not included in the result.
+     * <p>
+     * A single call of the {@code mappingFunction} allows to read all the missing values from a backend in one batch,
+     * instead of one read per key.
+     * <p>
+     * The default implementation reads the present values with {@link #getAll(Iterable)}, then enters the loaded
+     * values with {@link #putAll(Map)}: it is not atomic, and implementations should override it when they can load
+     * the missing values in a single operation.
+     *
+     * @param keys            the keys whose associated values are to be returned
+     * @param mappingFunction the function to compute the values of the missing keys
+     *
+     * @return the unmodifiable mapping of keys to values for the specified keys
+     *
+     * @throws RuntimeException if the mappingFunction does so, in which case the mappings are left unestablished
+     */
+    @Nonnull
+    default Map<K, V> getAll(Iterable<? extends K> keys, Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> mappingFunction) {
+        checkNotNull(keys, "keys");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        final Map<K, V> present = getAll(keys);
+
+        final Set<K> missingKeys = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (!present.containsKey(key)) {
+                missingKeys.add(key);
+            }
+        }
+
+        if (missingKeys.isEmpty()) {
+            return present;
+        }
+
+        final Map<? extends K, ? extends V> loaded = mappingFunction.apply(Collections.unmodifiableSet(missingKeys));
+        putAll(loaded);
+
+        final Map<K, V> result = new HashMap<>(present);
+        for (K key : missingKeys) {
+            final V value = loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
     /**
      * Associates the {@code value} with the {@code key} in this cache. If the cache previously contained a value
      * associated with the {@code key}, the old value is replaced by the new {@code value}.
@@ -12,12 +12,23 @@ import org.atlanmod.commons.annotation.Builder;
 
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * A builder of {@link Cache} instances.
  *
@@ -40,6 +51,45 @@ public interface CacheBuilder<K, V> {
         return EmptyCache.getInstance();
     }
 
+    /**
+     * Returns a {@link WriteBehindCache} that applies its modifications to the {@code cache}, and writes them to the
+     * {@code writer} asynchronously, by batches.
+     * <p>
+     * The modifications are buffered and coalesced by key. A background thread flushes them when {@code batchSize}
+     * keys are modified, or when the oldest modification has been buffered for {@code maxDelay}. When {@code capacity}
+     * keys are buffered or being written, the modifications of other keys block until a batch is written. A batch that
+     * cannot be written is restored in the buffer, and retried after {@code maxDelay}.
+     * <p>
+     * The returned cache should be {@link WriteBehindCache#close() closed} when it is no longer used; otherwise it is
+     * closed when the application exits. Closing the cache stops its background thread and unregisters its shutdown
+     * hook.
+     *
+     * @param cache     the cache that holds the values
+     * @param writer    the writer of the modifications
+     * @param batchSize the number of modified keys that triggers a flush
+     * @param capacity  the maximum number of buffered keys, including the keys being written
+     * @param maxDelay  the maximum time a modification stays in the buffer before being flushed
+     * @param <K>       the type of keys maintained by the cache
+     * @param <V>       the type of mapped values
+     *
+     * @return a new cache
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive, if {@code capacity} is lower than {@code
+     *                                  batchSize}, or if {@code maxDelay} is not positive
+     * @since 1.1.1
+     */
+    @Nonnull
+    static <K, V> WriteBehindCache<K, V> writeBehind(Cache<K, V> cache, CacheWriter<? super K, ? super V> writer, int batchSize, int capacity, Duration maxDelay) {
+        checkNotNull(cache, "cache");
+        checkNotNull(writer, "writer");
+        checkNotNull(maxDelay, "maxDelay");
+        checkGreaterThan(batchSize, 0, "batchSize (%d) must be positive", batchSize);
+        checkArgument(capacity >= batchSize, "capacity (%d) must be greater than or equal to batchSize (%d)", capacity, batchSize);
+        checkArgument(!maxDelay.isNegative() && !maxDelay.isZero(), "maxDelay (%s) must be positive", maxDelay);
+
+        return new BufferedWriteBehindCache<>(cache, writer, batchSize, capacity, maxDelay);
+    }
+
     /**
      * Creates a new {@code CacheBuilder} with default settings, including strong keys, strong values, and no automatic
      * eviction of any kind.
@@ -181,6 +231,151 @@ public interface CacheBuilder<K, V> {
     @Nonnull
     CacheBuilder<K, V> softValues();
 
+    /**
+     * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+     * the entry's creation, or the most recent replacement of its value.
+     * <p>
+     * Expired entries may be counted in {@link Cache#size()}, but will never be visible to read or write operations.
+     * <p>
+     * This feature cannot be used in conjunction with {@link #expireAfter(Expiry)}.
+     *
+     * @param duration the length of time after an entry is created that it should be automatically removed
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     * @throws IllegalStateException    if the time to live or variable expiration was already set
+     */
+    @Nonnull
+    CacheBuilder<K, V> expireAfterWrite(Duration duration);
+
+    /**
+     * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+     * the entry's creation, the most recent replacement of its value, or its last read.
+     * <p>
+     * Expired entries may be counted in {@link Cache#size()}, but will never be visible to read or write operations.
+     * <p>
+     * This feature cannot be used in conjunction with {@link #expireAfter(Expiry)}.
+     *
+     * @param duration the length of time after an entry is last accessed that it should be automatically removed
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     * @throws IllegalStateException    if the time to idle or variable expiration was already set
+     */
+    @Nonnull
+    CacheBuilder<K, V> expireAfterAccess(Duration duration);
+
+    /**
+     * Specifies that each entry should be automatically removed from the cache once a duration has elapsed after the
+     * entry's creation, the most recent replacement of its value, or its last read. The expiration time is reset by all
+     * cache read and write operations, and is calculated by the {@code expiry} for each entry.
+     * <p>
+     * This feature cannot be used in conjunction with {@link #expireAfterWrite(Duration)} and {@link
+     * #expireAfterAccess(Duration)}.
+     *
+     * @param expiry the expiry to use in calculating the expiration time of cache entries
+     * @param <K1>   the key type of the expiry
+     * @param <V1>   the value type of the expiry
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalStateException if expiration was already set
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> CacheBuilder<K, V> expireAfter(Expiry<? super K1, ? super V1> expiry);
+
+    /**
+     * Specifies that active entries are eligible for automatic refresh once a fixed duration has elapsed after the
+     * entry's creation, or the most recent replacement of its value.
+     * <p>
+     * The refresh is triggered by the first read of an entry after this duration, and reloads the value asynchronously
+     * on the {@link #executor(Executor) executor} of the cache. While the new value is loading, the previous value
+     * continues to be returned, so the readers are never blocked by a refresh; if the reload fails, the previous value
+     * remains. Unlike expiration, an entry which is never read is not refreshed.
+     * <p>
+     * This feature requires a loading cache, built with {@link #build(Function)} or {@link #buildAsync(Function)}.
+     *
+     * @param duration the length of time after an entry is created that it should be considered stale
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code duration} is zero or negative
+     * @throws IllegalStateException    if the refresh interval was already set
+     */
+    @Nonnull
+    CacheBuilder<K, V> refreshAfterWrite(Duration duration);
+
+    /**
+     * Specifies a nanosecond-precision time source for use in determining when entries should be expired or
+     * refreshed (by default, {@link System#nanoTime()}).
+     *
+     * @param ticker the time source
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalStateException if a ticker was already set
+     */
+    @Nonnull
+    CacheBuilder<K, V> ticker(Ticker ticker);
+
+    /**
+     * Specifies a listener that is notified each time an entry is removed from the cache, for any {@link RemovalCause
+     * reason}.
+     * <p>
+     * The listener is called asynchronously, after the removal, on the {@link #executor(Executor) executor} of the
+     * cache: the thread that triggered the removal is not slowed down by the listener. Consider {@link
+     * #evictionListener(RemovalListener)} when the listener must be called atomically with the removal.
+     *
+     * @param listener the listener to notify of removals
+     * @param <K1>     the key type of the listener
+     * @param <V1>     the value type of the listener
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalStateException if a removal listener was already set
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> CacheBuilder<K, V> removalListener(RemovalListener<? super K1, ? super V1> listener);
+
+    /**
+     * Specifies a listener that is notified each time an entry is evicted from the cache, that is when its {@link
+     * RemovalCause#wasEvicted() removal cause} is {@link RemovalCause#SIZE}, {@link RemovalCause#EXPIRED} or {@link
+     * RemovalCause#COLLECTED}.
+     * <p>
+     * The listener is called synchronously, while the entry is being evicted: the entry cannot be loaded again until
+     * the listener returns, for instance to write back a modified value before it can be read from storage. Evictions
+     * are mostly performed by the maintenance of the cache, on its {@link #executor(Executor) executor}, so the listener
+     * rarely runs on the thread of a cache operation; it should nevertheless be fast.
+     *
+     * @param listener the listener to notify of evictions
+     * @param <K1>     the key type of the listener
+     * @param <V1>     the value type of the listener
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalStateException if an eviction listener was already set
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> CacheBuilder<K, V> evictionListener(RemovalListener<? super K1, ? super V1> listener);
+
+    /**
+     * Specifies the {@link Executor} to use when running asynchronous tasks, such as the loads of an {@link
+     * AsyncCache}, the refresh of entries, the removal listener and the maintenance of the cache (by default, {@link ForkJoinPool#commonPool()}).
+     * <p>
+     * Loaders that block on I/O should use a dedicated executor, with enough threads to overlap the loads of distinct
+     * keys.
+     *
+     * @param executor the executor to use for asynchronous execution
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalStateException if an executor was already set
+     */
+    @Nonnull
+    CacheBuilder<K, V> executor(Executor executor);
+
     /**
      * Builds a {@link Cache} which does not automatically load values when keys are requested.
      * <p>
@@ -190,6 +385,8 @@ public interface CacheBuilder<K, V> {
      * @param <V1> the value type of the cache
      *
      * @return a new cache
+     *
+     * @throws IllegalStateException if a refresh interval was set
      */
     @Nonnull
     <K1 extends K, V1 extends V> Cache<K1, V1> build();
@@ -208,4 +405,82 @@ public interface CacheBuilder<K, V> {
      */
     @Nonnull
     <K1 extends K, V1 extends V> Cache<K1, V1> build(Function<? super K1, ? extends V1> mappingFunction);
+
+    /**
+     * Builds a {@link Cache}, which either returns an already-loaded value for a given key or atomically computes or
+     * retrieves it using the supplied {@code mappingFunction}, as {@link #build(Function)}.
+     * <p>
+     * When several values are requested with {@link Cache#getAll(Iterable)}, the missing values are loaded by a single
+     * call of the {@code bulkMappingFunction}, with the set of all the missing keys. This should be used when a backend
+     * reads a batch of keys faster than the same keys one by one.
+     *
+     * @param mappingFunction     the function used to obtain a new value
+     * @param bulkMappingFunction the function used to obtain several new values at once
+     * @param <K1>                the key type of the loader
+     * @param <V1>                the value type of the loader
+     *
+     * @return a new cache
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> Cache<K1, V1> build(Function<? super K1, ? extends V1> mappingFunction, Function<? super Set<? extends K1>, ? extends Map<? extends K1, ? extends V1>> bulkMappingFunction);
+
+    /**
+     * Builds an {@link AsyncCache}, which either returns an already-loaded future value for a given key or
+     * asynchronously computes it using the supplied {@link Function}, on the {@link #executor(Executor) executor} of
+     * this builder. If the key is already being loaded, returns the future value of this load. Note that multiple keys
+     * are loaded concurrently.
+     * <p>
+     * Asynchronous caches do not support {@link #weakValues()} and {@link #softValues()}.
+     *
+     * @param mappingFunction the function used to obtain new values
+     * @param <K1>            the key type of the loader
+     * @param <V1>            the value type of the loader
+     *
+     * @return a new cache
+     *
+     * @throws IllegalStateException if weak or soft values were set
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(Function<? super K1, ? extends V1> mappingFunction);
+
+    /**
+     * Builds an {@link AsyncCache}, which either returns an already-loaded future value for a given key or
+     * asynchronously computes it using the supplied {@code mappingFunction}, as {@link #buildAsync(Function)}.
+     * <p>
+     * When several values are requested with {@link AsyncCache#getAllAsync(Iterable)}, the missing values are loaded by
+     * a single asynchronous call of the {@code bulkMappingFunction}, with the set of all the keys that are neither
+     * present nor being loaded.
+     * <p>
+     * Asynchronous caches do not support {@link #weakValues()} and {@link #softValues()}.
+     *
+     * @param mappingFunction     the function used to obtain a new value
+     * @param bulkMappingFunction the function used to obtain several new values at once
+     * @param <K1>                the key type of the loader
+     * @param <V1>                the value type of the loader
+     *
+     * @return a new cache
+     *
+     * @throws IllegalStateException if weak or soft values were set
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(Function<? super K1, ? extends V1> mappingFunction, Function<? super Set<? extends K1>, ? extends Map<? extends K1, ? extends V1>> bulkMappingFunction);
+
+    /**
+     * Builds an {@link AsyncCache}, which either returns an already-loaded future value for a given key or obtains it
+     * from the supplied {@code loader}. The loader is called with the {@link #executor(Executor) executor} of this
+     * builder, and returns a {@link CompletableFuture} without blocking, for instance when values are read with
+     * asynchronous I/O.
+     * <p>
+     * Asynchronous caches do not support {@link #weakValues()} and {@link #softValues()}.
+     *
+     * @param loader the function used to start the computation of new values
+     * @param <K1>   the key type of the loader
+     * @param <V1>   the value type of the loader
+     *
+     * @return a new cache
+     *
+     * @throws IllegalStateException if weak or soft values were set
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(BiFunction<? super K1, ? super Executor, ? extends CompletableFuture<? extends V1>> loader);
 }
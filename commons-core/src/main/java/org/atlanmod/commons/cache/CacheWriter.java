@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Writes the modifications of a {@link WriteBehindCache} to an external storage, by batches.
+ * <p>
+ * The batches of a cache are written one at a time, by a single thread. Within a batch, the writes have been
+ * coalesced: each key appears once, either as written or as deleted, with its latest state.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ *
+ * @see CacheBuilder#writeBehind(Cache, CacheWriter, int, int, java.time.Duration)
+ * @since 1.1.1
+ */
+@ParametersAreNonnullByDefault
+public interface CacheWriter<K, V> {
+
+    /**
+     * Writes the {@code entries} to the storage.
+     *
+     * @param entries the entries to write
+     *
+     * @throws RuntimeException if the entries cannot be written, in which case they will be written again by a later
+     *                          batch
+     */
+    void writeAll(Map<? extends K, ? extends V> entries);
+
+    /**
+     * Deletes the {@code keys} from the storage.
+     *
+     * @param keys the keys to delete
+     *
+     * @throws RuntimeException if the keys cannot be deleted, in which case they will be deleted again by a later batch
+     */
+    void deleteAll(Set<? extends K> keys);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A Caffeine {@link AsyncCache} implementation which loads values asynchronously.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+@ParametersAreNonnullByDefault
+class CaffeineAsyncCache<K, V> implements AsyncCache<K, V> {
+
+    /**
+     * The internal cache implementation.
+     */
+    @Nonnull
+    private final com.github.benmanes.caffeine.cache.AsyncLoadingCache<K, V> cache;
+
+    /**
+     * The synchronous view of this cache.
+     */
+    @Nonnull
+    private final Cache<K, V> synchronous;
+
+    /**
+     * Constructs a new {@code CaffeineAsyncCache}.
+     *
+     * @param cache the internal cache implementation
+     */
+    protected CaffeineAsyncCache(com.github.benmanes.caffeine.cache.AsyncLoadingCache<K, V> cache) {
+        this.cache = cache;
+        this.synchronous = new CaffeineLoadingCache<>(cache.synchronous());
+    }
+
+    @Nullable
+    @Override
+    public CompletableFuture<V> getIfPresent(K key) {
+        checkNotNull(key, "key");
+
+        return cache.getIfPresent(key);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<V> getAsync(K key) {
+        checkNotNull(key, "key");
+
+        return cache.get(key);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> mappingFunction) {
+        checkNotNull(key, "key");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        return cache.get(key, mappingFunction);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Map<K, V>> getAllAsync(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        return cache.getAll(keys);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Map<K, V>> getAllAsync(Iterable<? extends K> keys, Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> mappingFunction) {
+        checkNotNull(keys, "keys");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        return cache.getAll(keys, mappingFunction);
+    }
+
+    @Override
+    public void put(K key, CompletableFuture<? extends V> value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        cache.put(key, value);
+    }
+
+    @Nonnull
+    @Override
+    public Cache<K, V> synchronous() {
+        return synchronous;
+    }
+}
@@ -8,14 +8,23 @@
 
 package org.atlanmod.commons.cache;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 
+import static org.atlanmod.commons.Guards.checkArgument;
 import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
 import static org.atlanmod.commons.Guards.checkNotNull;
 
@@ -94,6 +103,84 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
         return this;
     }
 
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> expireAfterWrite(Duration duration) {
+        checkNotNull(duration, "duration");
+        checkArgument(!duration.isNegative(), "duration (%s) must not be negative", duration);
+
+        builder.expireAfterWrite(duration);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> expireAfterAccess(Duration duration) {
+        checkNotNull(duration, "duration");
+        checkArgument(!duration.isNegative(), "duration (%s) must not be negative", duration);
+
+        builder.expireAfterAccess(duration);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K1 extends K, V1 extends V> CacheBuilder<K, V> expireAfter(Expiry<? super K1, ? super V1> expiry) {
+        checkNotNull(expiry, "expiry");
+
+        builder.expireAfter(new CaffeineExpiry<>((Expiry<Object, Object>) expiry));
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> refreshAfterWrite(Duration duration) {
+        checkNotNull(duration, "duration");
+        checkArgument(!duration.isNegative() && !duration.isZero(), "duration (%s) must be positive", duration);
+
+        builder.refreshAfterWrite(duration);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> ticker(Ticker ticker) {
+        checkNotNull(ticker, "ticker");
+
+        builder.ticker(ticker::read);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K1 extends K, V1 extends V> CacheBuilder<K, V> removalListener(RemovalListener<? super K1, ? super V1> listener) {
+        checkNotNull(listener, "listener");
+
+        builder.removalListener(new CaffeineRemovalListener<>((RemovalListener<Object, Object>) listener));
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K1 extends K, V1 extends V> CacheBuilder<K, V> evictionListener(RemovalListener<? super K1, ? super V1> listener) {
+        checkNotNull(listener, "listener");
+
+        builder.evictionListener(new CaffeineRemovalListener<>((RemovalListener<Object, Object>) listener));
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> executor(Executor executor) {
+        checkNotNull(executor, "executor");
+
+        builder.executor(executor);
+        return this;
+    }
+
     @Nonnull
     @Override
     public <K1 extends K, V1 extends V> Cache<K1, V1> build() {
@@ -107,4 +194,178 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
 
         return new CaffeineLoadingCache<>(builder.build(mappingFunction::apply));
     }
+
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> Cache<K1, V1> build(Function<? super K1, ? extends V1> mappingFunction, Function<? super Set<? extends K1>, ? extends Map<? extends K1, ? extends V1>> bulkMappingFunction) {
+        checkNotNull(mappingFunction, "mappingFunction");
+        checkNotNull(bulkMappingFunction, "bulkMappingFunction");
+
+        return new CaffeineLoadingCache<>(builder.build(new BulkLoader<>(mappingFunction, bulkMappingFunction)));
+    }
+
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(Function<? super K1, ? extends V1> mappingFunction) {
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        return new CaffeineAsyncCache<>(builder.buildAsync(mappingFunction::apply));
+    }
+
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(Function<? super K1, ? extends V1> mappingFunction, Function<? super Set<? extends K1>, ? extends Map<? extends K1, ? extends V1>> bulkMappingFunction) {
+        checkNotNull(mappingFunction, "mappingFunction");
+        checkNotNull(bulkMappingFunction, "bulkMappingFunction");
+
+        return new CaffeineAsyncCache<>(builder.buildAsync(new BulkLoader<>(mappingFunction, bulkMappingFunction)));
+    }
+
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(BiFunction<? super K1, ? super Executor, ? extends CompletableFuture<? extends V1>> loader) {
+        checkNotNull(loader, "loader");
+
+        return new CaffeineAsyncCache<>(builder.buildAsync(loader::apply));
+    }
+
+    /**
+     * A {@link CacheLoader} that loads several values at once with a dedicated function.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     */
+    @ParametersAreNonnullByDefault
+    private static final class BulkLoader<K, V> implements CacheLoader<K, V> {
+
+        /**
+         * The function used to obtain a new value.
+         */
+        @Nonnull
+        private final Function<? super K, ? extends V> mappingFunction;
+
+        /**
+         * The function used to obtain several new values at once.
+         */
+        @Nonnull
+        private final Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkMappingFunction;
+
+        /**
+         * Constructs a new {@code BulkLoader}.
+         *
+         * @param mappingFunction     the function used to obtain a new value
+         * @param bulkMappingFunction the function used to obtain several new values at once
+         */
+        BulkLoader(Function<? super K, ? extends V> mappingFunction, Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkMappingFunction) {
+            this.mappingFunction = mappingFunction;
+            this.bulkMappingFunction = bulkMappingFunction;
+        }
+
+        @Override
+        public V load(K key) {
+            return mappingFunction.apply(key);
+        }
+
+        @Nonnull
+        @Override
+        public Map<? extends K, ? extends V> loadAll(Set<? extends K> keys) {
+            return bulkMappingFunction.apply(keys);
+        }
+    }
+
+    /**
+     * A Caffeine {@link com.github.benmanes.caffeine.cache.Expiry} that delegates to an {@link Expiry}.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     */
+    @ParametersAreNonnullByDefault
+    private static final class CaffeineExpiry<K, V> implements com.github.benmanes.caffeine.cache.Expiry<K, V> {
+
+        /**
+         * The expiry to delegate to.
+         */
+        @Nonnull
+        private final Expiry<K, V> expiry;
+
+        /**
+         * Constructs a new {@code CaffeineExpiry}.
+         *
+         * @param expiry the expiry to delegate to
+         */
+        CaffeineExpiry(Expiry<K, V> expiry) {
+            this.expiry = expiry;
+        }
+
+        @Override
+        public long expireAfterCreate(K key, V value, long currentTime) {
+            return expiry.expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+            return expiry.expireAfterUpdate(key, value, currentTime, currentDuration);
+        }
+
+        @Override
+        public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+            return expiry.expireAfterRead(key, value, currentTime, currentDuration);
+        }
+    }
+
+    /**
+     * A Caffeine {@link com.github.benmanes.caffeine.cache.RemovalListener} that delegates to a {@link
+     * RemovalListener}.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     */
+    @ParametersAreNonnullByDefault
+    private static final class CaffeineRemovalListener<K, V> implements com.github.benmanes.caffeine.cache.RemovalListener<K, V> {
+
+        /**
+         * The listener to delegate to.
+         */
+        @Nonnull
+        private final RemovalListener<K, V> listener;
+
+        /**
+         * Constructs a new {@code CaffeineRemovalListener}.
+         *
+         * @param listener the listener to delegate to
+         */
+        CaffeineRemovalListener(RemovalListener<K, V> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onRemoval(@Nullable K key, @Nullable V value, com.github.benmanes.caffeine.cache.RemovalCause cause) {
+            listener.onRemoval(key, value, convert(cause));
+        }
+
+        /**
+         * Converts a Caffeine {@link com.github.benmanes.caffeine.cache.RemovalCause} to a {@link RemovalCause}.
+         *
+         * @param cause the cause to convert
+         *
+         * @return the matching cause
+         */
+        @Nonnull
+        private static RemovalCause convert(com.github.benmanes.caffeine.cache.RemovalCause cause) {
+            switch (cause) {
+                case EXPLICIT:
+                    return RemovalCause.EXPLICIT;
+                case REPLACED:
+                    return RemovalCause.REPLACED;
+                case COLLECTED:
+                    return RemovalCause.COLLECTED;
+                case EXPIRED:
+                    return RemovalCause.EXPIRED;
+                case SIZE:
+                    return RemovalCause.SIZE;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown removal cause: %s", cause));
+            }
+        }
+    }
 }
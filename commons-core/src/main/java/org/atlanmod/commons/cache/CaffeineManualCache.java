@@ -9,6 +9,7 @@
 package org.atlanmod.commons.cache;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
@@ -67,6 +68,15 @@ class CaffeineManualCache<C extends com.github.benmanes.caffeine.cache.Cache<K,
         return cache.getAllPresent(keys);
     }
 
+    @Nonnull
+    @Override
+    public Map<K, V> getAll(Iterable<? extends K> keys, Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> mappingFunction) {
+        checkNotNull(keys, "keys");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        return cache.getAll(keys, mappingFunction);
+    }
+
     @Override
     public void put(K key, V value) {
         checkNotNull(key, "key");
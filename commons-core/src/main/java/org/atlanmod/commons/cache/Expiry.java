@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Calculates when cache entries expire. A single expiration time is retained for each entry, so that the lifetime of
+ * an entry may be extended or reduced by subsequent evaluations.
+ * <p>
+ * All durations are expressed in nanoseconds; {@code Long.MAX_VALUE} can be used to indicate that an entry never
+ * expires.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ *
+ * @see CacheBuilder#expireAfter(Expiry)
+ * @since 1.1.1
+ */
+@FunctionalInterface
+@ParametersAreNonnullByDefault
+public interface Expiry<K, V> {
+
+    /**
+     * Specifies that the entry should be automatically removed from the cache once the duration has elapsed after the
+     * entry's creation.
+     *
+     * @param key         the key of the entry
+     * @param value       the value of the entry
+     * @param currentTime the current time, in nanoseconds, as given by the {@link Ticker} of the cache
+     *
+     * @return the length of time before the entry expires, in nanoseconds
+     */
+    long expireAfterCreate(K key, V value, long currentTime);
+
+    /**
+     * Specifies that the entry should be automatically removed from the cache once the duration has elapsed after the
+     * replacement of its value. By default, the remaining lifetime of the entry is kept.
+     *
+     * @param key             the key of the entry
+     * @param value           the new value of the entry
+     * @param currentTime     the current time, in nanoseconds, as given by the {@link Ticker} of the cache
+     * @param currentDuration the remaining length of time before the entry expires, in nanoseconds
+     *
+     * @return the length of time before the entry expires, in nanoseconds
+     */
+    default long expireAfterUpdate(K key, V value, long currentTime, @Nonnegative long currentDuration) {
+        return currentDuration;
+    }
+
+    /**
+     * Specifies that the entry should be automatically removed from the cache once the duration has elapsed after its
+     * last read. By default, the remaining lifetime of the entry is kept.
+     *
+     * @param key             the key of the entry
+     * @param value           the value of the entry
+     * @param currentTime     the current time, in nanoseconds, as given by the {@link Ticker} of the cache
+     * @param currentDuration the remaining length of time before the entry expires, in nanoseconds
+     *
+     * @return the length of time before the entry expires, in nanoseconds
+     */
+    default long expireAfterRead(K key, V value, long currentTime, @Nonnegative long currentDuration) {
+        return currentDuration;
+    }
+}
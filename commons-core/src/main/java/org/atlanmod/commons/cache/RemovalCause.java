@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+/**
+ * The reason why a cached entry was removed.
+ *
+ * @see RemovalListener
+ * @since 1.1.1
+ */
+public enum RemovalCause {
+
+    /**
+     * The entry was manually removed by the user, with {@link Cache#invalidate(Object)}, {@link
+     * Cache#invalidateAll()}, or through the {@link Cache#asMap() map view}.
+     */
+    EXPLICIT {
+        @Override
+        public boolean wasEvicted() {
+            return false;
+        }
+    },
+
+    /**
+     * The value of the entry was replaced by the user, with {@link Cache#put(Object, Object)}, {@link
+     * Cache#putAll(java.util.Map)}, or through the {@link Cache#asMap() map view}.
+     */
+    REPLACED {
+        @Override
+        public boolean wasEvicted() {
+            return false;
+        }
+    },
+
+    /**
+     * The entry was removed automatically because its key or value was garbage-collected, when using weak keys, weak
+     * values or soft values.
+     */
+    COLLECTED {
+        @Override
+        public boolean wasEvicted() {
+            return true;
+        }
+    },
+
+    /**
+     * The entry's expiration timestamp has passed.
+     */
+    EXPIRED {
+        @Override
+        public boolean wasEvicted() {
+            return true;
+        }
+    },
+
+    /**
+     * The entry was evicted due to size constraints, when using a maximum size or a maximum weight.
+     */
+    SIZE {
+        @Override
+        public boolean wasEvicted() {
+            return true;
+        }
+    };
+
+    /**
+     * Returns {@code true} if there was an automatic removal due to eviction (the cause is neither {@link #EXPLICIT}
+     * nor {@link #REPLACED}).
+     *
+     * @return {@code true} if the entry was automatically removed due to eviction
+     */
+    public abstract boolean wasEvicted();
+}
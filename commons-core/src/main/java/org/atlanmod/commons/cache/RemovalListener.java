@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A listener that is notified when an entry is removed from a {@link Cache}.
+ * <p>
+ * An instance may be called concurrently by multiple threads to process different entries. Implementations should
+ * avoid performing blocking calls or synchronizing on shared resources. An exception thrown by a listener is logged,
+ * and does not affect the cache.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ *
+ * @see CacheBuilder#removalListener(RemovalListener)
+ * @see CacheBuilder#evictionListener(RemovalListener)
+ * @since 1.1.1
+ */
+@FunctionalInterface
+@ParametersAreNonnullByDefault
+public interface RemovalListener<K, V> {
+
+    /**
+     * Notifies the listener that a removal occurred at some point in the past.
+     *
+     * @param key   the key represented by this entry, or {@code null} if it has been garbage-collected
+     * @param value the value represented by this entry, or {@code null} if it has been garbage-collected
+     * @param cause the reason for which the entry was removed
+     */
+    void onRemoval(@Nullable K key, @Nullable V value, RemovalCause cause);
+}
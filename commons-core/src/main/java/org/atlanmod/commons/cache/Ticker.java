@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A time source that returns a time value representing the number of nanoseconds elapsed since some fixed but
+ * arbitrary point in time.
+ * <p>
+ * A custom ticker allows to control the time seen by a cache, for instance to test the expiration of entries without
+ * waiting.
+ *
+ * @see CacheBuilder#ticker(Ticker)
+ * @since 1.1.1
+ */
+@FunctionalInterface
+public interface Ticker {
+
+    /**
+     * Returns a ticker that reads the current time using {@link System#nanoTime()}.
+     *
+     * @return a ticker that reads the system time
+     */
+    @Nonnull
+    static Ticker systemTicker() {
+        return System::nanoTime;
+    }
+
+    /**
+     * Returns the number of nanoseconds elapsed since this ticker's fixed point of reference.
+     *
+     * @return the current time, in nanoseconds
+     */
+    long read();
+}
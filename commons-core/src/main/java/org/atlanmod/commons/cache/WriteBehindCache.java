@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link Cache} that writes its modifications to a {@link CacheWriter} asynchronously, by batches.
+ * <p>
+ * Each {@link #put(Object, Object)} and {@link #invalidate(Object)} modifies the cache immediately, and is buffered
+ * until the next flush: repeated modifications of the same key are coalesced, so only the latest state of a key is
+ * written. A background thread flushes the buffer when it contains enough keys, or when its oldest modification is
+ * too old. When the buffer is full, the modifications of new keys block until a batch is written.
+ * <p>
+ * Until they are written, the buffered modifications take precedence over the storage: a key that is waiting to be
+ * written or deleted is never loaded from the storage. Values computed by {@link #get(Object, Function)} or by the
+ * loader of the cache are not written. The modifications made through the {@link #asMap() map view} are not written.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ *
+ * @see CacheBuilder#writeBehind(Cache, CacheWriter, int, int, java.time.Duration)
+ * @since 1.1.1
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public interface WriteBehindCache<K, V> extends Cache<K, V>, AutoCloseable {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value of a key that is waiting to be deleted is computed by the {@code mappingFunction}, but is neither
+     * entered into this cache nor written: the deletion remains buffered.
+     */
+    @Override
+    V get(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@code value} is written by a later batch.
+     */
+    @Override
+    void put(K key, V value);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The deletion of the {@code key} is written by a later batch.
+     */
+    @Override
+    void invalidate(K key);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys that are present in the cache, or waiting to be written, are deleted by a later batch. The keys that
+     * have already been written and evicted from the cache are not deleted.
+     */
+    @Override
+    void invalidateAll();
+
+    /**
+     * Returns a view of the entries stored in this cache as a thread-safe map. Modifications made to the map directly
+     * affect the cache, but are not written to the {@link CacheWriter}.
+     *
+     * @return a thread-safe view of this cache
+     */
+    @Nonnull
+    @Override
+    ConcurrentMap<K, V> asMap();
+
+    /**
+     * Writes all the buffered modifications in the calling thread, and waits until they are written.
+     *
+     * @throws RuntimeException if the {@link CacheWriter} does so, in which case the modifications remain buffered
+     */
+    void flush();
+
+    /**
+     * Stops the background thread, and writes all the buffered modifications in the calling thread. The modifications
+     * of this cache are rejected after this call.
+     *
+     * @throws RuntimeException if the {@link CacheWriter} does so, in which case the modifications are lost
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns the entries that are waiting to be written, with a {@code null} value for the keys waiting to be deleted.
+     *
+     * @return an unmodifiable snapshot of the buffered modifications
+     */
+    @Nonnull
+    Map<K, V> pendingWrites();
+}
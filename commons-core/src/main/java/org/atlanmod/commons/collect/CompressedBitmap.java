@@ -0,0 +1,2147 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillNotClose;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkPositionIndex;
+
+/**
+ * A compressed set of non-negative {@code int} values, stored as a sorted sequence of chunks of {@code 65536} values.
+ * <p>
+ * Each chunk uses the most compact of three representations, in the manner of Roaring bitmaps:
+ * <ul>
+ * <li>a sorted array of the values of the chunk, when it contains at most {@code 4096} values;</li>
+ * <li>a bitmap of {@code 8 KB}, when it contains more values;</li>
+ * <li>a sorted array of runs of consecutive values, when it contains few long runs.</li>
+ * </ul>
+ * A chunk that does not contain any value does not use any memory: a sparse set of values up to
+ * {@link Integer#MAX_VALUE} uses about 2 bytes per value, where {@link Flags} would use 256 MB whatever its content.
+ * <p>
+ * Arrays and bitmaps are exchanged automatically while values are added and removed. Runs are only created by range
+ * operations, on deserialization, and by {@link #optimize()}, which should be called once a bitmap has been filled.
+ * <p>
+ * The bulk operations ({@link #and(CompressedBitmap)}, {@link #or(CompressedBitmap)}, {@link
+ * #andNot(CompressedBitmap)} and {@link #xor(CompressedBitmap)}) work chunk by chunk, and never visit the chunks that
+ * are absent from both operands.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see Flags
+ * @since 1.1.1
+ */
+@ParametersAreNonnullByDefault
+public final class CompressedBitmap implements Serializable {
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = 5265306926468843183L;
+
+    /**
+     * The number of values of a chunk.
+     */
+    private static final int CHUNK_SIZE = 1 << Character.SIZE;
+
+    /**
+     * The greatest number of chunks.
+     */
+    private static final int MAX_CHUNKS = (Integer.MAX_VALUE >>> Character.SIZE) + 1;
+
+    /**
+     * The greatest number of values stored in an array container.
+     */
+    private static final int ARRAY_MAX = 4096;
+
+    /**
+     * The number of words of a bitmap container.
+     */
+    private static final int BITMAP_WORDS = CHUNK_SIZE / Long.SIZE;
+
+    /**
+     * The number of bytes of a serialized bitmap container.
+     */
+    private static final int BITMAP_BYTES = BITMAP_WORDS * Long.BYTES;
+
+    /**
+     * The number of bytes of the header of a serialized bitmap: its length and its number of chunks.
+     */
+    private static final int HEADER_BYTES = Integer.BYTES + Character.BYTES;
+
+    /**
+     * The number of bytes of the header of a serialized container: its key and its type.
+     */
+    private static final int CONTAINER_HEADER_BYTES = Character.BYTES + Byte.BYTES;
+
+    /**
+     * The type of an array container.
+     */
+    private static final byte ARRAY = 0;
+
+    /**
+     * The type of a bitmap container.
+     */
+    private static final byte BITMAP = 1;
+
+    /**
+     * The type of a run container.
+     */
+    private static final byte RUN = 2;
+
+    /**
+     * The high 16 bits of the values of each chunk, in ascending order.
+     */
+    @Nonnull
+    private transient char[] keys;
+
+    /**
+     * The low 16 bits of the values of each chunk, in the order of {@link #keys}.
+     */
+    @Nonnull
+    private transient Container[] containers;
+
+    /**
+     * The number of chunks.
+     */
+    @Nonnegative
+    private transient int size;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public CompressedBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    /**
+     * Creates a bitmap with the given chunks.
+     *
+     * @param keys       the keys of the chunks
+     * @param containers the containers of the chunks
+     * @param size       the number of chunks
+     */
+    private CompressedBitmap(char[] keys, Container[] containers, @Nonnegative int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    /**
+     * Creates a bitmap containing the given {@code values}.
+     *
+     * @param values the values of the bitmap
+     *
+     * @return a new bitmap
+     *
+     * @throws IndexOutOfBoundsException if a value is negative
+     */
+    @Nonnull
+    public static CompressedBitmap of(int... values) {
+        checkNotNull(values, "values");
+
+        final CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.set(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Reads a bitmap from the given {@code buffer}, from its current position.
+     * <p>
+     * On return, the position of the {@code buffer} is just after the bitmap. The byte order of the {@code buffer} is
+     * ignored: the serialized form is always big-endian.
+     *
+     * @param buffer the buffer to read
+     *
+     * @return a new bitmap
+     *
+     * @throws BufferUnderflowException if the bitmap is incomplete
+     * @throws IllegalArgumentException if the bitmap is malformed
+     * @see #writeOn(ByteBuffer)
+     */
+    @Nonnull
+    public static CompressedBitmap fromByteBuffer(ByteBuffer buffer) {
+        checkNotNull(buffer, "buffer");
+
+        final ByteBuffer in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        final int length = in.getInt();
+        if (length < Character.BYTES) {
+            throw new IllegalArgumentException(String.format("Malformed bitmap length: %d", length));
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        in.limit(in.position() + length);
+
+        final int size = in.getChar();
+        if (size > MAX_CHUNKS) {
+            throw new IllegalArgumentException(String.format("Malformed bitmap: %d chunks", size));
+        }
+
+        final char[] keys = new char[Math.max(size, 4)];
+        final Container[] containers = new Container[keys.length];
+        for (int i = 0; i < size; i++) {
+            keys[i] = in.getChar();
+            if (keys[i] >= MAX_CHUNKS || i > 0 && keys[i] <= keys[i - 1]) {
+                throw new IllegalArgumentException(String.format("Malformed bitmap: unordered chunk %d", (int) keys[i]));
+            }
+            containers[i] = Container.readFrom(in);
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException(String.format("Malformed bitmap: %d trailing bytes", in.remaining()));
+        }
+
+        buffer.position(in.position());
+        return new CompressedBitmap(keys, containers, size);
+    }
+
+    /**
+     * Reads a bitmap from the given {@code in}.
+     *
+     * @param in the input to read
+     *
+     * @return a new bitmap
+     *
+     * @throws StreamCorruptedException if the bitmap is malformed
+     * @throws IOException              if an I/O error occurs
+     * @see #writeTo(DataOutput)
+     */
+    @Nonnull
+    public static CompressedBitmap readFrom(@WillNotClose DataInput in) throws IOException {
+        checkNotNull(in, "in");
+
+        final int length = in.readInt();
+        if (length < Character.BYTES || length > maxSerializedSize()) {
+            throw new StreamCorruptedException("Malformed bitmap length: " + length);
+        }
+
+        final byte[] bytes = new byte[Integer.BYTES + length];
+        ByteBuffer.wrap(bytes).putInt(length);
+        in.readFully(bytes, Integer.BYTES, length);
+        try {
+            return fromByteBuffer(ByteBuffer.wrap(bytes));
+        }
+        catch (IllegalArgumentException | BufferUnderflowException e) {
+            StreamCorruptedException ex = new StreamCorruptedException(e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the greatest serialized bitmap, after its length.
+     *
+     * @return the number of bytes
+     */
+    private static int maxSerializedSize() {
+        return Character.BYTES + MAX_CHUNKS * (CONTAINER_HEADER_BYTES + BITMAP_BYTES);
+    }
+
+    /**
+     * Returns the high 16 bits of the {@code value}, which identify its chunk.
+     *
+     * @param value the value
+     *
+     * @return the key of the chunk
+     */
+    private static char highBits(int value) {
+        return (char) (value >>> Character.SIZE);
+    }
+
+    /**
+     * Returns the low 16 bits of the {@code value}, which identify it in its chunk.
+     *
+     * @param value the value
+     *
+     * @return the value in the chunk
+     */
+    private static int lowBits(int value) {
+        return value & (CHUNK_SIZE - 1);
+    }
+
+    /**
+     * Checks that the {@code value} is not negative.
+     *
+     * @param value the value to check
+     *
+     * @throws IndexOutOfBoundsException if the {@code value} is negative
+     */
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IndexOutOfBoundsException(String.format("value (%d) must not be negative", value));
+        }
+    }
+
+    /**
+     * Returns {@code true} if this bitmap contains the {@code value}.
+     *
+     * @param value the value to look for
+     *
+     * @return {@code true} if this bitmap contains the {@code value}; {@code false} otherwise, or if it is negative
+     */
+    public boolean get(int value) {
+        if (value < 0) {
+            return false;
+        }
+
+        final int index = indexOf(highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    /**
+     * Adds the {@code value} to this bitmap.
+     *
+     * @param value the value to add
+     *
+     * @throws IndexOutOfBoundsException if the {@code value} is negative
+     */
+    public void set(int value) {
+        checkValue(value);
+
+        final char key = highBits(value);
+        final int index = indexOf(key);
+        if (index >= 0) {
+            containers[index] = containers[index].add(lowBits(value));
+        }
+        else {
+            insert(-index - 1, key, new ArrayContainer(4).add(lowBits(value)));
+        }
+    }
+
+    /**
+     * Adds the values from {@code fromValue} (inclusive) to {@code toValue} (exclusive) to this bitmap.
+     * <p>
+     * The chunks entirely covered by the range are stored as a single run.
+     *
+     * @param fromValue the first value to add
+     * @param toValue   the value after the last value to add
+     *
+     * @throws IndexOutOfBoundsException if {@code fromValue} is negative or greater than {@code toValue}
+     */
+    public void set(int fromValue, int toValue) {
+        checkPositionIndex(fromValue, toValue);
+
+        if (fromValue == toValue) {
+            return;
+        }
+
+        final int last = toValue - 1;
+        for (int key = highBits(fromValue); key <= highBits(last); key++) {
+            final int from = key == highBits(fromValue) ? lowBits(fromValue) : 0;
+            final int to = key == highBits(last) ? lowBits(last) + 1 : CHUNK_SIZE;
+
+            final int index = indexOf((char) key);
+            if (index >= 0) {
+                containers[index] = containers[index].addRange(from, to).optimize();
+            }
+            else {
+                insert(-index - 1, (char) key, RunContainer.of(from, to));
+            }
+        }
+    }
+
+    /**
+     * Removes the {@code value} from this bitmap.
+     *
+     * @param value the value to remove
+     *
+     * @throws IndexOutOfBoundsException if the {@code value} is negative
+     */
+    public void clear(int value) {
+        checkValue(value);
+
+        final int index = indexOf(highBits(value));
+        if (index >= 0) {
+            replace(index, containers[index].remove(lowBits(value)));
+        }
+    }
+
+    /**
+     * Removes the values from {@code fromValue} (inclusive) to {@code toValue} (exclusive) from this bitmap.
+     *
+     * @param fromValue the first value to remove
+     * @param toValue   the value after the last value to remove
+     *
+     * @throws IndexOutOfBoundsException if {@code fromValue} is negative or greater than {@code toValue}
+     */
+    public void clear(int fromValue, int toValue) {
+        checkPositionIndex(fromValue, toValue);
+
+        if (fromValue == toValue) {
+            return;
+        }
+
+        final int last = toValue - 1;
+        int index = indexOf(highBits(fromValue));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        while (index < size && keys[index] <= highBits(last)) {
+            final int key = keys[index];
+            final int from = key == highBits(fromValue) ? lowBits(fromValue) : 0;
+            final int to = key == highBits(last) ? lowBits(last) + 1 : CHUNK_SIZE;
+
+            final Container container = containers[index].removeRange(from, to);
+            if (replace(index, container)) {
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values of this bitmap.
+     *
+     * @return the number of values
+     */
+    @Nonnegative
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns {@code true} if this bitmap does not contain any value.
+     *
+     * @return {@code true} if this bitmap is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the first value of this bitmap that is greater than or equal to {@code fromValue}.
+     *
+     * @param fromValue the value to start from
+     *
+     * @return the value, or {@code -1} if there is no such value
+     *
+     * @throws IndexOutOfBoundsException if {@code fromValue} is negative
+     */
+    public int nextSetBit(int fromValue) {
+        checkValue(fromValue);
+
+        int index = indexOf(highBits(fromValue));
+        if (index >= 0) {
+            final int low = containers[index].next(lowBits(fromValue));
+            if (low >= 0) {
+                return keys[index] << Character.SIZE | low;
+            }
+            index++;
+        }
+        else {
+            index = -index - 1;
+        }
+
+        return index < size
+                ? keys[index] << Character.SIZE | containers[index].next(0)
+                : -1;
+    }
+
+    /**
+     * Keeps in this bitmap the values that are also contained in the {@code other}.
+     *
+     * @param other the other bitmap
+     */
+    public void and(CompressedBitmap other) {
+        checkNotNull(other, "other");
+
+        final int capacity = Math.max(Math.min(size, other.size), 4);
+        final char[] newKeys = new char[capacity];
+        final Container[] newContainers = new Container[capacity];
+        int newSize = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            }
+            else if (keys[i] > other.keys[j]) {
+                j++;
+            }
+            else {
+                final Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    newKeys[newSize] = keys[i];
+                    newContainers[newSize++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+
+        update(newKeys, newContainers, newSize);
+    }
+
+    /**
+     * Adds to this bitmap all the values of the {@code other}.
+     *
+     * @param other the other bitmap
+     */
+    public void or(CompressedBitmap other) {
+        checkNotNull(other, "other");
+
+        final int capacity = Math.max(size + other.size, 4);
+        final char[] newKeys = new char[capacity];
+        final Container[] newContainers = new Container[capacity];
+        int newSize = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || i < size && keys[i] < other.keys[j]) {
+                newKeys[newSize] = keys[i];
+                newContainers[newSize++] = containers[i++];
+            }
+            else if (i == size || keys[i] > other.keys[j]) {
+                newKeys[newSize] = other.keys[j];
+                newContainers[newSize++] = other.containers[j++].copy();
+            }
+            else {
+                newKeys[newSize] = keys[i];
+                newContainers[newSize++] = containers[i++].or(other.containers[j++]);
+            }
+        }
+
+        update(newKeys, newContainers, newSize);
+    }
+
+    /**
+     * Removes from this bitmap all the values of the {@code other}.
+     *
+     * @param other the other bitmap
+     */
+    public void andNot(CompressedBitmap other) {
+        checkNotNull(other, "other");
+
+        final int capacity = Math.max(size, 4);
+        final char[] newKeys = new char[capacity];
+        final Container[] newContainers = new Container[capacity];
+        int newSize = 0;
+
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+
+            final Container container = j < other.size && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i];
+
+            if (container.cardinality() > 0) {
+                newKeys[newSize] = keys[i];
+                newContainers[newSize++] = container;
+            }
+        }
+
+        update(newKeys, newContainers, newSize);
+    }
+
+    /**
+     * Keeps in this bitmap the values that are contained either in this bitmap or in the {@code other}, but not in both.
+     *
+     * @param other the other bitmap
+     */
+    public void xor(CompressedBitmap other) {
+        checkNotNull(other, "other");
+
+        final int capacity = Math.max(size + other.size, 4);
+        final char[] newKeys = new char[capacity];
+        final Container[] newContainers = new Container[capacity];
+        int newSize = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            final char key;
+            final Container container;
+            if (j == other.size || i < size && keys[i] < other.keys[j]) {
+                key = keys[i];
+                container = containers[i++];
+            }
+            else if (i == size || keys[i] > other.keys[j]) {
+                key = other.keys[j];
+                container = other.containers[j++].copy();
+            }
+            else {
+                key = keys[i];
+                container = containers[i++].xor(other.containers[j++]);
+            }
+
+            if (container.cardinality() > 0) {
+                newKeys[newSize] = key;
+                newContainers[newSize++] = container;
+            }
+        }
+
+        update(newKeys, newContainers, newSize);
+    }
+
+    /**
+     * Converts each chunk of this bitmap to its most compact representation.
+     */
+    public void optimize() {
+        for (int i = 0; i < size; i++) {
+            containers[i] = containers[i].optimize();
+        }
+    }
+
+    /**
+     * Returns a copy of this bitmap.
+     *
+     * @return a new bitmap
+     */
+    @Nonnull
+    public CompressedBitmap copy() {
+        final Container[] newContainers = new Container[containers.length];
+        for (int i = 0; i < size; i++) {
+            newContainers[i] = containers[i].copy();
+        }
+        return new CompressedBitmap(keys.clone(), newContainers, size);
+    }
+
+    /**
+     * Performs the given {@code action} for each value of this bitmap, in ascending order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(IntConsumer action) {
+        checkNotNull(action, "action");
+
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << Character.SIZE, action);
+        }
+    }
+
+    /**
+     * Returns an iterator over the values of this bitmap, in ascending order.
+     * <p>
+     * The bitmap must not be modified while iterating.
+     *
+     * @return a new iterator
+     */
+    @Nonnull
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            /**
+             * The index of the current chunk.
+             */
+            private int index;
+
+            /**
+             * The low 16 bits of the next value in the current chunk, or {@code -1} if the chunk has been entirely
+             * visited.
+             */
+            private int next = size > 0 ? containers[0].next(0) : -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+
+                final int value = keys[index] << Character.SIZE | next;
+                next = containers[index].next(next + 1);
+                if (next < 0 && ++index < size) {
+                    next = containers[index].next(0);
+                }
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns a new array containing all the values of this bitmap, in ascending order.
+     *
+     * @return a new array
+     *
+     * @throws IllegalStateException if this bitmap contains too many values to fit in an array
+     */
+    @Nonnull
+    public int[] toArray() {
+        final long cardinality = cardinality();
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException(String.format("%d values do not fit in an array", cardinality));
+        }
+
+        final int[] values = new int[(int) cardinality];
+        final PrimitiveIterator.OfInt iterator = iterator();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = iterator.nextInt();
+        }
+        return values;
+    }
+
+    /**
+     * Returns the number of bytes written by {@link #writeOn(ByteBuffer)}.
+     *
+     * @return the number of bytes
+     */
+    @Nonnegative
+    public int serializedSize() {
+        int serializedSize = HEADER_BYTES;
+        for (int i = 0; i < size; i++) {
+            serializedSize += CONTAINER_HEADER_BYTES + containers[i].payloadSize();
+        }
+        return serializedSize;
+    }
+
+    /**
+     * Writes this bitmap in the given {@code buffer}, from its current position.
+     * <p>
+     * On return, the position of the {@code buffer} is advanced by {@link #serializedSize()}. The byte order of the
+     * {@code buffer} is ignored: the serialized form is always big-endian, and starts with its length.
+     *
+     * @param buffer the buffer where to write this bitmap
+     *
+     * @throws BufferOverflowException if this bitmap does not fit in the remaining bytes of the {@code buffer}; the
+     *                                 {@code buffer} is not modified
+     * @see #fromByteBuffer(ByteBuffer)
+     */
+    public void writeOn(ByteBuffer buffer) {
+        checkNotNull(buffer, "buffer");
+
+        final int serializedSize = serializedSize();
+        if (serializedSize > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+
+        final ByteBuffer out = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        out.putInt(serializedSize - Integer.BYTES);
+        out.putChar((char) size);
+        for (int i = 0; i < size; i++) {
+            out.putChar(keys[i]);
+            out.put(containers[i].type());
+            containers[i].writePayload(out);
+        }
+        buffer.position(out.position());
+    }
+
+    /**
+     * Writes this bitmap to the given {@code out}, in the same form as {@link #writeOn(ByteBuffer)}.
+     *
+     * @param out the output where to write this bitmap
+     *
+     * @throws IOException if an I/O error occurs
+     * @see #readFrom(DataInput)
+     */
+    public void writeTo(@WillNotClose DataOutput out) throws IOException {
+        checkNotNull(out, "out");
+
+        final ByteBuffer buffer = ByteBuffer.allocate(serializedSize());
+        writeOn(buffer);
+        out.write(buffer.array());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CompressedBitmap that = (CompressedBitmap) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i] != that.keys[i] || !containers[i].sameValues(that.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + keys[i];
+            result = 31 * result + containers[i].valuesHashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        forEach(v -> joiner.add(Integer.toString(v)));
+        return joiner.toString();
+    }
+
+    /**
+     * Returns the index of the chunk identified by the {@code key}.
+     *
+     * @param key the key of the chunk
+     *
+     * @return the index of the chunk, or {@code -(insertion point) - 1} if it is absent
+     */
+    private int indexOf(char key) {
+        // Most accesses are sequential: check the last chunk first
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Inserts a chunk at the given {@code index}.
+     *
+     * @param index     the index of the new chunk
+     * @param key       the key of the new chunk
+     * @param container the values of the new chunk
+     */
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            final int capacity = Math.min(MAX_CHUNKS, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * Replaces the chunk at the given {@code index}, or removes it if the {@code container} is empty.
+     *
+     * @param index     the index of the chunk
+     * @param container the new values of the chunk
+     *
+     * @return {@code true} if the chunk has been replaced, {@code false} if it has been removed
+     */
+    private boolean replace(int index, Container container) {
+        if (container.cardinality() > 0) {
+            containers[index] = container;
+            return true;
+        }
+
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+        return false;
+    }
+
+    /**
+     * Replaces all the chunks of this bitmap.
+     *
+     * @param newKeys       the new keys
+     * @param newContainers the new containers
+     * @param newSize       the new number of chunks
+     */
+    private void update(char[] newKeys, Container[] newContainers, int newSize) {
+        keys = newKeys;
+        containers = newContainers;
+        size = newSize;
+    }
+
+    /**
+     * Writes this bitmap to the given {@code out}.
+     *
+     * @param out the output stream
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        writeTo(out);
+    }
+
+    /**
+     * Reads this bitmap from the given {@code in}.
+     *
+     * @param in the input stream
+     *
+     * @throws IOException            if an I/O error occurs
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        final CompressedBitmap bitmap = readFrom(in);
+        update(bitmap.keys, bitmap.containers, bitmap.size);
+    }
+
+    // region Words
+
+    /**
+     * Sets the bits from {@code from} (inclusive) to {@code to} (exclusive) of the {@code words}.
+     *
+     * @param words the words to modify
+     * @param from  the index of the first bit
+     * @param to    the index after the last bit
+     */
+    private static void setRange(long[] words, int from, int to) {
+        final int first = from >>> 6;
+        final int last = (to - 1) >>> 6;
+        final long firstMask = -1L << from;
+        final long lastMask = -1L >>> -to;
+
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+        }
+        else {
+            words[first] |= firstMask;
+            Arrays.fill(words, first + 1, last, -1L);
+            words[last] |= lastMask;
+        }
+    }
+
+    /**
+     * Clears the bits from {@code from} (inclusive) to {@code to} (exclusive) of the {@code words}.
+     *
+     * @param words the words to modify
+     * @param from  the index of the first bit
+     * @param to    the index after the last bit
+     */
+    private static void clearRange(long[] words, int from, int to) {
+        final int first = from >>> 6;
+        final int last = (to - 1) >>> 6;
+        final long firstMask = -1L << from;
+        final long lastMask = -1L >>> -to;
+
+        if (first == last) {
+            words[first] &= ~(firstMask & lastMask);
+        }
+        else {
+            words[first] &= ~firstMask;
+            Arrays.fill(words, first + 1, last, 0L);
+            words[last] &= ~lastMask;
+        }
+    }
+
+    /**
+     * Flips the bits from {@code from} (inclusive) to {@code to} (exclusive) of the {@code words}.
+     *
+     * @param words the words to modify
+     * @param from  the index of the first bit
+     * @param to    the index after the last bit
+     */
+    private static void flipRange(long[] words, int from, int to) {
+        final int first = from >>> 6;
+        final int last = (to - 1) >>> 6;
+        final long firstMask = -1L << from;
+        final long lastMask = -1L >>> -to;
+
+        if (first == last) {
+            words[first] ^= firstMask & lastMask;
+        }
+        else {
+            words[first] ^= firstMask;
+            for (int i = first + 1; i < last; i++) {
+                words[i] = ~words[i];
+            }
+            words[last] ^= lastMask;
+        }
+    }
+
+    // endregion
+
+    // region Containers
+
+    /**
+     * The values of a chunk, identified by their low 16 bits.
+     * <p>
+     * Array and bitmap containers are modified in place by {@link #add(int)}, {@link #remove(int)}, {@link
+     * #addRange(int, int)} and {@link #removeRange(int, int)}, which return the container to use afterwards. Run
+     * containers are never modified. The bulk operations never modify their operands.
+     */
+    private abstract static class Container {
+
+        /**
+         * Reads a container from the given {@code in}.
+         *
+         * @param in the buffer to read
+         *
+         * @return a new container
+         *
+         * @throws IllegalArgumentException if the container is malformed
+         */
+        @Nonnull
+        static Container readFrom(ByteBuffer in) {
+            final byte type = in.get();
+            switch (type) {
+                case ARRAY:
+                    return ArrayContainer.readFrom(in);
+                case BITMAP:
+                    return BitmapContainer.readFrom(in);
+                case RUN:
+                    return RunContainer.readFrom(in);
+                default:
+                    throw new IllegalArgumentException(String.format("Malformed bitmap: unknown container type %d", type));
+            }
+        }
+
+        /**
+         * Creates the most compact array or bitmap container for the given {@code words}.
+         *
+         * @param words the bits of the values
+         *
+         * @return a new container, possibly empty
+         */
+        @Nonnull
+        static Container ofWords(long[] words) {
+            final BitmapContainer bitmap = new BitmapContainer(words);
+            return bitmap.cardinality <= ARRAY_MAX
+                    ? bitmap.toArrayContainer()
+                    : bitmap;
+        }
+
+        /**
+         * Returns the number of values of this container.
+         *
+         * @return the number of values
+         */
+        abstract int cardinality();
+
+        /**
+         * Returns the number of runs of consecutive values of this container.
+         *
+         * @return the number of runs
+         */
+        abstract int runCount();
+
+        /**
+         * Returns {@code true} if this container contains the {@code low} value.
+         *
+         * @param low the value
+         *
+         * @return {@code true} if this container contains the value
+         */
+        abstract boolean contains(int low);
+
+        /**
+         * Returns the first value of this container that is greater than or equal to {@code from}.
+         *
+         * @param from the value to start from, up to {@link #CHUNK_SIZE}
+         *
+         * @return the value, or {@code -1} if there is no such value
+         */
+        abstract int next(int from);
+
+        /**
+         * Adds the {@code low} value.
+         *
+         * @param low the value to add
+         *
+         * @return the container to use instead of this one
+         */
+        @Nonnull
+        abstract Container add(int low);
+
+        /**
+         * Removes the {@code low} value.
+         *
+         * @param low the value to remove
+         *
+         * @return the container to use instead of this one, possibly empty
+         */
+        @Nonnull
+        abstract Container remove(int low);
+
+        /**
+         * Adds the values from {@code from} (inclusive) to {@code to} (exclusive).
+         *
+         * @param from the first value to add
+         * @param to   the value after the last value to add
+         *
+         * @return the container to use instead of this one
+         */
+        @Nonnull
+        Container addRange(int from, int to) {
+            final BitmapContainer bitmap = toBitmapContainer();
+            setRange(bitmap.words, from, to);
+            return ofWords(bitmap.words);
+        }
+
+        /**
+         * Removes the values from {@code from} (inclusive) to {@code to} (exclusive).
+         *
+         * @param from the first value to remove
+         * @param to   the value after the last value to remove
+         *
+         * @return the container to use instead of this one, possibly empty
+         */
+        @Nonnull
+        Container removeRange(int from, int to) {
+            final BitmapContainer bitmap = toBitmapContainer();
+            clearRange(bitmap.words, from, to);
+            return ofWords(bitmap.words);
+        }
+
+        /**
+         * Performs the given {@code action} for each value of this container, in ascending order.
+         *
+         * @param high   the high 16 bits of the values
+         * @param action the action to perform
+         */
+        abstract void forEach(int high, IntConsumer action);
+
+        /**
+         * Sets the bits of the values of this container in the given {@code words}.
+         *
+         * @param words the words to modify
+         */
+        abstract void orInto(long[] words);
+
+        /**
+         * Clears the bits of the values of this container in the given {@code words}.
+         *
+         * @param words the words to modify
+         */
+        abstract void clearIn(long[] words);
+
+        /**
+         * Flips the bits of the values of this container in the given {@code words}.
+         *
+         * @param words the words to modify
+         */
+        abstract void xorInto(long[] words);
+
+        /**
+         * Returns a container with the values of both this container and the {@code other}.
+         *
+         * @param other the other container
+         *
+         * @return a new container, possibly empty
+         */
+        @Nonnull
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+
+            final long[] words = toBitmapContainer().words;
+            final long[] otherWords = other instanceof BitmapContainer
+                    ? ((BitmapContainer) other).words
+                    : other.toBitmapContainer().words;
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            return ofWords(words);
+        }
+
+        /**
+         * Returns a container with the values of this container or of the {@code other}.
+         *
+         * @param other the other container
+         *
+         * @return a new container
+         */
+        @Nonnull
+        Container or(Container other) {
+            final long[] words = toBitmapContainer().words;
+            other.orInto(words);
+            return ofWords(words);
+        }
+
+        /**
+         * Returns a container with the values of this container that are not contained in the {@code other}.
+         *
+         * @param other the other container
+         *
+         * @return a new container, possibly empty
+         */
+        @Nonnull
+        Container andNot(Container other) {
+            final long[] words = toBitmapContainer().words;
+            other.clearIn(words);
+            return ofWords(words);
+        }
+
+        /**
+         * Returns a container with the values of either this container or the {@code other}, but not both.
+         *
+         * @param other the other container
+         *
+         * @return a new container, possibly empty
+         */
+        @Nonnull
+        Container xor(Container other) {
+            final long[] words = toBitmapContainer().words;
+            other.xorInto(words);
+            return ofWords(words);
+        }
+
+        /**
+         * Returns a container with the same values as this container, that does not share its state.
+         *
+         * @return a container
+         */
+        @Nonnull
+        abstract Container copy();
+
+        /**
+         * Returns a new bitmap container with the same values as this container.
+         *
+         * @return a new container
+         */
+        @Nonnull
+        BitmapContainer toBitmapContainer() {
+            final long[] words = new long[BITMAP_WORDS];
+            orInto(words);
+            return new BitmapContainer(words, cardinality());
+        }
+
+        /**
+         * Returns an array container with the same values as this container.
+         *
+         * @return a container
+         */
+        @Nonnull
+        ArrayContainer toArrayContainer() {
+            final ArrayContainer array = new ArrayContainer(cardinality());
+            for (int v = next(0); v >= 0; v = next(v + 1)) {
+                array.values[array.cardinality++] = (char) v;
+            }
+            return array;
+        }
+
+        /**
+         * Returns a run container with the same values as this container.
+         *
+         * @return a container
+         */
+        @Nonnull
+        RunContainer toRunContainer() {
+            final char[] runs = new char[runCount() * 2];
+            int count = 0;
+            for (int start = next(0); start >= 0; ) {
+                int end = start;
+                while (end + 1 < CHUNK_SIZE && contains(end + 1)) {
+                    end++;
+                }
+                runs[count++] = (char) start;
+                runs[count++] = (char) (end - start);
+                start = next(end + 1);
+            }
+            return new RunContainer(runs, count / 2);
+        }
+
+        /**
+         * Returns the most compact container with the same values as this container.
+         *
+         * @return a container
+         */
+        @Nonnull
+        Container optimize() {
+            final int cardinality = cardinality();
+            final int runSize = Character.BYTES + runCount() * 2 * Character.BYTES;
+            final int otherSize = cardinality <= ARRAY_MAX
+                    ? Character.BYTES + cardinality * Character.BYTES
+                    : BITMAP_BYTES;
+
+            if (runSize < otherSize) {
+                return this instanceof RunContainer ? this : toRunContainer();
+            }
+            if (cardinality <= ARRAY_MAX) {
+                return this instanceof ArrayContainer ? this : toArrayContainer();
+            }
+            return this instanceof BitmapContainer ? this : toBitmapContainer();
+        }
+
+        /**
+         * Returns {@code true} if this container contains the same values as the {@code other}, whatever their
+         * representations.
+         *
+         * @param other the other container
+         *
+         * @return {@code true} if both containers contain the same values
+         */
+        boolean sameValues(Container other) {
+            if (cardinality() != other.cardinality()) {
+                return false;
+            }
+
+            int v = next(0);
+            int w = other.next(0);
+            while (v >= 0 && v == w) {
+                v = next(v + 1);
+                w = other.next(w + 1);
+            }
+            return v == w;
+        }
+
+        /**
+         * Returns a hash code of the values of this container, that does not depend on their representation.
+         *
+         * @return a hash code
+         */
+        int valuesHashCode() {
+            int result = 1;
+            for (int v = next(0); v >= 0; v = next(v + 1)) {
+                result = 31 * result + v;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the type of this container, written before its payload.
+         *
+         * @return the type
+         */
+        abstract byte type();
+
+        /**
+         * Returns the number of bytes written by {@link #writePayload(ByteBuffer)}.
+         *
+         * @return the number of bytes
+         */
+        abstract int payloadSize();
+
+        /**
+         * Writes the values of this container in the given {@code out}.
+         *
+         * @param out the buffer where to write
+         */
+        abstract void writePayload(ByteBuffer out);
+    }
+
+    /**
+     * A container that stores up to {@link #ARRAY_MAX} values in a sorted array.
+     */
+    private static final class ArrayContainer extends Container {
+
+        /**
+         * The values, in ascending order.
+         */
+        @Nonnull
+        char[] values;
+
+        /**
+         * The number of values.
+         */
+        int cardinality;
+
+        /**
+         * Creates an empty container.
+         *
+         * @param capacity the initial capacity
+         */
+        ArrayContainer(int capacity) {
+            this(new char[capacity], 0);
+        }
+
+        /**
+         * Creates a container with the given values.
+         *
+         * @param values      the values, in ascending order
+         * @param cardinality the number of values
+         */
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Reads an array container from the given {@code in}.
+         *
+         * @param in the buffer to read
+         *
+         * @return a new container
+         */
+        @Nonnull
+        static ArrayContainer readFrom(ByteBuffer in) {
+            final int cardinality = in.getChar() + 1;
+            if (cardinality > ARRAY_MAX) {
+                throw new IllegalArgumentException(String.format("Malformed bitmap: array of %d values", cardinality));
+            }
+
+            final char[] values = new char[cardinality];
+            for (int i = 0; i < cardinality; i++) {
+                values[i] = in.getChar();
+                if (i > 0 && values[i] <= values[i - 1]) {
+                    throw new IllegalArgumentException("Malformed bitmap: unordered array");
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int runCount() {
+            int runs = cardinality > 0 ? 1 : 0;
+            for (int i = 1; i < cardinality; i++) {
+                if (values[i] != values[i - 1] + 1) {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(values, 0, cardinality, (char) low) >= 0;
+        }
+
+        @Override
+        int next(int from) {
+            final int index = lowerBound(from);
+            return index < cardinality ? values[index] : -1;
+        }
+
+        @Nonnull
+        @Override
+        Container add(int low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmapContainer().add(low);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = (char) low;
+            cardinality++;
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        Container remove(int low) {
+            final int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        Container removeRange(int from, int to) {
+            final int start = lowerBound(from);
+            final int end = lowerBound(to);
+            System.arraycopy(values, end, values, start, cardinality - end);
+            cardinality -= end - start;
+            return this;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+        }
+
+        @Override
+        void clearIn(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] &= ~(1L << values[i]);
+            }
+        }
+
+        @Override
+        void xorInto(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] ^= 1L << values[i];
+            }
+        }
+
+        @Nonnull
+        @Override
+        Container and(Container other) {
+            final char[] result = new char[Math.min(cardinality, other.cardinality())];
+            int count = 0;
+
+            if (other instanceof ArrayContainer) {
+                final ArrayContainer that = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+                // Branch-free merge: the comparisons of random values are unpredictable
+                while (i < cardinality && j < that.cardinality) {
+                    final char a = values[i];
+                    final char b = that.values[j];
+                    result[count] = a;
+                    count += a == b ? 1 : 0;
+                    i += a <= b ? 1 : 0;
+                    j += a >= b ? 1 : 0;
+                }
+            }
+            else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Nonnull
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                return other.or(this);
+            }
+
+            final ArrayContainer that = (ArrayContainer) other;
+            final char[] result = new char[cardinality + that.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < that.cardinality) {
+                if (values[i] < that.values[j]) {
+                    result[count++] = values[i++];
+                }
+                else if (values[i] > that.values[j]) {
+                    result[count++] = that.values[j++];
+                }
+                else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[count++] = values[i++];
+            }
+            while (j < that.cardinality) {
+                result[count++] = that.values[j++];
+            }
+
+            final ArrayContainer union = new ArrayContainer(result, count);
+            return count <= ARRAY_MAX ? union : union.toBitmapContainer();
+        }
+
+        @Nonnull
+        @Override
+        Container andNot(Container other) {
+            final char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Nonnull
+        @Override
+        Container xor(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                return other.xor(this);
+            }
+
+            final ArrayContainer that = (ArrayContainer) other;
+            final char[] result = new char[cardinality + that.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < that.cardinality) {
+                if (values[i] < that.values[j]) {
+                    result[count++] = values[i++];
+                }
+                else if (values[i] > that.values[j]) {
+                    result[count++] = that.values[j++];
+                }
+                else {
+                    i++;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[count++] = values[i++];
+            }
+            while (j < that.cardinality) {
+                result[count++] = that.values[j++];
+            }
+
+            final ArrayContainer difference = new ArrayContainer(result, count);
+            return count <= ARRAY_MAX ? difference : difference.toBitmapContainer();
+        }
+
+        @Nonnull
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Nonnull
+        @Override
+        ArrayContainer toArrayContainer() {
+            return this;
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof ArrayContainer) {
+                final ArrayContainer that = (ArrayContainer) other;
+                return Arrays.equals(values, 0, cardinality, that.values, 0, that.cardinality);
+            }
+            return super.sameValues(other);
+        }
+
+        @Override
+        byte type() {
+            return ARRAY;
+        }
+
+        @Override
+        int payloadSize() {
+            return Character.BYTES + cardinality * Character.BYTES;
+        }
+
+        @Override
+        void writePayload(ByteBuffer out) {
+            out.putChar((char) (cardinality - 1));
+            for (int i = 0; i < cardinality; i++) {
+                out.putChar(values[i]);
+            }
+        }
+
+        /**
+         * Returns the index of the first value that is greater than or equal to {@code low}.
+         *
+         * @param low the value to look for
+         *
+         * @return the index, or {@link #cardinality} if all values are lower
+         */
+        private int lowerBound(int low) {
+            if (low >= CHUNK_SIZE) {
+                return cardinality;
+            }
+
+            final int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    /**
+     * A container that stores the values of a chunk in a bitmap of {@link #BITMAP_WORDS} words.
+     */
+    private static final class BitmapContainer extends Container {
+
+        /**
+         * The bits of the values.
+         */
+        @Nonnull
+        final long[] words;
+
+        /**
+         * The number of values.
+         */
+        int cardinality;
+
+        /**
+         * Creates a container with the given {@code words}.
+         *
+         * @param words the bits of the values
+         */
+        BitmapContainer(long[] words) {
+            this(words, 0);
+            recount();
+        }
+
+        /**
+         * Creates a container with the given {@code words}.
+         *
+         * @param words       the bits of the values
+         * @param cardinality the number of values
+         */
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Reads a bitmap container from the given {@code in}.
+         *
+         * @param in the buffer to read
+         *
+         * @return a new container
+         */
+        @Nonnull
+        static BitmapContainer readFrom(ByteBuffer in) {
+            final long[] words = new long[BITMAP_WORDS];
+            in.asLongBuffer().get(words);
+            in.position(in.position() + BITMAP_BYTES);
+
+            final BitmapContainer bitmap = new BitmapContainer(words);
+            if (bitmap.cardinality == 0) {
+                throw new IllegalArgumentException("Malformed bitmap: empty container");
+            }
+            return bitmap;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int runCount() {
+            int runs = 0;
+            long previous = 0;
+            for (long word : words) {
+                // Count the bits that start a run: set, and preceded by a clear bit
+                runs += Long.bitCount(word & ~(word << 1 | previous >>> 63));
+                previous = word;
+            }
+            return runs;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & 1L << low) != 0;
+        }
+
+        @Override
+        int next(int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+
+            int index = from >>> 6;
+            long word = words[index] & -1L << from;
+            while (word == 0) {
+                if (++index == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = words[index];
+            }
+            return index * Long.SIZE + Long.numberOfTrailingZeros(word);
+        }
+
+        @Nonnull
+        @Override
+        Container add(int low) {
+            final long word = words[low >>> 6];
+            final long newWord = word | 1L << low;
+            if (word != newWord) {
+                words[low >>> 6] = newWord;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        Container remove(int low) {
+            final long word = words[low >>> 6];
+            final long newWord = word & ~(1L << low);
+            if (word != newWord) {
+                words[low >>> 6] = newWord;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArrayContainer() : this;
+        }
+
+        @Nonnull
+        @Override
+        Container addRange(int from, int to) {
+            setRange(words, from, to);
+            recount();
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        Container removeRange(int from, int to) {
+            clearRange(words, from, to);
+            recount();
+            return cardinality <= ARRAY_MAX ? toArrayContainer() : this;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        void orInto(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                target[i] |= words[i];
+            }
+        }
+
+        @Override
+        void clearIn(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                target[i] &= ~words[i];
+            }
+        }
+
+        @Override
+        void xorInto(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                target[i] ^= words[i];
+            }
+        }
+
+        @Nonnull
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Nonnull
+        @Override
+        BitmapContainer toBitmapContainer() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Nonnull
+        @Override
+        ArrayContainer toArrayContainer() {
+            final ArrayContainer array = new ArrayContainer(cardinality);
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.cardinality++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof BitmapContainer) {
+                return Arrays.equals(words, ((BitmapContainer) other).words);
+            }
+            return super.sameValues(other);
+        }
+
+        @Override
+        byte type() {
+            return BITMAP;
+        }
+
+        @Override
+        int payloadSize() {
+            return BITMAP_BYTES;
+        }
+
+        @Override
+        void writePayload(ByteBuffer out) {
+            out.asLongBuffer().put(words);
+            out.position(out.position() + BITMAP_BYTES);
+        }
+
+        /**
+         * Computes the number of values from the {@link #words}.
+         */
+        private void recount() {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            cardinality = count;
+        }
+    }
+
+    /**
+     * An immutable container that stores the values of a chunk as a sorted array of runs of consecutive values.
+     */
+    private static final class RunContainer extends Container {
+
+        /**
+         * The runs: for each run, its first value, followed by its length minus one.
+         */
+        @Nonnull
+        private final char[] runs;
+
+        /**
+         * The number of runs.
+         */
+        private final int count;
+
+        /**
+         * Creates a container with the given {@code runs}.
+         *
+         * @param runs  the runs, in ascending order
+         * @param count the number of runs
+         */
+        RunContainer(char[] runs, int count) {
+            this.runs = runs;
+            this.count = count;
+        }
+
+        /**
+         * Creates a container with the values from {@code from} (inclusive) to {@code to} (exclusive).
+         *
+         * @param from the first value
+         * @param to   the value after the last value
+         *
+         * @return a new container
+         */
+        @Nonnull
+        static RunContainer of(int from, int to) {
+            return new RunContainer(new char[]{(char) from, (char) (to - from - 1)}, 1);
+        }
+
+        /**
+         * Reads a run container from the given {@code in}.
+         *
+         * @param in the buffer to read
+         *
+         * @return a new container
+         */
+        @Nonnull
+        static RunContainer readFrom(ByteBuffer in) {
+            final int count = in.getChar();
+            if (count == 0 || count > CHUNK_SIZE / 2) {
+                throw new IllegalArgumentException(String.format("Malformed bitmap: %d runs", count));
+            }
+
+            final char[] runs = new char[count * 2];
+            int previousEnd = -1;
+            for (int i = 0; i < runs.length; i += 2) {
+                runs[i] = in.getChar();
+                runs[i + 1] = in.getChar();
+
+                final int end = runs[i] + runs[i + 1];
+                if (runs[i] <= previousEnd || end >= CHUNK_SIZE) {
+                    throw new IllegalArgumentException("Malformed bitmap: unordered runs");
+                }
+                previousEnd = end;
+            }
+            return new RunContainer(runs, count);
+        }
+
+        @Override
+        int cardinality() {
+            int cardinality = count;
+            for (int i = 1; i < count * 2; i += 2) {
+                cardinality += runs[i];
+            }
+            return cardinality;
+        }
+
+        @Override
+        int runCount() {
+            return count;
+        }
+
+        @Override
+        boolean contains(int low) {
+            final int index = find(low);
+            return index >= 0 && low <= end(index);
+        }
+
+        @Override
+        int next(int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+
+            final int index = find(from);
+            if (index >= 0 && from <= end(index)) {
+                return from;
+            }
+            return index + 1 < count ? runs[(index + 1) * 2] : -1;
+        }
+
+        @Nonnull
+        @Override
+        Container add(int low) {
+            return contains(low) ? this : mutable().add(low);
+        }
+
+        @Nonnull
+        @Override
+        Container remove(int low) {
+            return contains(low) ? mutable().remove(low) : this;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < count; i++) {
+                for (int v = runs[i * 2], end = end(i); v <= end; v++) {
+                    action.accept(high | v);
+                }
+            }
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < count; i++) {
+                setRange(words, runs[i * 2], end(i) + 1);
+            }
+        }
+
+        @Override
+        void clearIn(long[] words) {
+            for (int i = 0; i < count; i++) {
+                clearRange(words, runs[i * 2], end(i) + 1);
+            }
+        }
+
+        @Override
+        void xorInto(long[] words) {
+            for (int i = 0; i < count; i++) {
+                flipRange(words, runs[i * 2], end(i) + 1);
+            }
+        }
+
+        @Nonnull
+        @Override
+        Container and(Container other) {
+            return isFull() ? other.copy() : super.and(other);
+        }
+
+        @Nonnull
+        @Override
+        Container or(Container other) {
+            return isFull() ? this : super.or(other);
+        }
+
+        @Nonnull
+        @Override
+        Container copy() {
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        RunContainer toRunContainer() {
+            return this;
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof RunContainer) {
+                final RunContainer that = (RunContainer) other;
+                return Arrays.equals(runs, 0, count * 2, that.runs, 0, that.count * 2);
+            }
+            return super.sameValues(other);
+        }
+
+        @Override
+        byte type() {
+            return RUN;
+        }
+
+        @Override
+        int payloadSize() {
+            return Character.BYTES + count * 2 * Character.BYTES;
+        }
+
+        @Override
+        void writePayload(ByteBuffer out) {
+            out.putChar((char) count);
+            for (int i = 0; i < count * 2; i++) {
+                out.putChar(runs[i]);
+            }
+        }
+
+        /**
+         * Returns {@code true} if this container contains all the values of its chunk.
+         *
+         * @return {@code true} if this container is full
+         */
+        private boolean isFull() {
+            return count == 1 && runs[0] == 0 && runs[1] == CHUNK_SIZE - 1;
+        }
+
+        /**
+         * Returns the last value of the run at the {@code index}.
+         *
+         * @param index the index of the run
+         *
+         * @return the last value
+         */
+        private int end(int index) {
+            return runs[index * 2] + runs[index * 2 + 1];
+        }
+
+        /**
+         * Returns the index of the last run that starts at or before {@code low}.
+         *
+         * @param low the value to look for
+         *
+         * @return the index of the run, or {@code -1} if all runs start after {@code low}
+         */
+        private int find(int low) {
+            int lower = 0;
+            int upper = count - 1;
+            while (lower <= upper) {
+                final int middle = (lower + upper) >>> 1;
+                if (runs[middle * 2] <= low) {
+                    lower = middle + 1;
+                }
+                else {
+                    upper = middle - 1;
+                }
+            }
+            return upper;
+        }
+
+        /**
+         * Returns a mutable container with the same values as this container.
+         *
+         * @return a new container
+         */
+        @Nonnull
+        private Container mutable() {
+            return cardinality() <= ARRAY_MAX ? toArrayContainer() : toBitmapContainer();
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkElementIndex;
+import static org.atlanmod.commons.Guards.checkPositionIndex;
+import static org.atlanmod.commons.collect.Words.WORD_SIZE;
+
+/**
+ * A fixed-size set of bits, with the API of {@link Flags}, that can be modified concurrently by several threads
+ * without locking.
+ * <p>
+ * Bits are stored in {@code long} words, modified with atomic {@link VarHandle} operations: concurrent modifications
+ * of bits of the same word never lose updates. {@link #setIfAbsent(int)} tells which thread set a bit first, for
+ * instance to visit each element once during a parallel traversal.
+ * <p>
+ * Single-bit reads see the modifications that happened before them. Scans, such as {@link #cardinality()} or {@link
+ * #nextSetBit(int)}, do not take a snapshot: they are exact only when no other thread modifies the set.
+ *
+ * @see Flags
+ * @see OffHeapFlags
+ * @since 1.1.1
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class ConcurrentFlags {
+
+    /**
+     * The handle to access the words.
+     */
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * The number of elements.
+     */
+    @Nonnegative
+    private final int size;
+
+    /**
+     * The bits of the elements: the element {@code i} is the bit {@code i % 64} of the word {@code i / 64}.
+     */
+    @Nonnull
+    private final long[] words;
+
+    /**
+     * The accessor of the {@link #words}, for the operations shared with the other bit sets.
+     */
+    @Nonnull
+    private final Words.Accessor accessor = new AtomicAccessor();
+
+    /**
+     * Creates a bit set with a predetermined number of elements.
+     *
+     * @param size the number of elements, rounded up to a multiple of 8
+     */
+    public ConcurrentFlags(int size) {
+        this.size = Words.roundSize(size);
+        this.words = new long[Words.wordCount(this.size)];
+    }
+
+    /**
+     * Creates a bit set with the same bits as the given {@code flags}.
+     *
+     * @param flags the bits to copy
+     *
+     * @return a new bit set
+     */
+    @Nonnull
+    public static ConcurrentFlags copyOf(Flags flags) {
+        final ConcurrentFlags result = new ConcurrentFlags(flags.size());
+        for (int i = flags.nextSetBit(0); i >= 0; i = flags.nextSetBit(i + 1)) {
+            result.set(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of elements of this set.
+     *
+     * @return the number of elements
+     */
+    @Nonnegative
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the bit at the specified index to true.
+     *
+     * @param index a bit index
+     */
+    public void set(int index) {
+        checkElementIndex(index, size);
+
+        WORDS.getAndBitwiseOr(words, index / WORD_SIZE, 1L << index);
+    }
+
+    /**
+     * Sets the bit at the specified index to true, if it is not already set.
+     * <p>
+     * When several threads set the same bit concurrently, only one of them gets {@code true}.
+     *
+     * @param index a bit index
+     *
+     * @return {@code true} if the bit has been set by this call, {@code false} if it was already set
+     */
+    public boolean setIfAbsent(int index) {
+        checkElementIndex(index, size);
+
+        final int wordIndex = index / WORD_SIZE;
+        final long mask = 1L << index;
+
+        // Avoid the atomic operation, and the invalidation of the cache line, if the bit is already set
+        if (((long) WORDS.getAcquire(words, wordIndex) & mask) != 0) {
+            return false;
+        }
+        return ((long) WORDS.getAndBitwiseOr(words, wordIndex, mask) & mask) == 0;
+    }
+
+    /**
+     * Sets the bit at the specified index to a specific value.
+     *
+     * @param index a bit index
+     * @param value a boolean
+     */
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        }
+        else {
+            clear(index);
+        }
+    }
+
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to true.
+     *
+     * @param fromIndex the index of the first bit to set
+     * @param toIndex   the index after the last bit to set
+     */
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        Words.set(accessor, fromIndex, toIndex);
+    }
+
+    /**
+     * Sets the bit at the specified index to false.
+     *
+     * @param index a bit index
+     */
+    public void clear(int index) {
+        checkElementIndex(index, size);
+
+        WORDS.getAndBitwiseAnd(words, index / WORD_SIZE, ~(1L << index));
+    }
+
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to false.
+     *
+     * @param fromIndex the index of the first bit to clear
+     * @param toIndex   the index after the last bit to clear
+     */
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        Words.clear(accessor, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the value of the bit with the specified index.
+     * The value is true if the bit corresponding to the index is set to 1. Returns false otherwise.
+     *
+     * @param index the bit index
+     * @return the value of the bit corresponding to the specified index
+     */
+    public boolean get(int index) {
+        checkElementIndex(index, size);
+
+        return ((long) WORDS.getAcquire(words, index / WORD_SIZE) & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of bits set to true.
+     *
+     * @return the number of bits set to true
+     */
+    @Nonnegative
+    public int cardinality() {
+        return Words.cardinality(accessor);
+    }
+
+    /**
+     * Returns {@code true} if no bit is set to true.
+     *
+     * @return {@code true} if no bit is set to true
+     */
+    public boolean isEmpty() {
+        return Words.isEmpty(accessor);
+    }
+
+    /**
+     * Returns the index of the first bit set to true that occurs on or after {@code fromIndex}.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next bit set to true, or {@code -1} if there is no such bit
+     */
+    public int nextSetBit(int fromIndex) {
+        checkPositionIndex(fromIndex, size);
+
+        return Words.nextSetBit(accessor, fromIndex);
+    }
+
+    /**
+     * Returns the index of the first bit set to false that occurs on or after {@code fromIndex}.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next bit set to false, or {@code -1} if there is no such bit
+     */
+    public int nextClearBit(int fromIndex) {
+        checkPositionIndex(fromIndex, size);
+
+        return Words.nextClearBit(accessor, size, fromIndex);
+    }
+
+    /**
+     * Returns a new {@link Flags} with the same bits as this set.
+     *
+     * @return a new bit set
+     */
+    @Nonnull
+    public Flags toFlags() {
+        return Flags.fromBytes(toBytes());
+    }
+
+    /**
+     * Returns a little-endian representation of the bits of this set, with the same layout as {@link Flags#toBytes()}.
+     *
+     * @return a new array of {@code size() / 8} bytes
+     */
+    @Nonnull
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[size / Byte.SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (word(i / Long.BYTES) >>> (Byte.SIZE * (i % Long.BYTES)));
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toBytes());
+    }
+
+    /**
+     * Returns the word at the {@code index}, with an opaque read: scans do not need to order their reads, but must see
+     * the latest value of each word.
+     *
+     * @param index the index of the word
+     *
+     * @return the word
+     */
+    private long word(int index) {
+        return (long) WORDS.getOpaque(words, index);
+    }
+
+    /**
+     * Checks that the range from {@code fromIndex} to {@code toIndex} is a valid range of this set.
+     *
+     * @param fromIndex the first index of the range
+     * @param toIndex   the index after the range
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        checkPositionIndex(toIndex, size);
+        checkPositionIndex(fromIndex, toIndex);
+    }
+
+    /**
+     * A {@link Words.Accessor} with atomic modifications: words that are entirely replaced are written with a release
+     * store.
+     */
+    private final class AtomicAccessor implements Words.Accessor {
+
+        @Override
+        public int length() {
+            return words.length;
+        }
+
+        @Override
+        public long get(int index) {
+            return word(index);
+        }
+
+        @Override
+        public void or(int index, long mask) {
+            WORDS.getAndBitwiseOr(words, index, mask);
+        }
+
+        @Override
+        public void and(int index, long mask) {
+            WORDS.getAndBitwiseAnd(words, index, mask);
+        }
+
+        @Override
+        public void fill(int fromIndex, int toIndex, long value) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                WORDS.setRelease(words, i, value);
+            }
+        }
+    }
+}
@@ -8,25 +8,60 @@
 
 package org.atlanmod.commons.collect;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 
-import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkElementIndex;
+import static org.atlanmod.commons.Guards.checkNotNull;
 import static org.atlanmod.commons.Guards.checkPositionIndex;
+import static org.atlanmod.commons.collect.Words.WORD_SIZE;
 
 /**
  * This class implements a fixed-size set of bits.
  * <p>
  * The set is composed of a fix number of elements, where each element is indexed by a positive integer and
- * has a boolean value.
+ * has a boolean value. The number of elements is rounded up to a multiple of 8, the number of bits stored by
+ * {@link #toBytes()}.
+ * <p>
+ * Bits are stored in {@code long} words: bulk operations, such as {@link #and(Flags)} or {@link #cardinality()}, process
+ * 64 bits at a time.
  *
  * @author sunye
  * @since 1.1.0
  */
 public class Flags implements Serializable {
-    private byte[] bytes;
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = -1852661213669970066L;
+
+    /**
+     * The serialized form of this class: a little-endian representation of the bits, as returned by
+     * {@link #toBytes()}.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("bytes", byte[].class)};
+
+    /**
+     * The number of elements.
+     */
+    private transient int size;
+
+    /**
+     * The bits of the elements: the element {@code i} is the bit {@code i % 64} of the word {@code i / 64}.
+     */
+    private transient long[] words;
+
+    /**
+     * The accessor of the {@link #words}, for the operations shared with the other bit sets.
+     */
+    private transient Words.Accessor accessor;
 
     /**
      * Creates a bit set with a predetermined number of elements.
@@ -34,19 +69,28 @@ public class Flags implements Serializable {
      * @param size the number of elements
      */
     public Flags(int size) {
-        checkGreaterThanOrEqualTo(size, 0);
-
-        // Don't remove casts, otherwise
-        // Math.ceil() may not work as expected
-        int bytesLength = (int) Math.ceil((double) size / Byte.SIZE );
-        bytes = new byte[bytesLength];
+        this.size = Words.roundSize(size);
+        this.words = new long[Words.wordCount(this.size)];
+        this.accessor = Words.of(words);
     }
 
     @Nonnull
     private Flags(byte[] bytes) {
-        checkGreaterThanOrEqualTo(bytes.length, 0);
+        this(bytes.length * Byte.SIZE);
 
-        this.bytes = Arrays.copyOf(bytes, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            words[i / Long.BYTES] |= (bytes[i] & 0xFFL) << (Byte.SIZE * (i % Long.BYTES));
+        }
+    }
+
+    /**
+     * Returns the number of elements of this set.
+     *
+     * @return the number of elements
+     */
+    @Nonnegative
+    public int size() {
+        return size;
     }
 
     /**
@@ -55,7 +99,9 @@ public class Flags implements Serializable {
      * @param index a bit index
      */
     public void set(int index) {
-        this.set(index, true);
+        checkElementIndex(index, size);
+
+        words[index / WORD_SIZE] |= 1L << index;
     }
 
     /**
@@ -65,18 +111,48 @@ public class Flags implements Serializable {
      * @param value a boolean
      */
     public void set(int index, boolean value) {
-        checkPositionIndex(index, bytes.length * Byte.SIZE);
-
-        int position = index / Byte.SIZE;
-        int shift = index % Byte.SIZE;
-
         if (value) {
-            bytes[position] |= (1 << shift);
+            set(index);
         } else {
-            bytes[position] &= ~(1 << shift);
+            clear(index);
         }
     }
 
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to true.
+     *
+     * @param fromIndex the index of the first bit to set
+     * @param toIndex   the index after the last bit to set
+     */
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        Words.set(accessor, fromIndex, toIndex);
+    }
+
+    /**
+     * Sets the bit at the specified index to false.
+     *
+     * @param index a bit index
+     */
+    public void clear(int index) {
+        checkElementIndex(index, size);
+
+        words[index / WORD_SIZE] &= ~(1L << index);
+    }
+
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to false.
+     *
+     * @param fromIndex the index of the first bit to clear
+     * @param toIndex   the index after the last bit to clear
+     */
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        Words.clear(accessor, fromIndex, toIndex);
+    }
+
     /**
      * Returns the value of the bit with the specified index.
      * The value is true if the bit corresponding to the index is set to 1. Returns false otherwise.
@@ -85,11 +161,115 @@ public class Flags implements Serializable {
      * @return the value of the bit corresponding to the specified index
      */
     public boolean get(int index) {
-        checkPositionIndex(index, bytes.length*Byte.SIZE);
+        checkElementIndex(index, size);
+
+        return (words[index / WORD_SIZE] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of bits set to true.
+     *
+     * @return the number of bits set to true
+     */
+    @Nonnegative
+    public int cardinality() {
+        return Words.cardinality(accessor);
+    }
+
+    /**
+     * Returns {@code true} if no bit is set to true.
+     *
+     * @return {@code true} if no bit is set to true
+     */
+    public boolean isEmpty() {
+        return Words.isEmpty(accessor);
+    }
+
+    /**
+     * Returns the index of the first bit set to true that occurs on or after {@code fromIndex}.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next bit set to true, or {@code -1} if there is no such bit
+     */
+    public int nextSetBit(int fromIndex) {
+        checkPositionIndex(fromIndex, size);
+
+        return Words.nextSetBit(accessor, fromIndex);
+    }
+
+    /**
+     * Returns the index of the first bit set to false that occurs on or after {@code fromIndex}.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next bit set to false, or {@code -1} if there is no such bit
+     */
+    public int nextClearBit(int fromIndex) {
+        checkPositionIndex(fromIndex, size);
+
+        return Words.nextClearBit(accessor, size, fromIndex);
+    }
+
+    /**
+     * Performs a logical AND of this set with the {@code other} set: each bit of this set is kept to true only if the
+     * corresponding bit of the {@code other} set is also true.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void and(Flags other) {
+        checkSameSize(other);
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Performs a logical OR of this set with the {@code other} set: each bit of this set is set to true if the
+     * corresponding bit of the {@code other} set is true.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void or(Flags other) {
+        checkSameSize(other);
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Performs a logical XOR of this set with the {@code other} set: each bit of this set is flipped if the
+     * corresponding bit of the {@code other} set is true.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void xor(Flags other) {
+        checkSameSize(other);
 
-        int position = index / Byte.SIZE;
-        int shift = index % Byte.SIZE;
-        return (bytes[position] & (1 << shift)) != 0;
+        for (int i = 0; i < words.length; i++) {
+            words[i] ^= other.words[i];
+        }
+    }
+
+    /**
+     * Clears all the bits of this set whose corresponding bit is set in the {@code other} set.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void andNot(Flags other) {
+        checkSameSize(other);
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
     }
 
     /**
@@ -98,7 +278,11 @@ public class Flags implements Serializable {
      * @return a byte array containing a little-endian representation of all the bits in this bit set
      */
     public byte[] toBytes() {
-        return Arrays.copyOf(bytes, bytes.length);
+        byte[] bytes = new byte[size / Byte.SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i / Long.BYTES] >>> (Byte.SIZE * (i % Long.BYTES)));
+        }
+        return bytes;
     }
 
     /**
@@ -107,9 +291,9 @@ public class Flags implements Serializable {
      * @param buffer the {@ByteBuffer}
      */
     public void writeOn(ByteBuffer buffer) {
-        assert bytes.length < buffer.remaining() : "ByteArray must have enough place for this Bit Set";
+        assert size / Byte.SIZE <= buffer.remaining() : "ByteArray must have enough place for this Bit Set";
 
-        buffer.put(bytes);
+        buffer.put(toBytes());
     }
 
     /**
@@ -125,7 +309,7 @@ public class Flags implements Serializable {
         if (this == other) return true;
         if (other == null || getClass() != other.getClass()) return false;
         Flags that = (Flags) other;
-        return Arrays.equals(bytes, that.bytes);
+        return size == that.size && Arrays.equals(words, that.words);
     }
 
     /**
@@ -135,12 +319,12 @@ public class Flags implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Arrays.hashCode(bytes);
+        return 31 * size + Arrays.hashCode(words);
     }
 
     @Override
     public String toString() {
-        return  Arrays.toString(bytes);
+        return  Arrays.toString(toBytes());
     }
 
     /**
@@ -151,6 +335,48 @@ public class Flags implements Serializable {
      * @return an instance of {@code Flags}
      */
     public static Flags fromBytes(byte[] bytes) {
+        checkNotNull(bytes, "bytes");
+
         return new Flags(bytes);
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks that a range of bits is valid for this set.
+     *
+     * @param fromIndex the index of the first bit
+     * @param toIndex   the index after the last bit
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        checkPositionIndex(toIndex, size);
+        checkPositionIndex(fromIndex, toIndex);
+    }
+
+    /**
+     * Checks that the {@code other} set has the same size as this set.
+     *
+     * @param other the other set
+     */
+    private void checkSameSize(Flags other) {
+        checkNotNull(other, "other");
+        if (size != other.size) {
+            throw new IllegalArgumentException(String.format("sets must have the same size (%d != %d)", size, other.size));
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.putFields().put("bytes", toBytes());
+        out.writeFields();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final byte[] bytes = (byte[]) in.readFields().get("bytes", null);
+        if (bytes == null) {
+            throw new InvalidObjectException("bytes must not be null");
+        }
+
+        final Flags flags = new Flags(bytes);
+        this.size = flags.size;
+        this.words = flags.words;
+        this.accessor = flags.accessor;
+    }
+}
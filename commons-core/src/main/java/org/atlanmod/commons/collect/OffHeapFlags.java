@@ -0,0 +1,648 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkElementIndex;
+import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkPositionIndex;
+import static org.atlanmod.commons.collect.Words.WORD_SIZE;
+
+/**
+ * A fixed-size set of bits, with the same API as {@link Flags}, stored outside of the Java heap in a direct or
+ * memory-mapped {@link ByteBuffer}.
+ * <p>
+ * Large sets do not increase the heap size nor the GC pauses, and a set stored in a file with {@link #map(Path, int)}
+ * can be reopened after a restart without being read. The bits are stored in {@code long} words, in the little-endian
+ * order: the content of the buffer is the same as the result of {@link Flags#toBytes()}. The bits of the last word
+ * that follow the last element are ignored, whatever their value in the buffer.
+ * <p>
+ * All modifications are atomic, with {@link VarHandle} operations on the words, so several threads can modify the same
+ * set concurrently without losing updates. Bulk operations, such as {@link #and(OffHeapFlags)}, are atomic for each
+ * word, but not for the whole set, and only update the words that change; {@link #cardinality()} and the other scans
+ * do not take a snapshot. Atomic operations make modifications slower than with {@link Flags}. If a wrapped buffer ends
+ * in the middle of the last word, this word is modified byte by byte, under a lock.
+ *
+ * @see Flags
+ * @since 1.1.1
+ */
+@ParametersAreNonnullByDefault
+public final class OffHeapFlags {
+
+    /**
+     * The handle to access the words of a buffer.
+     */
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The number of elements.
+     */
+    @Nonnegative
+    private final int size;
+
+    /**
+     * The number of words.
+     */
+    @Nonnegative
+    private final int wordCount;
+
+    /**
+     * The mask of the bits of the last word that belong to this set.
+     */
+    private final long lastWordMask;
+
+    /**
+     * The index of the last word if the buffer ends before its end, or {@code -1} if all the words are complete.
+     */
+    private final int partialIndex;
+
+    /**
+     * The buffer containing the bits: the element {@code i} is the bit {@code i % 64} of the word at the byte
+     * {@code (i / 64) * 8}.
+     */
+    @Nonnull
+    private final ByteBuffer buffer;
+
+    /**
+     * The buffer mapped by {@link #map(Path, int)}, to {@link #force()}, or {@code null} if this set has not been
+     * created by this method.
+     */
+    @Nullable
+    private final MappedByteBuffer mapped;
+
+    /**
+     * The accessor of the words, for the operations shared with the other bit sets.
+     */
+    @Nonnull
+    private final Words.Accessor accessor = new BufferAccessor();
+
+    /**
+     * Creates a bit set backed by the given {@code buffer}.
+     *
+     * @param size   the number of elements, rounded up to a multiple of 8
+     * @param buffer the buffer containing the bits, from its index 0 to its limit
+     * @param mapped the mapped buffer to force, if any
+     */
+    private OffHeapFlags(int size, ByteBuffer buffer, @Nullable MappedByteBuffer mapped) {
+        this.size = size;
+        this.wordCount = Words.wordCount(size);
+        this.lastWordMask = -1L >>> -size;
+        this.partialIndex = buffer.limit() < byteCount(size) ? wordCount - 1 : -1;
+        this.buffer = buffer;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Creates a bit set with a predetermined number of elements, in a new direct buffer.
+     * <p>
+     * All the bits are initially set to false.
+     *
+     * @param size the number of elements
+     *
+     * @return a new bit set
+     */
+    @Nonnull
+    public static OffHeapFlags allocateDirect(int size) {
+        final int roundedSize = Words.roundSize(size);
+        return new OffHeapFlags(roundedSize, ByteBuffer.allocateDirect(byteCount(roundedSize)), null);
+    }
+
+    /**
+     * Creates a bit set with a predetermined number of elements, backed by the given direct {@code buffer}, from its
+     * current position.
+     * <p>
+     * The existing content of the buffer is used as the initial value of the bits. Modifications of the set are visible
+     * in the buffer and vice versa, but the position and the limit of the buffer are never used again. {@link #force()}
+     * does nothing on the returned set: if the {@code buffer} is mapped to a file, it must be forced by the caller.
+     * <p>
+     * The {@code buffer} must contain at least {@code size / 8} bytes, rounded up, as returned by {@link Flags#toBytes()}.
+     * If it contains the complete last word, the bits of this word that follow the last element are never modified.
+     *
+     * @param buffer the buffer containing the bits
+     * @param size   the number of elements
+     *
+     * @return a new bit set
+     *
+     * @throws IllegalArgumentException if the {@code buffer} is not direct, if its position is not aligned on 8 bytes,
+     *                                  or if it contains less than {@code size / 8} bytes
+     */
+    @Nonnull
+    public static OffHeapFlags wrap(ByteBuffer buffer, int size) {
+        checkNotNull(buffer, "buffer");
+        checkArgument(buffer.isDirect(), "buffer must be direct");
+
+        final int roundedSize = Words.roundSize(size);
+        final int minByteCount = roundedSize / Byte.SIZE;
+        checkArgument(buffer.remaining() >= minByteCount, "buffer is too small (%d < %d)", buffer.remaining(), minByteCount);
+        checkArgument(buffer.alignmentOffset(buffer.position(), Long.BYTES) == 0, "buffer must be aligned on 8 bytes");
+
+        // Use the complete last word if it is available, to keep the modifications atomic
+        final int byteCount = buffer.remaining() >= byteCount(roundedSize) ? byteCount(roundedSize) : minByteCount;
+        final ByteBuffer slice = buffer.slice().limit(byteCount);
+        return new OffHeapFlags(roundedSize, slice, null);
+    }
+
+    /**
+     * Creates a bit set with a predetermined number of elements, stored in the given {@code file}.
+     * <p>
+     * The file is created if it does not exist, and extended if it is too small: new bits are set to false. The file
+     * contains the bits only, so it must always be mapped with the same size. The file is mapped in memory, and
+     * modifications are written to it by the operating system, or explicitly with {@link #force()}; the mapping is
+     * released when the bit set is garbage collected.
+     *
+     * @param file the file containing the bits
+     * @param size the number of elements
+     *
+     * @return a new bit set
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Nonnull
+    public static OffHeapFlags map(Path file, int size) throws IOException {
+        checkNotNull(file, "file");
+
+        final int roundedSize = Words.roundSize(size);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, byteCount(roundedSize));
+            return new OffHeapFlags(roundedSize, mapped, mapped);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the words required to store {@code size} bits.
+     *
+     * @param size the number of bits
+     *
+     * @return the number of bytes
+     */
+    private static int byteCount(int size) {
+        return Words.wordCount(size) * Long.BYTES;
+    }
+
+    /**
+     * Returns the number of elements of this set.
+     *
+     * @return the number of elements
+     */
+    @Nonnegative
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the bit at the specified index to true.
+     *
+     * @param index a bit index
+     */
+    public void set(int index) {
+        checkElementIndex(index, size);
+
+        or(index / WORD_SIZE, 1L << index);
+    }
+
+    /**
+     * Sets the bit at the specified index to a specific value.
+     *
+     * @param index a bit index
+     * @param value a boolean
+     */
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        }
+        else {
+            clear(index);
+        }
+    }
+
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to true.
+     *
+     * @param fromIndex the index of the first bit to set
+     * @param toIndex   the index after the last bit to set
+     */
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        Words.set(accessor, fromIndex, toIndex);
+    }
+
+    /**
+     * Sets the bit at the specified index to false.
+     *
+     * @param index a bit index
+     */
+    public void clear(int index) {
+        checkElementIndex(index, size);
+
+        and(index / WORD_SIZE, ~(1L << index));
+    }
+
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to false.
+     *
+     * @param fromIndex the index of the first bit to clear
+     * @param toIndex   the index after the last bit to clear
+     */
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        Words.clear(accessor, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the value of the bit with the specified index.
+     * The value is true if the bit corresponding to the index is set to 1. Returns false otherwise.
+     *
+     * @param index the bit index
+     * @return the value of the bit corresponding to the specified index
+     */
+    public boolean get(int index) {
+        checkElementIndex(index, size);
+
+        final int wordIndex = index / WORD_SIZE;
+        final long word = wordIndex != partialIndex ? (long) WORDS.getAcquire(buffer, offset(wordIndex)) : partialWord();
+        return (word & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of bits set to true.
+     *
+     * @return the number of bits set to true
+     */
+    @Nonnegative
+    public int cardinality() {
+        return Words.cardinality(accessor);
+    }
+
+    /**
+     * Returns {@code true} if no bit is set to true.
+     *
+     * @return {@code true} if no bit is set to true
+     */
+    public boolean isEmpty() {
+        return Words.isEmpty(accessor);
+    }
+
+    /**
+     * Returns the index of the first bit set to true that occurs on or after {@code fromIndex}.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next bit set to true, or {@code -1} if there is no such bit
+     */
+    public int nextSetBit(int fromIndex) {
+        checkPositionIndex(fromIndex, size);
+
+        return Words.nextSetBit(accessor, fromIndex);
+    }
+
+    /**
+     * Returns the index of the first bit set to false that occurs on or after {@code fromIndex}.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next bit set to false, or {@code -1} if there is no such bit
+     */
+    public int nextClearBit(int fromIndex) {
+        checkPositionIndex(fromIndex, size);
+
+        return Words.nextClearBit(accessor, size, fromIndex);
+    }
+
+    /**
+     * Performs a logical AND of this set with the {@code other} set: each bit of this set is kept to true only if the
+     * corresponding bit of the {@code other} set is also true.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void and(OffHeapFlags other) {
+        checkSameSize(other);
+
+        for (int i = 0; i < wordCount; i++) {
+            final long word = other.word(i);
+            if ((word(i) & ~word) != 0) {
+                // Keep the bits that follow the last element
+                and(i, i == wordCount - 1 ? word | ~lastWordMask : word);
+            }
+        }
+    }
+
+    /**
+     * Performs a logical OR of this set with the {@code other} set: each bit of this set is set to true if the
+     * corresponding bit of the {@code other} set is true.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void or(OffHeapFlags other) {
+        checkSameSize(other);
+
+        for (int i = 0; i < wordCount; i++) {
+            final long word = other.word(i);
+            if ((~word(i) & word) != 0) {
+                or(i, word);
+            }
+        }
+    }
+
+    /**
+     * Performs a logical XOR of this set with the {@code other} set: each bit of this set is set to true if the
+     * corresponding bits of both sets are different.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void xor(OffHeapFlags other) {
+        checkSameSize(other);
+
+        for (int i = 0; i < wordCount; i++) {
+            final long word = other.word(i);
+            if (word != 0) {
+                xor(i, word);
+            }
+        }
+    }
+
+    /**
+     * Clears all the bits of this set whose corresponding bit is set to true in the {@code other} set.
+     *
+     * @param other a bit set of the same size
+     *
+     * @throws IllegalArgumentException if the sets do not have the same size
+     */
+    public void andNot(OffHeapFlags other) {
+        checkSameSize(other);
+
+        for (int i = 0; i < wordCount; i++) {
+            final long word = other.word(i);
+            if ((word(i) & word) != 0) {
+                and(i, ~word);
+            }
+        }
+    }
+
+    /**
+     * Forces the modifications of this set to be written to the storage device, if it has been created by
+     * {@link #map(Path, int)}.
+     * <p>
+     * This method does nothing if the set has been created by {@link #allocateDirect(int)} or {@link #wrap(ByteBuffer,
+     * int)}.
+     */
+    public void force() {
+        if (mapped != null) {
+            mapped.force();
+        }
+    }
+
+    /**
+     * Returns a new {@link Flags} with the same bits as this set, on the Java heap.
+     *
+     * @return a new bit set
+     */
+    @Nonnull
+    public Flags toFlags() {
+        return Flags.fromBytes(toBytes());
+    }
+
+    /**
+     * Returns a little-endian representation of the bits of this set, with the same layout as {@link Flags#toBytes()}.
+     *
+     * @return a new array of {@code size() / 8} bytes
+     */
+    @Nonnull
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[size / Byte.SIZE];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes the {@link #toBytes() bytes} of this set in the given {@code target} buffer, from its current position.
+     *
+     * @param target the buffer where to write the bits
+     */
+    public void writeOn(ByteBuffer target) {
+        checkNotNull(target, "target");
+
+        target.put(buffer.duplicate().limit(size / Byte.SIZE));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+
+        OffHeapFlags that = (OffHeapFlags) other;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < wordCount; i++) {
+            if (word(i) != that.word(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = size;
+        for (int i = 0; i < wordCount; i++) {
+            result = 31 * result + Long.hashCode(word(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toBytes());
+    }
+
+    /**
+     * Returns the offset in bytes of the word at the {@code index}.
+     *
+     * @param index the index of the word
+     *
+     * @return the offset of the word
+     */
+    private static int offset(int index) {
+        return index * Long.BYTES;
+    }
+
+    /**
+     * Returns the word at the {@code index}, with a plain read: bulk operations do not need to order their reads. The
+     * bits that follow the last element are cleared.
+     *
+     * @param index the index of the word
+     *
+     * @return the word
+     */
+    private long word(int index) {
+        final long word = index != partialIndex ? (long) WORDS.get(buffer, offset(index)) : partialWord();
+        return index == wordCount - 1 ? word & lastWordMask : word;
+    }
+
+    /**
+     * Atomically performs a logical OR of the word at the {@code index} with the {@code mask}.
+     *
+     * @param index the index of the word
+     * @param mask  the bits to set
+     */
+    private void or(int index, long mask) {
+        if (index != partialIndex) {
+            WORDS.getAndBitwiseOr(buffer, offset(index), mask);
+        }
+        else {
+            synchronized (buffer) {
+                setPartialWord(partialWord() | mask);
+            }
+        }
+    }
+
+    /**
+     * Atomically performs a logical AND of the word at the {@code index} with the {@code mask}.
+     *
+     * @param index the index of the word
+     * @param mask  the bits to keep
+     */
+    private void and(int index, long mask) {
+        if (index != partialIndex) {
+            WORDS.getAndBitwiseAnd(buffer, offset(index), mask);
+        }
+        else {
+            synchronized (buffer) {
+                setPartialWord(partialWord() & mask);
+            }
+        }
+    }
+
+    /**
+     * Atomically performs a logical XOR of the word at the {@code index} with the {@code mask}.
+     *
+     * @param index the index of the word
+     * @param mask  the bits to flip
+     */
+    private void xor(int index, long mask) {
+        if (index != partialIndex) {
+            WORDS.getAndBitwiseXor(buffer, offset(index), mask);
+        }
+        else {
+            synchronized (buffer) {
+                setPartialWord(partialWord() ^ mask);
+            }
+        }
+    }
+
+    /**
+     * Returns the last word, when the buffer ends before its end.
+     *
+     * @return the word, with the missing bytes set to {@code 0}
+     */
+    private long partialWord() {
+        final int offset = offset(partialIndex);
+        long word = 0;
+        for (int i = 0, length = buffer.limit() - offset; i < length; i++) {
+            word |= (buffer.get(offset + i) & 0xFFL) << (i * Byte.SIZE);
+        }
+        return word;
+    }
+
+    /**
+     * Replaces the last word, when the buffer ends before its end. The caller must hold the lock of the buffer.
+     *
+     * @param word the new word; the bits of the missing bytes are ignored
+     */
+    private void setPartialWord(long word) {
+        final int offset = offset(partialIndex);
+        for (int i = 0, length = buffer.limit() - offset; i < length; i++) {
+            buffer.put(offset + i, (byte) (word >>> (i * Byte.SIZE)));
+        }
+    }
+
+    /**
+     * Checks that the range from {@code fromIndex} to {@code toIndex} is a valid range of this set.
+     *
+     * @param fromIndex the first index of the range
+     * @param toIndex   the index after the range
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        checkPositionIndex(toIndex, size);
+        checkPositionIndex(fromIndex, toIndex);
+    }
+
+    /**
+     * Checks that the {@code other} set has the same size as this set.
+     *
+     * @param other the other set
+     */
+    private void checkSameSize(OffHeapFlags other) {
+        checkNotNull(other, "other");
+
+        if (size != other.size) {
+            throw new IllegalArgumentException(String.format("sets must have the same size (%d != %d)", size, other.size));
+        }
+    }
+
+    /**
+     * A {@link Words.Accessor} on the {@link #buffer}, with the same operations as this set: words that are entirely
+     * replaced are written with a release store, and are never the partial last word.
+     */
+    private final class BufferAccessor implements Words.Accessor {
+
+        @Override
+        public int length() {
+            return wordCount;
+        }
+
+        @Override
+        public long get(int index) {
+            return word(index);
+        }
+
+        @Override
+        public void or(int index, long mask) {
+            OffHeapFlags.this.or(index, mask);
+        }
+
+        @Override
+        public void and(int index, long mask) {
+            OffHeapFlags.this.and(index, mask);
+        }
+
+        @Override
+        public void fill(int fromIndex, int toIndex, long value) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                WORDS.setRelease(buffer, offset(i), value);
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkElementIndex;
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+
+/**
+ * A fixed-size array of unsigned values of a fixed number of bits, between 1 and 64, packed in {@code long} words.
+ * <p>
+ * Values are stored contiguously, so a value may span two words: an array of {@code n} values of {@code b} bits uses
+ * about {@code n * b / 8} bytes. For instance, values between 0 and 1000 use 10 bits each, instead of the 32 bits of an
+ * {@code int}.
+ *
+ * @see Flags
+ * @since 1.1.1
+ */
+@ParametersAreNonnullByDefault
+public final class PackedIntArray implements Serializable {
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = -7404432311520745046L;
+
+    /**
+     * The number of values.
+     */
+    @Nonnegative
+    private final int length;
+
+    /**
+     * The number of bits of each value.
+     */
+    @Nonnegative
+    private final int bitsPerValue;
+
+    /**
+     * The mask of the bits of a value.
+     */
+    private final long mask;
+
+    /**
+     * The bits of the values: the value {@code i} starts at the bit {@code i * bitsPerValue}.
+     */
+    @Nonnull
+    private final long[] words;
+
+    /**
+     * Creates an array of {@code length} values of {@code bitsPerValue} bits, initialized to {@code 0}.
+     *
+     * @param length       the number of values
+     * @param bitsPerValue the number of bits of each value, between 1 and 64
+     *
+     * @throws IllegalArgumentException if {@code length} is negative, if {@code bitsPerValue} is not between 1 and 64,
+     *                                  or if the array would be too large
+     * @see #bitsRequired(long)
+     */
+    public PackedIntArray(@Nonnegative int length, @Nonnegative int bitsPerValue) {
+        checkGreaterThanOrEqualTo(length, 0, "length (%d) must not be negative", length);
+        checkArgument(bitsPerValue >= 1 && bitsPerValue <= Long.SIZE, "bitsPerValue (%d) must be between 1 and 64", bitsPerValue);
+
+        final long wordCount = ((long) length * bitsPerValue + Long.SIZE - 1) / Long.SIZE;
+        checkArgument(wordCount <= Integer.MAX_VALUE - 8, "%d values of %d bits do not fit in an array", length, bitsPerValue);
+
+        this.length = length;
+        this.bitsPerValue = bitsPerValue;
+        this.mask = -1L >>> (Long.SIZE - bitsPerValue);
+        this.words = new long[(int) wordCount];
+    }
+
+    /**
+     * Returns the number of bits required to store the unsigned {@code maxValue}.
+     *
+     * @param maxValue the greatest value to store, considered as unsigned
+     *
+     * @return a number of bits, between 1 and 64
+     */
+    @Nonnegative
+    public static int bitsRequired(long maxValue) {
+        return Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(maxValue));
+    }
+
+    /**
+     * Returns the number of values of this array.
+     *
+     * @return the number of values
+     */
+    @Nonnegative
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of bits of each value.
+     *
+     * @return the number of bits
+     */
+    @Nonnegative
+    public int bitsPerValue() {
+        return bitsPerValue;
+    }
+
+    /**
+     * Returns the value at the {@code index}.
+     *
+     * @param index the index of the value
+     *
+     * @return the value, as an unsigned {@code long}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public long get(@Nonnegative int index) {
+        checkElementIndex(index, length);
+
+        final long bitIndex = (long) index * bitsPerValue;
+        final int wordIndex = (int) (bitIndex >>> 6);
+        final int shift = (int) bitIndex & (Long.SIZE - 1);
+
+        long value = words[wordIndex] >>> shift;
+        if (shift + bitsPerValue > Long.SIZE) {
+            value |= words[wordIndex + 1] << (Long.SIZE - shift);
+        }
+        return value & mask;
+    }
+
+    /**
+     * Replaces the value at the {@code index}.
+     *
+     * @param index the index of the value
+     * @param value the new value, considered as unsigned
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalArgumentException  if {@code value} does not fit in {@link #bitsPerValue()} bits
+     */
+    public void set(@Nonnegative int index, long value) {
+        checkElementIndex(index, length);
+        checkFits(value);
+
+        final long bitIndex = (long) index * bitsPerValue;
+        final int wordIndex = (int) (bitIndex >>> 6);
+        final int shift = (int) bitIndex & (Long.SIZE - 1);
+
+        words[wordIndex] = words[wordIndex] & ~(mask << shift) | value << shift;
+        if (shift + bitsPerValue > Long.SIZE) {
+            final int written = Long.SIZE - shift;
+            words[wordIndex + 1] = words[wordIndex + 1] & ~(mask >>> written) | value >>> written;
+        }
+    }
+
+    /**
+     * Replaces all the values of this array.
+     *
+     * @param value the new value, considered as unsigned
+     *
+     * @throws IllegalArgumentException if {@code value} does not fit in {@link #bitsPerValue()} bits
+     */
+    public void fill(long value) {
+        checkFits(value);
+
+        if (value == 0) {
+            Arrays.fill(words, 0L);
+        }
+        else {
+            for (int i = 0; i < length; i++) {
+                set(i, value);
+            }
+        }
+    }
+
+    /**
+     * Returns a new {@code long} array containing all the values of this array.
+     *
+     * @return a new array
+     */
+    @Nonnull
+    public long[] toLongArray() {
+        final long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PackedIntArray that = (PackedIntArray) o;
+        return length == that.length
+                && bitsPerValue == that.bitsPerValue
+                && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * length + bitsPerValue) + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < length; i++) {
+            joiner.add(Long.toUnsignedString(get(i)));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Checks that the {@code value} fits in {@link #bitsPerValue} bits.
+     *
+     * @param value the value to check
+     *
+     * @throws IllegalArgumentException if the {@code value} does not fit
+     */
+    private void checkFits(long value) {
+        if ((value & ~mask) != 0) {
+            throw new IllegalArgumentException(String.format("value (%s) does not fit in %d bits", Long.toUnsignedString(value), bitsPerValue));
+        }
+    }
+}
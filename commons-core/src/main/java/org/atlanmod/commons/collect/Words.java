@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkLessThanOrEqualTo;
+
+/**
+ * Static methods that implement the operations of the bit sets on their {@code long} words, whatever the way the words
+ * are stored and modified.
+ * <p>
+ * The element {@code i} of a set is the bit {@code i % 64} of the word {@code i / 64}. These methods do not check their
+ * arguments: the bit sets check the indices against their size before calling them.
+ *
+ * @see Flags
+ * @see ConcurrentFlags
+ * @see OffHeapFlags
+ */
+@Static
+@ParametersAreNonnullByDefault
+final class Words {
+
+    /**
+     * The maximum number of elements of a set, the greatest multiple of 8 that fits in an {@code int}.
+     */
+    static final int MAX_SIZE = Integer.MAX_VALUE - Byte.SIZE + 1;
+
+    /**
+     * The number of bits in a word.
+     */
+    static final int WORD_SIZE = Long.SIZE;
+
+    private Words() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns the number of elements of a set, rounded up to a multiple of 8.
+     *
+     * @param size the number of elements
+     *
+     * @return the number of elements
+     *
+     * @throws IllegalArgumentException if {@code size} is negative or greater than {@link #MAX_SIZE}
+     */
+    @Nonnegative
+    static int roundSize(int size) {
+        checkGreaterThanOrEqualTo(size, 0);
+        checkLessThanOrEqualTo(size, MAX_SIZE);
+
+        return (size + Byte.SIZE - 1) / Byte.SIZE * Byte.SIZE;
+    }
+
+    /**
+     * Returns the number of words required to store {@code size} bits.
+     *
+     * @param size the number of bits
+     *
+     * @return the number of words
+     */
+    @Nonnegative
+    static int wordCount(int size) {
+        return (int) (((long) size + WORD_SIZE - 1) / WORD_SIZE);
+    }
+
+    /**
+     * Returns an accessor that reads and modifies the {@code words} with plain operations.
+     *
+     * @param words the words
+     *
+     * @return a new accessor
+     */
+    @Nonnull
+    static Accessor of(long[] words) {
+        return new ArrayAccessor(words);
+    }
+
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to true.
+     *
+     * @param words     the words of the set
+     * @param fromIndex the index of the first bit to set
+     * @param toIndex   the index after the last bit to set
+     */
+    static void set(Accessor words, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final int first = fromIndex / WORD_SIZE;
+        final int last = (toIndex - 1) / WORD_SIZE;
+        final long firstMask = -1L << fromIndex;
+        final long lastMask = -1L >>> -toIndex;
+
+        if (first == last) {
+            words.or(first, firstMask & lastMask);
+        }
+        else {
+            words.or(first, firstMask);
+            words.fill(first + 1, last, -1L);
+            words.or(last, lastMask);
+        }
+    }
+
+    /**
+     * Sets the bits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) to false.
+     *
+     * @param words     the words of the set
+     * @param fromIndex the index of the first bit to clear
+     * @param toIndex   the index after the last bit to clear
+     */
+    static void clear(Accessor words, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final int first = fromIndex / WORD_SIZE;
+        final int last = (toIndex - 1) / WORD_SIZE;
+        final long firstMask = -1L << fromIndex;
+        final long lastMask = -1L >>> -toIndex;
+
+        if (first == last) {
+            words.and(first, ~(firstMask & lastMask));
+        }
+        else {
+            words.and(first, ~firstMask);
+            words.fill(first + 1, last, 0L);
+            words.and(last, ~lastMask);
+        }
+    }
+
+    /**
+     * Returns the number of bits set to true.
+     *
+     * @param words the words of the set
+     *
+     * @return the number of bits set to true
+     */
+    @Nonnegative
+    static int cardinality(Accessor words) {
+        int count = 0;
+        for (int i = 0, length = words.length(); i < length; i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    /**
+     * Returns {@code true} if no bit is set to true.
+     *
+     * @param words the words of the set
+     *
+     * @return {@code true} if no bit is set to true
+     */
+    static boolean isEmpty(Accessor words) {
+        for (int i = 0, length = words.length(); i < length; i++) {
+            if (words.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first bit set to true that occurs on or after {@code fromIndex}.
+     *
+     * @param words     the words of the set
+     * @param fromIndex the index to start checking from (inclusive)
+     *
+     * @return the index of the next bit set to true, or {@code -1} if there is no such bit
+     */
+    static int nextSetBit(Accessor words, int fromIndex) {
+        final int length = words.length();
+
+        int index = fromIndex / WORD_SIZE;
+        if (index == length) {
+            return -1;
+        }
+
+        long word = words.get(index) & (-1L << fromIndex);
+        while (word == 0) {
+            if (++index == length) {
+                return -1;
+            }
+            word = words.get(index);
+        }
+        return index * WORD_SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns the index of the first bit set to false that occurs on or after {@code fromIndex}.
+     *
+     * @param words     the words of the set
+     * @param size      the number of elements of the set, to ignore the bits that follow the last element
+     * @param fromIndex the index to start checking from (inclusive)
+     *
+     * @return the index of the next bit set to false, or {@code -1} if there is no such bit
+     */
+    static int nextClearBit(Accessor words, int size, int fromIndex) {
+        final int length = words.length();
+
+        int index = fromIndex / WORD_SIZE;
+        if (index == length) {
+            return -1;
+        }
+
+        long word = ~words.get(index) & (-1L << fromIndex);
+        while (word == 0) {
+            if (++index == length) {
+                return -1;
+            }
+            word = ~words.get(index);
+        }
+
+        final int result = index * WORD_SIZE + Long.numberOfTrailingZeros(word);
+        return result < size ? result : -1;
+    }
+
+    /**
+     * An object that reads and modifies the words of a bit set, with the memory semantics chosen by the set.
+     */
+    @ParametersAreNonnullByDefault
+    interface Accessor {
+
+        /**
+         * Returns the number of words.
+         *
+         * @return the number of words
+         */
+        @Nonnegative
+        int length();
+
+        /**
+         * Returns the word at the {@code index}.
+         *
+         * @param index the index of the word
+         *
+         * @return the word
+         */
+        long get(int index);
+
+        /**
+         * Performs a logical OR of the word at the {@code index} with the {@code mask}.
+         *
+         * @param index the index of the word
+         * @param mask  the bits to set
+         */
+        void or(int index, long mask);
+
+        /**
+         * Performs a logical AND of the word at the {@code index} with the {@code mask}.
+         *
+         * @param index the index of the word
+         * @param mask  the bits to keep
+         */
+        void and(int index, long mask);
+
+        /**
+         * Replaces the words from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with the {@code value}.
+         *
+         * @param fromIndex the index of the first word
+         * @param toIndex   the index after the last word
+         * @param value     the new value of the words
+         */
+        void fill(int fromIndex, int toIndex, long value);
+    }
+
+    /**
+     * An {@link Accessor} on a {@code long} array, with plain operations.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class ArrayAccessor implements Accessor {
+
+        /**
+         * The words.
+         */
+        @Nonnull
+        private final long[] words;
+
+        /**
+         * Constructs a new {@code ArrayAccessor}.
+         *
+         * @param words the words
+         */
+        ArrayAccessor(long[] words) {
+            this.words = words;
+        }
+
+        @Override
+        public int length() {
+            return words.length;
+        }
+
+        @Override
+        public long get(int index) {
+            return words[index];
+        }
+
+        @Override
+        public void or(int index, long mask) {
+            words[index] |= mask;
+        }
+
+        @Override
+        public void and(int index, long mask) {
+            words[index] &= mask;
+        }
+
+        @Override
+        public void fill(int fromIndex, int toIndex, long value) {
+            Arrays.fill(words, fromIndex, toIndex, value);
+        }
+    }
+}
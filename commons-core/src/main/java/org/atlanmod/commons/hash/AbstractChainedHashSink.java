@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An abstract {@link HashSink} for the functions of Zero-Allocation-Hashing, which have no incremental state: appended
+ * data is accumulated in a fixed-size block, and each full block is hashed then chained with the previous ones. The
+ * memory footprint of this sink is then constant, regardless of the size of the input.
+ * <p>
+ * A full block is only chained when more data is appended: if the total input does not exceed {@link #BLOCK_SIZE}, the
+ * result is equal to the result of the function on the whole input. Otherwise, the result is a chain of the block
+ * hashes, that only depends on the appended bytes.
+ * <p>
+ * Primitive values are encoded in little-endian order, and strings as a sequence of {@code char}s, as the functions of
+ * Zero-Allocation-Hashing do.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+abstract class AbstractChainedHashSink extends AbstractHashSink {
+
+    /**
+     * The size of a block, in bytes.
+     */
+    static final int BLOCK_SIZE = 8192;
+
+    /**
+     * The current block.
+     */
+    @Nonnull
+    private final byte[] block = new byte[BLOCK_SIZE];
+
+    /**
+     * The number of bytes in the current block.
+     */
+    private int position;
+
+    /**
+     * The number of bytes in the chained blocks.
+     */
+    private long chainedLength;
+
+    /**
+     * Constructs a new {@code AbstractChainedHashSink}.
+     */
+    protected AbstractChainedHashSink() {
+        super(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Hashes {@code length} bytes of the {@code data}, starting at {@code offset}, and chains the result with the hash
+     * of the previous blocks.
+     *
+     * @param data   the block to chain
+     * @param offset the index of the first byte of the block
+     * @param length the number of bytes of the block
+     */
+    protected abstract void chain(byte[] data, @Nonnegative int offset, @Nonnegative int length);
+
+    /**
+     * Hashes {@code length} bytes of the {@code buffer}, starting at {@code offset}, and chains the result with the hash
+     * of the previous blocks. The position of the {@code buffer} is not modified.
+     *
+     * @param buffer the block to chain
+     * @param offset the index of the first byte of the block
+     * @param length the number of bytes of the block
+     */
+    protected abstract void chain(ByteBuffer buffer, @Nonnegative int offset, @Nonnegative int length);
+
+    /**
+     * Calculates the {@link HashCode} of an input that has not been chained.
+     *
+     * @param data   the whole input
+     * @param length the number of bytes of the input
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    protected abstract HashCode hashWhole(byte[] data, @Nonnegative int length);
+
+    /**
+     * Calculates the {@link HashCode} of the chained blocks, and resets the chain.
+     *
+     * @param length the total number of chained bytes
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    protected abstract HashCode hashChain(@Nonnegative long length);
+
+    @Override
+    protected void update(byte[] data, int offset, int length) {
+        while (length > 0) {
+            chainFullBlock();
+
+            if (position == 0 && length > BLOCK_SIZE) {
+                // Hash the full block directly from the source: more data follows
+                chain(data, offset, BLOCK_SIZE);
+                chainedLength += BLOCK_SIZE;
+                offset += BLOCK_SIZE;
+                length -= BLOCK_SIZE;
+                continue;
+            }
+
+            final int copied = Math.min(length, BLOCK_SIZE - position);
+            System.arraycopy(data, offset, block, position, copied);
+            position += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putByteBuffer(ByteBuffer buffer) {
+        checkNotNull(buffer, "buffer");
+
+        while (buffer.hasRemaining()) {
+            chainFullBlock();
+
+            if (position == 0 && buffer.remaining() > BLOCK_SIZE) {
+                // Hash the full block directly from the buffer, without copying it, even if it is a direct buffer
+                chain(buffer, buffer.position(), BLOCK_SIZE);
+                chainedLength += BLOCK_SIZE;
+                buffer.position(buffer.position() + BLOCK_SIZE);
+                continue;
+            }
+
+            final int copied = Math.min(buffer.remaining(), BLOCK_SIZE - position);
+            buffer.get(block, position, copied);
+            position += copied;
+        }
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putFloat(float data) {
+        return putInt(Float.floatToRawIntBits(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putDouble(double data) {
+        return putLong(Double.doubleToRawLongBits(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putString(String data) {
+        // Consistent with `LongHashFunction.hashChars(String)`
+        for (int i = 0, length = data.length(); i < length; i++) {
+            putChar(data.charAt(i));
+        }
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash() {
+        final HashCode result;
+        if (chainedLength == 0) {
+            result = hashWhole(block, position);
+        }
+        else {
+            if (position > 0) {
+                chain(block, 0, position);
+                chainedLength += position;
+            }
+            result = hashChain(chainedLength);
+        }
+
+        position = 0;
+        chainedLength = 0;
+        return result;
+    }
+
+    /**
+     * Chains the current block if it is full. A full block is only chained when more data is appended, so that an input
+     * of exactly {@link #BLOCK_SIZE} bytes is hashed as a whole.
+     */
+    private void chainFullBlock() {
+        if (position == BLOCK_SIZE) {
+            chain(block, 0, BLOCK_SIZE);
+            chainedLength += BLOCK_SIZE;
+            position = 0;
+        }
+    }
+}
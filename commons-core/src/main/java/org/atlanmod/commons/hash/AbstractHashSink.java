@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.primitive.Strings;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An abstract {@link HashSink} that encodes primitive values in a reusable array before appending them.
+ */
+@ParametersAreNonnullByDefault
+abstract class AbstractHashSink implements HashSink {
+
+    /**
+     * The size of the intermediate array used to copy the content of a buffer that has no accessible array.
+     */
+    private static final int COPY_SIZE = 4096;
+
+    /**
+     * The byte order used to encode primitive values.
+     */
+    @Nonnull
+    private final ByteOrder order;
+
+    /**
+     * The reusable array used to encode primitive values.
+     */
+    @Nonnull
+    private final byte[] scratch = new byte[Long.BYTES];
+
+    /**
+     * Constructs a new {@code AbstractHashSink}.
+     *
+     * @param order the byte order used to encode primitive values
+     */
+    protected AbstractHashSink(ByteOrder order) {
+        this.order = order;
+    }
+
+    /**
+     * Appends {@code length} bytes of the {@code data}, starting at {@code offset}. The range has already been checked.
+     *
+     * @param data   the {@code byte} array to append
+     * @param offset the index of the first byte to append
+     * @param length the number of bytes to append
+     */
+    protected abstract void update(byte[] data, @Nonnegative int offset, @Nonnegative int length);
+
+    @Nonnull
+    @Override
+    public HashSink putByte(byte data) {
+        scratch[0] = data;
+        update(scratch, 0, Byte.BYTES);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putBoolean(boolean data) {
+        return putByte(data ? (byte) 1 : (byte) 0);
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putChar(char data) {
+        return putPrimitive(data, Character.BYTES);
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putShort(short data) {
+        return putPrimitive(data, Short.BYTES);
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putInt(int data) {
+        return putPrimitive(data, Integer.BYTES);
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putLong(long data) {
+        return putPrimitive(data, Long.BYTES);
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putFloat(float data) {
+        return putInt(Float.floatToIntBits(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putDouble(double data) {
+        return putLong(Double.doubleToLongBits(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putString(String data) {
+        return putBytes(Strings.toBytes(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putBytes(byte[] data, int offset, int length) {
+        checkNotNull(data, "data");
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        update(data, offset, length);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putByteBuffer(ByteBuffer buffer) {
+        checkNotNull(buffer, "buffer");
+
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        }
+        else {
+            final byte[] copy = new byte[Math.min(COPY_SIZE, buffer.remaining())];
+            while (buffer.hasRemaining()) {
+                final int length = Math.min(copy.length, buffer.remaining());
+                buffer.get(copy, 0, length);
+                update(copy, 0, length);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Encodes the {@code Byte.SIZE * length} lowest bits of {@code value}, then appends them.
+     *
+     * @param value  the value to append
+     * @param length the number of bytes to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    private HashSink putPrimitive(long value, @Nonnegative int length) {
+        if (order == ByteOrder.BIG_ENDIAN) {
+            for (int i = 0; i < length; i++) {
+                scratch[i] = (byte) (value >> Byte.SIZE * (length - 1 - i));
+            }
+        }
+        else {
+            for (int i = 0; i < length; i++) {
+                scratch[i] = (byte) (value >> Byte.SIZE * i);
+            }
+        }
+
+        update(scratch, 0, length);
+        return this;
+    }
+}
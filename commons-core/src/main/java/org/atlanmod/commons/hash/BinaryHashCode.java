@@ -10,7 +10,7 @@ package org.atlanmod.commons.hash;
 
 import org.atlanmod.commons.primitive.Bytes;
 
-import java.security.MessageDigest;
+import java.util.Arrays;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -22,6 +22,8 @@ import static org.atlanmod.commons.Guards.checkNotNull;
 
 /**
  * An immutable hash code of arbitrary bit length.
+ * <p>
+ * Hash codes of at most 256 bits should rather be created with {@link HashCode#fromBytes(byte[])}.
  */
 @Immutable
 @ParametersAreNonnullByDefault
@@ -36,6 +38,11 @@ final class BinaryHashCode implements HashCode {
     @Nonnull
     private final byte[] bytes;
 
+    /**
+     * The cached hash of this hash code, or {@code 0} if not calculated yet.
+     */
+    private transient int hash;
+
     /**
      * Constructs a new {@code HashCode} with the given {@code hashCode}.
      *
@@ -57,9 +64,22 @@ final class BinaryHashCode implements HashCode {
         return bytes.clone();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is decoded from the first 8 bytes of this hash code, in the big-endian order. If this hash code is
+     * shorter than 64 bits, the missing low-order bytes are {@code 0}.
+     */
     @Override
     public long toLong() {
-        return Bytes.toLong(bytes);
+        long value = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value <<= Byte.SIZE;
+            if (i < bytes.length) {
+                value |= bytes[i] & 0xFF;
+            }
+        }
+        return value;
     }
 
     @Nonnull
@@ -68,22 +88,22 @@ final class BinaryHashCode implements HashCode {
         return Bytes.toStringBinary(bytes);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is decoded from the first 4 bytes of this hash code, in the little-endian order, and is cached after the
+     * first call.
+     */
     @Override
     public int hashCode() {
-        if (bits() >= 32) {
-            return (bytes[0] & 0xff)
-                    | ((bytes[1] & 0xff) << 8)
-                    | ((bytes[2] & 0xff) << 16)
-                    | ((bytes[3] & 0xff) << 24);
-        }
-
-        byte[] cloneBytes = toBytes();
-
-        int value = cloneBytes[0] & 0xFF;
-        for (int i = 1; i < cloneBytes.length; i++) {
-            value |= (cloneBytes[i] & 0xFF) << i * 8;
+        int h = hash;
+        if (h == 0) {
+            for (int i = 0, length = Math.min(Integer.BYTES, bytes.length); i < length; i++) {
+                h |= (bytes[i] & 0xFF) << i * Byte.SIZE;
+            }
+            hash = h;
         }
-        return value;
+        return h;
     }
 
     @Override
@@ -96,7 +116,8 @@ final class BinaryHashCode implements HashCode {
         }
 
         BinaryHashCode that = (BinaryHashCode) o;
-        return MessageDigest.isEqual(bytes, that.bytes);
+        // Hash codes are not secrets: a constant-time comparison is not required
+        return hashCode() == that.hashCode() && Arrays.equals(bytes, that.bytes);
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link HashSink} that accumulates all appended data, and calls {@link Hasher#hash(byte[])} on completion.
+ * <p>
+ * This is the default sink of a {@link Hasher} that has no incremental implementation: its memory footprint grows with
+ * the size of the input.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+class BufferedHashSink extends AbstractHashSink {
+
+    /**
+     * The initial capacity of the buffer.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The hash function to call on completion.
+     */
+    @Nonnull
+    private final Hasher hasher;
+
+    /**
+     * The accumulated data.
+     */
+    @Nonnull
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+    /**
+     * The number of accumulated bytes.
+     */
+    private int size;
+
+    /**
+     * Constructs a new {@code BufferedHashSink}.
+     *
+     * @param hasher the hash function to call on completion
+     */
+    public BufferedHashSink(Hasher hasher) {
+        this(hasher, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs a new {@code BufferedHashSink}.
+     *
+     * @param hasher the hash function to call on completion
+     * @param order  the byte order used to encode primitive values, as expected by the {@code hasher}
+     */
+    protected BufferedHashSink(Hasher hasher, ByteOrder order) {
+        super(order);
+        this.hasher = hasher;
+    }
+
+    @Override
+    protected void update(byte[] data, int offset, int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+        }
+
+        System.arraycopy(data, offset, buffer, size, length);
+        size += length;
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash() {
+        final byte[] data = Arrays.copyOf(buffer, size);
+        size = 0;
+        return hasher.hash(data);
+    }
+}
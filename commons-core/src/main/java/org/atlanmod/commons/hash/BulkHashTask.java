@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A {@link RecursiveAction} that splits a batch of keys to hash in ranges, until they are small enough to be hashed
+ * sequentially.
+ *
+ * @see Hasher#parallelHashAll(long[], long[])
+ */
+@ParametersAreNonnullByDefault
+final class BulkHashTask extends RecursiveAction {
+
+    /**
+     * The number of keys under which a range is hashed sequentially.
+     */
+    static final int THRESHOLD = 1 << 13;
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = -2305916467468702185L;
+
+    /**
+     * The function that hashes a range of keys.
+     */
+    @Nonnull
+    private final RangeHasher hasher;
+
+    /**
+     * The index of the first key of the range (inclusive).
+     */
+    private final int from;
+
+    /**
+     * The index of the last key of the range (exclusive).
+     */
+    private final int to;
+
+    /**
+     * Constructs a new {@code BulkHashTask}.
+     *
+     * @param hasher the function that hashes a range of keys
+     * @param from   the index of the first key of the range (inclusive)
+     * @param to     the index of the last key of the range (exclusive)
+     */
+    private BulkHashTask(RangeHasher hasher, @Nonnegative int from, @Nonnegative int to) {
+        this.hasher = hasher;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Hashes the keys between {@code 0} and {@code length} with the {@code hasher}, in the common
+     * {@link ForkJoinPool} if they are numerous enough, or in the current thread otherwise.
+     *
+     * @param hasher the function that hashes a range of keys
+     * @param length the number of keys
+     */
+    static void invoke(RangeHasher hasher, @Nonnegative int length) {
+        if (length <= THRESHOLD) {
+            hasher.hash(0, length);
+        }
+        else {
+            ForkJoinPool.commonPool().invoke(new BulkHashTask(hasher, 0, length));
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            hasher.hash(from, to);
+        }
+        else {
+            final int middle = (from + to) >>> 1;
+            invokeAll(new BulkHashTask(hasher, from, middle), new BulkHashTask(hasher, middle, to));
+        }
+    }
+
+    /**
+     * A function that hashes a range of keys.
+     */
+    @FunctionalInterface
+    interface RangeHasher {
+
+        /**
+         * Hashes the keys between {@code from} (inclusive) and {@code to} (exclusive).
+         *
+         * @param from the index of the first key of the range (inclusive)
+         * @param to   the index of the last key of the range (exclusive)
+         */
+        void hash(@Nonnegative int from, @Nonnegative int to);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.primitive.Bytes;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An immutable hash code of at most 256 bits, stored in four {@code long} fields rather than in a {@code byte} array.
+ * <p>
+ * The bytes are packed in the big-endian order, and the unused bytes are {@code 0}. Compared to a
+ * {@link BinaryHashCode}, this representation saves the header and the indirection of the array, and compares two hash
+ * codes with four {@code long} comparisons. Its {@link #hashCode()} is calculated on construction, and is equal to the
+ * one of a {@link BinaryHashCode} with the same bytes.
+ */
+@Immutable
+@ParametersAreNonnullByDefault
+final class CompactHashCode implements HashCode {
+
+    /**
+     * The maximum number of bytes of a compact hash code.
+     */
+    static final int MAX_BYTES = Long.BYTES * 4;
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = 4419573958066392470L;
+
+    /**
+     * The bytes {@code 0} to {@code 7} of this hash code.
+     */
+    private final long first;
+
+    /**
+     * The bytes {@code 8} to {@code 15} of this hash code.
+     */
+    private final long second;
+
+    /**
+     * The bytes {@code 16} to {@code 23} of this hash code.
+     */
+    private final long third;
+
+    /**
+     * The bytes {@code 24} to {@code 31} of this hash code.
+     */
+    private final long fourth;
+
+    /**
+     * The number of bytes of this hash code.
+     */
+    private final int length;
+
+    /**
+     * The hash of this hash code.
+     */
+    private final int hash;
+
+    /**
+     * Constructs a new {@code HashCode} with the given {@code hashCode}.
+     *
+     * @param hashCode the bytes representation of this hash code
+     *
+     * @throws IllegalArgumentException if {@code hashCode} is longer than {@link #MAX_BYTES}
+     */
+    public CompactHashCode(byte[] hashCode) {
+        checkNotNull(hashCode, "hashCode");
+        checkArgument(hashCode.length <= MAX_BYTES, "hashCode is too long");
+
+        this.first = read(hashCode, 0);
+        this.second = read(hashCode, 1);
+        this.third = read(hashCode, 2);
+        this.fourth = read(hashCode, 3);
+        this.length = hashCode.length;
+        this.hash = Integer.reverseBytes((int) (first >>> Integer.SIZE));
+    }
+
+    /**
+     * Constructs a new 128-bit {@code HashCode} with the given values, without creating a {@code byte} array.
+     *
+     * @param first  the bytes {@code 0} to {@code 7} of this hash code
+     * @param second the bytes {@code 8} to {@code 15} of this hash code
+     */
+    public CompactHashCode(long first, long second) {
+        this.first = first;
+        this.second = second;
+        this.third = 0L;
+        this.fourth = 0L;
+        this.length = Long.BYTES * 2;
+        this.hash = Integer.reverseBytes((int) (first >>> Integer.SIZE));
+    }
+
+    /**
+     * Decodes the {@code index}-th group of 8 bytes from {@code bytes}, in the big-endian order. The missing bytes are
+     * {@code 0}.
+     *
+     * @param bytes the bytes to decode
+     * @param index the index of the group
+     *
+     * @return the decoded value
+     */
+    private static long read(byte[] bytes, @Nonnegative int index) {
+        long value = 0L;
+        for (int i = 0, offset = index * Long.BYTES; i < Long.BYTES; i++) {
+            value <<= Byte.SIZE;
+            if (offset + i < bytes.length) {
+                value |= bytes[offset + i] & 0xFF;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the {@code index}-th group of 8 bytes of this hash code.
+     *
+     * @param index the index of the group
+     *
+     * @return the group
+     */
+    private long group(@Nonnegative int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            default:
+                return fourth;
+        }
+    }
+
+    @Nonnegative
+    @Override
+    public int bits() {
+        return length * Byte.SIZE;
+    }
+
+    @Nonnull
+    @Override
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (group(i / Long.BYTES) >>> Byte.SIZE * (Long.BYTES - 1 - i % Long.BYTES));
+        }
+        return bytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is decoded from the first 8 bytes of this hash code, in the big-endian order. If this hash code is
+     * shorter than 64 bits, the missing low-order bytes are {@code 0}.
+     */
+    @Override
+    public long toLong() {
+        return first;
+    }
+
+    @Nonnull
+    @Override
+    public String toHexString() {
+        return Bytes.toStringBinary(toBytes());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CompactHashCode that = (CompactHashCode) o;
+        return length == that.length
+                && first == that.first
+                && second == that.second
+                && third == that.third
+                && fourth == that.fourth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HashCode {%s}", toHexString());
+    }
+}
@@ -9,12 +9,16 @@
 package org.atlanmod.commons.hash;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.annotation.concurrent.Immutable;
 
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * An immutable hash code of arbitrary bit length.
  */
@@ -22,6 +26,34 @@ import javax.annotation.concurrent.Immutable;
 @ParametersAreNonnullByDefault
 public interface HashCode extends Serializable {
 
+    /**
+     * Creates a {@link HashCode} from its {@code byte} array representation, as returned by {@link #toBytes()}.
+     * <p>
+     * The representation is chosen according to the length of the array, in the same way as the {@link Hasher}s of
+     * this package: the result is therefore equal to the hash code that produced the array.
+     *
+     * @param bytes the bytes representation of the hash code
+     *
+     * @return a new hash code
+     *
+     * @throws IllegalArgumentException if {@code bytes} is empty
+     */
+    @Nonnull
+    static HashCode fromBytes(byte[] bytes) {
+        checkNotNull(bytes, "bytes");
+        checkArgument(bytes.length > 0, "bytes must not be empty");
+
+        if (bytes.length == Long.BYTES) {
+            return new LongHashCode(ByteBuffer.wrap(bytes).getLong());
+        }
+        else if (bytes.length <= CompactHashCode.MAX_BYTES) {
+            return new CompactHashCode(bytes);
+        }
+        else {
+            return new BinaryHashCode(bytes.clone());
+        }
+    }
+
     /**
      * Returns the number of bits in this hash code; a positive multiple of 8.
      *
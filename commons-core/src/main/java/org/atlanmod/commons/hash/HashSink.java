@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An incremental hash computation, created by {@link Hasher#newSink()}. Data is appended piece by piece with the
+ * {@code put} methods, then the {@link HashCode} of the whole sequence is calculated with {@link #hash()}.
+ * <p>
+ * A sink allows to hash large or composite inputs without materializing them in a single array. The result only depends
+ * on the sequence of appended bytes, not on the way it is split between calls. Primitive values are encoded in the same
+ * way as the matching {@code Hasher.hash(...)} method, so that {@code hasher.newSink().putInt(i).hash()} is equal to
+ * {@code hasher.hash(i)}.
+ * <p>
+ * The sinks of the non-cryptographic functions of {@link StandardHashers}, such as {@link StandardHashers#XX} or
+ * {@link StandardHashers#MURMUR3_128}, hash their input by blocks of 8 KiB and chain the hashes of the blocks. Up to
+ * 8 KiB, the result of a sink is equal to the result of the matching {@code Hasher.hash(...)} method on the same bytes;
+ * above, it is a different value, which is only equal to the result of another sink on the same bytes. The sinks of
+ * {@link StandardHashers#MD5}, {@link StandardHashers#SHA1} and {@link StandardHashers#SHA256} are equal to
+ * {@code Hasher.hash(...)} at any size. Hash codes computed by a sink must then not be compared with hash codes computed
+ * on arrays, unless the hash function is a message digest.
+ * <p>
+ * A sink is not thread-safe. It is reset after each call to {@link #hash()}, and can then be reused.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+public interface HashSink {
+
+    /**
+     * Appends a {@code byte} to this sink.
+     *
+     * @param data the {@code byte} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putByte(byte data);
+
+    /**
+     * Appends a {@code boolean} to this sink.
+     *
+     * @param data the {@code boolean} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putBoolean(boolean data);
+
+    /**
+     * Appends a {@code char} to this sink.
+     *
+     * @param data the {@code char} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putChar(char data);
+
+    /**
+     * Appends a {@code short} to this sink.
+     *
+     * @param data the {@code short} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putShort(short data);
+
+    /**
+     * Appends an {@code int} to this sink.
+     *
+     * @param data the {@code int} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putInt(int data);
+
+    /**
+     * Appends a {@code long} to this sink.
+     *
+     * @param data the {@code long} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putLong(long data);
+
+    /**
+     * Appends a {@code float} to this sink.
+     *
+     * @param data the {@code float} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putFloat(float data);
+
+    /**
+     * Appends a {@code double} to this sink.
+     *
+     * @param data the {@code double} to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putDouble(double data);
+
+    /**
+     * Appends a string to this sink.
+     *
+     * @param data the string to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putString(String data);
+
+    /**
+     * Appends a {@code byte} array to this sink.
+     *
+     * @param data the {@code byte} array to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    default HashSink putBytes(byte[] data) {
+        return putBytes(data, 0, data.length);
+    }
+
+    /**
+     * Appends {@code length} bytes of the {@code data}, starting at {@code offset}, to this sink.
+     *
+     * @param data   the {@code byte} array to append
+     * @param offset the index of the first byte to append
+     * @param length the number of bytes to append
+     *
+     * @return this sink (for chaining)
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code data}
+     */
+    @Nonnull
+    HashSink putBytes(byte[] data, @Nonnegative int offset, @Nonnegative int length);
+
+    /**
+     * Appends the remaining bytes of the {@code buffer} to this sink. On return, the position of the {@code buffer} is
+     * equal to its limit; its limit will not have been changed.
+     *
+     * @param buffer the buffer to append
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putByteBuffer(ByteBuffer buffer);
+
+    /**
+     * Calculates the {@link HashCode} of all the data appended since the creation of this sink, or since the last call
+     * to this method, and resets this sink.
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    HashCode hash();
+}
@@ -17,9 +17,18 @@ import org.atlanmod.commons.primitive.Longs;
 import org.atlanmod.commons.primitive.Shorts;
 import org.atlanmod.commons.primitive.Strings;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * A hash function producing a {@link HashCode} from byte sequences of arbitrary length.
  */
@@ -144,4 +153,346 @@ public interface Hasher {
      */
     @Nonnull
     HashCode hash(byte[] data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code byte} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(byte data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code boolean} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(boolean data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code char} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(char data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code short} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(short data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code int} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(int data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code long} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(long data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code float} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(float data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code double} to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(double data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the string to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(String data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}. The result is equal to {@code
+     * hash(data).toLong()}, but 64-bit implementations return it without creating any {@link HashCode}.
+     *
+     * @param data the {@code byte} array to hash
+     *
+     * @return the hash code
+     */
+    default long hashToLong(byte[] data) {
+        return hash(data).toLong();
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in}, and stores it at the same index in {@code out}.
+     * <p>
+     * This method is equivalent to calling {@link #hashToLong(long)} on each element, but avoids a virtual call per
+     * key when overridden by an implementation.
+     *
+     * @param in  the values to hash
+     * @param out the array where to store the hash codes; its length must be at least the length of {@code in}
+     *
+     * @throws IndexOutOfBoundsException if {@code out} is shorter than {@code in}
+     */
+    default void hashAll(long[] in, long[] out) {
+        checkNotNull(in, "in");
+        hashAll(in, 0, in.length, out);
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in} between {@code from} (inclusive) and {@code to}
+     * (exclusive), and stores it at the same index in {@code out}.
+     *
+     * @param in   the values to hash
+     * @param from the index of the first value to hash (inclusive)
+     * @param to   the index of the last value to hash (exclusive)
+     * @param out  the array where to store the hash codes
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code in} or {@code out}
+     */
+    default void hashAll(long[] in, @Nonnegative int from, @Nonnegative int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.length, out.length));
+
+        for (int i = from; i < to; i++) {
+            out[i] = hashToLong(in[i]);
+        }
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in}, and stores it at the same index in {@code out}.
+     *
+     * @param in  the strings to hash
+     * @param out the array where to store the hash codes; its length must be at least the length of {@code in}
+     *
+     * @throws IndexOutOfBoundsException if {@code out} is shorter than {@code in}
+     * @see #hashAll(long[], long[])
+     */
+    default void hashAll(String[] in, long[] out) {
+        checkNotNull(in, "in");
+        hashAll(in, 0, in.length, out);
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in} between {@code from} (inclusive) and {@code to}
+     * (exclusive), and stores it at the same index in {@code out}.
+     *
+     * @param in   the strings to hash
+     * @param from the index of the first string to hash (inclusive)
+     * @param to   the index of the last string to hash (exclusive)
+     * @param out  the array where to store the hash codes
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code in} or {@code out}
+     */
+    default void hashAll(String[] in, @Nonnegative int from, @Nonnegative int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.length, out.length));
+
+        for (int i = from; i < to; i++) {
+            out[i] = hashToLong(in[i]);
+        }
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in}, and stores it at the same index in {@code out}.
+     * The list should support fast random access.
+     *
+     * @param in  the {@code byte} arrays to hash
+     * @param out the array where to store the hash codes; its length must be at least the size of {@code in}
+     *
+     * @throws IndexOutOfBoundsException if {@code out} is shorter than {@code in}
+     * @see #hashAll(long[], long[])
+     */
+    default void hashAll(List<byte[]> in, long[] out) {
+        checkNotNull(in, "in");
+        hashAll(in, 0, in.size(), out);
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in} between {@code from} (inclusive) and {@code to}
+     * (exclusive), and stores it at the same index in {@code out}. The list should support fast random access.
+     *
+     * @param in   the {@code byte} arrays to hash
+     * @param from the index of the first array to hash (inclusive)
+     * @param to   the index of the last array to hash (exclusive)
+     * @param out  the array where to store the hash codes
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code in} or {@code out}
+     */
+    default void hashAll(List<byte[]> in, @Nonnegative int from, @Nonnegative int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.size(), out.length));
+
+        for (int i = from; i < to; i++) {
+            out[i] = hashToLong(in.get(i));
+        }
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in}, and stores it at the same index in {@code out}.
+     * Large batches are split in ranges that are hashed in parallel, in the common {@link
+     * java.util.concurrent.ForkJoinPool}; small batches are hashed in the current thread.
+     * <p>
+     * This hasher must be thread-safe.
+     *
+     * @param in  the values to hash
+     * @param out the array where to store the hash codes; its length must be at least the length of {@code in}
+     *
+     * @throws IndexOutOfBoundsException if {@code out} is shorter than {@code in}
+     * @see #hashAll(long[], long[])
+     */
+    default void parallelHashAll(long[] in, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(0, in.length, out.length);
+
+        BulkHashTask.invoke((from, to) -> hashAll(in, from, to, out), in.length);
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in}, and stores it at the same index in {@code out}.
+     * Large batches are hashed in parallel.
+     *
+     * @param in  the strings to hash
+     * @param out the array where to store the hash codes; its length must be at least the length of {@code in}
+     *
+     * @throws IndexOutOfBoundsException if {@code out} is shorter than {@code in}
+     * @see #parallelHashAll(long[], long[])
+     */
+    default void parallelHashAll(String[] in, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(0, in.length, out.length);
+
+        BulkHashTask.invoke((from, to) -> hashAll(in, from, to, out), in.length);
+    }
+
+    /**
+     * Calculates the 64-bit hash code of each element of {@code in}, and stores it at the same index in {@code out}.
+     * Large batches are hashed in parallel. The list must support fast random access, and must not be modified during
+     * the call.
+     *
+     * @param in  the {@code byte} arrays to hash
+     * @param out the array where to store the hash codes; its length must be at least the size of {@code in}
+     *
+     * @throws IndexOutOfBoundsException if {@code out} is shorter than {@code in}
+     * @see #parallelHashAll(long[], long[])
+     */
+    default void parallelHashAll(List<byte[]> in, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(0, in.size(), out.length);
+
+        BulkHashTask.invoke((from, to) -> hashAll(in, from, to, out), in.size());
+    }
+
+    /**
+     * Calculates the {@link HashCode} of the remaining bytes of the given {@code buffer}, from its position to its
+     * limit. The position and the limit of the {@code buffer} are not modified.
+     * <p>
+     * The result is equal to the result of {@link #hash(byte[])} on a copy of the remaining bytes.
+     *
+     * @param data the buffer to hash
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    default HashCode hash(ByteBuffer data) {
+        checkNotNull(data, "data");
+
+        return newSink().putByteBuffer(data.duplicate()).hash();
+    }
+
+    /**
+     * Calculates the {@link HashCode} of the content of the file located by the given {@code path}.
+     * <p>
+     * The file is memory-mapped, so its content is never copied on the heap by this method. A file that does not exceed
+     * 2 GiB is mapped at once, and the result is equal to the result of {@link #hash(byte[])} on its content. A larger
+     * file is mapped by windows of 2 GiB, which are appended to a {@link #newSink() sink}: the result is then equal to
+     * the result of the sink on the whole content.
+     *
+     * @param path the path of the file to hash
+     *
+     * @return a new hash code
+     *
+     * @throws IOException if an I/O error occurs when reading the file
+     */
+    @Nonnull
+    default HashCode hash(Path path) throws IOException {
+        checkNotNull(path, "path");
+
+        return MappedFiles.hash(this, path, MappedFiles.MAX_WINDOW);
+    }
+
+    /**
+     * Creates a new {@link HashSink} for calculating a {@link HashCode} incrementally, with this hash function.
+     * <p>
+     * The default implementation accumulates all the appended data before calling {@link #hash(byte[])}.
+     * Implementations should override this method if they can process data incrementally.
+     * <p>
+     * The result of the sink is not always equal to the result of {@link #hash(byte[])} on the same bytes: the sinks of
+     * the non-cryptographic functions of {@link StandardHashers}, such as {@link StandardHashers#XX} or
+     * {@link StandardHashers#XX128}, chain the hashes of blocks of 8 KiB, and differ from {@link #hash(byte[])} when
+     * more than 8 KiB are appended. See {@link HashSink} for details.
+     *
+     * @return a new sink
+     */
+    @Nonnull
+    default HashSink newSink() {
+        return new BufferedHashSink(this);
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Static methods that hash the content of memory-mapped files.
+ *
+ * @see Hasher#hash(Path)
+ */
+@Static
+@ParametersAreNonnullByDefault
+final class MappedFiles {
+
+    /**
+     * The maximum size of a mapped window, in bytes.
+     */
+    static final int MAX_WINDOW = Integer.MAX_VALUE;
+
+    @SuppressWarnings("JavaDoc")
+    private MappedFiles() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Calculates the {@link HashCode} of the content of the file located by the given {@code path}.
+     * <p>
+     * A file that does not exceed the {@code window} is mapped at once and hashed by {@link Hasher#hash(java.nio.ByteBuffer)}.
+     * A larger file is mapped by consecutive windows, which are appended to a {@link Hasher#newSink() sink}.
+     *
+     * @param hasher the hash function
+     * @param path   the path of the file to hash
+     * @param window the maximum size of a mapped window
+     *
+     * @return a new hash code
+     *
+     * @throws IOException if an I/O error occurs when reading the file
+     */
+    @Nonnull
+    static HashCode hash(Hasher hasher, Path path, @Nonnegative int window) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size <= window) {
+                return hasher.hash(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+
+            final HashSink sink = hasher.newSink();
+            for (long position = 0; position < size; position += window) {
+                sink.putByteBuffer(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(window, size - position)));
+            }
+            return sink.hash();
+        }
+    }
+}
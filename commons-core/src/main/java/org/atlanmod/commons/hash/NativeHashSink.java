@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link HashSink} that delegates its calls to {@link MessageDigest#update(byte[], int, int)}.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class NativeHashSink extends AbstractHashSink {
+
+    /**
+     * The delegated hash function, owned by this sink.
+     */
+    @Nonnull
+    private final MessageDigest digest;
+
+    /**
+     * Constructs a new {@code NativeHashSink}.
+     *
+     * @param digest the delegated hash function, owned by this sink
+     */
+    public NativeHashSink(MessageDigest digest) {
+        super(ByteOrder.BIG_ENDIAN);
+        this.digest = digest;
+    }
+
+    @Override
+    protected void update(byte[] data, int offset, int length) {
+        digest.update(data, offset, length);
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putByteBuffer(ByteBuffer buffer) {
+        checkNotNull(buffer, "buffer");
+
+        digest.update(buffer);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash() {
+        // `digest()` resets the function after completion
+        return HashCode.fromBytes(digest.digest());
+    }
+}
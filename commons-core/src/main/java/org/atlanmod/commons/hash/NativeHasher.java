@@ -10,25 +10,43 @@ package org.atlanmod.commons.hash;
 
 import org.atlanmod.commons.Throwables;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
 
 import static org.atlanmod.commons.Guards.checkNotNull;
 
 /**
  * A {@link Hasher} that delegate its calls to a {@link MessageDigest} from the Java API.
+ * <p>
+ * A {@link MessageDigest} is stateful and cannot be shared between threads: each thread uses its own instance, cloned
+ * from a prototype on first use, so that concurrent calls never block each other.
  */
+@ThreadSafe
 @ParametersAreNonnullByDefault
 final class NativeHasher implements Hasher {
 
     /**
-     * The delegated hash function.
+     * The name of the algorithm of this hasher.
      */
     @Nonnull
-    private final MessageDigest digest;
+    private final String algorithm;
+
+    /**
+     * The prototype of the delegated hash functions, never used directly.
+     */
+    @Nonnull
+    private final MessageDigest prototype;
+
+    /**
+     * The delegated hash function of each thread.
+     */
+    @Nonnull
+    private final ThreadLocal<MessageDigest> digest;
 
     /**
      * Constructs a new {@code NativeHasher}.
@@ -38,7 +56,9 @@ final class NativeHasher implements Hasher {
     public NativeHasher(String algorithm) {
         checkNotNull(algorithm, "algorithm");
 
-        this.digest = create(algorithm);
+        this.algorithm = algorithm;
+        this.prototype = create(algorithm);
+        this.digest = ThreadLocal.withInitial(this::copy);
     }
 
     /**
@@ -58,11 +78,54 @@ final class NativeHasher implements Hasher {
         }
     }
 
+    /**
+     * Creates a new instance of {@link MessageDigest} from the {@link #prototype}, by cloning it if the provider supports
+     * it, as it avoids a lookup in the security providers.
+     *
+     * @return a new instance
+     */
+    @Nonnull
+    private MessageDigest copy() {
+        try {
+            return (MessageDigest) prototype.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            return create(algorithm);
+        }
+    }
+
+    /**
+     * Returns the delegated hash function of the current thread, in its initial state.
+     *
+     * @return the hash function
+     */
+    @Nonnull
+    private MessageDigest digest() {
+        return digest.get();
+    }
+
     @Nonnull
     @Override
     public HashCode hash(byte[] data) {
-        HashCode h = new BinaryHashCode(digest.digest(data));
-        digest.reset();
-        return h;
+        // `digest(byte[])` resets the function after completion
+        return HashCode.fromBytes(digest().digest(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(ByteBuffer data) {
+        checkNotNull(data, "data");
+
+        final int position = data.position();
+        final MessageDigest d = digest();
+        d.update(data);
+        data.position(position);
+        return HashCode.fromBytes(d.digest());
+    }
+
+    @Nonnull
+    @Override
+    public HashSink newSink() {
+        return new NativeHashSink(copy());
     }
 }
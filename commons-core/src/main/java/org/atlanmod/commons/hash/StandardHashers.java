@@ -9,6 +9,7 @@
 package org.atlanmod.commons.hash;
 
 import net.openhft.hashing.LongHashFunction;
+import net.openhft.hashing.LongTupleHashFunction;
 
 import org.atlanmod.commons.Throwables;
 import org.atlanmod.commons.annotation.Static;
@@ -23,6 +24,10 @@ import javax.annotation.ParametersAreNonnullByDefault;
 
 /**
  * Constants definitions for the default {@link Hasher} instances.
+ * <p>
+ * The non-cryptographic hashers can also be created with a specific seed: hashers with different seeds behave as
+ * independent hash functions, as required by probabilistic data structures such as count-min sketches or cuckoo
+ * filters.
  */
 @Static
 @ParametersAreNonnullByDefault
@@ -86,10 +91,148 @@ public final class StandardHashers {
     @Nonnull
     public static final Hasher FARM_UO = new ZeroAllocationHasher(LongHashFunction.farmUo());
 
+    /**
+     * A {@link Hasher} that uses the {@code XXH3} algorithm (64 bits).
+     *
+     * @see <a href="https://github.com/Cyan4973/xxHash">Cyan4973/xxHash</a>
+     */
+    @Nonnull
+    public static final Hasher XX3 = new ZeroAllocationHasher(LongHashFunction.xx3());
+
+    /**
+     * A {@link Hasher} that uses the {@code MurmurHash3 128-bit} algorithm (128 bits).
+     * <p>
+     * The {@link HashCode#toLong() long representation} of its hash codes is equal to the result of {@link #MURMUR3}.
+     *
+     * @see <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash3.cpp">aappleby/smhasher/../MurmurHash3.cpp</a>
+     */
+    @Nonnull
+    public static final Hasher MURMUR3_128 = new ZeroAllocationTupleHasher(LongTupleHashFunction.murmur_3());
+
+    /**
+     * A {@link Hasher} that uses the {@code XXH128} algorithm (128 bits).
+     *
+     * @see <a href="https://github.com/Cyan4973/xxHash">Cyan4973/xxHash</a>
+     */
+    @Nonnull
+    public static final Hasher XX128 = new ZeroAllocationTupleHasher(LongTupleHashFunction.xx128());
+
     private StandardHashers() {
         throw Throwables.notInstantiableClass(getClass());
     }
 
+    /**
+     * Returns a {@link Hasher} that uses the {@code MurmurHash3 64-bit} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #MURMUR3
+     */
+    @Nonnull
+    public static Hasher murmur3(long seed) {
+        return new ZeroAllocationHasher(LongHashFunction.murmur_3(seed));
+    }
+
+    /**
+     * Returns a {@link Hasher} that uses the {@code xxHash} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #XX
+     */
+    @Nonnull
+    public static Hasher xx(long seed) {
+        return new ZeroAllocationHasher(LongHashFunction.xx(seed));
+    }
+
+    /**
+     * Returns a {@link Hasher} that uses the {@code CityHash} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #CITY
+     */
+    @Nonnull
+    public static Hasher city(long seed) {
+        return new ZeroAllocationHasher(LongHashFunction.city_1_1(seed));
+    }
+
+    /**
+     * Returns a {@link Hasher} that uses the {@code FarmHash NA} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #FARM_NA
+     */
+    @Nonnull
+    public static Hasher farmNa(long seed) {
+        return new ZeroAllocationHasher(LongHashFunction.farmNa(seed));
+    }
+
+    /**
+     * Returns a {@link Hasher} that uses the {@code FarmHash UO} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #FARM_UO
+     */
+    @Nonnull
+    public static Hasher farmUo(long seed) {
+        return new ZeroAllocationHasher(LongHashFunction.farmUo(seed));
+    }
+
+    /**
+     * Returns a {@link Hasher} that uses the {@code XXH3} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #XX3
+     */
+    @Nonnull
+    public static Hasher xx3(long seed) {
+        return new ZeroAllocationHasher(LongHashFunction.xx3(seed));
+    }
+
+    /**
+     * Returns a {@link Hasher} that uses the {@code MurmurHash3 128-bit} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #MURMUR3_128
+     */
+    @Nonnull
+    public static Hasher murmur3x128(long seed) {
+        return new ZeroAllocationTupleHasher(LongTupleHashFunction.murmur_3(seed));
+    }
+
+    /**
+     * Returns a {@link Hasher} that uses the {@code XXH128} algorithm with the given {@code seed}.
+     *
+     * @param seed the seed of the hash function
+     *
+     * @return a new hasher
+     *
+     * @see #XX128
+     */
+    @Nonnull
+    public static Hasher xx128(long seed) {
+        return new ZeroAllocationTupleHasher(LongTupleHashFunction.xx128(seed));
+    }
+
     /**
      * Returns a {@link Hasher} with the specified {@code name}.
      *
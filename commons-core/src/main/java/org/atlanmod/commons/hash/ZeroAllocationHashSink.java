@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import net.openhft.hashing.LongHashFunction;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link HashSink} that delegates its calls to a {@link LongHashFunction}, by chaining fixed-size blocks.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class ZeroAllocationHashSink extends AbstractChainedHashSink {
+
+    /**
+     * The delegated hash function.
+     */
+    @Nonnull
+    private final LongHashFunction delegate;
+
+    /**
+     * The reusable array used to chain the hashes.
+     */
+    @Nonnull
+    private final long[] chain = new long[2];
+
+    /**
+     * The chained hash of all hashed blocks.
+     */
+    private long state;
+
+    /**
+     * Constructs a new {@code ZeroAllocationHashSink}.
+     *
+     * @param delegate the delegated hash function
+     */
+    public ZeroAllocationHashSink(LongHashFunction delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected void chain(byte[] data, int offset, int length) {
+        chain(delegate.hashBytes(data, offset, length));
+    }
+
+    @Override
+    protected void chain(ByteBuffer buffer, int offset, int length) {
+        chain(ZeroAllocationHasher.hashBytes(delegate, buffer, offset, length));
+    }
+
+    @Nonnull
+    @Override
+    protected HashCode hashWhole(byte[] data, int length) {
+        return new LongHashCode(delegate.hashBytes(data, 0, length));
+    }
+
+    @Nonnull
+    @Override
+    protected HashCode hashChain(long length) {
+        chain[0] = state;
+        chain[1] = length;
+        state = 0;
+        return new LongHashCode(delegate.hashLongs(chain));
+    }
+
+    /**
+     * Chains the hash of a block with the hash of the previous blocks.
+     *
+     * @param blockHash the hash of the last block
+     */
+    private void chain(long blockHash) {
+        chain[0] = state;
+        chain[1] = blockHash;
+        state = delegate.hashLongs(chain);
+    }
+}
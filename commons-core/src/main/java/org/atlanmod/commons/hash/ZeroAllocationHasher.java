@@ -8,11 +8,18 @@
 
 package org.atlanmod.commons.hash;
 
+import net.openhft.hashing.Access;
 import net.openhft.hashing.LongHashFunction;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * A {@link Hasher} that delegate its calls to a {@link LongHashFunction}.
  *
@@ -39,61 +46,177 @@ final class ZeroAllocationHasher implements Hasher {
     @Nonnull
     @Override
     public HashCode hash(byte data) {
-        return createHashCode(delegate.hashByte(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(byte data) {
+        return delegate.hashByte(data);
     }
 
     @Nonnull
     @Override
     public HashCode hash(boolean data) {
-        return createHashCode(delegate.hashBoolean(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(boolean data) {
+        return delegate.hashBoolean(data);
     }
 
     @Nonnull
     @Override
     public HashCode hash(char data) {
-        return createHashCode(delegate.hashChar(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(char data) {
+        return delegate.hashChar(data);
     }
 
     @Nonnull
     @Override
     public HashCode hash(short data) {
-        return createHashCode(delegate.hashShort(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(short data) {
+        return delegate.hashShort(data);
     }
 
     @Nonnull
     @Override
     public HashCode hash(int data) {
-        return createHashCode(delegate.hashInt(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(int data) {
+        return delegate.hashInt(data);
     }
 
     @Nonnull
     @Override
     public HashCode hash(long data) {
-        return createHashCode(delegate.hashLong(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(long data) {
+        return delegate.hashLong(data);
     }
 
     @Nonnull
     @Override
     public HashCode hash(float data) {
-        return createHashCode(delegate.hashInt(Float.floatToRawIntBits(data)));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(float data) {
+        return delegate.hashInt(Float.floatToRawIntBits(data));
     }
 
     @Nonnull
     @Override
     public HashCode hash(double data) {
-        return createHashCode(delegate.hashLong(Double.doubleToRawLongBits(data)));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(double data) {
+        return delegate.hashLong(Double.doubleToRawLongBits(data));
     }
 
     @Nonnull
     @Override
     public HashCode hash(String data) {
-        return createHashCode(delegate.hashChars(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(String data) {
+        return delegate.hashChars(data);
     }
 
     @Nonnull
     @Override
     public HashCode hash(byte[] data) {
-        return createHashCode(delegate.hashBytes(data));
+        return createHashCode(hashToLong(data));
+    }
+
+    @Override
+    public long hashToLong(byte[] data) {
+        return delegate.hashBytes(data);
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(ByteBuffer data) {
+        checkNotNull(data, "data");
+
+        return createHashCode(hashBytes(delegate, data, data.position(), data.remaining()));
+    }
+
+    @Override
+    public void hashAll(long[] in, int from, int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.length, out.length));
+
+        for (int i = from; i < to; i++) {
+            out[i] = delegate.hashLong(in[i]);
+        }
+    }
+
+    @Override
+    public void hashAll(String[] in, int from, int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.length, out.length));
+
+        for (int i = from; i < to; i++) {
+            out[i] = delegate.hashChars(in[i]);
+        }
+    }
+
+    @Override
+    public void hashAll(List<byte[]> in, int from, int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.size(), out.length));
+
+        for (int i = from; i < to; i++) {
+            out[i] = delegate.hashBytes(in.get(i));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public HashSink newSink() {
+        return new ZeroAllocationHashSink(delegate);
+    }
+
+    /**
+     * Hashes {@code length} bytes of the {@code buffer} with the {@code function}, starting at {@code offset}.
+     * <p>
+     * The content of a direct buffer is read through its public API: {@link LongHashFunction#hashBytes(ByteBuffer)}
+     * requires an access to {@code sun.nio.ch}, which is not exported since Java 16.
+     *
+     * @param function the hash function
+     * @param buffer   the buffer to hash
+     * @param offset   the index of the first byte to hash
+     * @param length   the number of bytes to hash
+     *
+     * @return the hash of the bytes
+     */
+    static long hashBytes(LongHashFunction function, ByteBuffer buffer, int offset, int length) {
+        return buffer.hasArray()
+                ? function.hashBytes(buffer.array(), buffer.arrayOffset() + offset, length)
+                : function.hash(buffer, Access.toByteBuffer(), offset, length);
     }
 
     /**
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import net.openhft.hashing.Access;
+import net.openhft.hashing.LongTupleHashFunction;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link Hasher} that delegate its calls to a 128-bit {@link LongTupleHashFunction}.
+ * <p>
+ * The result of the delegated function is written in an array owned by the current thread, then copied in a
+ * {@link CompactHashCode}: no {@code byte} array is created. {@link #hashToLong(long)} and its variants return the
+ * first long of the result.
+ *
+ * @see <a href="https://github.com/OpenHFT/Zero-Allocation-Hashing">OpenHFT/Zero-Allocation-Hashing</a>.
+ */
+@ParametersAreNonnullByDefault
+final class ZeroAllocationTupleHasher implements Hasher {
+
+    /**
+     * The delegated hash function.
+     */
+    @Nonnull
+    private final LongTupleHashFunction delegate;
+
+    /**
+     * The reusable result array of each thread.
+     */
+    @Nonnull
+    private final ThreadLocal<long[]> result;
+
+    /**
+     * Constructs a new {@code ZeroAllocationTupleHasher}.
+     *
+     * @param delegate the delegated hash function
+     *
+     * @throws IllegalArgumentException if the {@code delegate} does not produce 128-bit results
+     */
+    public ZeroAllocationTupleHasher(LongTupleHashFunction delegate) {
+        checkNotNull(delegate, "delegate");
+        checkArgument(delegate.bitsLength() == Long.SIZE * 2, "delegate must produce 128-bit results");
+
+        this.delegate = delegate;
+        this.result = ThreadLocal.withInitial(delegate::newResultArray);
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(byte data) {
+        final long[] r = result.get();
+        delegate.hashByte(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(byte data) {
+        final long[] r = result.get();
+        delegate.hashByte(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(boolean data) {
+        final long[] r = result.get();
+        delegate.hashBoolean(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(boolean data) {
+        final long[] r = result.get();
+        delegate.hashBoolean(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(char data) {
+        final long[] r = result.get();
+        delegate.hashChar(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(char data) {
+        final long[] r = result.get();
+        delegate.hashChar(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(short data) {
+        final long[] r = result.get();
+        delegate.hashShort(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(short data) {
+        final long[] r = result.get();
+        delegate.hashShort(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(int data) {
+        final long[] r = result.get();
+        delegate.hashInt(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(int data) {
+        final long[] r = result.get();
+        delegate.hashInt(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(long data) {
+        final long[] r = result.get();
+        delegate.hashLong(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(long data) {
+        final long[] r = result.get();
+        delegate.hashLong(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(float data) {
+        final long[] r = result.get();
+        delegate.hashInt(Float.floatToRawIntBits(data), r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(float data) {
+        final long[] r = result.get();
+        delegate.hashInt(Float.floatToRawIntBits(data), r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(double data) {
+        final long[] r = result.get();
+        delegate.hashLong(Double.doubleToRawLongBits(data), r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(double data) {
+        final long[] r = result.get();
+        delegate.hashLong(Double.doubleToRawLongBits(data), r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(String data) {
+        final long[] r = result.get();
+        delegate.hashChars(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(String data) {
+        final long[] r = result.get();
+        delegate.hashChars(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(byte[] data) {
+        final long[] r = result.get();
+        delegate.hashBytes(data, r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public long hashToLong(byte[] data) {
+        final long[] r = result.get();
+        delegate.hashBytes(data, r);
+        return r[0];
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(ByteBuffer data) {
+        checkNotNull(data, "data");
+
+        final long[] r = result.get();
+        hashBytes(delegate, data, data.position(), data.remaining(), r);
+        return createHashCode(r);
+    }
+
+    @Override
+    public void hashAll(long[] in, int from, int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.length, out.length));
+
+        final long[] r = result.get();
+        for (int i = from; i < to; i++) {
+            delegate.hashLong(in[i], r);
+            out[i] = r[0];
+        }
+    }
+
+    @Override
+    public void hashAll(String[] in, int from, int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.length, out.length));
+
+        final long[] r = result.get();
+        for (int i = from; i < to; i++) {
+            delegate.hashChars(in[i], r);
+            out[i] = r[0];
+        }
+    }
+
+    @Override
+    public void hashAll(List<byte[]> in, int from, int to, long[] out) {
+        checkNotNull(in, "in");
+        checkNotNull(out, "out");
+        Objects.checkFromToIndex(from, to, Math.min(in.size(), out.length));
+
+        final long[] r = result.get();
+        for (int i = from; i < to; i++) {
+            delegate.hashBytes(in.get(i), r);
+            out[i] = r[0];
+        }
+    }
+
+    @Nonnull
+    @Override
+    public HashSink newSink() {
+        return new TupleHashSink(delegate);
+    }
+
+    /**
+     * Hashes {@code length} bytes of the {@code buffer} with the {@code function}, starting at {@code offset}.
+     *
+     * @param function the hash function
+     * @param buffer   the buffer to hash
+     * @param offset   the index of the first byte to hash
+     * @param length   the number of bytes to hash
+     * @param result   the array where to write the result
+     *
+     * @see ZeroAllocationHasher#hashBytes(net.openhft.hashing.LongHashFunction, ByteBuffer, int, int)
+     */
+    static void hashBytes(LongTupleHashFunction function, ByteBuffer buffer, int offset, int length, long[] result) {
+        if (buffer.hasArray()) {
+            function.hashBytes(buffer.array(), buffer.arrayOffset() + offset, length, result);
+        }
+        else {
+            // `hashBytes(ByteBuffer)` requires an access to `sun.nio.ch` for direct buffers
+            function.hash(buffer, Access.toByteBuffer(), offset, length, result);
+        }
+    }
+
+    /**
+     * Creates a new {@link HashCode} from the {@code result} of the hash function.
+     *
+     * @param result the result of the hash function
+     *
+     * @return a new {@link HashCode} instance
+     */
+    @Nonnull
+    private static HashCode createHashCode(long[] result) {
+        return new CompactHashCode(result[0], result[1]);
+    }
+
+    /**
+     * A {@link HashSink} that delegates its calls to a {@link LongTupleHashFunction}, by chaining fixed-size blocks.
+     */
+    @NotThreadSafe
+    @ParametersAreNonnullByDefault
+    private static final class TupleHashSink extends AbstractChainedHashSink {
+
+        /**
+         * The delegated hash function.
+         */
+        @Nonnull
+        private final LongTupleHashFunction delegate;
+
+        /**
+         * The reusable array that holds the hash of a block.
+         */
+        @Nonnull
+        private final long[] blockHash;
+
+        /**
+         * The reusable array used to chain the hashes.
+         */
+        @Nonnull
+        private final long[] chain = new long[4];
+
+        /**
+         * The chained hash of all hashed blocks.
+         */
+        @Nonnull
+        private final long[] state;
+
+        /**
+         * Constructs a new {@code TupleHashSink}.
+         *
+         * @param delegate the delegated hash function
+         */
+        public TupleHashSink(LongTupleHashFunction delegate) {
+            this.delegate = delegate;
+            this.blockHash = delegate.newResultArray();
+            this.state = delegate.newResultArray();
+        }
+
+        @Override
+        protected void chain(byte[] data, int offset, int length) {
+            delegate.hashBytes(data, offset, length, blockHash);
+            chainBlockHash();
+        }
+
+        @Override
+        protected void chain(ByteBuffer buffer, int offset, int length) {
+            hashBytes(delegate, buffer, offset, length, blockHash);
+            chainBlockHash();
+        }
+
+        @Nonnull
+        @Override
+        protected HashCode hashWhole(byte[] data, int length) {
+            delegate.hashBytes(data, 0, length, blockHash);
+            return createHashCode(blockHash);
+        }
+
+        @Nonnull
+        @Override
+        protected HashCode hashChain(long length) {
+            chain[0] = state[0];
+            chain[1] = state[1];
+            chain[2] = length;
+            chain[3] = 0;
+            delegate.hashLongs(chain, blockHash);
+
+            state[0] = 0;
+            state[1] = 0;
+            return createHashCode(blockHash);
+        }
+
+        /**
+         * Chains the hash of the last block with the hash of the previous blocks.
+         */
+        private void chainBlockHash() {
+            chain[0] = state[0];
+            chain[1] = state[1];
+            chain[2] = blockHash[0];
+            chain[3] = blockHash[1];
+            delegate.hashLongs(chain, state);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * The base of the fixed-size arrays of unsigned values, packed in a primitive array.
+ * <p>
+ * This class holds the code that does not depend on the width of the values: the validation of the lengths and of the
+ * buffers, the comparison of the arrays and their string representation.
+ *
+ * @see UnsignedByteArray
+ * @see UnsignedShortArray
+ * @see UnsignedIntArray
+ */
+@ParametersAreNonnullByDefault
+abstract class AbstractUnsignedArray implements Serializable {
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = -6912270388017314208L;
+
+    /**
+     * Returns the number of values of this array.
+     *
+     * @return the number of values
+     */
+    @Nonnegative
+    public abstract int length();
+
+    /**
+     * Returns the unsigned value at the {@code index}, widened to a {@code long}.
+     *
+     * @param index the index of the value
+     *
+     * @return the unsigned value
+     */
+    @Nonnegative
+    protected abstract long longValue(@Nonnegative int index);
+
+    /**
+     * Returns the primitive array that backs this array.
+     *
+     * @return the backing array
+     */
+    @Nonnull
+    protected abstract Object values();
+
+    /**
+     * Checks that the {@code length} of a new array is not negative.
+     *
+     * @param length the number of values
+     *
+     * @throws IllegalArgumentException if {@code length < 0}
+     */
+    protected static void checkLength(int length) {
+        checkGreaterThanOrEqualTo(length, 0, "length (%d) must not be negative", length);
+    }
+
+    /**
+     * Checks that {@code length} values of {@code bytes} bytes can be read at the current position of the
+     * {@code buffer}.
+     *
+     * @param buffer the buffer to read
+     * @param length the number of values to read
+     * @param bytes  the number of bytes of a value
+     *
+     * @throws BufferUnderflowException if the {@code buffer} does not contain {@code length} values
+     */
+    protected static void checkReadable(ByteBuffer buffer, int length, @Nonnegative int bytes) {
+        checkNotNull(buffer, "buffer");
+        checkLength(length);
+
+        if (buffer.remaining() / bytes < length) {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    /**
+     * Checks that {@code length} values of {@code bytes} bytes can be written at the current position of the
+     * {@code buffer}.
+     *
+     * @param buffer the buffer where to write the values
+     * @param length the number of values to write
+     * @param bytes  the number of bytes of a value
+     *
+     * @throws BufferOverflowException if the remaining space of the {@code buffer} is too small
+     */
+    protected static void checkWritable(ByteBuffer buffer, @Nonnegative int length, @Nonnegative int bytes) {
+        checkNotNull(buffer, "buffer");
+
+        if (buffer.remaining() / bytes < length) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    /**
+     * Returns a new {@code int} array containing all the values of this array, for the arrays whose values fit in an
+     * {@code int}.
+     *
+     * @return a new array
+     */
+    @Nonnull
+    protected int[] intValues() {
+        final int[] result = new int[length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) longValue(i);
+        }
+        return result;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AbstractUnsignedArray that = (AbstractUnsignedArray) o;
+        return Objects.deepEquals(values(), that.values());
+    }
+
+    @Override
+    public abstract int hashCode();
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0, length = length(); i < length; i++) {
+            joiner.add(Long.toString(longValue(i)));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.annotation.Static;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Throwables.notInstantiableClass;
+
+/**
+ * Static utility methods for unsigned 8-bit values stored in primitive {@code byte}s, without wrapping them in
+ * {@link UnsignedByte}s.
+ * <p>
+ * A {@code byte} holds the 8 bits of the unsigned value: values above {@link Byte#MAX_VALUE} are negative when
+ * read as signed {@code byte}s, and must be converted with {@link #toInt(byte)} before any arithmetic.
+ *
+ * @see UnsignedByteArray
+ * @since 1.1.1
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class UnsignedBytes {
+
+    private UnsignedBytes() {
+        throw notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns the unsigned value of the {@code value} bits.
+     *
+     * @param value the unsigned value
+     *
+     * @return a value between {@link UnsignedByte#MIN_VALUE} and {@link UnsignedByte#MAX_VALUE}
+     */
+    @Nonnegative
+    public static int toInt(byte value) {
+        return value & 0xFF;
+    }
+
+    /**
+     * Returns the unsigned value of the {@code value} bits.
+     *
+     * @param value the unsigned value
+     *
+     * @return a value between {@link UnsignedByte#MIN_VALUE} and {@link UnsignedByte#MAX_VALUE}
+     */
+    @Nonnegative
+    public static long toLong(byte value) {
+        return value & 0xFFL;
+    }
+
+    /**
+     * Returns the bits of an unsigned value.
+     *
+     * @param value the value to convert
+     *
+     * @return the unsigned value
+     *
+     * @throws IllegalArgumentException if {@code value} is outside the range of unsigned 8-bit values
+     */
+    public static byte checkedCast(long value) {
+        if ((value >>> Byte.SIZE) != 0) {
+            throw new IllegalArgumentException(String.format("value (%d) is out of range of unsigned byte", value));
+        }
+        return (byte) value;
+    }
+
+    /**
+     * Compares two unsigned values.
+     *
+     * @param left  the first unsigned value
+     * @param right the second unsigned value
+     *
+     * @return a negative number, zero, or a positive number if {@code left} is lower than, equal to, or greater than
+     * {@code right}
+     */
+    public static int compare(byte left, byte right) {
+        return toInt(left) - toInt(right);
+    }
+
+    /**
+     * Adds a signed {@code delta} to an unsigned value.
+     *
+     * @param value the unsigned value
+     * @param delta the value to add
+     *
+     * @return the unsigned result
+     *
+     * @throws ArithmeticException if the result is outside the range of unsigned 8-bit values
+     */
+    public static byte add(byte value, int delta) {
+        final int result = toInt(value) + delta;
+        // A sum that overflows is negative, so it is out of range too
+        if ((result >>> Byte.SIZE) != 0) {
+            throw new ArithmeticException("unsigned byte overflow");
+        }
+        return (byte) result;
+    }
+
+    /**
+     * Reads an unsigned value from the {@code src} array.
+     *
+     * @param src    the array to read
+     * @param offset the index of the first byte of the value in {@code src}
+     *
+     * @return the unsigned value, as an {@code int}
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the bounds of {@code src}
+     */
+    @Nonnegative
+    public static int read(byte[] src, @Nonnegative int offset) {
+        return toInt(src[offset]);
+    }
+
+    /**
+     * Writes an unsigned value in the {@code dest} array.
+     *
+     * @param dest   the array where to write the value
+     * @param offset the index of the first byte to write in {@code dest}
+     * @param value  the unsigned value
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the bounds of {@code dest}
+     */
+    public static void write(byte[] dest, @Nonnegative int offset, byte value) {
+        dest[offset] = value;
+    }
+
+    /**
+     * Reads an unsigned value at the current position of the {@code buffer}, and advances the
+     * position.
+     *
+     * @param buffer the buffer to read
+     *
+     * @return the unsigned value, as an {@code int}
+     *
+     * @throws java.nio.BufferUnderflowException if no byte remains in the {@code buffer}
+     */
+    @Nonnegative
+    public static int read(ByteBuffer buffer) {
+        return toInt(buffer.get());
+    }
+
+    /**
+     * Reads an unsigned value at the {@code index} of the {@code buffer}.
+     *
+     * @param buffer the buffer to read
+     * @param index  the index of the first byte of the value
+     *
+     * @return the unsigned value, as an {@code int}
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the limit of the {@code buffer}
+     */
+    @Nonnegative
+    public static int read(ByteBuffer buffer, @Nonnegative int index) {
+        return toInt(buffer.get(index));
+    }
+
+    /**
+     * Writes an unsigned value at the current position of the {@code buffer}, and advances the
+     * position.
+     *
+     * @param buffer the buffer where to write the value
+     * @param value  the unsigned value
+     *
+     * @throws java.nio.BufferOverflowException if no byte remains in the {@code buffer}
+     */
+    public static void write(ByteBuffer buffer, byte value) {
+        buffer.put(value);
+    }
+
+    /**
+     * Writes an unsigned value at the {@code index} of the {@code buffer}.
+     *
+     * @param buffer the buffer where to write the value
+     * @param index  the index of the first byte of the value
+     * @param value  the unsigned value
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the limit of the {@code buffer}
+     */
+    public static void write(ByteBuffer buffer, @Nonnegative int index, byte value) {
+        buffer.put(index, value);
+    }
+}
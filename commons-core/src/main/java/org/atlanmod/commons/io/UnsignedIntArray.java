@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A fixed-size array of unsigned 32-bit values, packed in an {@code int} array.
+ * <p>
+ * Each value uses 4 bytes, whereas an {@link UnsignedInt} uses 16 bytes, in addition to the reference to it.
+ *
+ * @see UnsignedInts
+ * @since 1.1.1
+ */
+@ParametersAreNonnullByDefault
+public final class UnsignedIntArray extends AbstractUnsignedArray {
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = 2294180617353027694L;
+
+    /**
+     * The bits of the values.
+     */
+    @Nonnull
+    private final int[] values;
+
+    /**
+     * Creates an array of {@code length} values, initialized to {@code 0}.
+     *
+     * @param length the number of values
+     */
+    public UnsignedIntArray(@Nonnegative int length) {
+        checkLength(length);
+
+        this.values = new int[length];
+    }
+
+    /**
+     * Constructs a new {@code UnsignedIntArray} backed by the {@code values}.
+     *
+     * @param values the bits of the values
+     */
+    private UnsignedIntArray(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates an array backed by the {@code values}: changes to one are visible in the other.
+     *
+     * @param values the bits of the unsigned values
+     *
+     * @return a new array
+     */
+    @Nonnull
+    public static UnsignedIntArray wrap(int[] values) {
+        checkNotNull(values, "values");
+
+        return new UnsignedIntArray(values);
+    }
+
+    /**
+     * Creates an array from {@code length} values read at the current position of the {@code buffer}, in its byte
+     * order, and advances the position.
+     *
+     * @param buffer the buffer to read
+     * @param length the number of values to read
+     *
+     * @return a new array
+     *
+     * @throws BufferUnderflowException if the {@code buffer} does not contain {@code length} values
+     * @see #writeOn(ByteBuffer)
+     */
+    @Nonnull
+    public static UnsignedIntArray fromByteBuffer(ByteBuffer buffer, @Nonnegative int length) {
+        checkReadable(buffer, length, Integer.BYTES);
+
+        final int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return new UnsignedIntArray(values);
+    }
+
+    /**
+     * Returns the number of values of this array.
+     *
+     * @return the number of values
+     */
+    @Nonnegative
+    @Override
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value at the {@code index}.
+     *
+     * @param index the index of the value
+     *
+     * @return the unsigned value
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    @Nonnegative
+    public long get(@Nonnegative int index) {
+        return UnsignedInts.toLong(values[index]);
+    }
+
+    /**
+     * Replaces the value at the {@code index}.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalArgumentException  if {@code value} is outside the range of unsigned 32-bit values
+     */
+    public void set(@Nonnegative int index, long value) {
+        values[index] = UnsignedInts.checkedCast(value);
+    }
+
+    /**
+     * Adds a signed {@code delta} to the value at the {@code index}.
+     *
+     * @param index the index of the value
+     * @param delta the value to add
+     *
+     * @return the new value
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws ArithmeticException       if the result is outside the range of unsigned 32-bit values; the value is
+     *                                   left unchanged in this case
+     */
+    @Nonnegative
+    public long add(@Nonnegative int index, long delta) {
+        final int result = UnsignedInts.add(values[index], delta);
+        values[index] = result;
+        return UnsignedInts.toLong(result);
+    }
+
+    /**
+     * Compares the values at two indices.
+     *
+     * @param left  the index of the first value
+     * @param right the index of the second value
+     *
+     * @return a negative number, zero, or a positive number if the first value is lower than, equal to, or greater
+     * than the second value
+     *
+     * @throws IndexOutOfBoundsException if an index is out of bounds
+     */
+    public int compare(@Nonnegative int left, @Nonnegative int right) {
+        return UnsignedInts.compare(values[left], values[right]);
+    }
+
+    /**
+     * Replaces all the values of this array.
+     *
+     * @param value the new value
+     *
+     * @throws IllegalArgumentException if {@code value} is outside the range of unsigned 32-bit values
+     */
+    public void fill(long value) {
+        Arrays.fill(values, UnsignedInts.checkedCast(value));
+    }
+
+    /**
+     * Returns a new {@code long} array containing all the values of this array.
+     *
+     * @return a new array
+     */
+    @Nonnull
+    public long[] toLongArray() {
+        final long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = UnsignedInts.toLong(values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Writes all the values of this array at the current position of the {@code buffer}, in its byte order, and
+     * advances the position.
+     *
+     * @param buffer the buffer where to write the values
+     *
+     * @throws BufferOverflowException if the remaining space of the {@code buffer} is too small; nothing is written
+     *                                 in this case
+     * @see #fromByteBuffer(ByteBuffer, int)
+     */
+    public void writeOn(ByteBuffer buffer) {
+        checkWritable(buffer, values.length, Integer.BYTES);
+
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    @Nonnegative
+    @Override
+    protected long longValue(int index) {
+        return UnsignedInts.toLong(values[index]);
+    }
+
+    @Nonnull
+    @Override
+    protected int[] values() {
+        return values;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.annotation.Static;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Throwables.notInstantiableClass;
+
+/**
+ * Static utility methods for unsigned 32-bit values stored in primitive {@code int}s, without wrapping them in
+ * {@link UnsignedInt}s.
+ * <p>
+ * An {@code int} holds the 32 bits of the unsigned value: values above {@link Integer#MAX_VALUE} are negative when
+ * read as signed {@code int}s, and must be converted with {@link #toLong(int)} before any signed arithmetic.
+ *
+ * @see UnsignedIntArray
+ * @since 1.1.1
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class UnsignedInts {
+
+    /**
+     * A view of a {@code byte} array as an array of big-endian {@code int}s, at any offset.
+     */
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private UnsignedInts() {
+        throw notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns the unsigned value of the {@code value} bits.
+     *
+     * @param value the unsigned value
+     *
+     * @return a value between {@link UnsignedInt#MIN_VALUE} and {@link UnsignedInt#MAX_VALUE}
+     */
+    @Nonnegative
+    public static long toLong(int value) {
+        return value & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the bits of an unsigned value.
+     *
+     * @param value the value to convert
+     *
+     * @return the unsigned value
+     *
+     * @throws IllegalArgumentException if {@code value} is outside the range of unsigned 32-bit values
+     */
+    public static int checkedCast(long value) {
+        if ((value >>> Integer.SIZE) != 0) {
+            throw new IllegalArgumentException(String.format("value (%d) is out of range of unsigned int", value));
+        }
+        return (int) value;
+    }
+
+    /**
+     * Compares two unsigned values.
+     *
+     * @param left  the first unsigned value
+     * @param right the second unsigned value
+     *
+     * @return a negative number, zero, or a positive number if {@code left} is lower than, equal to, or greater than
+     * {@code right}
+     */
+    public static int compare(int left, int right) {
+        return Integer.compareUnsigned(left, right);
+    }
+
+    /**
+     * Adds a signed {@code delta} to an unsigned value.
+     *
+     * @param value the unsigned value
+     * @param delta the value to add
+     *
+     * @return the unsigned result
+     *
+     * @throws ArithmeticException if the result is outside the range of unsigned 32-bit values
+     */
+    public static int add(int value, long delta) {
+        // Larger deltas are always out of range, and could overflow the sum
+        if (delta < -UnsignedInt.MAX_VALUE || delta > UnsignedInt.MAX_VALUE) {
+            throw new ArithmeticException("unsigned int overflow");
+        }
+
+        final long result = toLong(value) + delta;
+        if ((result >>> Integer.SIZE) != 0) {
+            throw new ArithmeticException("unsigned int overflow");
+        }
+        return (int) result;
+    }
+
+    /**
+     * Reads an unsigned value from the {@code src} array, in the big-endian order.
+     *
+     * @param src    the array to read
+     * @param offset the index of the first byte of the value in {@code src}
+     *
+     * @return the unsigned value, as a {@code long}
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the bounds of {@code src}
+     */
+    @Nonnegative
+    public static long read(byte[] src, @Nonnegative int offset) {
+        return toLong((int) INTS.get(src, offset));
+    }
+
+    /**
+     * Writes an unsigned value in the {@code dest} array, in the big-endian order, as {@link UnsignedInt#toBytes()}.
+     *
+     * @param dest   the array where to write the value
+     * @param offset the index of the first byte to write in {@code dest}
+     * @param value  the unsigned value
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the bounds of {@code dest}
+     */
+    public static void write(byte[] dest, @Nonnegative int offset, int value) {
+        INTS.set(dest, offset, value);
+    }
+
+    /**
+     * Reads an unsigned value at the current position of the {@code buffer}, in its byte order, and advances the
+     * position.
+     *
+     * @param buffer the buffer to read
+     *
+     * @return the unsigned value, as a {@code long}
+     *
+     * @throws java.nio.BufferUnderflowException if less than 4 bytes remain in the {@code buffer}
+     */
+    @Nonnegative
+    public static long read(ByteBuffer buffer) {
+        return toLong(buffer.getInt());
+    }
+
+    /**
+     * Reads an unsigned value at the {@code index} of the {@code buffer}, in its byte order.
+     *
+     * @param buffer the buffer to read
+     * @param index  the index of the first byte of the value
+     *
+     * @return the unsigned value, as a {@code long}
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the limit of the {@code buffer}
+     */
+    @Nonnegative
+    public static long read(ByteBuffer buffer, @Nonnegative int index) {
+        return toLong(buffer.getInt(index));
+    }
+
+    /**
+     * Writes an unsigned value at the current position of the {@code buffer}, in its byte order, and advances the
+     * position.
+     *
+     * @param buffer the buffer where to write the value
+     * @param value  the unsigned value
+     *
+     * @throws java.nio.BufferOverflowException if less than 4 bytes remain in the {@code buffer}
+     */
+    public static void write(ByteBuffer buffer, int value) {
+        buffer.putInt(value);
+    }
+
+    /**
+     * Writes an unsigned value at the {@code index} of the {@code buffer}, in its byte order.
+     *
+     * @param buffer the buffer where to write the value
+     * @param index  the index of the first byte of the value
+     * @param value  the unsigned value
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the limit of the {@code buffer}
+     */
+    public static void write(ByteBuffer buffer, @Nonnegative int index, int value) {
+        buffer.putInt(index, value);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.annotation.Static;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Throwables.notInstantiableClass;
+
+/**
+ * Static utility methods for unsigned 16-bit values stored in primitive {@code short}s, without wrapping them in
+ * {@link UnsignedShort}s.
+ * <p>
+ * A {@code short} holds the 16 bits of the unsigned value: values above {@link Short#MAX_VALUE} are negative when
+ * read as signed {@code short}s, and must be converted with {@link #toInt(short)} before any arithmetic.
+ *
+ * @see UnsignedShortArray
+ * @since 1.1.1
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class UnsignedShorts {
+
+    /**
+     * A view of a {@code byte} array as an array of big-endian {@code short}s, at any offset.
+     */
+    private static final VarHandle SHORTS = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    private UnsignedShorts() {
+        throw notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns the unsigned value of the {@code value} bits.
+     *
+     * @param value the unsigned value
+     *
+     * @return a value between {@link UnsignedShort#MIN_VALUE} and {@link UnsignedShort#MAX_VALUE}
+     */
+    @Nonnegative
+    public static int toInt(short value) {
+        return value & 0xFFFF;
+    }
+
+    /**
+     * Returns the unsigned value of the {@code value} bits.
+     *
+     * @param value the unsigned value
+     *
+     * @return a value between {@link UnsignedShort#MIN_VALUE} and {@link UnsignedShort#MAX_VALUE}
+     */
+    @Nonnegative
+    public static long toLong(short value) {
+        return value & 0xFFFFL;
+    }
+
+    /**
+     * Returns the bits of an unsigned value.
+     *
+     * @param value the value to convert
+     *
+     * @return the unsigned value
+     *
+     * @throws IllegalArgumentException if {@code value} is outside the range of unsigned 16-bit values
+     */
+    public static short checkedCast(long value) {
+        if ((value >>> Short.SIZE) != 0) {
+            throw new IllegalArgumentException(String.format("value (%d) is out of range of unsigned short", value));
+        }
+        return (short) value;
+    }
+
+    /**
+     * Compares two unsigned values.
+     *
+     * @param left  the first unsigned value
+     * @param right the second unsigned value
+     *
+     * @return a negative number, zero, or a positive number if {@code left} is lower than, equal to, or greater than
+     * {@code right}
+     */
+    public static int compare(short left, short right) {
+        return toInt(left) - toInt(right);
+    }
+
+    /**
+     * Adds a signed {@code delta} to an unsigned value.
+     *
+     * @param value the unsigned value
+     * @param delta the value to add
+     *
+     * @return the unsigned result
+     *
+     * @throws ArithmeticException if the result is outside the range of unsigned 16-bit values
+     */
+    public static short add(short value, int delta) {
+        final int result = toInt(value) + delta;
+        // A sum that overflows is negative, so it is out of range too
+        if ((result >>> Short.SIZE) != 0) {
+            throw new ArithmeticException("unsigned short overflow");
+        }
+        return (short) result;
+    }
+
+    /**
+     * Reads an unsigned value from the {@code src} array, in the big-endian order.
+     *
+     * @param src    the array to read
+     * @param offset the index of the first byte of the value in {@code src}
+     *
+     * @return the unsigned value, as an {@code int}
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the bounds of {@code src}
+     */
+    @Nonnegative
+    public static int read(byte[] src, @Nonnegative int offset) {
+        return toInt((short) SHORTS.get(src, offset));
+    }
+
+    /**
+     * Writes an unsigned value in the {@code dest} array, in the big-endian order.
+     *
+     * @param dest   the array where to write the value
+     * @param offset the index of the first byte to write in {@code dest}
+     * @param value  the unsigned value
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the bounds of {@code dest}
+     */
+    public static void write(byte[] dest, @Nonnegative int offset, short value) {
+        SHORTS.set(dest, offset, value);
+    }
+
+    /**
+     * Reads an unsigned value at the current position of the {@code buffer}, in its byte order, and advances the
+     * position.
+     *
+     * @param buffer the buffer to read
+     *
+     * @return the unsigned value, as an {@code int}
+     *
+     * @throws java.nio.BufferUnderflowException if less than 2 bytes remain in the {@code buffer}
+     */
+    @Nonnegative
+    public static int read(ByteBuffer buffer) {
+        return toInt(buffer.getShort());
+    }
+
+    /**
+     * Reads an unsigned value at the {@code index} of the {@code buffer}, in its byte order.
+     *
+     * @param buffer the buffer to read
+     * @param index  the index of the first byte of the value
+     *
+     * @return the unsigned value, as an {@code int}
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the limit of the {@code buffer}
+     */
+    @Nonnegative
+    public static int read(ByteBuffer buffer, @Nonnegative int index) {
+        return toInt(buffer.getShort(index));
+    }
+
+    /**
+     * Writes an unsigned value at the current position of the {@code buffer}, in its byte order, and advances the
+     * position.
+     *
+     * @param buffer the buffer where to write the value
+     * @param value  the unsigned value
+     *
+     * @throws java.nio.BufferOverflowException if less than 2 bytes remain in the {@code buffer}
+     */
+    public static void write(ByteBuffer buffer, short value) {
+        buffer.putShort(value);
+    }
+
+    /**
+     * Writes an unsigned value at the {@code index} of the {@code buffer}, in its byte order.
+     *
+     * @param buffer the buffer where to write the value
+     * @param index  the index of the first byte of the value
+     * @param value  the unsigned value
+     *
+     * @throws IndexOutOfBoundsException if the value is outside the limit of the {@code buffer}
+     */
+    public static void write(ByteBuffer buffer, @Nonnegative int index, short value) {
+        buffer.putShort(index, value);
+    }
+}
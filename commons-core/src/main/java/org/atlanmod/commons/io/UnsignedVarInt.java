@@ -150,19 +150,8 @@ public class UnsignedVarInt extends UnsignedNumber implements Comparable<Unsigne
      */
     @Nonnull
     public byte[] toBytes() {
-        if (value == 0) return new byte[] {0};
-        int length = 0;
-        while ((value >> (7 * length++)) > 0x7F);
-
-        byte[] bytes = new byte[length];
-
-        for (int i = 0; i < length; i++) {
-            int shift = 7 * i;
-            bytes[i] = (byte) (0x80 | (value >> shift));
-        }
-
-        bytes[length -1] &= 0x7F; // Unset the continuation bit
-
+        byte[] bytes = new byte[VarInts.sizeOf(value)];
+        VarInts.writeLong(bytes, 0, value);
         return bytes;
     }
 
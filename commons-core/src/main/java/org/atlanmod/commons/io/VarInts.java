@@ -0,0 +1,742 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.annotation.Static;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Throwables.notInstantiableClass;
+
+/**
+ * Static utility methods for encoding {@code int} and {@code long} values as variable-length integers (varints),
+ * without intermediate objects.
+ * <p>
+ * A value is written by groups of 7 bits, from the least significant group, in the same format as
+ * {@link UnsignedVarInt}: the most significant bit of each byte is set if another byte follows. Values are considered
+ * as unsigned, so an {@code int} uses 1 to {@value #MAX_INT_SIZE} bytes, and a {@code long} uses 1 to
+ * {@value #MAX_LONG_SIZE} bytes. Signed values that may be negative should be mapped with
+ * {@link #encodeZigZag(long)} beforehand, so that small absolute values stay short.
+ * <p>
+ * Encodings are minimal: decoding rejects trailing zero groups, and values that do not fit in the expected type.
+ * Therefore the number of bytes read for a value is always {@link #sizeOf(long)}.
+ * <p>
+ * Sorted sequences, such as lists of identifiers, are best encoded with
+ * {@link #writeDeltas(long[], int, int, byte[], int)}, that only writes the difference between consecutive values.
+ *
+ * @see UnsignedVarInt
+ * @since 1.1.1
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class VarInts {
+
+    /**
+     * The maximum number of bytes of an encoded {@code int}.
+     */
+    public static final int MAX_INT_SIZE = 5;
+
+    /**
+     * The maximum number of bytes of an encoded {@code long}.
+     */
+    public static final int MAX_LONG_SIZE = 10;
+
+    private VarInts() {
+        throw notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns the number of bytes used to encode the {@code value}, considered as unsigned.
+     *
+     * @param value the value to encode
+     *
+     * @return the number of bytes, between 1 and {@value #MAX_INT_SIZE}
+     */
+    @Nonnegative
+    public static int sizeOf(int value) {
+        return (Integer.SIZE + 6 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * Returns the number of bytes used to encode the {@code value}, considered as unsigned.
+     *
+     * @param value the value to encode
+     *
+     * @return the number of bytes, between 1 and {@value #MAX_LONG_SIZE}
+     */
+    @Nonnegative
+    public static int sizeOf(long value) {
+        return (Long.SIZE + 6 - Long.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * Maps a signed {@code int} to an unsigned one, so that values close to {@code 0} are encoded on few bytes:
+     * {@code 0, -1, 1, -2, 2...} are mapped to {@code 0, 1, 2, 3, 4...}.
+     *
+     * @param value the signed value
+     *
+     * @return the unsigned value
+     *
+     * @see #decodeZigZag(int)
+     */
+    public static int encodeZigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Maps a signed {@code long} to an unsigned one, so that values close to {@code 0} are encoded on few bytes:
+     * {@code 0, -1, 1, -2, 2...} are mapped to {@code 0, 1, 2, 3, 4...}.
+     *
+     * @param value the signed value
+     *
+     * @return the unsigned value
+     *
+     * @see #decodeZigZag(long)
+     */
+    public static long encodeZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Maps an unsigned {@code int} produced by {@link #encodeZigZag(int)} to its original signed value.
+     *
+     * @param value the unsigned value
+     *
+     * @return the signed value
+     */
+    public static int decodeZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Maps an unsigned {@code long} produced by {@link #encodeZigZag(long)} to its original signed value.
+     *
+     * @param value the unsigned value
+     *
+     * @return the signed value
+     */
+    public static long decodeZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // region byte[]
+
+    /**
+     * Writes the {@code value} in the {@code dest} array.
+     *
+     * @param dest   the array where to write the value
+     * @param offset the index of the first byte to write in {@code dest}
+     * @param value  the value to write, considered as unsigned
+     *
+     * @return the index following the value in {@code dest}
+     *
+     * @throws IndexOutOfBoundsException if {@code dest} is too small to hold the value
+     */
+    @Nonnegative
+    public static int writeInt(byte[] dest, @Nonnegative int offset, int value) {
+        Objects.checkFromIndexSize(offset, sizeOf(value), dest.length);
+
+        int index = offset;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            dest[index++] = (byte) (remaining | 0x80);
+            remaining >>>= 7;
+        }
+        dest[index++] = (byte) remaining;
+        return index;
+    }
+
+    /**
+     * Writes the {@code value} in the {@code dest} array.
+     *
+     * @param dest   the array where to write the value
+     * @param offset the index of the first byte to write in {@code dest}
+     * @param value  the value to write, considered as unsigned
+     *
+     * @return the index following the value in {@code dest}
+     *
+     * @throws IndexOutOfBoundsException if {@code dest} is too small to hold the value
+     */
+    @Nonnegative
+    public static int writeLong(byte[] dest, @Nonnegative int offset, long value) {
+        Objects.checkFromIndexSize(offset, sizeOf(value), dest.length);
+
+        int index = offset;
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            dest[index++] = (byte) (remaining | 0x80);
+            remaining >>>= 7;
+        }
+        dest[index++] = (byte) remaining;
+        return index;
+    }
+
+    /**
+     * Reads an {@code int} from the {@code src} array. The number of read bytes is {@link #sizeOf(int)} of the
+     * returned value.
+     *
+     * @param src    the array to read
+     * @param offset the index of the first byte of the value in {@code src}
+     *
+     * @return the value
+     *
+     * @throws IndexOutOfBoundsException if the value is truncated
+     * @throws IllegalArgumentException  if the bytes are not a valid encoding of an {@code int}
+     */
+    public static int readInt(byte[] src, @Nonnegative int offset) {
+        int b = src[offset];
+        if (b >= 0) {
+            return b;
+        }
+
+        int result = b & 0x7F;
+        for (int shift = 7, index = offset + 1; ; shift += 7) {
+            b = src[index++];
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (b == 0 || shift == 28 && b > 0x0F) {
+                    throw malformed(offset);
+                }
+                return result;
+            }
+            if (shift == 28) {
+                throw malformed(offset);
+            }
+        }
+    }
+
+    /**
+     * Reads a {@code long} from the {@code src} array. The number of read bytes is {@link #sizeOf(long)} of the
+     * returned value.
+     *
+     * @param src    the array to read
+     * @param offset the index of the first byte of the value in {@code src}
+     *
+     * @return the value
+     *
+     * @throws IndexOutOfBoundsException if the value is truncated
+     * @throws IllegalArgumentException  if the bytes are not a valid encoding of a {@code long}
+     */
+    public static long readLong(byte[] src, @Nonnegative int offset) {
+        long b = src[offset];
+        if (b >= 0) {
+            return b;
+        }
+
+        long result = b & 0x7F;
+        for (int shift = 7, index = offset + 1; ; shift += 7) {
+            b = src[index++];
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (b == 0 || shift == 63 && b > 1) {
+                    throw malformed(offset);
+                }
+                return result;
+            }
+            if (shift == 63) {
+                throw malformed(offset);
+            }
+        }
+    }
+
+    // endregion
+
+    // region ByteBuffer
+
+    /**
+     * Writes the {@code value} at the current position of the {@code buffer}, and advances the position.
+     *
+     * @param buffer the buffer where to write the value
+     * @param value  the value to write, considered as unsigned
+     *
+     * @throws BufferOverflowException if the remaining space of the {@code buffer} is too small to hold the value;
+     *                                 nothing is written in this case
+     */
+    public static void writeInt(ByteBuffer buffer, int value) {
+        if (buffer.remaining() < sizeOf(value)) {
+            throw new BufferOverflowException();
+        }
+
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            buffer.put((byte) (remaining | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Writes the {@code value} at the current position of the {@code buffer}, and advances the position.
+     *
+     * @param buffer the buffer where to write the value
+     * @param value  the value to write, considered as unsigned
+     *
+     * @throws BufferOverflowException if the remaining space of the {@code buffer} is too small to hold the value;
+     *                                 nothing is written in this case
+     */
+    public static void writeLong(ByteBuffer buffer, long value) {
+        if (buffer.remaining() < sizeOf(value)) {
+            throw new BufferOverflowException();
+        }
+
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) (remaining | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads an {@code int} at the current position of the {@code buffer}, and advances the position.
+     *
+     * @param buffer the buffer to read
+     *
+     * @return the value
+     *
+     * @throws BufferUnderflowException if the value is truncated
+     * @throws IllegalArgumentException if the bytes are not a valid encoding of an {@code int}
+     */
+    public static int readInt(ByteBuffer buffer) {
+        final int start = buffer.position();
+
+        int result = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (b == 0 && shift > 0 || shift == 28 && b > 0x0F) {
+                    throw malformed(start);
+                }
+                return result;
+            }
+            if (shift == 28) {
+                throw malformed(start);
+            }
+        }
+    }
+
+    /**
+     * Reads a {@code long} at the current position of the {@code buffer}, and advances the position.
+     *
+     * @param buffer the buffer to read
+     *
+     * @return the value
+     *
+     * @throws BufferUnderflowException if the value is truncated
+     * @throws IllegalArgumentException if the bytes are not a valid encoding of a {@code long}
+     */
+    public static long readLong(ByteBuffer buffer) {
+        final int start = buffer.position();
+
+        long result = 0;
+        for (int shift = 0; ; shift += 7) {
+            final long b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (b == 0 && shift > 0 || shift == 63 && b > 1) {
+                    throw malformed(start);
+                }
+                return result;
+            }
+            if (shift == 63) {
+                throw malformed(start);
+            }
+        }
+    }
+
+    // endregion
+
+    // region DataOutput/DataInput
+
+    /**
+     * Writes the {@code value} to the {@code out}.
+     *
+     * @param out   the output where to write the value
+     * @param value the value to write, considered as unsigned
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeInt(DataOutput out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte(remaining | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Writes the {@code value} to the {@code out}.
+     *
+     * @param out   the output where to write the value
+     * @param value the value to write, considered as unsigned
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeLong(DataOutput out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) (remaining | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    /**
+     * Reads an {@code int} from the {@code in}.
+     *
+     * @param in the input to read
+     *
+     * @return the value
+     *
+     * @throws EOFException             if the value is truncated
+     * @throws StreamCorruptedException if the bytes are not a valid encoding of an {@code int}
+     * @throws IOException              if an I/O error occurs
+     */
+    public static int readInt(DataInput in) throws IOException {
+        int result = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = in.readByte();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (b == 0 && shift > 0 || shift == 28 && b > 0x0F) {
+                    throw new StreamCorruptedException("Malformed varint");
+                }
+                return result;
+            }
+            if (shift == 28) {
+                throw new StreamCorruptedException("Malformed varint");
+            }
+        }
+    }
+
+    /**
+     * Reads a {@code long} from the {@code in}.
+     *
+     * @param in the input to read
+     *
+     * @return the value
+     *
+     * @throws EOFException             if the value is truncated
+     * @throws StreamCorruptedException if the bytes are not a valid encoding of a {@code long}
+     * @throws IOException              if an I/O error occurs
+     */
+    public static long readLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; ; shift += 7) {
+            final long b = in.readByte();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (b == 0 && shift > 0 || shift == 63 && b > 1) {
+                    throw new StreamCorruptedException("Malformed varint");
+                }
+                return result;
+            }
+            if (shift == 63) {
+                throw new StreamCorruptedException("Malformed varint");
+            }
+        }
+    }
+
+    // endregion
+
+    // region Bulk
+
+    /**
+     * Returns the number of bytes used to encode {@code length} values of the {@code src} array, starting at
+     * {@code offset}.
+     *
+     * @param src    the values to encode
+     * @param offset the index of the first value to encode
+     * @param length the number of values to encode
+     *
+     * @return the number of bytes
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code src}
+     */
+    @Nonnegative
+    public static int sizeOf(int[] src, @Nonnegative int offset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        int size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            size += sizeOf(src[i]);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes used to encode {@code length} values of the {@code src} array, starting at
+     * {@code offset}.
+     *
+     * @param src    the values to encode
+     * @param offset the index of the first value to encode
+     * @param length the number of values to encode
+     *
+     * @return the number of bytes
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code src}
+     */
+    @Nonnegative
+    public static int sizeOf(long[] src, @Nonnegative int offset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        int size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            size += sizeOf(src[i]);
+        }
+        return size;
+    }
+
+    /**
+     * Writes {@code length} values of the {@code src} array, starting at {@code offset}, in the {@code dest} array.
+     *
+     * @param src        the values to write
+     * @param offset     the index of the first value to write
+     * @param length     the number of values to write
+     * @param dest       the array where to write the values
+     * @param destOffset the index of the first byte to write in {@code dest}
+     *
+     * @return the index following the last value in {@code dest}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     * @see #sizeOf(int[], int, int)
+     */
+    @Nonnegative
+    public static int writeInts(int[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        int index = destOffset;
+        for (int i = offset; i < offset + length; i++) {
+            index = writeInt(dest, index, src[i]);
+        }
+        return index;
+    }
+
+    /**
+     * Writes {@code length} values of the {@code src} array, starting at {@code offset}, in the {@code dest} array.
+     *
+     * @param src        the values to write
+     * @param offset     the index of the first value to write
+     * @param length     the number of values to write
+     * @param dest       the array where to write the values
+     * @param destOffset the index of the first byte to write in {@code dest}
+     *
+     * @return the index following the last value in {@code dest}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     * @see #sizeOf(long[], int, int)
+     */
+    @Nonnegative
+    public static int writeLongs(long[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        int index = destOffset;
+        for (int i = offset; i < offset + length; i++) {
+            index = writeLong(dest, index, src[i]);
+        }
+        return index;
+    }
+
+    /**
+     * Reads {@code length} values from the {@code src} array, starting at {@code offset}, in the {@code dest} array.
+     *
+     * @param src        the array to read
+     * @param offset     the index of the first byte of the values in {@code src}
+     * @param dest       the array where to write the values
+     * @param destOffset the index of the first value to write in {@code dest}
+     * @param length     the number of values to read
+     *
+     * @return the index following the last value in {@code src}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array, or if a value is truncated
+     * @throws IllegalArgumentException  if the bytes are not a valid encoding of {@code int}s
+     */
+    @Nonnegative
+    public static int readInts(byte[] src, @Nonnegative int offset, int[] dest, @Nonnegative int destOffset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(destOffset, length, dest.length);
+
+        int index = offset;
+        for (int i = destOffset; i < destOffset + length; i++) {
+            final int value = readInt(src, index);
+            dest[i] = value;
+            index += sizeOf(value);
+        }
+        return index;
+    }
+
+    /**
+     * Reads {@code length} values from the {@code src} array, starting at {@code offset}, in the {@code dest} array.
+     *
+     * @param src        the array to read
+     * @param offset     the index of the first byte of the values in {@code src}
+     * @param dest       the array where to write the values
+     * @param destOffset the index of the first value to write in {@code dest}
+     * @param length     the number of values to read
+     *
+     * @return the index following the last value in {@code src}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array, or if a value is truncated
+     * @throws IllegalArgumentException  if the bytes are not a valid encoding of {@code long}s
+     */
+    @Nonnegative
+    public static int readLongs(byte[] src, @Nonnegative int offset, long[] dest, @Nonnegative int destOffset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(destOffset, length, dest.length);
+
+        int index = offset;
+        for (int i = destOffset; i < destOffset + length; i++) {
+            final long value = readLong(src, index);
+            dest[i] = value;
+            index += sizeOf(value);
+        }
+        return index;
+    }
+
+    // endregion
+
+    // region Deltas
+
+    /**
+     * Returns the number of bytes used to encode {@code length} sorted values of the {@code src} array, starting at
+     * {@code offset}, with {@link #writeDeltas(long[], int, int, byte[], int)}.
+     *
+     * @param src    the sorted values to encode
+     * @param offset the index of the first value to encode
+     * @param length the number of values to encode
+     *
+     * @return the number of bytes
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code src}
+     * @throws IllegalArgumentException  if the values are not sorted in ascending order
+     */
+    @Nonnegative
+    public static int deltaSizeOf(long[] src, @Nonnegative int offset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        int size = 0;
+        long previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            size += sizeOf(delta(src, offset, i, previous));
+            previous = src[i];
+        }
+        return size;
+    }
+
+    /**
+     * Writes {@code length} sorted values of the {@code src} array, starting at {@code offset}, in the {@code dest}
+     * array.
+     * <p>
+     * The first value is written as is, then each value is written as its difference with the previous one: a dense
+     * sequence of identifiers uses about one byte per identifier.
+     *
+     * @param src        the sorted values to write
+     * @param offset     the index of the first value to write
+     * @param length     the number of values to write
+     * @param dest       the array where to write the values
+     * @param destOffset the index of the first byte to write in {@code dest}
+     *
+     * @return the index following the last value in {@code dest}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     * @throws IllegalArgumentException  if the values are not sorted in ascending order
+     * @see #deltaSizeOf(long[], int, int)
+     * @see #readDeltas(byte[], int, long[], int, int)
+     */
+    @Nonnegative
+    public static int writeDeltas(long[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        int index = destOffset;
+        long previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            index = writeLong(dest, index, delta(src, offset, i, previous));
+            previous = src[i];
+        }
+        return index;
+    }
+
+    /**
+     * Reads {@code length} sorted values written by {@link #writeDeltas(long[], int, int, byte[], int)} from the
+     * {@code src} array, starting at {@code offset}, in the {@code dest} array.
+     *
+     * @param src        the array to read
+     * @param offset     the index of the first byte of the values in {@code src}
+     * @param dest       the array where to write the values
+     * @param destOffset the index of the first value to write in {@code dest}
+     * @param length     the number of values to read
+     *
+     * @return the index following the last value in {@code src}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array, or if a value is truncated
+     * @throws IllegalArgumentException  if the bytes are not a valid encoding of {@code long}s
+     */
+    @Nonnegative
+    public static int readDeltas(byte[] src, @Nonnegative int offset, long[] dest, @Nonnegative int destOffset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(destOffset, length, dest.length);
+
+        int index = offset;
+        long previous = 0;
+        for (int i = destOffset; i < destOffset + length; i++) {
+            final long delta = readLong(src, index);
+            index += sizeOf(delta);
+            previous += delta;
+            dest[i] = previous;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the difference between the value at {@code index} and the {@code previous} one.
+     *
+     * @param src      the sorted values
+     * @param offset   the index of the first value
+     * @param index    the index of the current value
+     * @param previous the previous value, ignored for the first value
+     *
+     * @return the difference, or the value itself if it is the first one
+     *
+     * @throws IllegalArgumentException if the current value is lower than the previous one
+     */
+    private static long delta(long[] src, int offset, int index, long previous) {
+        final long value = src[index];
+        if (index == offset) {
+            return value;
+        }
+
+        if (value < previous) {
+            throw new IllegalArgumentException(String.format("values must be sorted in ascending order, but %d < %d at index %d", value, previous, index));
+        }
+        return value - previous;
+    }
+
+    // endregion
+
+    /**
+     * Creates an exception for a malformed value.
+     *
+     * @param offset the index of the first byte of the value
+     *
+     * @return a new exception
+     */
+    private static IllegalArgumentException malformed(int offset) {
+        return new IllegalArgumentException(String.format("Malformed varint at %d", offset));
+    }
+}
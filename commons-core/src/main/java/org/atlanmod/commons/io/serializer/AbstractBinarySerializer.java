@@ -8,20 +8,33 @@
 
 package org.atlanmod.commons.io.serializer;
 
+import org.atlanmod.commons.collect.CloseableIterator;
 import org.nustaq.serialization.FSTConfiguration;
 import org.nustaq.serialization.FSTObjectInput;
 import org.nustaq.serialization.FSTObjectOutput;
 
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillClose;
 import javax.annotation.WillNotClose;
 
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * An abstract {@link BinarySerializer} for objects of type {@code T}.
+ * <p>
+ * The serialization relies on FST, which reuses an output buffer per thread. By default, all the serializers share the
+ * same FST configuration; in the per-thread mode, each thread uses its own configuration, so that concurrent threads do
+ * not compete for its internal caches.
  *
  * @param <T> the type of (de)serialized objects
  */
@@ -34,24 +47,172 @@ public abstract class AbstractBinarySerializer<T> implements BinarySerializer<T>
     @Nonnull
     static final FSTConfiguration FST = FSTConfiguration.createDefaultConfiguration();
 
+    /**
+     * The FST configuration of each thread, used in the per-thread mode.
+     */
+    @Nonnull
+    private static final ThreadLocal<FSTConfiguration> FST_PER_THREAD = ThreadLocal.withInitial(FSTConfiguration::createDefaultConfiguration);
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = -4120592359446398791L;
+
+    /**
+     * Whether this serializer uses a FST configuration per thread.
+     */
+    private final boolean perThread;
+
+    /**
+     * Constructs a new {@code AbstractBinarySerializer} that uses the shared FST configuration.
+     */
+    protected AbstractBinarySerializer() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new {@code AbstractBinarySerializer}.
+     *
+     * @param perThread {@code true} if this serializer uses a FST configuration per thread, {@code false} if it uses
+     *                  the shared configuration
+     */
+    protected AbstractBinarySerializer(boolean perThread) {
+        this.perThread = perThread;
+    }
+
+    /**
+     * Returns the FST configuration to use in the current thread.
+     * <p>
+     * <b>Note:</b> The input of the configuration must never wrap an array owned by the caller, with
+     * {@link FSTConfiguration#getObjectInput(byte[])}: FST keeps it as the buffer of the next stream-based input of the
+     * thread, and would overwrite its content.
+     *
+     * @return the configuration
+     */
+    @Nonnull
+    protected FSTConfiguration fst() {
+        return perThread ? FST_PER_THREAD.get() : FST;
+    }
+
     @Nonnull
     @Override
     public byte[] serialize(T t) throws IOException {
-        FSTObjectOutput out = FST.getObjectOutput();
+        FSTObjectOutput out = fst().getObjectOutput();
         serialize(t, out);
         return out.getCopyOfWrittenBuffer();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The object is written in the output buffer of the current thread, then copied directly in {@code dest}, without
+     * any intermediate array.
+     */
+    @Override
+    public int serialize(T t, byte[] dest, @Nonnegative int offset) throws IOException {
+        checkNotNull(dest, "dest");
+
+        FSTObjectOutput out = fst().getObjectOutput();
+        serialize(t, out);
+
+        final int length = out.getWritten();
+        Objects.checkFromIndexSize(offset, length, dest.length);
+        System.arraycopy(out.getBuffer(), 0, dest, offset, length);
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The object is written in the output buffer of the current thread, then copied directly in {@code buffer}.
+     */
+    @Override
+    public void serialize(T t, ByteBuffer buffer) throws IOException {
+        checkNotNull(buffer, "buffer");
+
+        FSTObjectOutput out = fst().getObjectOutput();
+        serialize(t, out);
+
+        final int length = out.getWritten();
+        if (length > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        buffer.put(out.getBuffer(), 0, length);
+    }
+
     @Nonnull
     @Override
     public T deserialize(byte[] data) throws IOException {
-        FSTObjectInput in = FST.getObjectInput(data);
+        FSTObjectInput in = fst().getObjectInputCopyFrom(data, 0, data.length);
         return deserialize(in);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * FST may read ahead of the object: the position of the {@code buffer} is then set from the number of bytes that
+     * have actually been decoded.
+     */
+    @Nonnull
+    @Override
+    public T deserialize(ByteBuffer buffer) throws IOException {
+        checkNotNull(buffer, "buffer");
+
+        final int position = buffer.position();
+
+        FSTObjectInput in = fst().getObjectInput(new ByteBufferInputStream(buffer.duplicate()));
+
+        T t = deserialize(in);
+        buffer.position(position + in.getCodec().getInputPos());
+        return t;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each object is written in the output buffer of the current thread, then copied directly in the {@code os}: no
+     * stream encoder is created, and the {@code os} is not flushed for each object.
+     */
+    @Override
+    public void serializeAll(Iterable<? extends T> ts, @WillNotClose OutputStream os) throws IOException {
+        checkNotNull(ts, "ts");
+        checkNotNull(os, "os");
+
+        final OutputStream target = Records.buffered(os);
+        for (T t : ts) {
+            FSTObjectOutput out = fst().getObjectOutput();
+            serialize(t, out);
+
+            final int length = out.getWritten();
+            Records.writeLength(target, length);
+            target.write(out.getBuffer(), 0, length);
+        }
+        target.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each record is read in an array reused by the iterator, then decoded from the input buffer of the current thread.
+     */
+    @Nonnull
+    @Override
+    public CloseableIterator<T> deserializeAll(@WillClose InputStream is) {
+        return new RecordIterator<>(is, new RecordIterator.Reader<T>() {
+            private byte[] buffer = new byte[0];
+
+            @Override
+            public T read(DataInputStream in, int length) throws IOException {
+                if (buffer.length < length) {
+                    buffer = new byte[Math.max(length, buffer.length * 2)];
+                }
+                in.readFully(buffer, 0, length);
+                return deserialize(fst().getObjectInputCopyFrom(buffer, 0, length));
+            }
+        });
+    }
+
     @Override
     public void serialize(T t, @WillNotClose OutputStream os) throws IOException {
-        FSTObjectOutput out = FST.getObjectOutput(os);
+        FSTObjectOutput out = fst().getObjectOutput(os);
         serialize(t, out);
         out.flush();
     }
@@ -59,7 +220,7 @@ public abstract class AbstractBinarySerializer<T> implements BinarySerializer<T>
     @Nonnull
     @Override
     public T deserialize(@WillNotClose InputStream is) throws IOException {
-        FSTObjectInput in = FST.getObjectInput(is);
+        FSTObjectInput in = fst().getObjectInput(is);
         return deserialize(in);
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.collect.CloseableIterator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillClose;
+import javax.annotation.WillNotClose;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An abstract {@link BinarySerializer} that writes objects of type {@code T} directly with the methods of
+ * {@link DataOutput}, without any class descriptor or object header.
+ * <p>
+ * The serialized form only contains the value itself: it is compact and fast to read, but the type of the object must
+ * be known when deserializing it.
+ *
+ * @param <T> the type of (de)serialized objects
+ */
+@ParametersAreNonnullByDefault
+abstract class AbstractDataBinarySerializer<T> implements BinarySerializer<T> {
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = 4925290427154516431L;
+
+    /**
+     * The initial capacity of the array used by {@link #serialize(Object)}.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Nonnull
+    @Override
+    public byte[] serialize(T t) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(INITIAL_CAPACITY);
+        serialize(t, (DataOutput) new DataOutputStream(baos));
+        return baos.toByteArray();
+    }
+
+    @Nonnull
+    @Override
+    public T deserialize(byte[] data) throws IOException {
+        checkNotNull(data, "data");
+
+        return deserialize((DataInput) new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The object is written directly in the {@code buffer}.
+     */
+    @Override
+    public void serialize(T t, ByteBuffer buffer) throws IOException {
+        checkNotNull(buffer, "buffer");
+
+        final int position = buffer.position();
+        try {
+            serialize(t, (DataOutput) new DataOutputStream(new ByteBufferOutputStream(buffer)));
+        }
+        catch (BufferOverflowException e) {
+            buffer.position(position);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The object is read directly from the {@code buffer}, without reading ahead.
+     */
+    @Nonnull
+    @Override
+    public T deserialize(ByteBuffer buffer) throws IOException {
+        checkNotNull(buffer, "buffer");
+
+        return deserialize((DataInput) new DataInputStream(new ByteBufferInputStream(buffer)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All the objects are written with the same encoder, in an array reused for each object.
+     */
+    @Override
+    public void serializeAll(Iterable<? extends T> ts, @WillNotClose OutputStream os) throws IOException {
+        checkNotNull(ts, "ts");
+        checkNotNull(os, "os");
+
+        final OutputStream target = Records.buffered(os);
+        final ByteArrayOutputStream record = new ByteArrayOutputStream(INITIAL_CAPACITY);
+        final DataOutput out = new DataOutputStream(record);
+        for (T t : ts) {
+            record.reset();
+            serialize(t, out);
+
+            Records.writeLength(target, record.size());
+            record.writeTo(target);
+        }
+        target.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each object is decoded directly from the stream, without any intermediate array. A record whose length differs
+     * from the number of bytes decoded from it is reported as a {@link StreamCorruptedException}, rather than shifting
+     * all the following records.
+     */
+    @Nonnull
+    @Override
+    public CloseableIterator<T> deserializeAll(@WillClose InputStream is) {
+        return new RecordIterator<>(is, new RecordIterator.Reader<T>() {
+            private BoundedInputStream record;
+            private DataInput data;
+
+            @Override
+            public T read(DataInputStream in, int length) throws IOException {
+                if (record == null) {
+                    record = new BoundedInputStream(in);
+                    data = new DataInputStream(record);
+                }
+                record.limit(length);
+
+                final T t;
+                try {
+                    t = deserialize(data);
+                }
+                catch (EOFException e) {
+                    if (record.remaining() > 0) {
+                        throw e;
+                    }
+                    // The end of the record has been reached, not the end of the stream
+                    throw new StreamCorruptedException(String.format("Record of %d bytes is truncated", length));
+                }
+
+                if (record.remaining() > 0) {
+                    throw new StreamCorruptedException(String.format("Record of %d bytes has %d unread bytes", length, record.remaining()));
+                }
+                return t;
+            }
+        });
+    }
+
+    @Override
+    public void serialize(T t, @WillNotClose OutputStream os) throws IOException {
+        checkNotNull(os, "os");
+
+        if (os instanceof DataOutput) {
+            serialize(t, (DataOutput) os);
+        }
+        else {
+            DataOutputStream out = new DataOutputStream(os);
+            serialize(t, (DataOutput) out);
+            out.flush();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public T deserialize(@WillNotClose InputStream is) throws IOException {
+        checkNotNull(is, "is");
+
+        // `DataInputStream` does not read ahead: the stream is left just after the value
+        return deserialize(is instanceof DataInput ? (DataInput) is : new DataInputStream(is));
+    }
+}
@@ -38,6 +38,16 @@ public abstract class AbstractStringSerializer<T> implements StringSerializer<T>
         this.serializer = serializer;
     }
 
+    /**
+     * Returns the serializer to use before applying a {@link String} encoding or decoding.
+     *
+     * @return the serializer
+     */
+    @Nonnull
+    protected BinarySerializer<T> serializer() {
+        return serializer;
+    }
+
     @Nonnull
     @Override
     public String serialize(T t) {
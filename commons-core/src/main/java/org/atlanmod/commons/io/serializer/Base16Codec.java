@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+import org.atlanmod.commons.primitive.Bytes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillCloseWhenClosed;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * Static utility methods for encoding and decoding {@code byte} arrays in lowercase Base16 (hexadecimal), without
+ * intermediate arrays.
+ * <p>
+ * The encoding is done by {@link Bytes#toStringBinary(byte[])} and its variants, with a single lookup for each byte in
+ * a table of the 256 pairs of hexadecimal digits. Both lowercase and uppercase digits are accepted when decoding.
+ *
+ * @see Base64Codec
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class Base16Codec {
+
+    /**
+     * The hexadecimal digits.
+     */
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The value of each ASCII character, or {@code -1} if it is not an hexadecimal digit.
+     */
+    private static final byte[] VALUES = new byte[128];
+
+    /**
+     * The maximum number of bytes encoded at once, when the characters are written to an {@link Appendable} or a
+     * {@link Writer}.
+     */
+    private static final int BLOCK_SIZE = 1024;
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < DIGITS.length; i++) {
+            VALUES[DIGITS[i]] = (byte) i;
+            VALUES[Character.toUpperCase(DIGITS[i])] = (byte) i;
+        }
+    }
+
+    private Base16Codec() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns the number of characters used to encode {@code length} bytes.
+     *
+     * @param length the number of bytes to encode
+     *
+     * @return the number of characters
+     */
+    @Nonnegative
+    public static int encodedLength(@Nonnegative int length) {
+        checkArgument(length >= 0 && length <= Integer.MAX_VALUE / 2, "length (%d) is out of range", length);
+
+        return length * 2;
+    }
+
+    /**
+     * Returns the number of bytes encoded in {@code length} characters.
+     *
+     * @param length the number of characters to decode
+     *
+     * @return the number of bytes
+     *
+     * @throws IllegalArgumentException if {@code length} is not even
+     */
+    @Nonnegative
+    public static int decodedLength(@Nonnegative int length) {
+        checkArgument(length >= 0 && length % 2 == 0, "length (%d) must be pair", length);
+
+        return length / 2;
+    }
+
+    /**
+     * Encodes the {@code src} array in a new string.
+     *
+     * @param src the bytes to encode
+     *
+     * @return a new string
+     */
+    @Nonnull
+    public static String encode(byte[] src) {
+        checkNotNull(src, "src");
+        encodedLength(src.length);
+
+        return Bytes.toStringBinary(src);
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array of characters.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    @Nonnegative
+    public static int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, char[] dest, @Nonnegative int destOffset) {
+        encodedLength(length);
+
+        return Bytes.toStringBinary(src, offset, length, dest, destOffset);
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array, as ASCII
+     * characters.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the ASCII characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    @Nonnegative
+    public static int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        encodedLength(length);
+
+        return Bytes.toStringBinary(src, offset, length, dest, destOffset);
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, at the end of the {@code out}.
+     *
+     * @param src    the bytes to encode
+     * @param offset the index of the first byte to encode
+     * @param length the number of bytes to encode
+     * @param out    the appendable where to write the characters
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code src}
+     * @throws IOException               if an I/O error occurs
+     */
+    public static void encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, Appendable out) throws IOException {
+        checkNotNull(out, "out");
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        final StringBuilder sb = out instanceof StringBuilder ? (StringBuilder) out : null;
+        if (sb != null) {
+            sb.ensureCapacity(sb.length() + encodedLength(length));
+        }
+
+        final char[] chars = new char[Math.min(length, BLOCK_SIZE) * 2];
+        for (int i = 0; i < length; i += BLOCK_SIZE) {
+            final int written = encode(src, offset + i, Math.min(BLOCK_SIZE, length - i), chars, 0);
+            if (sb != null) {
+                sb.append(chars, 0, written);
+            }
+            else {
+                out.append(CharBuffer.wrap(chars, 0, written));
+            }
+        }
+    }
+
+    /**
+     * Decodes the {@code src} characters in a new array.
+     *
+     * @param src the characters to decode
+     *
+     * @return a new array
+     *
+     * @throws IllegalArgumentException if {@code src} is not a valid Base16 representation
+     */
+    @Nonnull
+    public static byte[] decode(CharSequence src) {
+        checkNotNull(src, "src");
+
+        final byte[] dest = new byte[decodedLength(src.length())];
+        decode(src, 0, src.length(), dest, 0);
+        return dest;
+    }
+
+    /**
+     * Decodes {@code length} characters of {@code src}, starting at {@code offset}, in the {@code dest} array.
+     *
+     * @param src        the characters to decode
+     * @param offset     the index of the first character to decode
+     * @param length     the number of characters to decode
+     * @param dest       the array where to write the bytes
+     * @param destOffset the index of the first byte to write in {@code dest}
+     *
+     * @return the number of written bytes
+     *
+     * @throws IllegalArgumentException  if the characters are not a valid Base16 representation
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    @Nonnegative
+    public static int decode(CharSequence src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        final int written = decodedLength(length);
+        Objects.checkFromIndexSize(offset, length, src.length());
+        Objects.checkFromIndexSize(destOffset, written, dest.length);
+
+        for (int i = 0, j = offset; i < written; i++, j += 2) {
+            dest[destOffset + i] = (byte) (valueOf(src.charAt(j)) << 4 | valueOf(src.charAt(j + 1)));
+        }
+        return written;
+    }
+
+    /**
+     * Creates an {@link OutputStream} that encodes all written bytes, and writes the characters to the {@code out}.
+     * <p>
+     * The encoding is done by blocks, without holding the whole data: it is intended to large blobs. Closing the
+     * returned stream closes the {@code out}.
+     *
+     * @param out the writer where to write the characters
+     *
+     * @return a new output stream
+     */
+    @Nonnull
+    public static OutputStream wrap(@WillCloseWhenClosed Writer out) {
+        return new EncodingOutputStream(out);
+    }
+
+    /**
+     * Returns the value of an hexadecimal digit.
+     *
+     * @param c the digit
+     *
+     * @return the value
+     *
+     * @throws IllegalArgumentException if {@code c} is not an hexadecimal digit
+     */
+    private static int valueOf(char c) {
+        final int value = c < VALUES.length ? VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("Unexpected hex digit: %c", c));
+        }
+        return value;
+    }
+
+    /**
+     * An {@link OutputStream} that encodes the written bytes in Base16, and writes the characters to a {@link Writer}.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class EncodingOutputStream extends OutputStream {
+
+        /**
+         * The writer where to write the characters.
+         */
+        @Nonnull
+        private final Writer out;
+
+        /**
+         * The characters of the current block.
+         */
+        @Nonnull
+        private final char[] chars = new char[BLOCK_SIZE * 2];
+
+        /**
+         * The byte written by {@link #write(int)}.
+         */
+        @Nonnull
+        private final byte[] single = new byte[1];
+
+        /**
+         * Constructs a new {@code EncodingOutputStream}.
+         *
+         * @param out the writer where to write the characters
+         */
+        EncodingOutputStream(Writer out) {
+            checkNotNull(out, "out");
+
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+
+            for (int i = 0; i < len; i += BLOCK_SIZE) {
+                final int written = encode(b, off + i, Math.min(BLOCK_SIZE, len - i), chars, 0);
+                out.write(chars, 0, written);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -8,9 +8,9 @@
 
 package org.atlanmod.commons.io.serializer;
 
-import org.atlanmod.commons.primitive.Bytes;
-import org.atlanmod.commons.primitive.Strings;
+import java.io.IOException;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -19,11 +19,10 @@ import javax.annotation.ParametersAreNonnullByDefault;
  *
  * @param <T> the type of (de)serialized objects
  *
- * @see Bytes#toStringBinary(byte[])
- * @see Strings#toBytesBinary(String)
+ * @see Base16Codec
  */
 @ParametersAreNonnullByDefault
-final class Base16Serializer<T> extends AbstractStringSerializer<T> {
+final class Base16Serializer<T> extends CodecStringSerializer<T> {
 
     /**
      * Constructs a new {@code Base16Serializer}.
@@ -37,12 +36,42 @@ final class Base16Serializer<T> extends AbstractStringSerializer<T> {
     @Nonnull
     @Override
     protected String encode(byte[] data) {
-        return Bytes.toStringBinary(data);
+        return Base16Codec.encode(data);
     }
 
     @Nonnull
     @Override
     protected byte[] decode(String data) {
-        return Strings.toBytesBinary(data);
+        return Base16Codec.decode(data);
+    }
+
+    @Override
+    protected int encodedLength(@Nonnegative int length) {
+        return Base16Codec.encodedLength(length);
+    }
+
+    @Override
+    protected int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, char[] dest, @Nonnegative int destOffset) {
+        return Base16Codec.encode(src, offset, length, dest, destOffset);
+    }
+
+    @Override
+    protected int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        return Base16Codec.encode(src, offset, length, dest, destOffset);
+    }
+
+    @Override
+    protected void encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, Appendable out) throws IOException {
+        Base16Codec.encode(src, offset, length, out);
+    }
+
+    @Override
+    protected int decodedLength(CharSequence src) {
+        return Base16Codec.decodedLength(src.length());
+    }
+
+    @Override
+    protected int decode(CharSequence src, byte[] dest, @Nonnegative int destOffset) {
+        return Base16Codec.decode(src, 0, src.length(), dest, destOffset);
     }
 }
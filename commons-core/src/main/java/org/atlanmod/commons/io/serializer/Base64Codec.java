@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillCloseWhenClosed;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * Static utility methods for encoding and decoding {@code byte} arrays in Base64, with the basic alphabet of RFC 4648
+ * and padding, without intermediate arrays.
+ * <p>
+ * The encoded form is the same as {@link java.util.Base64#getEncoder()}. Each group of 3 bytes is encoded with two
+ * lookups in a table of the 4096 pairs of Base64 characters: the pairs are written as {@code char}s, or as 16-bit values
+ * when encoding into a {@code byte} array. The padding is optional when decoding.
+ *
+ * @see Base16Codec
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class Base64Codec {
+
+    /**
+     * The Base64 alphabet.
+     */
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    /**
+     * The padding character.
+     */
+    private static final char PAD = '=';
+
+    /**
+     * The two Base64 characters of each 12-bit value: the characters of {@code v} are at {@code 2 * v} and
+     * {@code 2 * v + 1}.
+     */
+    private static final char[] PAIRS = new char[4096 * 2];
+
+    /**
+     * The two Base64 characters of each 12-bit value, as two ASCII bytes in the big-endian order.
+     */
+    private static final short[] ASCII_PAIRS = new short[4096];
+
+    /**
+     * The value of each ASCII character, or {@code -1} if it is not in the {@link #ALPHABET}.
+     */
+    private static final byte[] VALUES = new byte[128];
+
+    /**
+     * A view of a {@code byte} array as an array of big-endian {@code short}s, at any offset.
+     */
+    private static final VarHandle SHORTS = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    static {
+        for (int i = 0; i < 4096; i++) {
+            PAIRS[i * 2] = ALPHABET[i >>> 6];
+            PAIRS[i * 2 + 1] = ALPHABET[i & 0x3f];
+            ASCII_PAIRS[i] = (short) (ALPHABET[i >>> 6] << 8 | ALPHABET[i & 0x3f]);
+        }
+
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private Base64Codec() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns the number of characters used to encode {@code length} bytes, padding included.
+     *
+     * @param length the number of bytes to encode
+     *
+     * @return the number of characters
+     */
+    @Nonnegative
+    public static int encodedLength(@Nonnegative int length) {
+        checkArgument(length >= 0 && length <= Integer.MAX_VALUE / 4 * 3, "length (%d) is out of range", length);
+
+        return (length + 2) / 3 * 4;
+    }
+
+    /**
+     * Returns the number of bytes encoded in {@code length} characters of {@code src}, starting at {@code offset}.
+     *
+     * @param src    the characters to decode
+     * @param offset the index of the first character to decode
+     * @param length the number of characters to decode
+     *
+     * @return the number of bytes
+     *
+     * @throws IllegalArgumentException if {@code length} is not a valid Base64 length
+     */
+    @Nonnegative
+    public static int decodedLength(CharSequence src, @Nonnegative int offset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(offset, length, src.length());
+
+        final int unpadded = unpaddedLength(src, offset, length);
+        return unpadded / 4 * 3 + Math.max(0, unpadded % 4 - 1);
+    }
+
+    /**
+     * Encodes the {@code src} array in a new string.
+     *
+     * @param src the bytes to encode
+     *
+     * @return a new string
+     */
+    @Nonnull
+    public static String encode(byte[] src) {
+        checkNotNull(src, "src");
+
+        final byte[] ascii = new byte[encodedLength(src.length)];
+        encode(src, 0, src.length, ascii, 0);
+        return new String(ascii, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array of characters.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    @Nonnegative
+    public static int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, char[] dest, @Nonnegative int destOffset) {
+        final int written = encodedLength(length);
+        Objects.checkFromIndexSize(offset, length, src.length);
+        Objects.checkFromIndexSize(destOffset, written, dest.length);
+
+        final int end = offset + length / 3 * 3;
+        int j = destOffset;
+        for (int i = offset; i < end; i += 3, j += 4) {
+            final int bits = group(src, i);
+            final int high = (bits >>> 12) << 1;
+            final int low = (bits & 0xfff) << 1;
+            dest[j] = PAIRS[high];
+            dest[j + 1] = PAIRS[high + 1];
+            dest[j + 2] = PAIRS[low];
+            dest[j + 3] = PAIRS[low + 1];
+        }
+
+        final int remaining = offset + length - end;
+        if (remaining > 0) {
+            for (int k = 0; k < 4; k++) {
+                dest[j + k] = tail(src, end, remaining, k);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array, as ASCII
+     * characters.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the ASCII characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    @Nonnegative
+    public static int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        final int written = encodedLength(length);
+        Objects.checkFromIndexSize(offset, length, src.length);
+        Objects.checkFromIndexSize(destOffset, written, dest.length);
+
+        final int end = offset + length / 3 * 3;
+        int j = destOffset;
+        for (int i = offset; i < end; i += 3, j += 4) {
+            final int bits = group(src, i);
+            SHORTS.set(dest, j, ASCII_PAIRS[bits >>> 12]);
+            SHORTS.set(dest, j + 2, ASCII_PAIRS[bits & 0xfff]);
+        }
+
+        final int remaining = offset + length - end;
+        if (remaining > 0) {
+            for (int k = 0; k < 4; k++) {
+                dest[j + k] = (byte) tail(src, end, remaining, k);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, at the end of the {@code out}.
+     *
+     * @param src    the bytes to encode
+     * @param offset the index of the first byte to encode
+     * @param length the number of bytes to encode
+     * @param out    the appendable where to write the characters
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the bounds of {@code src}
+     * @throws IOException               if an I/O error occurs
+     */
+    public static void encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, Appendable out) throws IOException {
+        checkNotNull(out, "out");
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).ensureCapacity(((StringBuilder) out).length() + encodedLength(length));
+        }
+
+        final int end = offset + length / 3 * 3;
+        for (int i = offset; i < end; i += 3) {
+            final int bits = group(src, i);
+            final int high = (bits >>> 12) << 1;
+            final int low = (bits & 0xfff) << 1;
+            out.append(PAIRS[high]).append(PAIRS[high + 1]).append(PAIRS[low]).append(PAIRS[low + 1]);
+        }
+
+        final int remaining = offset + length - end;
+        if (remaining > 0) {
+            for (int k = 0; k < 4; k++) {
+                out.append(tail(src, end, remaining, k));
+            }
+        }
+    }
+
+    /**
+     * Decodes the {@code src} characters in a new array.
+     *
+     * @param src the characters to decode
+     *
+     * @return a new array
+     *
+     * @throws IllegalArgumentException if {@code src} is not a valid Base64 representation
+     */
+    @Nonnull
+    public static byte[] decode(CharSequence src) {
+        checkNotNull(src, "src");
+
+        final byte[] dest = new byte[decodedLength(src, 0, src.length())];
+        decode(src, 0, src.length(), dest, 0);
+        return dest;
+    }
+
+    /**
+     * Decodes {@code length} characters of {@code src}, starting at {@code offset}, in the {@code dest} array.
+     *
+     * @param src        the characters to decode
+     * @param offset     the index of the first character to decode
+     * @param length     the number of characters to decode
+     * @param dest       the array where to write the bytes
+     * @param destOffset the index of the first byte to write in {@code dest}
+     *
+     * @return the number of written bytes
+     *
+     * @throws IllegalArgumentException  if the characters are not a valid Base64 representation
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    @Nonnegative
+    public static int decode(CharSequence src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        final int written = decodedLength(src, offset, length);
+        Objects.checkFromIndexSize(destOffset, written, dest.length);
+
+        final int unpadded = unpaddedLength(src, offset, length);
+        final int end = offset + unpadded / 4 * 4;
+
+        int j = destOffset;
+        for (int i = offset; i < end; i += 4, j += 3) {
+            final int bits = valueOf(src.charAt(i)) << 18
+                    | valueOf(src.charAt(i + 1)) << 12
+                    | valueOf(src.charAt(i + 2)) << 6
+                    | valueOf(src.charAt(i + 3));
+            dest[j] = (byte) (bits >>> 16);
+            dest[j + 1] = (byte) (bits >>> 8);
+            dest[j + 2] = (byte) bits;
+        }
+
+        final int remaining = unpadded % 4;
+        if (remaining > 0) {
+            int bits = 0;
+            for (int k = 0; k < remaining; k++) {
+                bits |= valueOf(src.charAt(end + k)) << (18 - 6 * k);
+            }
+            for (int k = 0; k < remaining - 1; k++) {
+                dest[j + k] = (byte) (bits >>> (16 - 8 * k));
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Creates an {@link OutputStream} that encodes all written bytes, and writes the characters to the {@code out}.
+     * <p>
+     * The encoding is done by blocks, without holding the whole data: it is intended to large blobs. The padding is
+     * written when the returned stream is closed, which also closes the {@code out}.
+     *
+     * @param out the writer where to write the characters
+     *
+     * @return a new output stream
+     */
+    @Nonnull
+    public static OutputStream wrap(@WillCloseWhenClosed Writer out) {
+        return new EncodingOutputStream(out);
+    }
+
+    /**
+     * Reads a group of 3 bytes of {@code src}, from {@code offset}, as a 24-bit value.
+     *
+     * @param src    the bytes to encode
+     * @param offset the index of the first byte of the group
+     *
+     * @return the value of the group
+     */
+    private static int group(byte[] src, int offset) {
+        return (src[offset] & 0xff) << 16 | (src[offset + 1] & 0xff) << 8 | (src[offset + 2] & 0xff);
+    }
+
+    /**
+     * Returns a character of the encoded form of the last, incomplete, group of bytes.
+     *
+     * @param src       the bytes to encode
+     * @param offset    the index of the first byte of the group
+     * @param remaining the number of bytes in the group, {@code 1} or {@code 2}
+     * @param index     the index of the character, between {@code 0} and {@code 3}
+     *
+     * @return the character
+     */
+    private static char tail(byte[] src, int offset, int remaining, int index) {
+        if (index > remaining) {
+            return PAD;
+        }
+
+        final int bits = (src[offset] & 0xff) << 16 | (remaining == 2 ? (src[offset + 1] & 0xff) << 8 : 0);
+        return ALPHABET[bits >>> (18 - 6 * index) & 0x3f];
+    }
+
+    /**
+     * Returns the number of characters of {@code src} without padding, and checks that this number is valid.
+     *
+     * @param src    the characters to decode
+     * @param offset the index of the first character to decode
+     * @param length the number of characters to decode
+     *
+     * @return the number of characters without padding
+     *
+     * @throws IllegalArgumentException if {@code length} is not a valid Base64 length
+     */
+    private static int unpaddedLength(CharSequence src, int offset, int length) {
+        int unpadded = length;
+        while (unpadded > 0 && length - unpadded < 2 && src.charAt(offset + unpadded - 1) == PAD) {
+            unpadded--;
+        }
+
+        checkArgument(unpadded == length || length % 4 == 0, "Illegal padding in Base64 representation");
+        checkArgument(unpadded % 4 != 1, "Illegal length of Base64 representation: %d", length);
+        return unpadded;
+    }
+
+    /**
+     * Returns the value of a Base64 character.
+     *
+     * @param c the character
+     *
+     * @return the value
+     *
+     * @throws IllegalArgumentException if {@code c} is not a Base64 character
+     */
+    private static int valueOf(char c) {
+        final int value = c < VALUES.length ? VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("Illegal Base64 character: %c", c));
+        }
+        return value;
+    }
+
+    /**
+     * An {@link OutputStream} that encodes the written bytes in Base64, and writes the characters to a {@link Writer}.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class EncodingOutputStream extends OutputStream {
+
+        /**
+         * The maximum number of bytes encoded at once, a multiple of 3.
+         */
+        private static final int BLOCK_SIZE = 3 * 1024;
+
+        /**
+         * The writer where to write the characters.
+         */
+        @Nonnull
+        private final Writer out;
+
+        /**
+         * The characters of the current block.
+         */
+        @Nonnull
+        private final char[] chars = new char[BLOCK_SIZE / 3 * 4];
+
+        /**
+         * The bytes of the last incomplete group, waiting for the next bytes.
+         */
+        @Nonnull
+        private final byte[] pending = new byte[3];
+
+        /**
+         * The number of {@link #pending} bytes.
+         */
+        private int pendingLength;
+
+        /**
+         * Whether this stream is closed.
+         */
+        private boolean closed;
+
+        /**
+         * Constructs a new {@code EncodingOutputStream}.
+         *
+         * @param out the writer where to write the characters
+         */
+        EncodingOutputStream(Writer out) {
+            checkNotNull(out, "out");
+
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            pending[pendingLength++] = (byte) b;
+            if (pendingLength == pending.length) {
+                out.write(chars, 0, encode(pending, 0, pendingLength, chars, 0));
+                pendingLength = 0;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+
+            int index = off;
+            final int end = off + len;
+
+            // Complete the pending group
+            while (pendingLength > 0 && index < end) {
+                write(b[index++]);
+            }
+
+            // Encode the complete groups by blocks
+            while (end - index >= 3) {
+                final int length = Math.min(BLOCK_SIZE, (end - index) / 3 * 3);
+                out.write(chars, 0, encode(b, index, length, chars, 0));
+                index += length;
+            }
+
+            // Keep the last incomplete group
+            while (index < end) {
+                pending[pendingLength++] = b[index++];
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (pendingLength > 0) {
+                out.write(chars, 0, encode(pending, 0, pendingLength, chars, 0));
+                pendingLength = 0;
+            }
+            out.close();
+        }
+    }
+}
@@ -8,8 +8,9 @@
 
 package org.atlanmod.commons.io.serializer;
 
-import java.util.Base64;
+import java.io.IOException;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -18,11 +19,10 @@ import javax.annotation.ParametersAreNonnullByDefault;
  *
  * @param <T> the type of (de)serialized objects
  *
- * @see Base64.Encoder#encodeToString(byte[])
- * @see Base64.Decoder#decode(String)
+ * @see Base64Codec
  */
 @ParametersAreNonnullByDefault
-final class Base64Serializer<T> extends AbstractStringSerializer<T> {
+final class Base64Serializer<T> extends CodecStringSerializer<T> {
 
     /**
      * Constructs a new {@code Base64Serializer}.
@@ -36,12 +36,42 @@ final class Base64Serializer<T> extends AbstractStringSerializer<T> {
     @Nonnull
     @Override
     protected String encode(byte[] data) {
-        return Base64.getEncoder().encodeToString(data);
+        return Base64Codec.encode(data);
     }
 
     @Nonnull
     @Override
     protected byte[] decode(String data) {
-        return Base64.getDecoder().decode(data);
+        return Base64Codec.decode(data);
+    }
+
+    @Override
+    protected int encodedLength(@Nonnegative int length) {
+        return Base64Codec.encodedLength(length);
+    }
+
+    @Override
+    protected int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, char[] dest, @Nonnegative int destOffset) {
+        return Base64Codec.encode(src, offset, length, dest, destOffset);
+    }
+
+    @Override
+    protected int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        return Base64Codec.encode(src, offset, length, dest, destOffset);
+    }
+
+    @Override
+    protected void encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, Appendable out) throws IOException {
+        Base64Codec.encode(src, offset, length, out);
+    }
+
+    @Override
+    protected int decodedLength(CharSequence src) {
+        return Base64Codec.decodedLength(src, 0, src.length());
+    }
+
+    @Override
+    protected int decode(CharSequence src, byte[] dest, @Nonnegative int destOffset) {
+        return Base64Codec.decode(src, 0, src.length(), dest, destOffset);
     }
 }
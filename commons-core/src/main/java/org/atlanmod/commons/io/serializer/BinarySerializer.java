@@ -8,17 +8,28 @@
 
 package org.atlanmod.commons.io.serializer;
 
+import org.atlanmod.commons.collect.CloseableIterator;
+import org.atlanmod.commons.io.UnsignedVarInt;
+
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillClose;
 import javax.annotation.WillNotClose;
 
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * An object that is responsible of {@link Object} to {@code byte[]} encoding and decoding.
  *
@@ -27,6 +38,121 @@ import javax.annotation.WillNotClose;
 @ParametersAreNonnullByDefault
 public interface BinarySerializer<T> extends Serializer<T, byte[]>, Serializable {
 
+    /**
+     * Write an object of type {@code T} in the given {@code dest} array, starting at {@code offset}.
+     * <p>
+     * The written bytes are the same as the result of {@link #serialize(Object)}. The default implementation copies
+     * this result: implementations should override this method if they can avoid the intermediate array.
+     *
+     * @param t      the object to serialize
+     * @param dest   the array where to write the object
+     * @param offset the index of the first byte to write in {@code dest}
+     *
+     * @return the number of written bytes
+     *
+     * @throws IndexOutOfBoundsException if the serialized object does not fit in {@code dest} from {@code offset}
+     * @throws IOException               if an I/O error occurs during the serialization
+     */
+    default int serialize(T t, byte[] dest, @Nonnegative int offset) throws IOException {
+        final byte[] data = serialize(t);
+        Objects.checkFromIndexSize(offset, data.length, dest.length);
+        System.arraycopy(data, 0, dest, offset, data.length);
+        return data.length;
+    }
+
+    /**
+     * Write an object of type {@code T} in the given {@code buffer}, heap or direct, from its current position.
+     * <p>
+     * On return, the position of the {@code buffer} is advanced by the number of written bytes, so that several objects
+     * can be written back to back; its limit is not changed. If the object does not fit between the position and the
+     * limit, a {@link BufferOverflowException} is thrown and the position is not changed, but the content after the
+     * position may have been modified.
+     * <p>
+     * The default implementation copies the result of {@link #serialize(Object)}.
+     *
+     * @param t      the object to serialize
+     * @param buffer the buffer where to write the object
+     *
+     * @throws BufferOverflowException if the serialized object does not fit in the remaining bytes of {@code buffer}
+     * @throws IOException             if an I/O error occurs during the serialization
+     */
+    default void serialize(T t, ByteBuffer buffer) throws IOException {
+        final byte[] data = serialize(t);
+        if (data.length > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        buffer.put(data);
+    }
+
+    /**
+     * Reads and assembles an object of type {@code T} from the given {@code buffer}, heap or direct, from its current
+     * position.
+     * <p>
+     * On return, the position of the {@code buffer} is just after the read object, so that objects written back to back
+     * with {@link #serialize(Object, ByteBuffer)} can be read in sequence; its limit is not changed. If the object is
+     * incomplete, an {@link IOException} is thrown and the position is undefined.
+     * <p>
+     * The default implementation reads from an {@link InputStream} view of the {@code buffer}: implementations that read
+     * ahead of the object must override this method.
+     *
+     * @param buffer the buffer to read
+     *
+     * @return the deserialized object
+     *
+     * @throws IOException if an I/O error occurs during the deserialization
+     */
+    @Nonnull
+    default T deserialize(ByteBuffer buffer) throws IOException {
+        return deserialize(new ByteBufferInputStream(buffer));
+    }
+
+    /**
+     * Writes all the objects of the {@code ts} to the given {@code os}, as a sequence of records that can be read
+     * lazily with {@link #deserializeAll(InputStream)}.
+     * <p>
+     * Each record is prefixed by its length in bytes, encoded as an {@link UnsignedVarInt}. The {@code os} is buffered
+     * if needed, and is flushed once, after the last record.
+     * <p>
+     * The default implementation writes the result of {@link #serialize(Object)} for each object.
+     *
+     * @param ts the objects to serialize
+     * @param os the output stream
+     *
+     * @throws IOException if an I/O error occurs during the serialization
+     */
+    default void serializeAll(Iterable<? extends T> ts, @WillNotClose OutputStream os) throws IOException {
+        checkNotNull(ts, "ts");
+        checkNotNull(os, "os");
+
+        final OutputStream out = Records.buffered(os);
+        for (T t : ts) {
+            final byte[] data = serialize(t);
+            Records.writeLength(out, data.length);
+            out.write(data);
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns a lazy iterator over the objects written to the given {@code is} by
+     * {@link #serializeAll(Iterable, OutputStream)}.
+     * <p>
+     * The objects are read one by one, while iterating: only one object is read ahead of the current one, so that
+     * sequences that do not fit in memory can be processed. The {@code is} is closed when the last object has been
+     * read, or when the iterator is closed. If an I/O error occurs while iterating, an {@link UncheckedIOException} is
+     * thrown and the iterator is closed.
+     * <p>
+     * The default implementation reads each record in a new array, and then calls {@link #deserialize(byte[])}.
+     *
+     * @param is the input stream
+     *
+     * @return a new iterator
+     */
+    @Nonnull
+    default CloseableIterator<T> deserializeAll(@WillClose InputStream is) {
+        return new RecordIterator<>(is, (in, length) -> deserialize(Records.readFully(in, length)));
+    }
+
     /**
      * Write an object of type {@code T} to the given {@code os}.
      * <p>
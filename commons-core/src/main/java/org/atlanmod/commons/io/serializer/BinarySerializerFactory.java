@@ -10,12 +10,27 @@ package org.atlanmod.commons.io.serializer;
 
 import org.atlanmod.commons.annotation.Singleton;
 import org.atlanmod.commons.annotation.Static;
+import org.atlanmod.commons.collect.CompressedBitmap;
+import org.atlanmod.commons.hash.HashCode;
+import org.atlanmod.commons.io.UnsignedInt;
+import org.atlanmod.commons.io.UnsignedVarInt;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * A factory that creates {@link BinarySerializer} instances.
+ * <p>
+ * In addition to the {@link #forAny() generic serializer}, this factory holds a registry of serializers dedicated to a
+ * specific type, retrieved with {@link #forType(Class)}. Built-in serializers are registered for primitive types and
+ * their wrappers, {@link String}, {@code byte[]}, {@link UnsignedInt}, {@link UnsignedVarInt}, {@link HashCode} and
+ * {@link CompressedBitmap}: they write values without any class descriptor.
  */
 @Singleton
 @ParametersAreNonnullByDefault
@@ -27,10 +42,37 @@ public class BinarySerializerFactory {
     @Nonnull
     private final BinarySerializer<?> anySerializer = new ObjectBinarySerializer<>();
 
+    /**
+     * The {@link BinarySerializer} for any object, using a FST configuration per thread.
+     */
+    @Nonnull
+    private final BinarySerializer<?> anyPerThreadSerializer = new ObjectBinarySerializer<>(true);
+
+    /**
+     * The registered {@link BinarySerializer}s, identified by the type of (de)serialized objects.
+     */
+    @Nonnull
+    private final Map<Class<?>, BinarySerializer<?>> serializers = new ConcurrentHashMap<>();
+
     /**
      * Constructs a new {@code BinarySerializerFactory}.
      */
     protected BinarySerializerFactory() {
+        registerBoth(boolean.class, Boolean.class, new ValueSerializers.OfBoolean());
+        registerBoth(byte.class, Byte.class, new ValueSerializers.OfByte());
+        registerBoth(char.class, Character.class, new ValueSerializers.OfChar());
+        registerBoth(short.class, Short.class, new ValueSerializers.OfShort());
+        registerBoth(int.class, Integer.class, new ValueSerializers.OfInt());
+        registerBoth(long.class, Long.class, new ValueSerializers.OfLong());
+        registerBoth(float.class, Float.class, new ValueSerializers.OfFloat());
+        registerBoth(double.class, Double.class, new ValueSerializers.OfDouble());
+
+        serializers.put(String.class, new ValueSerializers.OfString());
+        serializers.put(byte[].class, new ValueSerializers.OfBytes());
+        serializers.put(UnsignedInt.class, new ValueSerializers.OfUnsignedInt());
+        serializers.put(UnsignedVarInt.class, new ValueSerializers.OfUnsignedVarInt());
+        serializers.put(HashCode.class, new ValueSerializers.OfHashCode());
+        serializers.put(CompressedBitmap.class, new ValueSerializers.OfCompressedBitmap());
     }
 
     /**
@@ -56,6 +98,93 @@ public class BinarySerializerFactory {
         return (BinarySerializer<T>) anySerializer;
     }
 
+    /**
+     * Gets the {@link BinarySerializer} for any {@link Object}, using a FST configuration per thread.
+     * <p>
+     * The serialized form is the same as with {@link #forAny()}, but threads do not share any state during the
+     * serialization, at the cost of a configuration per thread. This serializer is intended to heavily concurrent
+     * uses.
+     *
+     * @param <T> the type of (de)serialized objects
+     *
+     * @return a serializer
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <T> BinarySerializer<T> forAnyPerThread() {
+        return (BinarySerializer<T>) anyPerThreadSerializer;
+    }
+
+    /**
+     * Gets the {@link BinarySerializer} registered for the given {@code type}, or the {@link #forAny() generic
+     * serializer} if there is none.
+     * <p>
+     * The serializer must be retrieved with the same type when serializing and deserializing, as the serialized form of
+     * a dedicated serializer cannot be read by another one.
+     *
+     * @param type the type of (de)serialized objects
+     * @param <T>  the type of (de)serialized objects
+     *
+     * @return a serializer
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <T> BinarySerializer<T> forType(Class<T> type) {
+        checkNotNull(type, "type");
+
+        final BinarySerializer<?> serializer = serializers.get(type);
+        return serializer != null
+                ? (BinarySerializer<T>) serializer
+                : forAny();
+    }
+
+    /**
+     * Creates a {@link BinarySerializer} that compresses the payloads of the given {@code serializer} when they are at
+     * least {@code threshold} bytes long.
+     * <p>
+     * Each payload starts with a 1-byte header that identifies its compression: payloads compressed with any
+     * {@link Compression}, or not compressed, can be read by the created serializer, but not by the {@code serializer}
+     * itself.
+     *
+     * @param serializer  the serializer of the payloads
+     * @param compression the compression of the payloads
+     * @param threshold   the minimum size of a payload to compress, in bytes
+     * @param <T>         the type of (de)serialized objects
+     *
+     * @return a new serializer
+     */
+    @Nonnull
+    public <T> BinarySerializer<T> compressed(BinarySerializer<T> serializer, Compression compression, @Nonnegative int threshold) {
+        return new CompressingBinarySerializer<>(serializer, compression, threshold);
+    }
+
+    /**
+     * Registers a {@link BinarySerializer} dedicated to the given {@code type}, replacing any previous one.
+     *
+     * @param type       the type of (de)serialized objects
+     * @param serializer the serializer to use for this type
+     * @param <T>        the type of (de)serialized objects
+     */
+    public <T> void register(Class<T> type, BinarySerializer<T> serializer) {
+        checkNotNull(type, "type");
+        checkNotNull(serializer, "serializer");
+
+        serializers.put(type, serializer);
+    }
+
+    /**
+     * Registers a {@link BinarySerializer} dedicated to a primitive type and to its wrapper.
+     *
+     * @param primitiveType the primitive type
+     * @param wrapperType   the wrapper of the primitive type
+     * @param serializer    the serializer to use for these types
+     * @param <T>           the type of (de)serialized objects
+     */
+    private <T> void registerBoth(Class<T> primitiveType, Class<T> wrapperType, BinarySerializer<T> serializer) {
+        serializers.put(primitiveType, serializer);
+        serializers.put(wrapperType, serializer);
+    }
+
     /**
      * The initialization-on-demand holder of the singleton of this class.
      */
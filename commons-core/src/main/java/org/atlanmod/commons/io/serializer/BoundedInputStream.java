@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link InputStream} that reads at most a given number of bytes from another stream, such as the content of a
+ * record.
+ * <p>
+ * The end of this stream is reached when the {@link #limit(int) limit} is consumed; the number of bytes that have not
+ * been read yet is returned by {@link #remaining()}. Closing this stream does not close the underlying stream.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class BoundedInputStream extends InputStream {
+
+    /**
+     * The stream to read.
+     */
+    @Nonnull
+    private final InputStream in;
+
+    /**
+     * The number of bytes that can still be read.
+     */
+    @Nonnegative
+    private int remaining;
+
+    /**
+     * Constructs a new {@code BoundedInputStream}, with a limit of {@code 0}.
+     *
+     * @param in the stream to read
+     */
+    public BoundedInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Sets the number of bytes that can be read from the current position.
+     *
+     * @param length the number of bytes
+     */
+    public void limit(@Nonnegative int length) {
+        this.remaining = length;
+    }
+
+    /**
+     * Returns the number of bytes that can still be read.
+     *
+     * @return the number of bytes
+     */
+    @Nonnegative
+    public int remaining() {
+        return remaining;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining == 0) {
+            return -1;
+        }
+
+        final int b = in.read();
+        if (b != -1) {
+            remaining--;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, @Nonnegative int off, @Nonnegative int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (remaining == 0) {
+            return -1;
+        }
+
+        final int read = in.read(b, off, Math.min(len, remaining));
+        if (read > 0) {
+            remaining -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long skipped = in.skip(Math.min(n, remaining));
+        if (skipped > 0) {
+            remaining -= (int) skipped;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return Math.min(in.available(), remaining);
+    }
+
+    @Override
+    public void close() {
+        // Do not close the underlying stream
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link InputStream} that reads the remaining bytes of a {@link ByteBuffer}, from its position to its limit.
+ * <p>
+ * Reading from this stream advances the position of the buffer by the number of read bytes.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class ByteBufferInputStream extends InputStream {
+
+    /**
+     * The buffer to read.
+     */
+    @Nonnull
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructs a new {@code ByteBufferInputStream}.
+     *
+     * @param buffer the buffer to read
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, @Nonnegative int off, @Nonnegative int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        final int length = Math.min(len, buffer.remaining());
+        buffer.get(b, off, length);
+        return length;
+    }
+
+    @Override
+    public long skip(long n) {
+        final int length = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + length);
+        return length;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link OutputStream} that writes in a {@link ByteBuffer}, from its position to its limit.
+ * <p>
+ * Writing to this stream advances the position of the buffer by the number of written bytes. Writing beyond the limit
+ * of the buffer throws a {@link BufferOverflowException}.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class ByteBufferOutputStream extends OutputStream {
+
+    /**
+     * The buffer to write.
+     */
+    @Nonnull
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructs a new {@code ByteBufferOutputStream}.
+     *
+     * @param buffer the buffer to write
+     */
+    public ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, @Nonnegative int off, @Nonnegative int len) {
+        buffer.put(b, off, len);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A compression algorithm, used by a {@link Compression}.
+ * <p>
+ * A codec works on arrays whose sizes are known in advance: the length of the original data is stored beside the
+ * compressed data by the caller.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+interface Codec {
+
+    /**
+     * Compresses the {@code length} first bytes of {@code src} in {@code dest}, without writing more than {@code limit}
+     * bytes.
+     *
+     * @param src    the data to compress
+     * @param length the number of bytes to compress
+     * @param dest   the array where to write the compressed data
+     * @param limit  the maximum number of bytes to write in {@code dest}
+     *
+     * @return the number of written bytes, or {@code -1} if the compressed data would be larger than {@code limit}
+     */
+    int compress(byte[] src, @Nonnegative int length, byte[] dest, @Nonnegative int limit);
+
+    /**
+     * Decompresses {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code destLength} first
+     * bytes of {@code dest}.
+     *
+     * @param src        the compressed data
+     * @param offset     the index of the first byte to decompress
+     * @param length     the number of bytes to decompress
+     * @param dest       the array where to write the original data
+     * @param destLength the length of the original data
+     *
+     * @throws IOException if the compressed data is malformed, or does not have the expected length once decompressed
+     */
+    void decompress(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destLength) throws IOException;
+
+    /**
+     * Returns the maximum length of the data that can be decompressed from {@code length} bytes, used to reject a
+     * corrupted original length before allocating its array.
+     *
+     * @param length the length of the compressed data
+     *
+     * @return the maximum length of the original data
+     */
+    @Nonnegative
+    long maxOriginalLength(@Nonnegative int length);
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.Throwables;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An {@link AbstractStringSerializer} that relies on a binary-to-text encoding able to work on ranges of arrays.
+ * <p>
+ * Objects are serialized in a {@code byte} array reused by each thread, then encoded directly in the destination;
+ * strings are decoded in another reused array, then deserialized from it. Apart from the result, no intermediate array
+ * or string is allocated once the reused arrays are large enough.
+ *
+ * @param <T> the type of (de)serialized objects
+ */
+@ParametersAreNonnullByDefault
+abstract class CodecStringSerializer<T> extends AbstractStringSerializer<T> {
+
+    /**
+     * The initial capacity of the reused arrays.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * The array of each thread where objects are serialized before being encoded.
+     */
+    @Nonnull
+    private static final ThreadLocal<ByteBuffer> ENCODING = ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_CAPACITY));
+
+    /**
+     * The array of each thread where strings are decoded before being deserialized.
+     */
+    @Nonnull
+    private static final ThreadLocal<ByteBuffer> DECODING = ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_CAPACITY));
+
+    /**
+     * Constructs a new {@code CodecStringSerializer}.
+     *
+     * @param serializer the serializer to use before applying a {@link String} encoding or decoding
+     */
+    protected CodecStringSerializer(BinarySerializer<T> serializer) {
+        super(serializer);
+    }
+
+    /**
+     * Returns the number of characters used to encode {@code length} bytes.
+     *
+     * @param length the number of bytes to encode
+     *
+     * @return the number of characters
+     */
+    @Nonnegative
+    protected abstract int encodedLength(@Nonnegative int length);
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array of characters.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters
+     */
+    @Nonnegative
+    protected abstract int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, char[] dest, @Nonnegative int destOffset);
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array, as ASCII
+     * characters.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the ASCII characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters
+     */
+    @Nonnegative
+    protected abstract int encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset);
+
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, at the end of the {@code out}.
+     *
+     * @param src    the bytes to encode
+     * @param offset the index of the first byte to encode
+     * @param length the number of bytes to encode
+     * @param out    the appendable where to write the characters
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract void encode(byte[] src, @Nonnegative int offset, @Nonnegative int length, Appendable out) throws IOException;
+
+    /**
+     * Returns the number of bytes encoded in the {@code src} characters.
+     *
+     * @param src the characters to decode
+     *
+     * @return the number of bytes
+     */
+    @Nonnegative
+    protected abstract int decodedLength(CharSequence src);
+
+    /**
+     * Decodes the {@code src} characters in the {@code dest} array.
+     *
+     * @param src        the characters to decode
+     * @param dest       the array where to write the bytes
+     * @param destOffset the index of the first byte to write in {@code dest}
+     *
+     * @return the number of written bytes
+     */
+    @Nonnegative
+    protected abstract int decode(CharSequence src, byte[] dest, @Nonnegative int destOffset);
+
+    @Nonnull
+    @Override
+    public String serialize(T t) {
+        try {
+            final ByteBuffer buffer = toBinary(t);
+            final byte[] ascii = new byte[encodedLength(buffer.remaining())];
+            encode(buffer.array(), buffer.arrayOffset(), buffer.remaining(), ascii, 0);
+            return new String(ascii, StandardCharsets.ISO_8859_1);
+        }
+        catch (IOException e) {
+            throw Throwables.shouldNeverHappen(e);
+        }
+    }
+
+    @Override
+    public int serialize(T t, char[] dest, @Nonnegative int offset) throws IOException {
+        checkNotNull(dest, "dest");
+
+        final ByteBuffer buffer = toBinary(t);
+        return encode(buffer.array(), buffer.arrayOffset(), buffer.remaining(), dest, offset);
+    }
+
+    @Override
+    public int serialize(T t, byte[] dest, @Nonnegative int offset) throws IOException {
+        checkNotNull(dest, "dest");
+
+        final ByteBuffer buffer = toBinary(t);
+        return encode(buffer.array(), buffer.arrayOffset(), buffer.remaining(), dest, offset);
+    }
+
+    @Override
+    public void serialize(T t, Appendable out) throws IOException {
+        checkNotNull(out, "out");
+
+        final ByteBuffer buffer = toBinary(t);
+        encode(buffer.array(), buffer.arrayOffset(), buffer.remaining(), out);
+    }
+
+    @Nonnull
+    @Override
+    public T deserialize(String data) {
+        try {
+            return deserialize((CharSequence) data);
+        }
+        catch (IOException e) {
+            throw Throwables.shouldNeverHappen(e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public T deserialize(CharSequence data) throws IOException {
+        checkNotNull(data, "data");
+
+        final int length = decodedLength(data);
+
+        ByteBuffer buffer = DECODING.get();
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+            DECODING.set(buffer);
+        }
+
+        decode(data, buffer.array(), buffer.arrayOffset());
+        buffer.clear().limit(length);
+        return serializer().deserialize(buffer);
+    }
+
+    /**
+     * Serializes the {@code t} object in the array of the current thread, growing it if necessary.
+     *
+     * @param t the object to serialize
+     *
+     * @return the array, between its position and its limit
+     *
+     * @throws IOException if an I/O error occurs during the serialization
+     */
+    @Nonnull
+    private ByteBuffer toBinary(T t) throws IOException {
+        ByteBuffer buffer = ENCODING.get();
+        while (true) {
+            buffer.clear();
+            try {
+                serializer().serialize(t, buffer);
+                return buffer.flip();
+            }
+            catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                ENCODING.set(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillNotClose;
+
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link BinarySerializer} that compresses the payloads of another serializer, when they are larger than a
+ * threshold.
+ * <p>
+ * Each payload is written as follows:
+ * <ol>
+ * <li>the identifier of the {@link Compression}, on 1 byte, or {@code 0} if the payload is not compressed;</li>
+ * <li>the length of the original payload, as an {@link org.atlanmod.commons.io.UnsignedVarInt};</li>
+ * <li>if the payload is compressed, the length of the compressed payload, as an
+ * {@link org.atlanmod.commons.io.UnsignedVarInt};</li>
+ * <li>the payload.</li>
+ * </ol>
+ * Payloads smaller than the threshold, or that do not shrink when compressed, are written as is. Any payload can be
+ * read, whatever the compression used by this serializer.
+ *
+ * @param <T> the type of (de)serialized objects
+ */
+@ParametersAreNonnullByDefault
+final class CompressingBinarySerializer<T> extends AbstractDataBinarySerializer<T> {
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = -2516357447026853197L;
+
+    /**
+     * The maximum size of the header of a compressed payload, in bytes.
+     */
+    private static final int MAX_HEADER_SIZE = 1 + 5 + 5;
+
+    /**
+     * The maximum size of the intermediate array kept by each thread: larger payloads are compressed in a temporary
+     * array, so that a single large payload does not stay in memory for the lifetime of the thread.
+     */
+    private static final int MAX_SCRATCH_SIZE = 1 << 20;
+
+    /**
+     * The intermediate array of each thread, where payloads are compressed.
+     */
+    @Nonnull
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[0]);
+
+    /**
+     * The serializer of the payloads.
+     */
+    @Nonnull
+    private final BinarySerializer<T> delegate;
+
+    /**
+     * The compression of the payloads.
+     */
+    @Nonnull
+    private final Compression compression;
+
+    /**
+     * The minimum size of a payload to compress, in bytes.
+     */
+    @Nonnegative
+    private final int threshold;
+
+    /**
+     * Constructs a new {@code CompressingBinarySerializer}.
+     *
+     * @param delegate    the serializer of the payloads
+     * @param compression the compression of the payloads
+     * @param threshold   the minimum size of a payload to compress, in bytes
+     */
+    public CompressingBinarySerializer(BinarySerializer<T> delegate, Compression compression, @Nonnegative int threshold) {
+        checkNotNull(delegate, "delegate");
+        checkNotNull(compression, "compression");
+        checkGreaterThanOrEqualTo(threshold, 0, "threshold (%d) must not be negative", threshold);
+
+        this.delegate = delegate;
+        this.compression = compression;
+        this.threshold = threshold;
+    }
+
+    @Nonnull
+    @Override
+    public byte[] serialize(T t) throws IOException {
+        final byte[] data = delegate.serialize(t);
+        final int length = data.length;
+
+        if (length >= threshold && length > MAX_HEADER_SIZE) {
+            final byte[] scratch = scratch(length);
+
+            // Only keep the compressed payload if it is smaller than the original one, header included
+            final int compressedLength = compression.compress(data, length, scratch, length - MAX_HEADER_SIZE);
+            if (compressedLength >= 0) {
+                final byte[] result = new byte[1 + Records.lengthSize(length) + Records.lengthSize(compressedLength) + compressedLength];
+                result[0] = compression.id();
+                int index = Records.writeLength(result, 1, length);
+                index = Records.writeLength(result, index, compressedLength);
+                System.arraycopy(scratch, 0, result, index, compressedLength);
+                return result;
+            }
+        }
+
+        final byte[] result = new byte[1 + Records.lengthSize(length) + length];
+        result[0] = Compression.NONE;
+        final int index = Records.writeLength(result, 1, length);
+        System.arraycopy(data, 0, result, index, length);
+        return result;
+    }
+
+    @Override
+    public void serialize(T t, @WillNotClose DataOutput out) throws IOException {
+        out.write(serialize(t));
+    }
+
+    @Nonnull
+    @Override
+    public T deserialize(@WillNotClose DataInput in) throws IOException {
+        final byte id = in.readByte();
+        final int length = Records.readLength(in);
+
+        // Payloads are read in growing arrays, and the original length is checked before being allocated
+        final byte[] data;
+        if (id == Compression.NONE) {
+            data = Records.readFully(in, length);
+        }
+        else {
+            final Compression c = Compression.forId(id);
+
+            final byte[] compressed = Records.readFully(in, Records.readLength(in));
+            data = c.decompress(compressed, 0, compressed.length, length);
+        }
+
+        return delegate.deserialize(data);
+    }
+
+    /**
+     * Returns an array of at least {@code length} bytes, where to compress a payload.
+     *
+     * @param length the minimum length of the array
+     *
+     * @return the array of the current thread, or a new array if {@code length} exceeds {@link #MAX_SCRATCH_SIZE}
+     */
+    @Nonnull
+    private static byte[] scratch(@Nonnegative int length) {
+        if (length > MAX_SCRATCH_SIZE) {
+            return new byte[length];
+        }
+
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length < length) {
+            scratch = new byte[length];
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.zip.Deflater;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A compression algorithm used by the serializers returned by
+ * {@link BinarySerializerFactory#compressed(BinarySerializer, Compression, int)}.
+ * <p>
+ * Each compressed payload starts with the identifier of its algorithm, so that payloads compressed with different
+ * algorithms, or not compressed, can be read by the same serializer.
+ */
+@ParametersAreNonnullByDefault
+public enum Compression {
+
+    /**
+     * The Deflate algorithm of the JDK, with the default compression level: the best ratio, but the slowest.
+     */
+    DEFLATE(1, new DeflateCodec(Deflater.DEFAULT_COMPRESSION)),
+
+    /**
+     * The Deflate algorithm of the JDK, with the fastest compression level.
+     */
+    DEFLATE_FAST(2, new DeflateCodec(Deflater.BEST_SPEED)),
+
+    /**
+     * A fast LZ77 algorithm, written in pure Java and following the LZ4 block format: a lower ratio than
+     * {@link #DEFLATE}, but several times faster, especially for decompression.
+     */
+    LZ(3, new LzCodec());
+
+    /**
+     * The identifier of uncompressed payloads.
+     */
+    static final byte NONE = 0;
+
+    /**
+     * The identifier of this algorithm, written before each payload.
+     */
+    private final byte id;
+
+    /**
+     * The implementation of this algorithm.
+     */
+    @Nonnull
+    private final Codec codec;
+
+    /**
+     * Constructs a new {@code Compression}.
+     *
+     * @param id    the identifier of this algorithm, written before each payload
+     * @param codec the implementation of this algorithm
+     */
+    Compression(int id, Codec codec) {
+        this.id = (byte) id;
+        this.codec = codec;
+    }
+
+    /**
+     * Returns the algorithm identified by {@code id}.
+     *
+     * @param id the identifier of the algorithm
+     *
+     * @return the algorithm
+     *
+     * @throws StreamCorruptedException if no algorithm is identified by {@code id}
+     */
+    @Nonnull
+    static Compression forId(byte id) throws StreamCorruptedException {
+        for (Compression c : values()) {
+            if (c.id == id) {
+                return c;
+            }
+        }
+        throw new StreamCorruptedException("Unknown compression: " + id);
+    }
+
+    /**
+     * Returns the identifier of this algorithm, written before each payload.
+     *
+     * @return the identifier
+     */
+    byte id() {
+        return id;
+    }
+
+    /**
+     * Compresses the {@code length} first bytes of {@code src} in {@code dest}, without writing more than {@code limit}
+     * bytes.
+     *
+     * @param src    the data to compress
+     * @param length the number of bytes to compress
+     * @param dest   the array where to write the compressed data
+     * @param limit  the maximum number of bytes to write in {@code dest}
+     *
+     * @return the number of written bytes, or {@code -1} if the compressed data would be larger than {@code limit}
+     */
+    int compress(byte[] src, @Nonnegative int length, byte[] dest, @Nonnegative int limit) {
+        return codec.compress(src, length, dest, limit);
+    }
+
+    /**
+     * Decompresses {@code length} bytes of {@code src}, starting at {@code offset}, in a new array of
+     * {@code originalLength} bytes.
+     *
+     * @param src            the compressed data
+     * @param offset         the index of the first byte to decompress
+     * @param length         the number of bytes to decompress
+     * @param originalLength the length of the original data
+     *
+     * @return the original data
+     *
+     * @throws StreamCorruptedException if {@code length} bytes cannot be decompressed to {@code originalLength} bytes
+     *                                  with this algorithm
+     * @throws IOException              if the compressed data is malformed
+     */
+    @Nonnull
+    byte[] decompress(byte[] src, @Nonnegative int offset, @Nonnegative int length, @Nonnegative int originalLength) throws IOException {
+        if (originalLength > codec.maxOriginalLength(length)) {
+            throw new StreamCorruptedException(String.format("Malformed original length: %d bytes cannot be decompressed to %d bytes", length, originalLength));
+        }
+
+        final byte[] dest = new byte[originalLength];
+        codec.decompress(src, offset, length, dest, originalLength);
+        return dest;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link Codec} that uses the {@link Deflater} and {@link Inflater} of the JDK, without any zlib header.
+ * <p>
+ * Deflaters and inflaters hold native resources that are expensive to create: each thread reuses its own instances.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class DeflateCodec implements Codec {
+
+    /**
+     * The maximum compression ratio of Deflate, reached by long runs of the same byte.
+     */
+    private static final int MAX_RATIO = 1032;
+
+    /**
+     * The deflater of each thread.
+     */
+    @Nonnull
+    private final ThreadLocal<Deflater> deflater;
+
+    /**
+     * The inflater of each thread.
+     */
+    @Nonnull
+    private final ThreadLocal<Inflater> inflater = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    /**
+     * Constructs a new {@code DeflateCodec}.
+     *
+     * @param level the compression level, from {@code 0} to {@code 9}
+     */
+    public DeflateCodec(int level) {
+        this.deflater = ThreadLocal.withInitial(() -> new Deflater(level, true));
+    }
+
+    @Override
+    public int compress(byte[] src, @Nonnegative int length, byte[] dest, @Nonnegative int limit) {
+        final Deflater d = deflater.get();
+        try {
+            d.setInput(src, 0, length);
+            d.finish();
+            final int written = d.deflate(dest, 0, limit);
+            return d.finished() ? written : -1;
+        }
+        finally {
+            d.reset();
+        }
+    }
+
+    @Override
+    public void decompress(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destLength) throws IOException {
+        final Inflater i = inflater.get();
+        try {
+            i.setInput(src, offset, length);
+            final int read = i.inflate(dest, 0, destLength);
+            if (read != destLength || !i.finished()) {
+                throw new StreamCorruptedException("Malformed deflate data");
+            }
+        }
+        catch (DataFormatException e) {
+            throw new StreamCorruptedException("Malformed deflate data: " + e.getMessage());
+        }
+        finally {
+            i.reset();
+        }
+    }
+
+    @Override
+    public long maxOriginalLength(@Nonnegative int length) {
+        return (long) length * MAX_RATIO;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link Codec} that uses a fast LZ77 compression, written in pure Java, following the LZ4 block format.
+ * <p>
+ * The data is encoded as a sequence of literals and back-references to previous occurrences of at least
+ * {@value #MIN_MATCH} bytes, found with a hash table of the last positions of each 4-byte sequence. It only contains
+ * one pass, without any entropy coding: its ratio is lower than {@link DeflateCodec}, but it is much faster, especially
+ * for decompression.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class LzCodec implements Codec {
+
+    /**
+     * The minimum length of a match.
+     */
+    private static final int MIN_MATCH = 4;
+
+    /**
+     * The maximum distance of a match.
+     */
+    private static final int MAX_OFFSET = 0xFFFF;
+
+    /**
+     * The number of bytes at the end of the data that are always encoded as literals.
+     */
+    private static final int LAST_LITERALS = 5;
+
+    /**
+     * The number of bytes at the end of the data where no match can start.
+     */
+    private static final int MATCH_LIMIT = 12;
+
+    /**
+     * The size of the hash table, in bits.
+     */
+    private static final int HASH_BITS = 12;
+
+    /**
+     * The number of unsuccessful steps before increasing the step of the search, in bits.
+     */
+    private static final int SKIP_BITS = 6;
+
+    /**
+     * The maximum value of a 4-bit length in a token, meaning that the length continues on the next bytes.
+     */
+    private static final int RUN_MASK = 0x0F;
+
+    /**
+     * The maximum compression ratio: each additional byte of a match length adds at most 255 bytes to the match.
+     */
+    private static final int MAX_RATIO = 255;
+
+    /**
+     * The hash table of each thread, associating the hash of a 4-byte sequence with its last position.
+     */
+    @Nonnull
+    private final ThreadLocal<int[]> table = ThreadLocal.withInitial(() -> new int[1 << HASH_BITS]);
+
+    @Override
+    public int compress(byte[] src, @Nonnegative int length, byte[] dest, @Nonnegative int limit) {
+        final int[] positions = table.get();
+        Arrays.fill(positions, -1);
+
+        final int matchLimit = length - MATCH_LIMIT;
+        final int literalLimit = length - LAST_LITERALS;
+
+        int anchor = 0;
+        int index = 0;
+        int written = 0;
+
+        while (index < matchLimit) {
+            final int sequence = readInt(src, index);
+            final int hash = hash(sequence);
+            int reference = positions[hash];
+            positions[hash] = index;
+
+            if (reference < 0 || index - reference > MAX_OFFSET || readInt(src, reference) != sequence) {
+                // Accelerate the search on incompressible data
+                index += 1 + ((index - anchor) >>> SKIP_BITS);
+                continue;
+            }
+
+            while (index > anchor && reference > 0 && src[index - 1] == src[reference - 1]) {
+                index--;
+                reference--;
+            }
+
+            int end = index + MIN_MATCH;
+            while (end < literalLimit && src[end] == src[reference + end - index]) {
+                end++;
+            }
+
+            written = writeSequence(src, anchor, index - anchor, index - reference, end - index - MIN_MATCH, dest, written, limit);
+            if (written < 0) {
+                return -1;
+            }
+
+            index = end;
+            anchor = end;
+        }
+
+        return writeSequence(src, anchor, length - anchor, 0, -1, dest, written, limit);
+    }
+
+    @Override
+    public void decompress(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destLength) throws IOException {
+        final int end = offset + length;
+
+        int index = offset;
+        int written = 0;
+
+        while (true) {
+            if (index >= end) {
+                throw new StreamCorruptedException("Malformed LZ data: truncated sequence");
+            }
+            final int token = src[index++] & 0xFF;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int current;
+                do {
+                    if (index >= end) {
+                        throw new StreamCorruptedException("Malformed LZ data: truncated length");
+                    }
+                    current = src[index++] & 0xFF;
+                    literalLength += current;
+                }
+                while (current == 0xFF);
+            }
+
+            if (literalLength > end - index || literalLength > destLength - written) {
+                throw new StreamCorruptedException("Malformed LZ data: literals out of bounds");
+            }
+            System.arraycopy(src, index, dest, written, literalLength);
+            index += literalLength;
+            written += literalLength;
+
+            if (index == end) {
+                // The last sequence only contains literals
+                break;
+            }
+
+            if (end - index < 2) {
+                throw new StreamCorruptedException("Malformed LZ data: truncated offset");
+            }
+            final int distance = (src[index] & 0xFF) | (src[index + 1] & 0xFF) << 8;
+            index += 2;
+            if (distance == 0 || distance > written) {
+                throw new StreamCorruptedException("Malformed LZ data: offset out of bounds");
+            }
+
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int current;
+                do {
+                    if (index >= end) {
+                        throw new StreamCorruptedException("Malformed LZ data: truncated length");
+                    }
+                    current = src[index++] & 0xFF;
+                    matchLength += current;
+                }
+                while (current == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+
+            if (matchLength > destLength - written) {
+                throw new StreamCorruptedException("Malformed LZ data: match out of bounds");
+            }
+
+            final int reference = written - distance;
+            if (distance >= matchLength) {
+                System.arraycopy(dest, reference, dest, written, matchLength);
+            }
+            else {
+                // Overlapping match: the copied bytes are repeated
+                for (int i = 0; i < matchLength; i++) {
+                    dest[written + i] = dest[reference + i];
+                }
+            }
+            written += matchLength;
+        }
+
+        if (written != destLength) {
+            throw new StreamCorruptedException("Malformed LZ data: expected " + destLength + " bytes but was " + written);
+        }
+    }
+
+    @Override
+    public long maxOriginalLength(@Nonnegative int length) {
+        return (long) length * MAX_RATIO;
+    }
+
+    /**
+     * Writes a sequence of literals followed by a match.
+     *
+     * @param src           the data to compress
+     * @param literalStart  the index of the first literal in {@code src}
+     * @param literalLength the number of literals
+     * @param distance      the distance of the match
+     * @param matchLength   the length of the match, minus {@link #MIN_MATCH}, or {@code -1} if this is the last
+     *                      sequence, without any match
+     * @param dest          the array where to write the sequence
+     * @param offset        the index of the first byte to write in {@code dest}
+     * @param limit         the maximum number of bytes to write in {@code dest}
+     *
+     * @return the index following the sequence in {@code dest}, or {@code -1} if the sequence would exceed the {@code
+     * limit}
+     */
+    private static int writeSequence(byte[] src, int literalStart, int literalLength, int distance, int matchLength, byte[] dest, int offset, int limit) {
+        final boolean hasMatch = matchLength >= 0;
+
+        final int size = 1
+                + lengthSize(literalLength) + literalLength
+                + (hasMatch ? 2 + lengthSize(matchLength) : 0);
+        if (size > limit - offset) {
+            return -1;
+        }
+
+        int index = offset;
+        final int token = Math.min(literalLength, RUN_MASK) << 4 | (hasMatch ? Math.min(matchLength, RUN_MASK) : 0);
+        dest[index++] = (byte) token;
+
+        index = writeLength(literalLength, dest, index);
+        System.arraycopy(src, literalStart, dest, index, literalLength);
+        index += literalLength;
+
+        if (hasMatch) {
+            dest[index++] = (byte) distance;
+            dest[index++] = (byte) (distance >>> 8);
+            index = writeLength(matchLength, dest, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the number of additional bytes used to encode a length that does not fit in a token.
+     *
+     * @param length the length
+     *
+     * @return the number of bytes
+     */
+    private static int lengthSize(int length) {
+        return length < RUN_MASK ? 0 : (length - RUN_MASK) / 0xFF + 1;
+    }
+
+    /**
+     * Writes the remainder of a length that does not fit in a token.
+     *
+     * @param length the length
+     * @param dest   the array where to write the length
+     * @param offset the index of the first byte to write in {@code dest}
+     *
+     * @return the index following the length in {@code dest}
+     */
+    private static int writeLength(int length, byte[] dest, int offset) {
+        if (length < RUN_MASK) {
+            return offset;
+        }
+
+        int index = offset;
+        int remaining = length - RUN_MASK;
+        while (remaining >= 0xFF) {
+            dest[index++] = (byte) 0xFF;
+            remaining -= 0xFF;
+        }
+        dest[index++] = (byte) remaining;
+        return index;
+    }
+
+    /**
+     * Reads 4 bytes of {@code src} from {@code index}, in the little-endian order.
+     *
+     * @param src   the array to read
+     * @param index the index of the first byte to read
+     *
+     * @return the read value
+     */
+    private static int readInt(byte[] src, int index) {
+        return (src[index] & 0xFF)
+                | (src[index + 1] & 0xFF) << 8
+                | (src[index + 2] & 0xFF) << 16
+                | (src[index + 3] & 0xFF) << 24;
+    }
+
+    /**
+     * Calculates the position in the hash table of a 4-byte sequence.
+     *
+     * @param sequence the sequence
+     *
+     * @return the position in the hash table
+     */
+    private static int hash(int sequence) {
+        return (sequence * 0x9E3779B1) >>> (Integer.SIZE - HASH_BITS);
+    }
+}
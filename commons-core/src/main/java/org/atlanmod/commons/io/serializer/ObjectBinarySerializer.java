@@ -34,17 +34,40 @@ final class ObjectBinarySerializer<T> extends AbstractBinarySerializer<T> {
     @SuppressWarnings("JavaDoc")
     private static final long serialVersionUID = 1069734448451637293L;
 
+    /**
+     * Constructs a new {@code ObjectBinarySerializer} that uses the shared FST configuration.
+     */
+    public ObjectBinarySerializer() {
+        super();
+    }
+
+    /**
+     * Constructs a new {@code ObjectBinarySerializer}.
+     *
+     * @param perThread {@code true} if this serializer uses a FST configuration per thread, {@code false} if it uses
+     *                  the shared configuration
+     */
+    public ObjectBinarySerializer(boolean perThread) {
+        super(perThread);
+    }
+
     @Nonnull
     @Override
     public byte[] serialize(T t) {
-        return FST.asByteArray(t);
+        return fst().asByteArray(t);
     }
 
     @Nonnull
     @Override
     @SuppressWarnings("unchecked")
-    public T deserialize(byte[] data) {
-        return (T) FST.asObject(data);
+    public T deserialize(byte[] data) throws IOException {
+        try {
+            // Not `asObject(byte[])`, which keeps a reference to `data` (see `fst()`)
+            return (T) fst().getObjectInputCopyFrom(data, 0, data.length).readObject();
+        }
+        catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
     }
 
     @Override
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.collect.CloseableIterator;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillClose;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link CloseableIterator} that lazily reads length-prefixed records from an {@link InputStream}: only one record
+ * is read ahead of the current one.
+ * <p>
+ * The stream is closed when the last record has been read, or when this iterator is closed. Any {@link IOException} is
+ * rethrown as an {@link UncheckedIOException}.
+ *
+ * @param <T> the type of the read records
+ * @see Records
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class RecordIterator<T> implements CloseableIterator<T> {
+
+    /**
+     * The stream to read.
+     */
+    @Nonnull
+    private final DataInputStream in;
+
+    /**
+     * The function used to decode each record.
+     */
+    @Nonnull
+    private final Reader<T> reader;
+
+    /**
+     * The record that has been read ahead, if {@link #ready}.
+     */
+    private T next;
+
+    /**
+     * Whether the {@link #next} record has been read ahead.
+     */
+    private boolean ready;
+
+    /**
+     * Whether this iterator is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code RecordIterator}.
+     *
+     * @param is     the stream to read
+     * @param reader the function used to decode each record
+     */
+    public RecordIterator(@WillClose InputStream is, Reader<T> reader) {
+        checkNotNull(is, "is");
+        checkNotNull(reader, "reader");
+
+        this.in = Records.buffered(is);
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (ready) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+
+        try {
+            final int length = Records.readNextLength(in);
+            if (length == -1) {
+                close();
+                return false;
+            }
+
+            next = reader.read(in, length);
+            ready = true;
+            return true;
+        }
+        catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T t = next;
+        next = null;
+        ready = false;
+        return t;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        next = null;
+        ready = false;
+
+        try {
+            in.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A function that decodes a record from a stream.
+     *
+     * @param <T> the type of the read records
+     */
+    @FunctionalInterface
+    @ParametersAreNonnullByDefault
+    interface Reader<T> {
+
+        /**
+         * Reads a record of {@code length} bytes from the {@code in}. On return, the stream must be positioned just
+         * after the record.
+         *
+         * @param in     the stream to read
+         * @param length the length of the record, in bytes
+         *
+         * @return the record
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        T read(DataInputStream in, @Nonnegative int length) throws IOException;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+import org.atlanmod.commons.io.UnsignedVarInt;
+import org.atlanmod.commons.io.VarInts;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Static utility methods for reading and writing sequences of records, as done by
+ * {@link BinarySerializer#serializeAll(Iterable, OutputStream)} and {@link BinarySerializer#deserializeAll(InputStream)}.
+ * <p>
+ * Each record is prefixed by its length in bytes, encoded as an {@link UnsignedVarInt}.
+ */
+@Static
+@ParametersAreNonnullByDefault
+final class Records {
+
+    /**
+     * The initial size of the array of a record read by {@link #readFully(DataInput, int)}: a larger array grows as its
+     * content is read.
+     */
+    private static final int INITIAL_SIZE = 8192;
+
+    private Records() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Returns a buffered view of the {@code os}, or the {@code os} itself if it is already buffered.
+     *
+     * @param os the output stream
+     *
+     * @return a buffered output stream
+     */
+    @Nonnull
+    public static OutputStream buffered(OutputStream os) {
+        return os instanceof BufferedOutputStream || os instanceof ByteArrayOutputStream
+                ? os
+                : new BufferedOutputStream(os);
+    }
+
+    /**
+     * Returns a buffered {@link DataInputStream} on the {@code is}.
+     *
+     * @param is the input stream
+     *
+     * @return a buffered input stream
+     */
+    @Nonnull
+    public static DataInputStream buffered(InputStream is) {
+        if (is instanceof DataInputStream) {
+            return (DataInputStream) is;
+        }
+
+        return new DataInputStream(is instanceof BufferedInputStream || is instanceof ByteArrayInputStream
+                ? is
+                : new BufferedInputStream(is));
+    }
+
+    /**
+     * Writes the {@code length} of a record.
+     *
+     * @param os     the output stream
+     * @param length the length of the record, in bytes
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeLength(OutputStream os, @Nonnegative int length) throws IOException {
+        int remaining = length;
+        while ((remaining & ~0x7F) != 0) {
+            os.write(0x80 | (remaining & 0x7F));
+            remaining >>>= 7;
+        }
+        os.write(remaining);
+    }
+
+    /**
+     * Writes the {@code length} of a record in the {@code dest} array.
+     *
+     * @param dest   the array where to write the length
+     * @param offset the index of the first byte to write in {@code dest}
+     * @param length the length of the record, in bytes
+     *
+     * @return the index following the length in {@code dest}
+     */
+    public static int writeLength(byte[] dest, @Nonnegative int offset, @Nonnegative int length) {
+        return VarInts.writeInt(dest, offset, length);
+    }
+
+    /**
+     * Returns the number of bytes used to encode the {@code length} of a record.
+     *
+     * @param length the length of the record, in bytes
+     *
+     * @return the number of bytes
+     */
+    @Nonnegative
+    public static int lengthSize(@Nonnegative int length) {
+        return VarInts.sizeOf(length);
+    }
+
+    /**
+     * Reads the length of the next record.
+     *
+     * @param is the input stream
+     *
+     * @return the length of the record, in bytes, or {@code -1} if the end of the stream has been reached
+     *
+     * @throws EOFException             if the end of the stream is reached in the middle of the length
+     * @throws StreamCorruptedException if the length is not a valid record length
+     * @throws IOException              if an I/O error occurs
+     */
+    public static int readNextLength(InputStream is) throws IOException {
+        int current = is.read();
+        if (current == -1) {
+            return -1;
+        }
+
+        long length = current & 0x7F;
+        for (int i = 1; (current & 0x80) != 0; i++) {
+            if (i == VarInts.MAX_INT_SIZE) {
+                throw new StreamCorruptedException("Malformed record length");
+            }
+            current = is.read();
+            if (current == -1) {
+                throw new EOFException();
+            }
+            length |= (long) (current & 0x7F) << (7 * i);
+        }
+
+        if (length > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Malformed record length: " + length);
+        }
+        return (int) length;
+    }
+
+    /**
+     * Reads the length of a record from a {@link DataInput}.
+     *
+     * @param in the input
+     *
+     * @return the length of the record, in bytes
+     *
+     * @throws EOFException             if the end of the input is reached in the middle of the length
+     * @throws StreamCorruptedException if the length is not a valid record length
+     * @throws IOException              if an I/O error occurs
+     */
+    @Nonnegative
+    public static int readLength(DataInput in) throws IOException {
+        final int length = VarInts.readInt(in);
+        if (length < 0) {
+            throw new StreamCorruptedException("Malformed record length: " + Integer.toUnsignedString(length));
+        }
+        return length;
+    }
+
+    /**
+     * Reads a record of {@code length} bytes in a new array.
+     * <p>
+     * A large array grows as its content is read, so that a corrupted length is reported as the end of the input
+     * rather than allocating memory that is never filled.
+     *
+     * @param in     the input
+     * @param length the length of the record, in bytes
+     *
+     * @return the record
+     *
+     * @throws EOFException if the end of the input is reached before the end of the record
+     * @throws IOException  if an I/O error occurs
+     */
+    @Nonnull
+    public static byte[] readFully(DataInput in, @Nonnegative int length) throws IOException {
+        byte[] data = new byte[Math.min(length, INITIAL_SIZE)];
+        in.readFully(data);
+        while (data.length < length) {
+            final int read = data.length;
+            data = Arrays.copyOf(data, (int) Math.min(length, read * 2L));
+            in.readFully(data, read, data.length - read);
+        }
+        return data;
+    }
+}
@@ -8,6 +8,12 @@
 
 package org.atlanmod.commons.io.serializer;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 /**
@@ -17,4 +23,82 @@ import javax.annotation.ParametersAreNonnullByDefault;
  */
 @ParametersAreNonnullByDefault
 public interface StringSerializer<T> extends Serializer<T, String> {
+
+    /**
+     * Write an object of type {@code T} in the given {@code dest} array, starting at {@code offset}.
+     * <p>
+     * The written characters are the same as the result of {@link #serialize(Object)}. The default implementation
+     * copies this result: implementations should override this method if they can avoid the intermediate string.
+     *
+     * @param t      the object to serialize
+     * @param dest   the array where to write the characters
+     * @param offset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters
+     *
+     * @throws IndexOutOfBoundsException if the serialized object does not fit in {@code dest} from {@code offset}
+     * @throws IOException               if an I/O error occurs during the serialization
+     */
+    default int serialize(T t, char[] dest, @Nonnegative int offset) throws IOException {
+        final String data = serialize(t);
+        Objects.checkFromIndexSize(offset, data.length(), dest.length);
+        data.getChars(0, data.length(), dest, offset);
+        return data.length();
+    }
+
+    /**
+     * Write an object of type {@code T} in the given {@code dest} array, starting at {@code offset}, as UTF-8 bytes.
+     * <p>
+     * The default implementation encodes the result of {@link #serialize(Object)}: implementations should override this
+     * method if they can avoid the intermediate string.
+     *
+     * @param t      the object to serialize
+     * @param dest   the array where to write the bytes
+     * @param offset the index of the first byte to write in {@code dest}
+     *
+     * @return the number of written bytes
+     *
+     * @throws IndexOutOfBoundsException if the serialized object does not fit in {@code dest} from {@code offset}
+     * @throws IOException               if an I/O error occurs during the serialization
+     */
+    default int serialize(T t, byte[] dest, @Nonnegative int offset) throws IOException {
+        final byte[] data = serialize(t).getBytes(StandardCharsets.UTF_8);
+        Objects.checkFromIndexSize(offset, data.length, dest.length);
+        System.arraycopy(data, 0, dest, offset, data.length);
+        return data.length;
+    }
+
+    /**
+     * Write an object of type {@code T} at the end of the given {@code out}, such as a {@link StringBuilder} or a
+     * {@link java.io.Writer}.
+     * <p>
+     * The default implementation appends the result of {@link #serialize(Object)}: implementations should override this
+     * method if they can avoid the intermediate string.
+     *
+     * @param t   the object to serialize
+     * @param out the appendable where to write the characters
+     *
+     * @throws IOException if an I/O error occurs during the serialization
+     */
+    default void serialize(T t, Appendable out) throws IOException {
+        out.append(serialize(t));
+    }
+
+    /**
+     * Reads and assembles an object of type {@code T} from the given {@code data}, such as a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}.
+     * <p>
+     * The default implementation converts the {@code data} to a {@link String}: implementations should override this
+     * method if they can read it directly.
+     *
+     * @param data the characters to read
+     *
+     * @return the deserialized object
+     *
+     * @throws IOException if an I/O error occurs during the deserialization
+     */
+    @Nonnull
+    default T deserialize(CharSequence data) throws IOException {
+        return deserialize(data.toString());
+    }
 }
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+import org.atlanmod.commons.collect.CompressedBitmap;
+import org.atlanmod.commons.hash.HashCode;
+import org.atlanmod.commons.io.UnsignedInt;
+import org.atlanmod.commons.io.UnsignedVarInt;
+import org.atlanmod.commons.io.VarInts;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillNotClose;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * The built-in {@link BinarySerializer}s of simple value types, registered by default in the
+ * {@link BinarySerializerFactory}.
+ * <p>
+ * Values are written with the methods of {@link DataOutput}, in the big-endian order, without any header: variable
+ * length values are prefixed by their length.
+ */
+@Static
+@ParametersAreNonnullByDefault
+final class ValueSerializers {
+
+    private ValueSerializers() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Reads a {@code byte} array prefixed by its length on 4 bytes.
+     * <p>
+     * A large array grows as its content is read, as done by {@link Records#readFully(DataInput, int)}.
+     *
+     * @param in the input to read from
+     *
+     * @return the read array
+     *
+     * @throws StreamCorruptedException if the length is negative
+     * @throws java.io.EOFException     if the input ends before the content of the array
+     * @throws IOException              if an I/O error occurs
+     */
+    @Nonnull
+    static byte[] readBytes(DataInput in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            throw new StreamCorruptedException("Malformed length: " + length);
+        }
+
+        return Records.readFully(in, length);
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link Boolean}, on 1 byte.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfBoolean extends AbstractDataBinarySerializer<Boolean> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 316074393037004528L;
+
+        @Override
+        public void serialize(Boolean t, @WillNotClose DataOutput out) throws IOException {
+            out.writeBoolean(t);
+        }
+
+        @Nonnull
+        @Override
+        public Boolean deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readBoolean();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link Byte}, on 1 byte.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfByte extends AbstractDataBinarySerializer<Byte> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -1177917771292913238L;
+
+        @Override
+        public void serialize(Byte t, @WillNotClose DataOutput out) throws IOException {
+            out.writeByte(t);
+        }
+
+        @Nonnull
+        @Override
+        public Byte deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readByte();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link Character}, on 2 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfChar extends AbstractDataBinarySerializer<Character> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 1629318134645504592L;
+
+        @Override
+        public void serialize(Character t, @WillNotClose DataOutput out) throws IOException {
+            out.writeChar(t);
+        }
+
+        @Nonnull
+        @Override
+        public Character deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readChar();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link Short}, on 2 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfShort extends AbstractDataBinarySerializer<Short> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 3942466417210053510L;
+
+        @Override
+        public void serialize(Short t, @WillNotClose DataOutput out) throws IOException {
+            out.writeShort(t);
+        }
+
+        @Nonnull
+        @Override
+        public Short deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readShort();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for an {@link Integer}, on 4 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfInt extends AbstractDataBinarySerializer<Integer> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 1549969318545999063L;
+
+        @Override
+        public void serialize(Integer t, @WillNotClose DataOutput out) throws IOException {
+            out.writeInt(t);
+        }
+
+        @Nonnull
+        @Override
+        public Integer deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readInt();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link Long}, on 8 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfLong extends AbstractDataBinarySerializer<Long> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -1486545629000274493L;
+
+        @Override
+        public void serialize(Long t, @WillNotClose DataOutput out) throws IOException {
+            out.writeLong(t);
+        }
+
+        @Nonnull
+        @Override
+        public Long deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readLong();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link Float}, on 4 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfFloat extends AbstractDataBinarySerializer<Float> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 3183662408402854485L;
+
+        @Override
+        public void serialize(Float t, @WillNotClose DataOutput out) throws IOException {
+            out.writeFloat(t);
+        }
+
+        @Nonnull
+        @Override
+        public Float deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readFloat();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link Double}, on 8 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfDouble extends AbstractDataBinarySerializer<Double> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -1504738265310465114L;
+
+        @Override
+        public void serialize(Double t, @WillNotClose DataOutput out) throws IOException {
+            out.writeDouble(t);
+        }
+
+        @Nonnull
+        @Override
+        public Double deserialize(@WillNotClose DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link String}, encoded in UTF-8 and prefixed by its length in bytes on 4 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfString extends AbstractDataBinarySerializer<String> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -3664740329586794964L;
+
+        @Override
+        public void serialize(String t, @WillNotClose DataOutput out) throws IOException {
+            final byte[] bytes = t.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Nonnull
+        @Override
+        public String deserialize(@WillNotClose DataInput in) throws IOException {
+            return new String(readBytes(in), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@code byte} array, prefixed by its length on 4 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfBytes extends AbstractDataBinarySerializer<byte[]> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -2168865373407474007L;
+
+        @Override
+        public void serialize(byte[] t, @WillNotClose DataOutput out) throws IOException {
+            out.writeInt(t.length);
+            out.write(t);
+        }
+
+        @Nonnull
+        @Override
+        public byte[] deserialize(@WillNotClose DataInput in) throws IOException {
+            return readBytes(in);
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for an {@link UnsignedInt}, on 4 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfUnsignedInt extends AbstractDataBinarySerializer<UnsignedInt> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -3443498483822734886L;
+
+        @Override
+        public void serialize(UnsignedInt t, @WillNotClose DataOutput out) throws IOException {
+            out.writeInt(t.intValue());
+        }
+
+        @Nonnull
+        @Override
+        public UnsignedInt deserialize(@WillNotClose DataInput in) throws IOException {
+            return UnsignedInt.fromInt(in.readInt());
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for an {@link UnsignedVarInt}, on 1 to 9 bytes.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfUnsignedVarInt extends AbstractDataBinarySerializer<UnsignedVarInt> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -830839178524973677L;
+
+        @Override
+        public void serialize(UnsignedVarInt t, @WillNotClose DataOutput out) throws IOException {
+            VarInts.writeLong(out, t.longValue());
+        }
+
+        @Nonnull
+        @Override
+        public UnsignedVarInt deserialize(@WillNotClose DataInput in) throws IOException {
+            final long value = VarInts.readLong(in);
+            if (value < 0 || value > UnsignedVarInt.MAX_VALUE) {
+                throw new StreamCorruptedException("Malformed UnsignedVarInt: " + value);
+            }
+            return UnsignedVarInt.fromLong(value);
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link HashCode}, prefixed by its length in bytes on 1 byte.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfHashCode extends AbstractDataBinarySerializer<HashCode> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -474061517820871924L;
+
+        @Override
+        public void serialize(HashCode t, @WillNotClose DataOutput out) throws IOException {
+            final byte[] bytes = t.toBytes();
+            checkArgument(bytes.length <= 0xFF, "hash code is too long");
+
+            out.writeByte(bytes.length);
+            out.write(bytes);
+        }
+
+        @Nonnull
+        @Override
+        public HashCode deserialize(@WillNotClose DataInput in) throws IOException {
+            final int length = in.readUnsignedByte();
+            if (length == 0) {
+                throw new StreamCorruptedException("Malformed HashCode: empty");
+            }
+
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return HashCode.fromBytes(bytes);
+        }
+    }
+
+    /**
+     * A {@link BinarySerializer} for a {@link CompressedBitmap}, in the form of {@link
+     * CompressedBitmap#writeOn(ByteBuffer)}.
+     */
+    @ParametersAreNonnullByDefault
+    static final class OfCompressedBitmap extends AbstractDataBinarySerializer<CompressedBitmap> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 2408291432961432254L;
+
+        @Nonnull
+        @Override
+        public byte[] serialize(CompressedBitmap t) {
+            final ByteBuffer buffer = ByteBuffer.allocate(t.serializedSize());
+            t.writeOn(buffer);
+            return buffer.array();
+        }
+
+        @Override
+        public void serialize(CompressedBitmap t, ByteBuffer buffer) {
+            t.writeOn(buffer);
+        }
+
+        @Override
+        public void serialize(CompressedBitmap t, @WillNotClose DataOutput out) throws IOException {
+            t.writeTo(out);
+        }
+
+        @Nonnull
+        @Override
+        public CompressedBitmap deserialize(ByteBuffer buffer) throws IOException {
+            checkNotNull(buffer, "buffer");
+
+            try {
+                return CompressedBitmap.fromByteBuffer(buffer);
+            }
+            catch (IllegalArgumentException | BufferUnderflowException e) {
+                StreamCorruptedException ex = new StreamCorruptedException("Malformed CompressedBitmap");
+                ex.initCause(e);
+                throw ex;
+            }
+        }
+
+        @Nonnull
+        @Override
+        public CompressedBitmap deserialize(@WillNotClose DataInput in) throws IOException {
+            return CompressedBitmap.readFrom(in);
+        }
+    }
+}
@@ -11,14 +11,20 @@ package org.atlanmod.commons.primitive;
 import org.atlanmod.commons.Throwables;
 import org.atlanmod.commons.annotation.Static;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import static org.atlanmod.commons.Guards.checkArgument;
 import static org.atlanmod.commons.Guards.checkEqualTo;
 import static org.atlanmod.commons.Guards.checkNotNull;
 
@@ -35,16 +41,33 @@ public final class Bytes {
     private static final int BYTE_MASK = 0xff;
 
     /**
-     * The mask for unsigned hexadecimal digits (4 bits).
+     * The lowercase hexadecimal digits.
      */
-    private static final short HEX_MASK = 0xf;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
     /**
-     * The valid hexadecimal values.
-     *
-     * @see #toStringBinary(byte[])
+     * The two hexadecimal digits of each byte value: the digits of {@code b} are at {@code 2 * (b & 0xff)} and
+     * {@code 2 * (b & 0xff) + 1}.
      */
-    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final char[] HEX_PAIRS = new char[256 * 2];
+
+    /**
+     * The two hexadecimal digits of each byte value, as two ASCII bytes in the big-endian order.
+     */
+    private static final short[] ASCII_HEX_PAIRS = new short[256];
+
+    /**
+     * A view of a {@code byte} array as an array of big-endian {@code short}s, at any offset.
+     */
+    private static final VarHandle SHORTS = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            HEX_PAIRS[i * 2] = HEX_DIGITS[i >>> 4];
+            HEX_PAIRS[i * 2 + 1] = HEX_DIGITS[i & 0xf];
+            ASCII_HEX_PAIRS[i] = (short) (HEX_DIGITS[i >>> 4] << 8 | HEX_DIGITS[i & 0xf]);
+        }
+    }
 
     private Bytes() {
         throw Throwables.notInstantiableClass(getClass());
@@ -223,22 +246,74 @@ public final class Bytes {
      *
      * @return a {@link String}
      *
-     * @throws NullPointerException if the {@code bytes} is {@code null}
+     * @throws NullPointerException     if the {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if the {@code bytes} is too large to be encoded in a {@link String}
      * @see Strings#toBytesBinary(String)
      */
     @Nonnull
     public static String toStringBinary(final byte[] bytes) {
         checkNotNull(bytes, "bytes");
+        checkArgument(bytes.length <= Integer.MAX_VALUE / 2, "bytes is too large: %d", bytes.length);
 
-        char[] result = new char[bytes.length * 2];
+        final byte[] ascii = new byte[bytes.length * 2];
+        toStringBinary(bytes, 0, bytes.length, ascii, 0);
+        return new String(ascii, StandardCharsets.ISO_8859_1);
+    }
 
-        int i = 0;
-        for (byte b : bytes) {
-            result[i++] = HEX_DIGITS[b >> 4 & HEX_MASK];
-            result[i++] = HEX_DIGITS[b & HEX_MASK];
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array of characters,
+     * as two-digit unsigned hexadecimal numbers in lower case.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters, {@code 2 * length}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     * @see #toStringBinary(byte[])
+     */
+    @Nonnegative
+    public static int toStringBinary(byte[] src, @Nonnegative int offset, @Nonnegative int length, char[] dest, @Nonnegative int destOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        Objects.checkFromIndexSize(destOffset, length * 2, dest.length);
+
+        for (int i = 0, j = destOffset; i < length; i++, j += 2) {
+            final int index = (src[offset + i] & BYTE_MASK) << 1;
+            dest[j] = HEX_PAIRS[index];
+            dest[j + 1] = HEX_PAIRS[index + 1];
         }
+        return length * 2;
+    }
 
-        return new String(result);
+    /**
+     * Encodes {@code length} bytes of {@code src}, starting at {@code offset}, in the {@code dest} array of ASCII
+     * characters, as two-digit unsigned hexadecimal numbers in lower case.
+     * <p>
+     * Each pair of digits is written at once, as a 16-bit value.
+     *
+     * @param src        the bytes to encode
+     * @param offset     the index of the first byte to encode
+     * @param length     the number of bytes to encode
+     * @param dest       the array where to write the ASCII characters
+     * @param destOffset the index of the first character to write in {@code dest}
+     *
+     * @return the number of written characters, {@code 2 * length}
+     *
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     * @see #toStringBinary(byte[])
+     */
+    @Nonnegative
+    public static int toStringBinary(byte[] src, @Nonnegative int offset, @Nonnegative int length, byte[] dest, @Nonnegative int destOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        Objects.checkFromIndexSize(destOffset, length * 2, dest.length);
+
+        for (int i = 0, j = destOffset; i < length; i++, j += 2) {
+            SHORTS.set(dest, j, ASCII_HEX_PAIRS[src[offset + i] & BYTE_MASK]);
+        }
+        return length * 2;
     }
 
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons;
+
+import org.atlanmod.commons.annotation.Static;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Static methods that synchronize the threads of a test-case with {@link CountDownLatch}es.
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class Latches {
+
+    /**
+     * The maximum time to wait for a latch, in seconds.
+     */
+    private static final long TIMEOUT = 5;
+
+    private Latches() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Waits for the {@code latch}, failing if it takes too long. This method can be called from any thread, such as a
+     * loader or a writer called by the tested object.
+     *
+     * @param latch the latch to wait for
+     *
+     * @throws IllegalStateException if the {@code latch} is not released within 5 seconds, or if the current thread is
+     *                               interrupted while waiting
+     */
+    public static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timed out");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
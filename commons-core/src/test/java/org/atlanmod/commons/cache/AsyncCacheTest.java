@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.concurrent.MoreExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.atlanmod.commons.Latches.await;
+
+/**
+ * A test-case that checks the behavior of {@link AsyncCache}.
+ */
+@ParametersAreNonnullByDefault
+class AsyncCacheTest extends AbstractTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MoreExecutors.shutdown(executor, 1, TimeUnit.SECONDS, false);
+    }
+
+    @Test
+    void testGetAsync() {
+        AtomicInteger loads = new AtomicInteger();
+        AsyncCache<Integer, String> cache = CacheBuilder.builder()
+                .executor(executor)
+                .recordStats()
+                .buildAsync(key -> {
+                    loads.incrementAndGet();
+                    return "Value" + key;
+                });
+
+        assertThat(cache.getIfPresent(0)).isNull();
+        assertThat(cache.getAsync(0).join()).isEqualTo("Value0");
+        assertThat(cache.getAsync(0).join()).isEqualTo("Value0");
+        assertThat(cache.getIfPresent(0)).isCompletedWithValue("Value0");
+        assertThat(loads).hasValue(1);
+
+        assertThat(cache.synchronous().get(1)).isEqualTo("Value1");
+        assertThat(cache.synchronous().size()).isEqualTo(2);
+        assertThat(cache.synchronous().stats().missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testConcurrentLoadsAreDeduplicated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        AsyncCache<Integer, String> cache = CacheBuilder.builder()
+                .executor(executor)
+                .buildAsync(key -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "Value" + key;
+                });
+
+        // The load is blocked: the calling thread must not be, and the second request must share the same load
+        CompletableFuture<String> first = cache.getAsync(0);
+        CompletableFuture<String> second = cache.getAsync(0);
+        assertThat(first).isNotDone();
+        assertThat(second).isSameAs(first);
+
+        release.countDown();
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("Value0");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testGetAllAsyncOverlapsMisses() throws Exception {
+        // Each load waits until all the misses are being loaded: they can only complete if they run concurrently
+        CountDownLatch started = new CountDownLatch(3);
+        AsyncCache<Integer, String> cache = CacheBuilder.builder()
+                .executor(executor)
+                .buildAsync(key -> {
+                    started.countDown();
+                    await(started);
+                    return "Value" + key;
+                });
+
+        cache.put(0, CompletableFuture.completedFuture("Value0"));
+
+        Map<Integer, String> result = cache.getAllAsync(Arrays.asList(0, 1, 2, 3)).get(1, TimeUnit.SECONDS);
+        assertThat(result).containsOnlyKeys(0, 1, 2, 3).containsEntry(3, "Value3");
+        assertThat(started.getCount()).isZero();
+    }
+
+    @Test
+    void testAsyncLoader() {
+        AsyncCache<Integer, String> cache = CacheBuilder.builder()
+                .executor(executor)
+                .buildAsync((Integer key, Executor e) -> CompletableFuture.supplyAsync(() -> "Value" + key, e));
+
+        assertThat(cache.getAsync(0).join()).isEqualTo("Value0");
+        assertThat(cache.getAsync(1, key -> "Other" + key).join()).isEqualTo("Other1");
+        assertThat(cache.getAllAsync(Arrays.asList(0, 1, 2)).join()).containsEntry(0, "Value0").containsEntry(1, "Other1").containsEntry(2, "Value2");
+    }
+
+    @Test
+    void testFailedAndNullLoadsAreNotCached() {
+        // Loads run in the calling thread, so that failed entries are removed before the futures are returned
+        AtomicInteger loads = new AtomicInteger();
+        AsyncCache<Integer, String> cache = CacheBuilder.builder()
+                .executor(Runnable::run)
+                .buildAsync(key -> {
+                    if (loads.incrementAndGet() == 1) {
+                        throw new IllegalStateException("unavailable");
+                    }
+                    return key == 0 ? null : "Value" + key;
+                });
+
+        assertThat(catchThrowable(() -> cache.getAsync(1).join())).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.getAsync(1).join()).isEqualTo("Value1");
+
+        assertThat(cache.getAsync(0).join()).isNull();
+        assertThat(cache.getAllAsync(Arrays.asList(0, 1)).join()).containsOnlyKeys(1);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void testGetAllAsyncWithBulkLoader() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Set<? extends Integer>> bulkLoads = new CopyOnWriteArrayList<>();
+        AsyncCache<Integer, String> cache = CacheBuilder.builder()
+                .executor(executor)
+                .buildAsync(key -> {
+                    loads.incrementAndGet();
+                    return "Value" + key;
+                }, keys -> {
+                    bulkLoads.add(keys);
+                    return keys.stream().collect(Collectors.toMap(k -> k, k -> "Value" + k));
+                });
+
+        cache.put(0, CompletableFuture.completedFuture("Value0"));
+
+        assertThat(cache.getAllAsync(Arrays.asList(0, 1, 2, 3)).join()).containsOnlyKeys(0, 1, 2, 3);
+        assertThat(bulkLoads).hasSize(1);
+        assertThat(bulkLoads.get(0).toArray()).containsExactlyInAnyOrder(1, 2, 3);
+
+        assertThat(cache.getAllAsync(Arrays.asList(3, 4), keys -> Collections.singletonMap(4, "Other4")).join())
+                .containsEntry(3, "Value3").containsEntry(4, "Other4");
+        assertThat(bulkLoads).hasSize(1);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void testInvalidBuilders() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().softValues().buildAsync(key -> key))).isInstanceOf(IllegalStateException.class);
+        assertThat(catchThrowable(() -> CacheBuilder.builder().executor(executor).executor(executor))).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -14,8 +14,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -189,6 +192,39 @@ class CacheTest extends AbstractTest {
         assertThat(cache.get(1)).isNull();
     }
 
+    @Test
+    void testGetAllWithBulkFunction() {
+        cache.put(0, "Value0");
+
+        AtomicInteger calls = new AtomicInteger();
+        Map<Integer, String> result = cache.getAll(Arrays.asList(0, 1, 2, 1), keys -> {
+            calls.incrementAndGet();
+            assertThat(keys.toArray()).containsExactlyInAnyOrder(1, 2);
+            return keys.stream().collect(Collectors.toMap(k -> k, k -> "Value" + k));
+        });
+
+        assertThat(result).containsOnlyKeys(0, 1, 2).containsEntry(2, "Value2");
+        assertThat(cache.get(1)).isEqualTo("Value1");
+        assertThat(calls).hasValue(1);
+
+        cache.getAll(Arrays.asList(1, 2), keys -> {
+            throw new AssertionError("All values are present");
+        });
+    }
+
+    @Test
+    void testGetAllWithBulkFunctionOnEmptyCache() {
+        Cache<Integer, String> empty = CacheBuilder.empty();
+
+        Map<Integer, String> result = empty.getAll(Arrays.asList(0, 1, 0), (Set<? extends Integer> keys) -> {
+            assertThat(keys.toArray()).containsExactly(0, 1);
+            return keys.stream().filter(k -> k > 0).collect(Collectors.toMap(k -> k, k -> "Value" + k));
+        });
+
+        assertThat(result).containsOnlyKeys(1);
+        assertThat(empty.size()).isZero();
+    }
+
     @Test
     void asMap() throws Exception {
         String value0 = "Value0";
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.concurrent.MoreExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.atlanmod.commons.Latches.await;
+
+/**
+ * A test-case that checks the expiration and the refresh of {@link Cache} entries.
+ */
+@ParametersAreNonnullByDefault
+class ExpiringCacheTest extends AbstractTest {
+
+    /**
+     * The current time of the {@link Ticker}, in nanoseconds.
+     */
+    private AtomicLong time;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MoreExecutors.shutdown(executor, 1, TimeUnit.SECONDS, false);
+    }
+
+    @Test
+    void testExpireAfterWrite() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .ticker(time::get)
+                .executor(Runnable::run)
+                .build();
+
+        cache.put(0, "Value0");
+        advance(Duration.ofSeconds(40));
+        assertThat(cache.get(0)).isEqualTo("Value0");
+
+        cache.put(1, "Value1");
+        advance(Duration.ofSeconds(40));
+        assertThat(cache.get(0)).isNull();
+        assertThat(cache.get(1)).isEqualTo("Value1");
+
+        cache.cleanUp();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testExpireAfterAccess() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .expireAfterAccess(Duration.ofMinutes(1))
+                .ticker(time::get)
+                .executor(Runnable::run)
+                .build();
+
+        cache.put(0, "Value0");
+        cache.put(1, "Value1");
+        for (int i = 0; i < 3; i++) {
+            advance(Duration.ofSeconds(40));
+            assertThat(cache.get(0)).isEqualTo("Value0");
+        }
+        assertThat(cache.get(1)).isNull();
+    }
+
+    @Test
+    void testExpireAfter() {
+        // Values live as many seconds as their length
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .expireAfter((Integer key, String value, long currentTime) -> TimeUnit.SECONDS.toNanos(value.length()))
+                .ticker(time::get)
+                .executor(Runnable::run)
+                .build();
+
+        cache.put(0, "short");
+        cache.put(1, "a longer value");
+        advance(Duration.ofSeconds(10));
+        assertThat(cache.get(0)).isNull();
+        assertThat(cache.get(1)).isEqualTo("a longer value");
+
+        // The remaining lifetime is kept after a read or an update
+        cache.put(1, "updated");
+        advance(Duration.ofSeconds(5));
+        assertThat(cache.get(1)).isNull();
+    }
+
+    @Test
+    void testRefreshAfterWrite() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger version = new AtomicInteger();
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .refreshAfterWrite(Duration.ofMinutes(1))
+                .ticker(time::get)
+                .executor(executor)
+                .build(key -> {
+                    int current = version.incrementAndGet();
+                    if (current > 1) {
+                        await(release);
+                    }
+                    return "Value" + key + '#' + current;
+                });
+
+        assertThat(cache.get(0)).isEqualTo("Value0#1");
+
+        // The reload is blocked: readers must keep getting the stale value without waiting
+        advance(Duration.ofMinutes(2));
+        assertThat(cache.get(0)).isEqualTo("Value0#1");
+        assertThat(cache.get(0)).isEqualTo("Value0#1");
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"Value0#2".equals(cache.get(0)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.get(0)).isEqualTo("Value0#2");
+        assertThat(version).hasValue(2);
+    }
+
+    @Test
+    void testRefreshKeepsValueOnFailure() {
+        AtomicInteger version = new AtomicInteger();
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .refreshAfterWrite(Duration.ofMinutes(1))
+                .ticker(time::get)
+                .executor(Runnable::run)
+                .build(key -> {
+                    if (version.incrementAndGet() > 1) {
+                        throw new IllegalStateException("unavailable");
+                    }
+                    return "Value" + key;
+                });
+
+        assertThat(cache.get(0)).isEqualTo("Value0");
+
+        advance(Duration.ofMinutes(2));
+        assertThat(cache.get(0)).isEqualTo("Value0");
+        assertThat(cache.get(0)).isEqualTo("Value0");
+        assertThat(version.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void testInvalidBuilders() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().expireAfterWrite(Duration.ofSeconds(-1)))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> CacheBuilder.builder().expireAfterAccess(Duration.ofSeconds(-1)))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> CacheBuilder.builder().refreshAfterWrite(Duration.ZERO))).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().refreshAfterWrite(Duration.ofSeconds(1)).build())).isInstanceOf(IllegalStateException.class);
+        assertThat(catchThrowable(() -> CacheBuilder.builder().expireAfterWrite(Duration.ofSeconds(1)).expireAfter((k, v, t) -> 0L))).isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Advances the time of the ticker by the {@code duration}.
+     */
+    private void advance(Duration duration) {
+        time.addAndGet(duration.toNanos());
+    }
+}
@@ -14,8 +14,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -97,6 +99,30 @@ class LoadingCacheTest extends AbstractTest {
         assertThat(result.get(2)).isEqualTo(value2);
     }
 
+    @Test
+    void testGetAllWithBulkLoader() {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger bulkLoads = new AtomicInteger();
+        Cache<Integer, String> bulkCache = CacheBuilder.builder()
+                .build(key -> {
+                    loads.incrementAndGet();
+                    return "Value" + key;
+                }, keys -> {
+                    bulkLoads.incrementAndGet();
+                    return keys.stream().collect(Collectors.toMap(k -> k, k -> "Value" + k));
+                });
+
+        assertThat(bulkCache.get(0)).isEqualTo("Value0");
+
+        Map<Integer, String> result = bulkCache.getAll(IntStream.range(0, 500).boxed().collect(Collectors.toList()));
+        assertThat(result).hasSize(500).containsEntry(499, "Value499");
+        assertThat(loads).hasValue(1);
+        assertThat(bulkLoads).hasValue(1);
+
+        assertThat(bulkCache.getAll(Arrays.asList(1, 2, 3))).hasSize(3);
+        assertThat(bulkLoads).hasValue(1);
+    }
+
     @Test
     void testInvalidate() {
         String value0 = "Value0";
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the notification of {@link RemovalListener}s.
+ */
+@ParametersAreNonnullByDefault
+class RemovalListenerTest extends AbstractTest {
+
+    @Test
+    void testExplicitAndReplaced() {
+        List<String> removals = new CopyOnWriteArrayList<>();
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .executor(Runnable::run)
+                .removalListener((Integer key, String value, RemovalCause cause) -> removals.add(key + "=" + value + ":" + cause))
+                .build();
+
+        cache.put(0, "Value0");
+        cache.put(0, "Other0");
+        cache.put(1, "Value1");
+        cache.invalidate(1);
+        cache.asMap().remove(0);
+
+        assertThat(removals).containsExactly("0=Value0:REPLACED", "1=Value1:EXPLICIT", "0=Other0:EXPLICIT");
+    }
+
+    @Test
+    void testSize() {
+        List<RemovalCause> removals = new CopyOnWriteArrayList<>();
+        List<RemovalCause> evictions = new CopyOnWriteArrayList<>();
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .maximumSize(10)
+                .executor(Runnable::run)
+                .removalListener((Integer key, String value, RemovalCause cause) -> removals.add(cause))
+                .evictionListener((Integer key, String value, RemovalCause cause) -> evictions.add(cause))
+                .build();
+
+        for (int i = 0; i < 20; i++) {
+            cache.put(i, "Value" + i);
+        }
+        cache.invalidate(cache.asMap().keySet().iterator().next());
+        cache.cleanUp();
+
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(evictions).hasSize(10).containsOnly(RemovalCause.SIZE);
+        assertThat(removals).hasSize(11).containsOnly(RemovalCause.SIZE, RemovalCause.EXPLICIT);
+    }
+
+    @Test
+    void testExpired() {
+        AtomicLong time = new AtomicLong();
+        List<String> evictions = new CopyOnWriteArrayList<>();
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .ticker(time::get)
+                .executor(Runnable::run)
+                .evictionListener((Integer key, String value, RemovalCause cause) -> evictions.add(key + "=" + value + ":" + cause))
+                .build();
+
+        cache.put(0, "Value0");
+        cache.invalidate(0);
+        cache.put(1, "Value1");
+        time.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.cleanUp();
+
+        assertThat(evictions).containsExactly("1=Value1:EXPIRED");
+    }
+
+    @Test
+    void testRemovalListenerRunsOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "listener"));
+        try {
+            CompletableFuture<String> thread = new CompletableFuture<>();
+            Cache<Integer, String> cache = CacheBuilder.builder()
+                    .executor(executor)
+                    .removalListener((Integer key, String value, RemovalCause cause) -> thread.complete(Thread.currentThread().getName()))
+                    .build();
+
+            cache.put(0, "Value0");
+            cache.invalidate(0);
+
+            assertThat(thread.get(5, TimeUnit.SECONDS)).isEqualTo("listener");
+        }
+        finally {
+            MoreExecutors.shutdown(executor, 1, TimeUnit.SECONDS, false);
+        }
+    }
+
+    @Test
+    void testCauses() {
+        assertThat(RemovalCause.EXPLICIT.wasEvicted()).isFalse();
+        assertThat(RemovalCause.REPLACED.wasEvicted()).isFalse();
+        assertThat(RemovalCause.COLLECTED.wasEvicted()).isTrue();
+        assertThat(RemovalCause.EXPIRED.wasEvicted()).isTrue();
+        assertThat(RemovalCause.SIZE.wasEvicted()).isTrue();
+    }
+
+    @Test
+    void testInvalidBuilders() {
+        RemovalListener<Object, Object> listener = (key, value, cause) -> {
+        };
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().removalListener(listener).removalListener(listener))).isInstanceOf(IllegalStateException.class);
+        assertThat(catchThrowable(() -> CacheBuilder.builder().evictionListener(listener).evictionListener(listener))).isInstanceOf(IllegalStateException.class);
+    }
+}
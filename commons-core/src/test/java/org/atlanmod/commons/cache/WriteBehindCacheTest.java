@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.atlanmod.commons.Latches.await;
+
+/**
+ * A test-case that checks the behavior of {@link WriteBehindCache}.
+ */
+@ParametersAreNonnullByDefault
+class WriteBehindCacheTest extends AbstractTest {
+
+    /**
+     * A delay long enough to never trigger a flush during a test.
+     */
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    @Test
+    void testCoalescedBatch() {
+        RecordingWriter writer = new RecordingWriter();
+        try (WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(), writer, 100, 100, NEVER)) {
+            cache.put(0, "Value0");
+            cache.put(0, "Other0");
+            cache.putAll(Collections.singletonMap(1, "Value1"));
+            cache.invalidate(2);
+            cache.put(3, "Value3");
+            cache.invalidate(3);
+            cache.putIfAbsent(1, "Other1");
+
+            assertThat(cache.get(0)).isEqualTo("Other0");
+            assertThat(cache.get(1)).isEqualTo("Value1");
+            assertThat(cache.contains(3)).isFalse();
+            assertThat(cache.pendingWrites()).hasSize(4).containsEntry(0, "Other0").containsEntry(3, null);
+            assertThat(writer.writes).isEmpty();
+
+            cache.flush();
+
+            assertThat(writer.writes).containsExactly(map(0, "Other0", 1, "Value1"));
+            assertThat(writer.deletions).containsExactly(new HashSet<>(Arrays.asList(2, 3)));
+            assertThat(cache.pendingWrites()).isEmpty();
+
+            cache.flush();
+            assertThat(writer.writes).hasSize(1);
+        }
+    }
+
+    @Test
+    void testSizeThreshold() throws Exception {
+        QueueWriter writer = new QueueWriter();
+        try (WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(), writer, 10, 100, NEVER)) {
+            for (int i = 0; i < 9; i++) {
+                cache.put(i, "Value" + i);
+            }
+            assertThat(writer.batches.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+            cache.put(9, "Value9");
+            assertThat(writer.batches.poll(5, TimeUnit.SECONDS)).hasSize(10);
+        }
+    }
+
+    @Test
+    void testTimeThreshold() throws Exception {
+        QueueWriter writer = new QueueWriter();
+        try (WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(), writer, 100, 100, Duration.ofMillis(50))) {
+            cache.put(0, "Value0");
+            cache.put(1, "Value1");
+
+            assertThat(writer.batches.poll(5, TimeUnit.SECONDS)).containsOnlyKeys(0, 1);
+        }
+    }
+
+    @Test
+    void testBackpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        QueueWriter writer = new QueueWriter() {
+            @Override
+            public void writeAll(Map<? extends Integer, ? extends String> entries) {
+                super.writeAll(entries);
+                await(release);
+            }
+        };
+
+        try (WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(), writer, 2, 4, NEVER)) {
+            // The first batch is blocked in the writer, and the buffer is full with the keys being written
+            cache.put(0, "Value0");
+            cache.put(1, "Value1");
+            assertThat(writer.batches.poll(5, TimeUnit.SECONDS)).containsOnlyKeys(0, 1);
+            cache.put(2, "Value2");
+            cache.put(3, "Value3");
+
+            CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> cache.put(4, "Value4"));
+            assertThat(catchThrowable(() -> blocked.get(100, TimeUnit.MILLISECONDS))).isInstanceOf(TimeoutException.class);
+
+            // A buffered key is coalesced, and does not need more room
+            cache.put(2, "Other2");
+            assertThat(cache.get(0)).isEqualTo("Value0");
+
+            release.countDown();
+            blocked.get(5, TimeUnit.SECONDS);
+            assertThat(writer.batches.poll(5, TimeUnit.SECONDS)).containsEntry(2, "Other2").containsKey(3);
+        }
+    }
+
+    @Test
+    void testReadsPreferBufferedModifications() {
+        Map<Integer, String> storage = new ConcurrentHashMap<>();
+        storage.put(0, "Stored0");
+        storage.put(1, "Stored1");
+        storage.put(2, "Stored2");
+
+        CacheWriter<Integer, String> writer = new CacheWriter<Integer, String>() {
+            @Override
+            public void writeAll(Map<? extends Integer, ? extends String> entries) {
+                storage.putAll(entries);
+            }
+
+            @Override
+            public void deleteAll(Set<? extends Integer> keys) {
+                storage.keySet().removeAll(keys);
+            }
+        };
+
+        try (WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(storage::get), writer, 100, 100, NEVER)) {
+            cache.put(0, "Value0");
+            cache.invalidate(1);
+
+            // Simulate the eviction of the modified entry: the storage must not be read
+            cache.asMap().remove(0);
+            assertThat(cache.get(0)).isEqualTo("Value0");
+            assertThat(cache.get(1)).isNull();
+            assertThat(cache.get(1, k -> "Computed1")).isEqualTo("Computed1");
+            assertThat(cache.get(1)).isNull();
+            assertThat(cache.getAll(Arrays.asList(0, 1, 2))).isEqualTo(map(0, "Value0", 2, "Stored2"));
+
+            cache.flush();
+            assertThat(storage).isEqualTo(map(0, "Value0", 2, "Stored2"));
+
+            cache.invalidateAll();
+            assertThat(cache.pendingWrites()).containsOnlyKeys(2);
+        }
+        assertThat(storage).containsOnlyKeys(0);
+    }
+
+    @Test
+    void testFailedFlushIsRetried() {
+        RecordingWriter writer = new RecordingWriter() {
+            private boolean failed;
+
+            @Override
+            public void writeAll(Map<? extends Integer, ? extends String> entries) {
+                if (!failed) {
+                    failed = true;
+                    throw new IllegalStateException("unavailable");
+                }
+                super.writeAll(entries);
+            }
+        };
+
+        try (WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(), writer, 100, 100, NEVER)) {
+            cache.put(0, "Value0");
+            cache.put(1, "Value1");
+
+            assertThat(catchThrowable(cache::flush)).isInstanceOf(IllegalStateException.class);
+            assertThat(cache.pendingWrites()).containsOnlyKeys(0, 1);
+
+            // The newest modification wins over the failed one
+            cache.put(1, "Other1");
+            cache.flush();
+            assertThat(writer.writes).containsExactly(map(0, "Value0", 1, "Other1"));
+        }
+    }
+
+    @Test
+    void testFailedFlushDoesNotExceedCapacity() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingWriter writer = new RecordingWriter() {
+            @Override
+            public void writeAll(Map<? extends Integer, ? extends String> entries) {
+                if (writing.getCount() > 0) {
+                    writing.countDown();
+                    await(release);
+                    throw new IllegalStateException("unavailable");
+                }
+                super.writeAll(entries);
+            }
+        };
+
+        try (WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(), writer, 2, 3, NEVER)) {
+            // The first batch is blocked in the writer, and a single key can be buffered in addition
+            cache.put(0, "Value0");
+            cache.put(1, "Value1");
+            await(writing);
+            cache.put(2, "Value2");
+
+            CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> cache.put(3, "Value3"));
+            assertThat(catchThrowable(() -> blocked.get(100, TimeUnit.MILLISECONDS))).isInstanceOf(TimeoutException.class);
+
+            // The failed batch is restored in the buffer, which is still full
+            release.countDown();
+            assertThat(catchThrowable(() -> blocked.get(100, TimeUnit.MILLISECONDS))).isInstanceOf(TimeoutException.class);
+            assertThat(cache.pendingWrites()).containsOnlyKeys(0, 1, 2);
+
+            cache.flush();
+            blocked.get(5, TimeUnit.SECONDS);
+            assertThat(writer.writes).hasSize(1);
+            assertThat(writer.writes.get(0)).containsOnlyKeys(0, 1, 2);
+            assertThat(cache.pendingWrites()).containsOnlyKeys(3);
+        }
+    }
+
+    @Test
+    void testClose() {
+        RecordingWriter writer = new RecordingWriter();
+        WriteBehindCache<Integer, String> cache = CacheBuilder.writeBehind(CacheBuilder.builder().build(), writer, 100, 100, NEVER);
+        cache.put(0, "Value0");
+        cache.close();
+        cache.close();
+
+        assertThat(writer.writes).containsExactly(Collections.singletonMap(0, "Value0"));
+        assertThat(catchThrowable(() -> cache.put(1, "Value1"))).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(0)).isEqualTo("Value0");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Cache<Integer, String> delegate = CacheBuilder.builder().build();
+        RecordingWriter writer = new RecordingWriter();
+
+        assertThat(catchThrowable(() -> CacheBuilder.writeBehind(delegate, writer, 0, 10, NEVER))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> CacheBuilder.writeBehind(delegate, writer, 10, 5, NEVER))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> CacheBuilder.writeBehind(delegate, writer, 10, 10, Duration.ZERO))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Creates a map of two entries.
+     */
+    private static Map<Integer, String> map(Integer key0, String value0, Integer key1, String value1) {
+        Map<Integer, String> map = new HashMap<>();
+        map.put(key0, value0);
+        map.put(key1, value1);
+        return map;
+    }
+
+    /**
+     * A {@link CacheWriter} that records the batches it receives.
+     */
+    private static class RecordingWriter implements CacheWriter<Integer, String> {
+
+        final List<Map<Integer, String>> writes = new CopyOnWriteArrayList<>();
+
+        final List<Set<Integer>> deletions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void writeAll(Map<? extends Integer, ? extends String> entries) {
+            writes.add(new HashMap<>(entries));
+        }
+
+        @Override
+        public void deleteAll(Set<? extends Integer> keys) {
+            deletions.add(new HashSet<>(keys));
+        }
+    }
+
+    /**
+     * A {@link CacheWriter} that publishes the written batches in a queue.
+     */
+    private static class QueueWriter implements CacheWriter<Integer, String> {
+
+        final BlockingQueue<Map<Integer, String>> batches = new LinkedBlockingQueue<>();
+
+        @Override
+        public void writeAll(Map<? extends Integer, ? extends String> entries) {
+            batches.add(new HashMap<>(entries));
+        }
+
+        @Override
+        public void deleteAll(Set<? extends Integer> keys) {
+            // Not used
+        }
+    }
+}
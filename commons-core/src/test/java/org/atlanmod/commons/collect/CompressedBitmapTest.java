@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link CompressedBitmap}.
+ */
+@ParametersAreNonnullByDefault
+class CompressedBitmapTest extends AbstractTest {
+
+    /**
+     * The number of values of a chunk.
+     */
+    private static final int CHUNK = 1 << 16;
+
+    @Test
+    void testSetGetClear() {
+        CompressedBitmap bitmap = CompressedBitmap.of(3, 1, CHUNK + 2, Integer.MAX_VALUE);
+
+        assertThat(bitmap.cardinality()).isEqualTo(4);
+        assertThat(bitmap.get(1)).isTrue();
+        assertThat(bitmap.get(2)).isFalse();
+        assertThat(bitmap.get(-1)).isFalse();
+        assertThat(bitmap.get(Integer.MAX_VALUE)).isTrue();
+        assertThat(bitmap.toArray()).containsExactly(1, 3, CHUNK + 2, Integer.MAX_VALUE);
+
+        bitmap.clear(3);
+        bitmap.clear(CHUNK + 2);
+        bitmap.clear(5);
+        assertThat(bitmap.toArray()).containsExactly(1, Integer.MAX_VALUE);
+
+        bitmap.clear(1);
+        bitmap.clear(Integer.MAX_VALUE);
+        assertThat(bitmap.isEmpty()).isTrue();
+
+        assertThat(catchThrowable(() -> bitmap.set(-1))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> bitmap.set(5, 4))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 5000, 40000, 65536})
+    void testContainerConversions(int count) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet expected = new BitSet();
+        for (int i = 0; i < count; i++) {
+            bitmap.set(i);
+            expected.set(i);
+        }
+        assertSame(bitmap, expected);
+
+        bitmap.optimize();
+        assertSame(bitmap, expected);
+        assertThat(bitmap.serializedSize()).isEqualTo(4 + 2 + 3 + 2 + 4);
+
+        for (int i = 0; i < count; i += 2) {
+            bitmap.clear(i);
+            expected.clear(i);
+        }
+        assertSame(bitmap, expected);
+
+        bitmap.set(count / 3);
+        expected.set(count / 3);
+        bitmap.optimize();
+        assertSame(bitmap, expected);
+    }
+
+    @Test
+    void testRanges() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet expected = new BitSet();
+
+        bitmap.set(10, 3 * CHUNK + 5);
+        expected.set(10, 3 * CHUNK + 5);
+        assertSame(bitmap, expected);
+        assertThat(bitmap.serializedSize()).isEqualTo(4 + 2 + 4 * (3 + 2 + 4));
+
+        bitmap.clear(CHUNK - 3, 2 * CHUNK + 7);
+        expected.clear(CHUNK - 3, 2 * CHUNK + 7);
+        assertSame(bitmap, expected);
+
+        bitmap.set(5);
+        expected.set(5);
+        bitmap.clear(100);
+        expected.clear(100);
+        bitmap.set(90, 200);
+        expected.set(90, 200);
+        assertSame(bitmap, expected);
+
+        bitmap.clear(0, 4 * CHUNK);
+        assertThat(bitmap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testNextSetBitAndIterator() {
+        CompressedBitmap bitmap = CompressedBitmap.of(5, CHUNK * 3 + 1);
+        bitmap.set(CHUNK * 5, CHUNK * 6);
+
+        assertThat(bitmap.nextSetBit(0)).isEqualTo(5);
+        assertThat(bitmap.nextSetBit(6)).isEqualTo(CHUNK * 3 + 1);
+        assertThat(bitmap.nextSetBit(CHUNK * 3 + 2)).isEqualTo(CHUNK * 5);
+        assertThat(bitmap.nextSetBit(CHUNK * 5 + 7)).isEqualTo(CHUNK * 5 + 7);
+        assertThat(bitmap.nextSetBit(CHUNK * 6)).isEqualTo(-1);
+
+        PrimitiveIterator.OfInt iterator = bitmap.iterator();
+        assertThat(iterator.nextInt()).isEqualTo(5);
+        assertThat(iterator.nextInt()).isEqualTo(CHUNK * 3 + 1);
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertThat(iterator.nextInt()).isEqualTo(CHUNK * 5 + count++);
+        }
+        assertThat(count).isEqualTo(CHUNK);
+    }
+
+    @Test
+    void testAnd() {
+        testOperation(CompressedBitmap::and, BitSet::and);
+    }
+
+    @Test
+    void testOr() {
+        testOperation(CompressedBitmap::or, BitSet::or);
+    }
+
+    @Test
+    void testAndNot() {
+        testOperation(CompressedBitmap::andNot, BitSet::andNot);
+    }
+
+    @Test
+    void testXor() {
+        testOperation(CompressedBitmap::xor, BitSet::xor);
+    }
+
+    @Test
+    void testEqualsAcrossRepresentations() {
+        CompressedBitmap runs = new CompressedBitmap();
+        runs.set(0, 10_000);
+
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.set(i);
+        }
+
+        assertThat(runs).isEqualTo(bitmap).hasSameHashCodeAs(bitmap);
+
+        bitmap.clear(42);
+        assertThat(runs).isNotEqualTo(bitmap);
+        assertThat(CompressedBitmap.of(1, 2).toString()).isEqualTo("[1, 2]");
+    }
+
+    @Test
+    void testByteBuffer() {
+        CompressedBitmap expected = randomBitmap(new Random(7), new BitSet());
+        ByteBuffer buffer = ByteBuffer.allocate(expected.serializedSize() + 3);
+        buffer.put((byte) 1);
+
+        expected.writeOn(buffer);
+        assertThat(buffer.position()).isEqualTo(expected.serializedSize() + 1);
+
+        buffer.flip().get();
+        assertThat(CompressedBitmap.fromByteBuffer(buffer)).isEqualTo(expected);
+        assertThat(buffer.position()).isEqualTo(expected.serializedSize() + 1);
+
+        ByteBuffer small = ByteBuffer.allocate(expected.serializedSize() - 1);
+        assertThat(catchThrowable(() -> expected.writeOn(small))).isInstanceOf(BufferOverflowException.class);
+        assertThat(small.position()).isZero();
+
+        ByteBuffer truncated = ByteBuffer.allocate(expected.serializedSize());
+        expected.writeOn(truncated);
+        truncated.flip().limit(truncated.limit() - 1);
+        assertThat(catchThrowable(() -> CompressedBitmap.fromByteBuffer(truncated))).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    @Test
+    void testMalformed() {
+        ByteBuffer unknownType = ByteBuffer.allocate(9).putInt(5).putChar((char) 1).putChar((char) 0).put((byte) 7).flip();
+        assertThat(catchThrowable(() -> CompressedBitmap.fromByteBuffer(unknownType))).isInstanceOf(IllegalArgumentException.class);
+
+        ByteBuffer unordered = ByteBuffer.allocate(15).putInt(11).putChar((char) 1).putChar((char) 0).put((byte) 0)
+                .putChar((char) 1).putChar((char) 5).putChar((char) 3).flip();
+        assertThat(catchThrowable(() -> CompressedBitmap.fromByteBuffer(unordered))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDataStreamAndSerialization() throws Exception {
+        CompressedBitmap expected = randomBitmap(new Random(11), new BitSet());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        expected.writeTo(new DataOutputStream(bytes));
+        assertThat(bytes.size()).isEqualTo(expected.serializedSize());
+        assertThat(CompressedBitmap.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))).isEqualTo(expected);
+
+        bytes.reset();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(expected);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(expected);
+        }
+    }
+
+    /**
+     * Checks that a bulk operation on random bitmaps, mixing all kinds of containers, gives the same result as on
+     * {@link BitSet}s.
+     */
+    private void testOperation(BiConsumer<CompressedBitmap, CompressedBitmap> operation, BiConsumer<BitSet, BitSet> expectedOperation) {
+        Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            BitSet left = new BitSet();
+            BitSet right = new BitSet();
+            CompressedBitmap leftBitmap = randomBitmap(random, left);
+            CompressedBitmap rightBitmap = randomBitmap(random, right);
+            CompressedBitmap rightCopy = rightBitmap.copy();
+
+            operation.accept(leftBitmap, rightBitmap);
+            expectedOperation.accept(left, right);
+
+            assertSame(leftBitmap, left);
+            assertThat(rightBitmap).isEqualTo(rightCopy);
+        }
+    }
+
+    /**
+     * Creates a random bitmap with sparse, dense, and run chunks, and sets the same values in {@code expected}.
+     */
+    private CompressedBitmap randomBitmap(Random random, BitSet expected) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int chunk = 0; chunk < 8; chunk++) {
+            final int base = chunk * CHUNK;
+            switch (random.nextInt(4)) {
+                case 0:
+                    for (int i = 0; i < 100; i++) {
+                        final int value = base + random.nextInt(CHUNK);
+                        bitmap.set(value);
+                        expected.set(value);
+                    }
+                    break;
+                case 1:
+                    for (int i = 0; i < 20_000; i++) {
+                        final int value = base + random.nextInt(CHUNK);
+                        bitmap.set(value);
+                        expected.set(value);
+                    }
+                    break;
+                case 2:
+                    for (int i = 0; i < 3; i++) {
+                        final int from = base + random.nextInt(CHUNK);
+                        final int to = Math.min(base + CHUNK, from + random.nextInt(10_000));
+                        bitmap.set(from, to);
+                        expected.set(from, to);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (random.nextBoolean()) {
+            bitmap.optimize();
+        }
+        return bitmap;
+    }
+
+    /**
+     * Checks that the {@code actual} bitmap contains the same values as the {@code expected} set.
+     */
+    private void assertSame(CompressedBitmap actual, BitSet expected) {
+        assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertThat(actual.toArray()).isEqualTo(expected.stream().toArray());
+
+        for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1)) {
+            assertThat(actual.get(i)).isTrue();
+        }
+        assertThat(actual.isEmpty()).isEqualTo(expected.isEmpty());
+    }
+}
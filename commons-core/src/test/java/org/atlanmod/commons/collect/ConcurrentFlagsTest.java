@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link ConcurrentFlags}.
+ */
+@ParametersAreNonnullByDefault
+class ConcurrentFlagsTest extends AbstractTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 13, 64, 72, 200})
+    void testSameBehaviorAsFlags(int size) {
+        ConcurrentFlags actual = new ConcurrentFlags(size);
+        Flags expected = new Flags(size);
+        assertThat(actual.size()).isEqualTo(expected.size());
+
+        actual.set(1, size - 2);
+        expected.set(1, size - 2);
+        actual.clear(3, size - 4);
+        expected.clear(3, size - 4);
+        actual.set(size - 1);
+        expected.set(size - 1);
+        actual.set(1, false);
+        expected.set(1, false);
+
+        assertThat(actual.toBytes()).isEqualTo(expected.toBytes());
+        assertThat(actual.toFlags()).isEqualTo(expected);
+        assertThat(ConcurrentFlags.copyOf(expected).toFlags()).isEqualTo(expected);
+        assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i)).isEqualTo(expected.get(i));
+            assertThat(actual.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+            assertThat(actual.nextClearBit(i)).isEqualTo(expected.nextClearBit(i));
+        }
+
+        actual.clear(0, actual.size());
+        assertThat(actual.isEmpty()).isTrue();
+        assertThat(catchThrowable(() -> actual.setIfAbsent(actual.size()))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testSetIfAbsent() {
+        ConcurrentFlags flags = new ConcurrentFlags(16);
+
+        assertThat(flags.setIfAbsent(3)).isTrue();
+        assertThat(flags.setIfAbsent(3)).isFalse();
+        assertThat(flags.get(3)).isTrue();
+
+        flags.clear(3);
+        assertThat(flags.setIfAbsent(3)).isTrue();
+    }
+
+    @Test
+    void testParallelMarking() throws Exception {
+        final int size = 1 << 16;
+        final int rounds = 4;
+        ConcurrentFlags flags = new ConcurrentFlags(size);
+        AtomicInteger winners = new AtomicInteger();
+
+        // Each index is marked several times, by any thread of the pool: only one mark must win
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> IntStream.range(0, size * rounds)
+                    .parallel()
+                    .filter(i -> flags.setIfAbsent(i % size))
+                    .forEach(i -> winners.incrementAndGet()))
+                    .get();
+        }
+        finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(winners.get()).isEqualTo(size);
+        assertThat(flags.cardinality()).isEqualTo(size);
+        assertThat(flags.nextClearBit(0)).isEqualTo(-1);
+    }
+}
@@ -4,7 +4,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.BitSet;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 class FlagsTest {
     @ParameterizedTest
@@ -61,4 +69,143 @@ class FlagsTest {
             assertThat(flags.get(i)).isFalse();
         }
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 64, 72, 200})
+    void testSetAndClearRange(int size) {
+        Flags flags = new Flags(size);
+        flags.set(3, size - 2);
+        for (int i = 0; i < size; i++) {
+            assertThat(flags.get(i)).isEqualTo(i >= 3 && i < size - 2);
+        }
+        assertThat(flags.cardinality()).isEqualTo(size - 5);
+
+        flags.clear(4, size - 3);
+        assertThat(flags.cardinality()).isEqualTo(2);
+        assertThat(flags.nextSetBit(0)).isEqualTo(3);
+        assertThat(flags.nextSetBit(4)).isEqualTo(size - 3);
+        assertThat(flags.nextSetBit(size - 2)).isEqualTo(-1);
+        assertThat(flags.nextClearBit(3)).isEqualTo(4);
+
+        flags.clear(0, size);
+        assertThat(flags.isEmpty()).isTrue();
+        assertThat(catchThrowable(() -> flags.set(2, 1))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> flags.set(0, size + 8))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testNextClearBitWhenFull() {
+        Flags flags = new Flags(128);
+        flags.set(0, 128);
+        assertThat(flags.nextClearBit(0)).isEqualTo(-1);
+        assertThat(flags.nextSetBit(128)).isEqualTo(-1);
+    }
+
+    @Test
+    void testBulkOperations() {
+        final int size = 200;
+        Random random = new Random(size);
+        BitSet left = new BitSet(size);
+        BitSet right = new BitSet(size);
+        Flags leftFlags = new Flags(size);
+        Flags rightFlags = new Flags(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextBoolean()) {
+                left.set(i);
+                leftFlags.set(i);
+            }
+            if (random.nextBoolean()) {
+                right.set(i);
+                rightFlags.set(i);
+            }
+        }
+
+        assertSameBits(and(leftFlags, rightFlags), and(left, right), size);
+        assertSameBits(or(leftFlags, rightFlags), or(left, right), size);
+        assertSameBits(xor(leftFlags, rightFlags), xor(left, right), size);
+        assertSameBits(andNot(leftFlags, rightFlags), andNot(left, right), size);
+
+        assertThat(catchThrowable(() -> leftFlags.and(new Flags(size + 8)))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testByteLayout() {
+        Flags flags = new Flags(16);
+        flags.set(0);
+        flags.set(9);
+        flags.set(15);
+
+        assertThat(flags.toBytes()).containsExactly(0x01, 0x82);
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        Flags expected = new Flags(100);
+        expected.set(0);
+        expected.set(63, 70);
+        expected.set(99);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(expected);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(expected);
+        }
+    }
+
+    private static void assertSameBits(Flags actual, BitSet expected, int size) {
+        for (int i = 0; i < size; i++) {
+            assertThat(actual.get(i)).isEqualTo(expected.get(i));
+        }
+        assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+    }
+
+    private static Flags and(Flags left, Flags right) {
+        Flags result = Flags.fromBytes(left.toBytes());
+        result.and(right);
+        return result;
+    }
+
+    private static Flags or(Flags left, Flags right) {
+        Flags result = Flags.fromBytes(left.toBytes());
+        result.or(right);
+        return result;
+    }
+
+    private static Flags xor(Flags left, Flags right) {
+        Flags result = Flags.fromBytes(left.toBytes());
+        result.xor(right);
+        return result;
+    }
+
+    private static Flags andNot(Flags left, Flags right) {
+        Flags result = Flags.fromBytes(left.toBytes());
+        result.andNot(right);
+        return result;
+    }
+
+    private static BitSet and(BitSet left, BitSet right) {
+        BitSet result = (BitSet) left.clone();
+        result.and(right);
+        return result;
+    }
+
+    private static BitSet or(BitSet left, BitSet right) {
+        BitSet result = (BitSet) left.clone();
+        result.or(right);
+        return result;
+    }
+
+    private static BitSet xor(BitSet left, BitSet right) {
+        BitSet result = (BitSet) left.clone();
+        result.xor(right);
+        return result;
+    }
+
+    private static BitSet andNot(BitSet left, BitSet right) {
+        BitSet result = (BitSet) left.clone();
+        result.andNot(right);
+        return result;
+    }
+}
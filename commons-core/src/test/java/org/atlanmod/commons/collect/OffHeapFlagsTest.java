@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.AbstractFileBasedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link OffHeapFlags}.
+ */
+@ParametersAreNonnullByDefault
+class OffHeapFlagsTest extends AbstractFileBasedTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 13, 64, 72, 200})
+    void testSameBehaviorAsFlags(int size) {
+        OffHeapFlags actual = OffHeapFlags.allocateDirect(size);
+        Flags expected = new Flags(size);
+        assertThat(actual.size()).isEqualTo(expected.size());
+
+        actual.set(1, size - 2);
+        expected.set(1, size - 2);
+        actual.clear(3, size - 4);
+        expected.clear(3, size - 4);
+        actual.set(size - 1);
+        expected.set(size - 1);
+        actual.set(0, true);
+        expected.set(0, true);
+        actual.set(1, false);
+        expected.set(1, false);
+
+        assertThat(actual.toBytes()).isEqualTo(expected.toBytes());
+        assertThat(actual.toFlags()).isEqualTo(expected);
+        assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i)).isEqualTo(expected.get(i));
+            assertThat(actual.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+            assertThat(actual.nextClearBit(i)).isEqualTo(expected.nextClearBit(i));
+        }
+
+        actual.clear(0, actual.size());
+        assertThat(actual.isEmpty()).isTrue();
+        assertThat(catchThrowable(() -> actual.set(actual.size()))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testBulkOperations() {
+        OffHeapFlags left = OffHeapFlags.allocateDirect(128);
+        OffHeapFlags right = OffHeapFlags.allocateDirect(128);
+        left.set(0, 70);
+        right.set(60, 128);
+
+        OffHeapFlags result = OffHeapFlags.allocateDirect(128);
+        result.or(left);
+        result.and(right);
+        assertThat(result.nextSetBit(0)).isEqualTo(60);
+        assertThat(result.cardinality()).isEqualTo(10);
+
+        result.xor(left);
+        assertThat(result.cardinality()).isEqualTo(60);
+
+        result.andNot(left);
+        assertThat(result.isEmpty()).isTrue();
+
+        assertThat(catchThrowable(() -> left.and(OffHeapFlags.allocateDirect(64)))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testWrap() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(24);
+        buffer.put(8, (byte) 0x05);
+
+        OffHeapFlags flags = OffHeapFlags.wrap(buffer.position(8), 64);
+        assertThat(flags.get(0)).isTrue();
+        assertThat(flags.get(2)).isTrue();
+        assertThat(flags.cardinality()).isEqualTo(2);
+
+        flags.set(8);
+        assertThat(buffer.get(9)).isEqualTo((byte) 0x01);
+        assertThat(buffer.position()).isEqualTo(8);
+
+        assertThat(catchThrowable(() -> OffHeapFlags.wrap(ByteBuffer.allocate(8), 64))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> OffHeapFlags.wrap(buffer.position(4), 64))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> OffHeapFlags.wrap(buffer.position(16), 128))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testPaddingOfDirtyBufferIsIgnored() {
+        ByteBuffer buffer = dirtyBuffer(16);
+
+        OffHeapFlags flags = OffHeapFlags.wrap(buffer, 8);
+        assertThat(flags.cardinality()).isEqualTo(8);
+
+        flags.clear(0, 8);
+        assertThat(flags.cardinality()).isZero();
+        assertThat(flags.isEmpty()).isTrue();
+        assertThat(flags.nextSetBit(0)).isEqualTo(-1);
+        assertThat(flags.nextClearBit(0)).isZero();
+        assertThat(flags.toFlags().cardinality()).isZero();
+        assertThat(flags).isEqualTo(OffHeapFlags.allocateDirect(8));
+        assertThat(flags).hasSameHashCodeAs(OffHeapFlags.allocateDirect(8));
+
+        flags.set(0, 8);
+        assertThat(flags.nextClearBit(0)).isEqualTo(-1);
+
+        // The padding is never modified
+        for (int i = 1; i < 16; i++) {
+            assertThat(buffer.get(i)).isEqualTo((byte) -1);
+        }
+    }
+
+    @Test
+    void testBulkOperationsWithDirtyBuffer() {
+        ByteBuffer buffer = dirtyBuffer(8);
+        OffHeapFlags dirty = OffHeapFlags.wrap(buffer, 13);
+        dirty.clear(4, 16);
+
+        OffHeapFlags result = OffHeapFlags.allocateDirect(13);
+        result.or(dirty);
+        assertThat(result.cardinality()).isEqualTo(4);
+        result.xor(dirty);
+        assertThat(result.isEmpty()).isTrue();
+
+        dirty.and(result);
+        assertThat(dirty.isEmpty()).isTrue();
+        assertThat(dirty).isEqualTo(result);
+
+        result.set(2);
+        dirty.set(0, 4);
+        dirty.andNot(result);
+        assertThat(dirty.cardinality()).isEqualTo(3);
+        assertThat(buffer.get(2)).isEqualTo((byte) -1);
+        assertThat(buffer.get(7)).isEqualTo((byte) -1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 13, 72, 200})
+    void testWrapBytesOfFlags(int size) {
+        Flags expected = new Flags(size);
+        expected.set(1, size - 2);
+        expected.clear(3);
+
+        byte[] bytes = expected.toBytes();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        OffHeapFlags flags = OffHeapFlags.wrap(buffer, size);
+        assertThat(flags.toFlags()).isEqualTo(expected);
+        assertThat(flags.cardinality()).isEqualTo(expected.cardinality());
+        assertThat(flags.nextClearBit(4)).isEqualTo(expected.nextClearBit(4));
+
+        flags.set(size - 1);
+        flags.clear(size - 3);
+        flags.xor(OffHeapFlags.allocateDirect(size));
+        expected.set(size - 1);
+        expected.clear(size - 3);
+        assertThat(flags.toBytes()).isEqualTo(expected.toBytes());
+        assertThat(buffer.get(bytes.length - 1)).isEqualTo(expected.toBytes()[bytes.length - 1]);
+        assertThat(flags).isEqualTo(OffHeapFlags.wrap(ByteBuffer.allocateDirect(bytes.length + 8).put(expected.toBytes()).flip().clear(), size));
+
+        assertThat(catchThrowable(() -> OffHeapFlags.wrap(buffer.limit(bytes.length - 1), size))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testMapDirtyFile() throws Exception {
+        Path file = currentTempFile().toPath();
+        Files.write(file, new byte[]{-1, -1, -1, -1, -1, -1, -1, -1});
+
+        OffHeapFlags flags = OffHeapFlags.map(file, 12);
+        assertThat(flags.cardinality()).isEqualTo(16);
+
+        flags.clear(0, 16);
+        assertThat(flags.isEmpty()).isTrue();
+        assertThat(flags).isEqualTo(OffHeapFlags.allocateDirect(12));
+    }
+
+    @Test
+    void testMapAndReopen() throws Exception {
+        Path file = currentTempFile().toPath();
+
+        OffHeapFlags flags = OffHeapFlags.map(file, 1000);
+        flags.set(3);
+        flags.set(500, 600);
+        flags.force();
+
+        assertThat(Files.size(file)).isEqualTo(1024 / 8);
+
+        OffHeapFlags reopened = OffHeapFlags.map(file, 1000);
+        assertThat(reopened).isEqualTo(flags);
+        assertThat(reopened.cardinality()).isEqualTo(101);
+        assertThat(reopened.get(3)).isTrue();
+    }
+
+    @Test
+    void testConcurrentSet() throws Exception {
+        final int threads = 4;
+        final int size = 1 << 16;
+        OffHeapFlags flags = OffHeapFlags.allocateDirect(size);
+
+        // Each thread sets interleaved bits, so that all threads modify the same words
+        List<Callable<Void>> tasks = IntStream.range(0, threads)
+                .<Callable<Void>>mapToObj(t -> () -> {
+                    for (int i = t; i < size; i += threads) {
+                        flags.set(i);
+                    }
+                    return null;
+                })
+                .collect(Collectors.toList());
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> result : pool.invokeAll(tasks)) {
+                result.get();
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(flags.cardinality()).isEqualTo(size);
+    }
+
+    /**
+     * Creates a direct buffer of {@code capacity} bytes, with all bits set to true.
+     */
+    private static ByteBuffer dirtyBuffer(int capacity) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(capacity);
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) -1);
+        }
+        return buffer.clear();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.collect;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link PackedIntArray}.
+ */
+@ParametersAreNonnullByDefault
+class PackedIntArrayTest extends AbstractTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 10, 31, 32, 33, 63, 64})
+    void testSetGet(int bitsPerValue) {
+        final int length = 300;
+        final long mask = -1L >>> (Long.SIZE - bitsPerValue);
+
+        final long[] expected = new Random(bitsPerValue).longs(length).map(v -> v & mask).toArray();
+        PackedIntArray array = new PackedIntArray(length, bitsPerValue);
+        for (int i = 0; i < length; i++) {
+            array.set(i, expected[i]);
+        }
+        assertThat(array.toLongArray()).isEqualTo(expected);
+
+        // Overwrite with the maximum value and check the neighbours
+        array.set(length / 2, mask);
+        assertThat(array.get(length / 2)).isEqualTo(mask);
+        assertThat(array.get(length / 2 - 1)).isEqualTo(expected[length / 2 - 1]);
+        assertThat(array.get(length / 2 + 1)).isEqualTo(expected[length / 2 + 1]);
+
+        array.set(length / 2, 0);
+        assertThat(array.get(length / 2)).isZero();
+        assertThat(array.get(length / 2 - 1)).isEqualTo(expected[length / 2 - 1]);
+        assertThat(array.get(length / 2 + 1)).isEqualTo(expected[length / 2 + 1]);
+    }
+
+    @Test
+    void testBitsRequired() {
+        assertThat(PackedIntArray.bitsRequired(0)).isEqualTo(1);
+        assertThat(PackedIntArray.bitsRequired(1)).isEqualTo(1);
+        assertThat(PackedIntArray.bitsRequired(1000)).isEqualTo(10);
+        assertThat(PackedIntArray.bitsRequired(-1)).isEqualTo(64);
+    }
+
+    @Test
+    void testSetTooLarge() {
+        PackedIntArray array = new PackedIntArray(4, 10);
+
+        assertThat(catchThrowable(() -> array.set(0, 1024))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> array.set(0, -1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> array.get(4))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testInvalidConstruction() {
+        assertThat(catchThrowable(() -> new PackedIntArray(1, 0))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> new PackedIntArray(1, 65))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> new PackedIntArray(-1, 8))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> new PackedIntArray(Integer.MAX_VALUE, 64))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFillAndEquals() {
+        PackedIntArray array = new PackedIntArray(5, 3);
+        array.fill(5);
+        assertThat(array.toLongArray()).containsOnly(5);
+        assertThat(array.toString()).isEqualTo("[5, 5, 5, 5, 5]");
+
+        PackedIntArray other = new PackedIntArray(5, 3);
+        assertThat(array).isNotEqualTo(other);
+        for (int i = 0; i < 5; i++) {
+            other.set(i, 5);
+        }
+        assertThat(array).isEqualTo(other).hasSameHashCodeAs(other);
+
+        array.fill(0);
+        assertThat(array).isEqualTo(new PackedIntArray(5, 3));
+        assertThat(array).isNotEqualTo(new PackedIntArray(5, 4));
+    }
+}
@@ -35,6 +35,13 @@ class BinaryHashCodeTest extends AbstractTest {
         assertThat(HASH.toBytes()).isEqualTo(Strings.toBytes("HashCode0"));
     }
 
+    @Test
+    void testToLong() {
+        assertThat(HASH.toLong()).isEqualTo(0x48617368436f6465L);
+        assertThat(new BinaryHashCode(Strings.toBytes("HashCode")).toLong()).isEqualTo(0x48617368436f6465L);
+        assertThat(new BinaryHashCode(Strings.toBytes("HC")).toLong()).isEqualTo(0x4843000000000000L);
+    }
+
     @Test
     void testToHexString() {
         assertThat(HASH.toHexString()).isEqualToIgnoringCase("48617368436f646530");
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.primitive.Strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link CompactHashCode}.
+ */
+@ParametersAreNonnullByDefault
+class CompactHashCodeTest extends AbstractTest {
+
+    private final static HashCode HASH = new CompactHashCode(Strings.toBytes("HashCode0"));
+
+    @Test
+    void testBits() {
+        assertThat(HASH.bits()).isEqualTo(72);
+    }
+
+    @Test
+    void testToBytes() {
+        assertThat(HASH.toBytes()).isEqualTo(Strings.toBytes("HashCode0"));
+    }
+
+    @Test
+    void testToLong() {
+        assertThat(HASH.toLong()).isEqualTo(0x48617368436f6465L);
+        assertThat(new CompactHashCode(Strings.toBytes("HC")).toLong()).isEqualTo(0x4843000000000000L);
+    }
+
+    @Test
+    void testToHexString() {
+        assertThat(HASH.toHexString()).isEqualToIgnoringCase("48617368436f646530");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 4, 7, 8, 16, 20, 31, 32})
+    void testConsistentWithBinaryHashCode(int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+
+        final HashCode compact = new CompactHashCode(bytes);
+        final HashCode binary = new BinaryHashCode(bytes);
+
+        assertThat(compact.bits()).isEqualTo(binary.bits());
+        assertThat(compact.toBytes()).isEqualTo(binary.toBytes());
+        assertThat(compact.toLong()).isEqualTo(binary.toLong());
+        assertThat(compact.toHexString()).isEqualTo(binary.toHexString());
+        assertThat(compact.hashCode()).isEqualTo(binary.hashCode());
+    }
+
+    @Test
+    void testFromLongs() {
+        final HashCode hashCode = new CompactHashCode(123456789, -25);
+        final byte[] bytes = ByteBuffer.allocate(16).putLong(123456789).putLong(-25).array();
+
+        assertThat(hashCode.bits()).isEqualTo(128);
+        assertThat(hashCode.toBytes()).isEqualTo(bytes);
+        assertThat(hashCode.toLong()).isEqualTo(123456789);
+        assertThat(hashCode.toHexString()).isEqualToIgnoringCase("00000000075bcd15ffffffffffffffe7");
+
+        assertThat(hashCode).isEqualTo(new CompactHashCode(bytes));
+        assertThat(hashCode.hashCode()).isEqualTo(new CompactHashCode(bytes).hashCode());
+        assertThat(hashCode).isNotEqualTo(new CompactHashCode(-25, 123456789));
+    }
+
+    @Test
+    void testTooLong() {
+        assertThat(catchThrowable(() -> new CompactHashCode(new byte[CompactHashCode.MAX_BYTES + 1])))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEquals() {
+        //noinspection EqualsWithItself
+        assertThat(HASH.equals(HASH)).isTrue();
+
+        //noinspection ConstantConditions
+        assertThat(HASH.equals(null)).isFalse();
+
+        assertThat(HASH.equals(new CompactHashCode(Strings.toBytes("HashCode0")))).isTrue();
+
+        assertThat(HASH.equals(new CompactHashCode(Strings.toBytes("HashCode1")))).isFalse();
+        assertThat(HASH.equals(new CompactHashCode(Strings.toBytes("HC")))).isFalse();
+
+        // Same content, different lengths
+        assertThat(new CompactHashCode(new byte[2]).equals(new CompactHashCode(new byte[3]))).isFalse();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.primitive.Strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test-case that checks the behavior of {@link HashSink}s.
+ */
+@ParametersAreNonnullByDefault
+class HashSinkTest extends AbstractTest {
+
+    /**
+     * A 64 bytes string.
+     */
+    private static final String DATA = "Lorem ipsum dolor sit amet, consectetur adipiscing elit volutpat";
+
+    /**
+     * Creates an array of {@code size} random bytes.
+     *
+     * @param size the size of the array
+     *
+     * @return a new array
+     */
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO", "XX3", "MURMUR3_128", "XX128"})
+    void testPrimitivesAreConsistentWithHasher(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final HashSink sink = hasher.newSink();
+
+        assertThat(sink.putByte((byte) 42).hash()).isEqualTo(hasher.hash((byte) 42));
+        assertThat(sink.putBoolean(true).hash()).isEqualTo(hasher.hash(true));
+        assertThat(sink.putChar('x').hash()).isEqualTo(hasher.hash('x'));
+        assertThat(sink.putShort((short) -12345).hash()).isEqualTo(hasher.hash((short) -12345));
+        assertThat(sink.putInt(0xCAFEBABE).hash()).isEqualTo(hasher.hash(0xCAFEBABE));
+        assertThat(sink.putLong(Long.MIN_VALUE + 7).hash()).isEqualTo(hasher.hash(Long.MIN_VALUE + 7));
+        assertThat(sink.putFloat(3.14f).hash()).isEqualTo(hasher.hash(3.14f));
+        assertThat(sink.putDouble(-2.71).hash()).isEqualTo(hasher.hash(-2.71));
+        assertThat(sink.putString(DATA).hash()).isEqualTo(hasher.hash(DATA));
+        assertThat(sink.putBytes(Strings.toBytes(DATA)).hash()).isEqualTo(hasher.hash(Strings.toBytes(DATA)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA256", "MURMUR3", "XX", "XX128"})
+    void testChunksDoNotChangeTheResult(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final byte[] data = randomBytes(ZeroAllocationHashSink.BLOCK_SIZE * 5 + 123);
+
+        final HashCode expected = hasher.newSink().putBytes(data).hash();
+
+        HashSink sink = hasher.newSink();
+        Random random = new Random(0);
+        int offset = 0;
+        while (offset < data.length) {
+            int length = Math.min(random.nextInt(3 * ZeroAllocationHashSink.BLOCK_SIZE / 2), data.length - offset);
+            sink.putBytes(data, offset, length);
+            offset += length;
+        }
+
+        assertThat(sink.hash()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256"})
+    void testNativeSinkIsEqualToHasherOnLargeInputs(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final byte[] data = randomBytes(100_000);
+
+        HashSink sink = hasher.newSink();
+        for (int i = 0; i < data.length; i += 1000) {
+            sink.putBytes(data, i, 1000);
+        }
+
+        assertThat(sink.hash()).isEqualTo(hasher.hash(data));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MURMUR3", "XX", "CITY", "XX3", "MURMUR3_128", "XX128"})
+    void testBlockSizedInputIsEqualToHasher(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+
+        for (int size : new int[]{ZeroAllocationHashSink.BLOCK_SIZE - 1, ZeroAllocationHashSink.BLOCK_SIZE}) {
+            final byte[] data = randomBytes(size);
+            final HashCode expected = hasher.hash(data);
+
+            assertThat(hasher.newSink().putBytes(data).hash()).isEqualTo(expected);
+            assertThat(hasher.newSink().putBytes(data, 0, 100).putBytes(data, 100, size - 100).hash()).isEqualTo(expected);
+        }
+
+        // A full block followed by more data is chained
+        final byte[] data = randomBytes(ZeroAllocationHashSink.BLOCK_SIZE + 1);
+        assertThat(hasher.newSink().putBytes(data, 0, ZeroAllocationHashSink.BLOCK_SIZE).putBytes(data, ZeroAllocationHashSink.BLOCK_SIZE, 1).hash())
+                .isEqualTo(hasher.newSink().putBytes(data).hash());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"XX", "XX128"})
+    void testMemoryIsBounded(String name) {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        final Hasher hasher = StandardHashers.forName(name);
+        final byte[] chunk = randomBytes(ZeroAllocationHashSink.BLOCK_SIZE * 4 + 17);
+        final HashSink sink = hasher.newSink();
+
+        final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 4096; i++) {
+            sink.putBytes(chunk);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // 128 MiB have been appended
+        assertThat(allocated).isLessThan(chunk.length);
+        assertThat(sink.hash()).isNotNull();
+    }
+
+    @Test
+    void testLargeInputsAreDistinct() {
+        final byte[] data = randomBytes(ZeroAllocationHashSink.BLOCK_SIZE * 3);
+        final HashCode expected = StandardHashers.XX.newSink().putBytes(data).hash();
+
+        data[data.length - 1]++;
+        assertThat(StandardHashers.XX.newSink().putBytes(data).hash()).isNotEqualTo(expected);
+
+        data[data.length - 1]--;
+        assertThat(StandardHashers.XX.newSink().putBytes(data).putByte((byte) 0).hash()).isNotEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SHA256", "XX"})
+    void testByteBuffers(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final byte[] data = randomBytes(ZeroAllocationHashSink.BLOCK_SIZE * 2 + 1);
+        final HashCode expected = hasher.newSink().putBytes(data).hash();
+
+        ByteBuffer heap = ByteBuffer.wrap(data);
+        assertThat(hasher.newSink().putByteBuffer(heap).hash()).isEqualTo(expected);
+        assertThat(heap.hasRemaining()).isFalse();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 10);
+        direct.position(10);
+        direct.put(data).position(10);
+        assertThat(hasher.newSink().putByteBuffer(direct).hash()).isEqualTo(expected);
+        assertThat(direct.hasRemaining()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SHA1", "CITY"})
+    void testSinkIsReset(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final HashSink sink = hasher.newSink();
+
+        sink.putBytes(randomBytes(ZeroAllocationHashSink.BLOCK_SIZE + 1)).hash();
+
+        assertThat(sink.putString(DATA).hash()).isEqualTo(hasher.hash(DATA));
+    }
+
+    @Test
+    void testDefaultSink() {
+        final Hasher hasher = data -> StandardHashers.MD5.hash(data);
+        final HashSink sink = hasher.newSink();
+
+        assertThat(sink).isInstanceOf(BufferedHashSink.class);
+        assertThat(sink.putInt(42).putString(DATA).hash())
+                .isEqualTo(StandardHashers.MD5.newSink().putInt(42).putString(DATA).hash());
+        assertThat(sink.putLong(42L).hash()).isEqualTo(hasher.hash(42L));
+    }
+}
@@ -8,14 +8,31 @@
 
 package org.atlanmod.commons.hash;
 
-import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.AbstractFileBasedTest;
+import org.atlanmod.commons.primitive.Strings;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -27,7 +44,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
  * A test-case that checks the behavior of {@link Hasher}s.
  */
 @ParametersAreNonnullByDefault
-class HasherTest extends AbstractTest {
+class HasherTest extends AbstractFileBasedTest {
 
     /**
      * A 64 bytes string.
@@ -106,4 +123,238 @@ class HasherTest extends AbstractTest {
     void testFarmHashUO() {
         assertThat(hashWith(StandardHashers.FARM_UO, "FARM_UO").toHexString()).isEqualToIgnoringCase("ea848ff9a62510e3");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testXxHash3() {
+        assertThat(hashWith(StandardHashers.XX3, "XX3").toHexString()).isEqualToIgnoringCase("77855a76f5e55d72");
+    }
+
+    @Test
+    void testMurmur3x128() {
+        HashCode hashCode = hashWith(StandardHashers.MURMUR3_128, "MURMUR3_128");
+        assertThat(hashCode.bits()).isEqualTo(128);
+        assertThat(hashCode.toHexString()).isEqualToIgnoringCase("14afacf5fbbb494f59ad95f7182976bf");
+        assertThat(hashCode.toLong()).isEqualTo(StandardHashers.MURMUR3.hash(DATA).toLong());
+    }
+
+    @Test
+    void testXxHash128() {
+        HashCode hashCode = hashWith(StandardHashers.XX128, "XX128");
+        assertThat(hashCode.bits()).isEqualTo(128);
+        assertThat(hashCode.toHexString()).isEqualToIgnoringCase("3fbe8287b880527eefbcd9edde24c30b");
+    }
+
+    @Test
+    void testSeededHashers() {
+        assertThat(StandardHashers.murmur3(0).hash(DATA)).isEqualTo(StandardHashers.MURMUR3.hash(DATA));
+        assertThat(StandardHashers.xx(0).hash(DATA)).isEqualTo(StandardHashers.XX.hash(DATA));
+        assertThat(StandardHashers.xx128(42).hash(DATA).toHexString()).isEqualToIgnoringCase("0ade12a43c4b22c868237e1b0b94edaa");
+
+        final List<LongFunction<Hasher>> factories = Arrays.asList(
+                StandardHashers::murmur3, StandardHashers::xx, StandardHashers::xx3,
+                StandardHashers::city, StandardHashers::farmNa, StandardHashers::farmUo,
+                StandardHashers::murmur3x128, StandardHashers::xx128);
+
+        for (LongFunction<Hasher> factory : factories) {
+            assertThat(factory.apply(17).hash(DATA)).isEqualTo(factory.apply(17).hash(DATA));
+            assertThat(factory.apply(17).hash(DATA)).isNotEqualTo(factory.apply(18).hash(DATA));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256"})
+    void testConcurrentNativeHashing(String name) throws Exception {
+        final Hasher hasher = StandardHashers.forName(name);
+        final int threads = 8;
+        final int iterations = 2_000;
+
+        final List<HashCode> expected = IntStream.range(0, iterations)
+                .mapToObj(i -> hasher.hash(DATA + i))
+                .collect(Collectors.toList());
+
+        final Callable<Boolean> task = () -> IntStream.range(0, iterations)
+                .allMatch(i -> hasher.hash(DATA + i).equals(expected.get(i)));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = pool.invokeAll(IntStream.range(0, threads)
+                    .mapToObj(i -> task)
+                    .collect(Collectors.toList()));
+
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO", "XX3", "MURMUR3_128", "XX128"})
+    void testHashByteBuffer(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final byte[] data = new byte[ZeroAllocationHashSink.BLOCK_SIZE * 2 + 7];
+        new Random(name.hashCode()).nextBytes(data);
+
+        final HashCode expected = hasher.hash(data);
+
+        ByteBuffer heap = ByteBuffer.wrap(data);
+        assertThat(hasher.hash(heap)).isEqualTo(expected);
+        assertThat(heap.position()).isZero();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 3);
+        direct.position(3);
+        direct.put(data).position(3);
+        assertThat(hasher.hash(direct)).isEqualTo(expected);
+        assertThat(direct.position()).isEqualTo(3);
+        assertThat(direct.remaining()).isEqualTo(data.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, ZeroAllocationHashSink.BLOCK_SIZE - 1, ZeroAllocationHashSink.BLOCK_SIZE, ZeroAllocationHashSink.BLOCK_SIZE + 1, 100_000})
+    void testHashPath(int size) throws Exception {
+        final Path path = createFile(size);
+
+        for (String name : new String[]{"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO", "XX3", "MURMUR3_128", "XX128"}) {
+            final Hasher hasher = StandardHashers.forName(name);
+            assertThat(hasher.hash(path)).isEqualTo(hasher.hash(Files.readAllBytes(path)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "MURMUR3", "XX", "XX128"})
+    void testHashPathByWindows(String name) throws Exception {
+        final Hasher hasher = StandardHashers.forName(name);
+        final Path path = createFile(ZeroAllocationHashSink.BLOCK_SIZE * 3 + 5);
+
+        // Windows that are not aligned with the blocks of the sink
+        final HashCode expected = hasher.newSink().putBytes(Files.readAllBytes(path)).hash();
+        assertThat(MappedFiles.hash(hasher, path, ZeroAllocationHashSink.BLOCK_SIZE + 3)).isEqualTo(expected);
+        assertThat(MappedFiles.hash(hasher, path, ZeroAllocationHashSink.BLOCK_SIZE)).isEqualTo(expected);
+    }
+
+    /**
+     * Creates a temporary file of {@code size} random bytes.
+     *
+     * @param size the size of the file
+     *
+     * @return the path of the file
+     */
+    @Nonnull
+    private Path createFile(int size) throws IOException {
+        final byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+
+        final Path path = currentTempFile().toPath();
+        Files.createDirectories(path.getParent());
+        Files.write(path, data);
+        return path;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO", "XX3", "MURMUR3_128", "XX128"})
+    void testHashToLong(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+
+        assertThat(hasher.hashToLong((byte) 42)).isEqualTo(hasher.hash((byte) 42).toLong());
+        assertThat(hasher.hashToLong(true)).isEqualTo(hasher.hash(true).toLong());
+        assertThat(hasher.hashToLong('x')).isEqualTo(hasher.hash('x').toLong());
+        assertThat(hasher.hashToLong((short) 42)).isEqualTo(hasher.hash((short) 42).toLong());
+        assertThat(hasher.hashToLong(42)).isEqualTo(hasher.hash(42).toLong());
+        assertThat(hasher.hashToLong(42L)).isEqualTo(hasher.hash(42L).toLong());
+        assertThat(hasher.hashToLong(4.2f)).isEqualTo(hasher.hash(4.2f).toLong());
+        assertThat(hasher.hashToLong(4.2d)).isEqualTo(hasher.hash(4.2d).toLong());
+        assertThat(hasher.hashToLong(DATA)).isEqualTo(hasher.hash(DATA).toLong());
+        assertThat(hasher.hashToLong(new byte[]{4, 2})).isEqualTo(hasher.hash(new byte[]{4, 2}).toLong());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO", "XX3", "MURMUR3_128", "XX128"})
+    void testHashAll(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final Random random = new Random(name.hashCode());
+
+        final long[] longs = random.longs(100).toArray();
+        final String[] strings = Arrays.stream(longs).mapToObj(l -> DATA + l).toArray(String[]::new);
+        final List<byte[]> bytes = Arrays.stream(strings).map(Strings::toBytes).collect(Collectors.toList());
+
+        final long[] out = new long[longs.length + 1];
+
+        hasher.hashAll(longs, out);
+        for (int i = 0; i < longs.length; i++) {
+            assertThat(out[i]).isEqualTo(hasher.hashToLong(longs[i]));
+        }
+        assertThat(out[longs.length]).isZero();
+
+        hasher.hashAll(strings, out);
+        for (int i = 0; i < strings.length; i++) {
+            assertThat(out[i]).isEqualTo(hasher.hashToLong(strings[i]));
+        }
+
+        hasher.hashAll(bytes, out);
+        for (int i = 0; i < bytes.size(); i++) {
+            assertThat(out[i]).isEqualTo(hasher.hashToLong(bytes.get(i)));
+        }
+
+        final long[] range = new long[longs.length];
+        hasher.hashAll(longs, 10, 20, range);
+        for (int i = 0; i < range.length; i++) {
+            assertThat(range[i]).isEqualTo(i >= 10 && i < 20 ? hasher.hashToLong(longs[i]) : 0L);
+        }
+
+        assertThat(catchThrowable(() -> hasher.hashAll(longs, new long[longs.length - 1])))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> hasher.hashAll(strings, 20, 10, out)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SHA1", "MURMUR3", "XX128"})
+    void testParallelHashAll(String name) {
+        final Hasher hasher = StandardHashers.forName(name);
+        final int size = BulkHashTask.THRESHOLD * 4 + 3;
+
+        final long[] longs = new Random(size).longs(size).toArray();
+        final String[] strings = Arrays.stream(longs).mapToObj(Long::toString).toArray(String[]::new);
+        final List<byte[]> bytes = Arrays.stream(strings).map(Strings::toBytes).collect(Collectors.toList());
+
+        final long[] expected = new long[size];
+        final long[] actual = new long[size];
+
+        hasher.hashAll(longs, expected);
+        hasher.parallelHashAll(longs, actual);
+        assertThat(actual).isEqualTo(expected);
+
+        hasher.hashAll(strings, expected);
+        hasher.parallelHashAll(strings, actual);
+        assertThat(actual).isEqualTo(expected);
+
+        hasher.hashAll(bytes, expected);
+        hasher.parallelHashAll(bytes, actual);
+        assertThat(actual).isEqualTo(expected);
+
+        assertThat(catchThrowable(() -> hasher.parallelHashAll(longs, new long[size - 1])))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO", "XX3", "MURMUR3_128", "XX128"})
+    void testHashCodeFromBytes(String name) {
+        final HashCode hashCode = StandardHashers.forName(name).hash(DATA);
+        final HashCode copy = HashCode.fromBytes(hashCode.toBytes());
+
+        assertThat(copy).isEqualTo(hashCode).isExactlyInstanceOf(hashCode.getClass());
+        assertThat(copy.hashCode()).isEqualTo(hashCode.hashCode());
+        assertThat(copy.toHexString()).isEqualTo(hashCode.toHexString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256"})
+    void testDigestsAreCompact(String name) {
+        final HashCode hashCode = StandardHashers.forName(name).hash(DATA);
+
+        assertThat(hashCode).isExactlyInstanceOf(CompactHashCode.class);
+        assertThat(hashCode.hashCode()).isEqualTo(new BinaryHashCode(hashCode.toBytes()).hashCode());
+    }
+}
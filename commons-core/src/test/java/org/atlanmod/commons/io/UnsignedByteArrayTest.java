@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link UnsignedByteArray}.
+ */
+@ParametersAreNonnullByDefault
+class UnsignedByteArrayTest extends AbstractTest {
+
+    @Test
+    void testBoundaries() {
+        UnsignedByteArray array = new UnsignedByteArray(3);
+        array.set(0, UnsignedByte.MIN_VALUE);
+        array.set(1, UnsignedByte.MAX_VALUE);
+        array.set(2, Byte.MAX_VALUE + 1);
+
+        assertThat(array.length()).isEqualTo(3);
+        assertThat(array.get(0)).isZero();
+        assertThat(array.get(1)).isEqualTo(UnsignedByte.MAX_VALUE);
+        assertThat(array.get(2)).isEqualTo(0x80);
+        assertThat(array.toIntArray()).containsExactly(0, UnsignedByte.MAX_VALUE, 0x80);
+        assertThat(array.toString()).isEqualTo("[0, 255, 128]");
+
+        assertThat(catchThrowable(() -> array.get(3))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> new UnsignedByteArray(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSetOverflow() {
+        UnsignedByteArray array = new UnsignedByteArray(1);
+        array.set(0, 42);
+
+        assertThat(catchThrowable(() -> array.set(0, UnsignedByte.MAX_VALUE + 1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> array.set(0, -1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> array.fill(UnsignedByte.MAX_VALUE + 1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(array.get(0)).isEqualTo(42);
+    }
+
+    @Test
+    void testAddOverflow() {
+        UnsignedByteArray array = new UnsignedByteArray(1);
+
+        assertThat(array.add(0, UnsignedByte.MAX_VALUE)).isEqualTo(UnsignedByte.MAX_VALUE);
+        assertThat(catchThrowable(() -> array.add(0, 1))).isInstanceOf(ArithmeticException.class);
+        assertThat(array.add(0, -UnsignedByte.MAX_VALUE)).isZero();
+        assertThat(catchThrowable(() -> array.add(0, -1))).isInstanceOf(ArithmeticException.class);
+        assertThat(array.get(0)).isZero();
+    }
+
+    @Test
+    void testCompareAndFill() {
+        UnsignedByteArray array = UnsignedByteArray.wrap(new byte[]{-1, 1});
+        assertThat(array.compare(0, 1)).isPositive();
+        assertThat(array.compare(1, 0)).isNegative();
+
+        array.fill(UnsignedByte.MAX_VALUE);
+        assertThat(array.toIntArray()).containsExactly(UnsignedByte.MAX_VALUE, UnsignedByte.MAX_VALUE);
+        assertThat(array.compare(0, 1)).isZero();
+    }
+
+    @Test
+    void testWrapIsBacked() {
+        byte[] values = new byte[2];
+        UnsignedByteArray array = UnsignedByteArray.wrap(values);
+
+        array.set(1, UnsignedByte.MAX_VALUE);
+        assertThat(values[1]).isEqualTo((byte) -1);
+    }
+
+    @Test
+    void testWriteOnAndFromByteBuffer() {
+        UnsignedByteArray expected = UnsignedByteArray.wrap(new byte[]{0, 1, -1, 0x12});
+
+        ByteBuffer buffer = ByteBuffer.allocate(6);
+        buffer.put((byte) 1);
+        expected.writeOn(buffer);
+        assertThat(buffer.position()).isEqualTo(5);
+        assertThat(UnsignedBytes.read(buffer, 3)).isEqualTo(UnsignedByte.MAX_VALUE);
+
+        buffer.flip().get();
+        assertThat(UnsignedByteArray.fromByteBuffer(buffer, 4)).isEqualTo(expected);
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        assertThat(catchThrowable(() -> expected.writeOn(ByteBuffer.allocate(3)))).isInstanceOf(BufferOverflowException.class);
+        assertThat(catchThrowable(() -> UnsignedByteArray.fromByteBuffer(ByteBuffer.allocate(3), 4))).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    @Test
+    void testEqualsAndSerialization() throws IOException, ClassNotFoundException {
+        UnsignedByteArray array = UnsignedByteArray.wrap(new byte[]{-1, 0, 2});
+        assertThat(array).isEqualTo(UnsignedByteArray.wrap(new byte[]{-1, 0, 2}));
+        assertThat(array).hasSameHashCodeAs(UnsignedByteArray.wrap(new byte[]{-1, 0, 2}));
+        assertThat(array).isNotEqualTo(UnsignedByteArray.wrap(new byte[]{-1, 0, 3}));
+        assertThat(array).isNotEqualTo(UnsignedShortArray.wrap(new short[]{UnsignedByte.MAX_VALUE, 0, 2}));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(array);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(array);
+        }
+    }
+}
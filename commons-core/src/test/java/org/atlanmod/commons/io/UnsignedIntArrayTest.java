@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link UnsignedIntArray}.
+ */
+@ParametersAreNonnullByDefault
+class UnsignedIntArrayTest extends AbstractTest {
+
+    @Test
+    void testSetGet() {
+        UnsignedIntArray array = new UnsignedIntArray(3);
+        array.set(0, UnsignedInt.MAX_VALUE);
+        array.set(2, 42);
+
+        assertThat(array.length()).isEqualTo(3);
+        assertThat(array.get(0)).isEqualTo(UnsignedInt.MAX_VALUE);
+        assertThat(array.get(1)).isZero();
+        assertThat(array.toLongArray()).containsExactly(UnsignedInt.MAX_VALUE, 0, 42);
+        assertThat(array.toString()).isEqualTo("[4294967295, 0, 42]");
+
+        assertThat(catchThrowable(() -> array.set(1, -1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> array.get(3))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testAdd() {
+        UnsignedIntArray array = new UnsignedIntArray(1);
+
+        assertThat(array.add(0, Integer.MAX_VALUE + 1L)).isEqualTo(0x80000000L);
+        assertThat(array.add(0, -1)).isEqualTo(Integer.MAX_VALUE);
+
+        assertThat(catchThrowable(() -> array.add(0, UnsignedInt.MAX_VALUE))).isInstanceOf(ArithmeticException.class);
+        assertThat(array.get(0)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testCompareAndFill() {
+        UnsignedIntArray array = UnsignedIntArray.wrap(new int[]{-1, 1});
+        assertThat(array.compare(0, 1)).isPositive();
+        assertThat(array.compare(1, 0)).isNegative();
+
+        array.fill(7);
+        assertThat(array.toLongArray()).containsExactly(7, 7);
+        assertThat(array.compare(0, 1)).isZero();
+    }
+
+    @Test
+    void testWrapIsBacked() {
+        int[] values = new int[2];
+        UnsignedIntArray array = UnsignedIntArray.wrap(values);
+
+        array.set(1, UnsignedInt.MAX_VALUE);
+        assertThat(values[1]).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"BIG_ENDIAN", "LITTLE_ENDIAN"})
+    void testWriteOnAndFromByteBuffer(String order) {
+        final ByteOrder byteOrder = "BIG_ENDIAN".equals(order) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        UnsignedIntArray expected = UnsignedIntArray.wrap(new int[]{0, 1, -1, 0x12345678});
+
+        ByteBuffer buffer = ByteBuffer.allocate(20).order(byteOrder);
+        buffer.put((byte) 1);
+        expected.writeOn(buffer);
+        assertThat(buffer.position()).isEqualTo(17);
+        assertThat(UnsignedInts.read(buffer, 13)).isEqualTo(0x12345678L);
+
+        buffer.flip().get();
+        assertThat(UnsignedIntArray.fromByteBuffer(buffer, 4)).isEqualTo(expected);
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        assertThat(catchThrowable(() -> expected.writeOn(ByteBuffer.allocate(15)))).isInstanceOf(BufferOverflowException.class);
+        assertThat(catchThrowable(() -> UnsignedIntArray.fromByteBuffer(ByteBuffer.allocate(15), 4))).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    @Test
+    void testEqualsAndSerialization() throws IOException, ClassNotFoundException {
+        UnsignedIntArray array = UnsignedIntArray.wrap(new int[]{-1, 2});
+        assertThat(array).isEqualTo(UnsignedIntArray.wrap(new int[]{-1, 2}));
+        assertThat(array).hasSameHashCodeAs(UnsignedIntArray.wrap(new int[]{-1, 2}));
+        assertThat(array).isNotEqualTo(UnsignedIntArray.wrap(new int[]{-1, 3}));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(array);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(array);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link UnsignedInts}.
+ */
+@ParametersAreNonnullByDefault
+class UnsignedIntsTest extends AbstractTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 0x7FFFFFFFL, 0x80000000L, UnsignedInt.MAX_VALUE})
+    void testCheckedCastAndToLong(long value) {
+        assertThat(UnsignedInts.toLong(UnsignedInts.checkedCast(value))).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, UnsignedInt.MAX_VALUE + 1, Long.MIN_VALUE, Long.MAX_VALUE})
+    void testCheckedCastOutOfRange(long value) {
+        assertThat(catchThrowable(() -> UnsignedInts.checkedCast(value))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCompare() {
+        assertThat(UnsignedInts.compare(0, 1)).isNegative();
+        assertThat(UnsignedInts.compare(-1, Integer.MAX_VALUE)).isPositive();
+        assertThat(UnsignedInts.compare(-1, -1)).isZero();
+    }
+
+    @Test
+    void testAdd() {
+        assertThat(UnsignedInts.toLong(UnsignedInts.add(Integer.MAX_VALUE, 1))).isEqualTo(0x80000000L);
+        assertThat(UnsignedInts.toLong(UnsignedInts.add(-1, -1))).isEqualTo(UnsignedInt.MAX_VALUE - 1);
+        assertThat(UnsignedInts.toLong(UnsignedInts.add(0, UnsignedInt.MAX_VALUE))).isEqualTo(UnsignedInt.MAX_VALUE);
+
+        assertThat(catchThrowable(() -> UnsignedInts.add(-1, 1))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> UnsignedInts.add(0, -1))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> UnsignedInts.add(1, Long.MAX_VALUE))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> UnsignedInts.add(1, Long.MIN_VALUE))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 0x12345678L, 0x80000000L, UnsignedInt.MAX_VALUE})
+    void testWriteReadBytes(long value) {
+        byte[] bytes = new byte[6];
+        UnsignedInts.write(bytes, 1, UnsignedInts.checkedCast(value));
+
+        assertThat(UnsignedInts.read(bytes, 1)).isEqualTo(value);
+        assertThat(Arrays.copyOfRange(bytes, 1, 5)).isEqualTo(UnsignedInt.fromLong(value).toBytes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 0x12345678L, 0x80000000L, UnsignedInt.MAX_VALUE})
+    void testWriteReadBuffer(long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        UnsignedInts.write(buffer, UnsignedInts.checkedCast(value));
+        UnsignedInts.write(buffer, 4, UnsignedInts.checkedCast(value));
+
+        assertThat(buffer.position()).isEqualTo(4);
+        assertThat(UnsignedInts.read(buffer, 4)).isEqualTo(value);
+        assertThat(UnsignedInts.read(buffer.flip())).isEqualTo(value);
+    }
+
+    @Test
+    void testReadOutOfBounds() {
+        assertThat(catchThrowable(() -> UnsignedInts.read(new byte[4], 1))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link UnsignedShortArray}.
+ */
+@ParametersAreNonnullByDefault
+class UnsignedShortArrayTest extends AbstractTest {
+
+    @Test
+    void testBoundaries() {
+        UnsignedShortArray array = new UnsignedShortArray(3);
+        array.set(0, UnsignedShort.MIN_VALUE);
+        array.set(1, UnsignedShort.MAX_VALUE);
+        array.set(2, Short.MAX_VALUE + 1);
+
+        assertThat(array.length()).isEqualTo(3);
+        assertThat(array.get(0)).isZero();
+        assertThat(array.get(1)).isEqualTo(UnsignedShort.MAX_VALUE);
+        assertThat(array.get(2)).isEqualTo(0x8000);
+        assertThat(array.toIntArray()).containsExactly(0, UnsignedShort.MAX_VALUE, 0x8000);
+        assertThat(array.toString()).isEqualTo("[0, 65535, 32768]");
+
+        assertThat(catchThrowable(() -> array.get(3))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> new UnsignedShortArray(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSetOverflow() {
+        UnsignedShortArray array = new UnsignedShortArray(1);
+        array.set(0, 42);
+
+        assertThat(catchThrowable(() -> array.set(0, UnsignedShort.MAX_VALUE + 1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> array.set(0, -1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> array.fill(UnsignedShort.MAX_VALUE + 1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(array.get(0)).isEqualTo(42);
+    }
+
+    @Test
+    void testAddOverflow() {
+        UnsignedShortArray array = new UnsignedShortArray(1);
+
+        assertThat(array.add(0, UnsignedShort.MAX_VALUE)).isEqualTo(UnsignedShort.MAX_VALUE);
+        assertThat(catchThrowable(() -> array.add(0, 1))).isInstanceOf(ArithmeticException.class);
+        assertThat(array.add(0, -UnsignedShort.MAX_VALUE)).isZero();
+        assertThat(catchThrowable(() -> array.add(0, -1))).isInstanceOf(ArithmeticException.class);
+        assertThat(array.get(0)).isZero();
+    }
+
+    @Test
+    void testCompareAndFill() {
+        UnsignedShortArray array = UnsignedShortArray.wrap(new short[]{-1, 1});
+        assertThat(array.compare(0, 1)).isPositive();
+        assertThat(array.compare(1, 0)).isNegative();
+
+        array.fill(UnsignedShort.MAX_VALUE);
+        assertThat(array.toIntArray()).containsExactly(UnsignedShort.MAX_VALUE, UnsignedShort.MAX_VALUE);
+        assertThat(array.compare(0, 1)).isZero();
+    }
+
+    @Test
+    void testWriteOnAndFromByteBuffer() {
+        UnsignedShortArray expected = UnsignedShortArray.wrap(new short[]{0, 1, -1, 0x1234});
+
+        ByteBuffer buffer = ByteBuffer.allocate(10).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 1);
+        expected.writeOn(buffer);
+        assertThat(buffer.position()).isEqualTo(9);
+        assertThat(UnsignedShorts.read(buffer, 7)).isEqualTo(0x1234);
+
+        buffer.flip().get();
+        assertThat(UnsignedShortArray.fromByteBuffer(buffer, 4)).isEqualTo(expected);
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        assertThat(catchThrowable(() -> expected.writeOn(ByteBuffer.allocate(7)))).isInstanceOf(BufferOverflowException.class);
+        assertThat(catchThrowable(() -> UnsignedShortArray.fromByteBuffer(ByteBuffer.allocate(7), 4))).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    @Test
+    void testEqualsAndSerialization() throws IOException, ClassNotFoundException {
+        UnsignedShortArray array = UnsignedShortArray.wrap(new short[]{-1, 0, 2});
+        assertThat(array).isEqualTo(UnsignedShortArray.wrap(new short[]{-1, 0, 2}));
+        assertThat(array).hasSameHashCodeAs(UnsignedShortArray.wrap(new short[]{-1, 0, 2}));
+        assertThat(array).isNotEqualTo(UnsignedShortArray.wrap(new short[]{-1, 0, 3}));
+        assertThat(array).isNotEqualTo(UnsignedIntArray.wrap(new int[]{UnsignedShort.MAX_VALUE, 0, 2}));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(array);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(array);
+        }
+    }
+
+    @Test
+    void testSerialVersionsAreDistinct() {
+        assertThat(ObjectStreamClass.lookup(UnsignedShortArray.class).getSerialVersionUID())
+                .isNotEqualTo(ObjectStreamClass.lookup(UnsignedByteArray.class).getSerialVersionUID())
+                .isNotEqualTo(ObjectStreamClass.lookup(UnsignedIntArray.class).getSerialVersionUID());
+    }
+}
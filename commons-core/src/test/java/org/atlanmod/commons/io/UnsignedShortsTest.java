@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link UnsignedShorts} and {@link UnsignedBytes}.
+ */
+@ParametersAreNonnullByDefault
+class UnsignedShortsTest extends AbstractTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 0x7FFF, 0x8000, UnsignedShort.MAX_VALUE})
+    void testShortCheckedCastAndToInt(int value) {
+        assertThat(UnsignedShorts.toInt(UnsignedShorts.checkedCast(value))).isEqualTo(value);
+        assertThat(UnsignedShorts.toLong(UnsignedShorts.checkedCast(value))).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 0x7F, 0x80, UnsignedByte.MAX_VALUE})
+    void testByteCheckedCastAndToInt(int value) {
+        assertThat(UnsignedBytes.toInt(UnsignedBytes.checkedCast(value))).isEqualTo(value);
+        assertThat(UnsignedBytes.toLong(UnsignedBytes.checkedCast(value))).isEqualTo(value);
+    }
+
+    @Test
+    void testCheckedCastOutOfRange() {
+        assertThat(catchThrowable(() -> UnsignedShorts.checkedCast(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> UnsignedShorts.checkedCast(UnsignedShort.MAX_VALUE + 1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> UnsignedBytes.checkedCast(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> UnsignedBytes.checkedCast(UnsignedByte.MAX_VALUE + 1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCompare() {
+        assertThat(UnsignedShorts.compare((short) 0, (short) -1)).isNegative();
+        assertThat(UnsignedShorts.compare((short) -1, Short.MAX_VALUE)).isPositive();
+        assertThat(UnsignedBytes.compare((byte) 0, (byte) -1)).isNegative();
+        assertThat(UnsignedBytes.compare((byte) -1, Byte.MAX_VALUE)).isPositive();
+        assertThat(UnsignedBytes.compare((byte) 3, (byte) 3)).isZero();
+    }
+
+    @Test
+    void testAdd() {
+        assertThat(UnsignedShorts.toInt(UnsignedShorts.add(Short.MAX_VALUE, 1))).isEqualTo(0x8000);
+        assertThat(UnsignedBytes.toInt(UnsignedBytes.add((byte) -1, -255))).isZero();
+
+        assertThat(catchThrowable(() -> UnsignedShorts.add((short) -1, 1))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> UnsignedShorts.add((short) 1, Integer.MAX_VALUE))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> UnsignedBytes.add((byte) 0, -1))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> UnsignedBytes.add((byte) 1, Integer.MIN_VALUE))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 0x1234, 0x8000, UnsignedShort.MAX_VALUE})
+    void testShortWriteRead(int value) {
+        byte[] bytes = new byte[3];
+        UnsignedShorts.write(bytes, 1, UnsignedShorts.checkedCast(value));
+        assertThat(UnsignedShorts.read(bytes, 1)).isEqualTo(value);
+        assertThat(bytes[1]).isEqualTo((byte) (value >>> 8));
+
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        UnsignedShorts.write(buffer, UnsignedShorts.checkedCast(value));
+        UnsignedShorts.write(buffer, 2, UnsignedShorts.checkedCast(value));
+        assertThat(UnsignedShorts.read(buffer, 2)).isEqualTo(value);
+        assertThat(UnsignedShorts.read(buffer.flip())).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 0x7F, 0x80, UnsignedByte.MAX_VALUE})
+    void testByteWriteRead(int value) {
+        byte[] bytes = new byte[2];
+        UnsignedBytes.write(bytes, 1, UnsignedBytes.checkedCast(value));
+        assertThat(UnsignedBytes.read(bytes, 1)).isEqualTo(value);
+
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+        UnsignedBytes.write(buffer, UnsignedBytes.checkedCast(value));
+        UnsignedBytes.write(buffer, 1, UnsignedBytes.checkedCast(value));
+        assertThat(UnsignedBytes.read(buffer, 1)).isEqualTo(value);
+        assertThat(UnsignedBytes.read(buffer.flip())).isEqualTo(value);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link VarInts}.
+ */
+@ParametersAreNonnullByDefault
+class VarIntsTest extends AbstractTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 0x7F, 0x80, 0xFF, 0x3FFF, 0x4000, 0xFFFF, 0xFFFFFFFFL, 0xFFFFFFFFFFFFFFL})
+    void testSameFormatAsUnsignedVarInt(long value) {
+        byte[] expected = UnsignedVarInt.fromLong(value).toBytes();
+
+        byte[] actual = new byte[VarInts.sizeOf(value)];
+        assertThat(VarInts.writeLong(actual, 0, value)).isEqualTo(actual.length);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(VarInts.readLong(actual, 0)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 0x7F, 0x80, 0x3FFF, 0x4000, 0x1FFFFF, 0x200000, 0xFFFFFFF, 0x10000000, Integer.MAX_VALUE, -1, Integer.MIN_VALUE})
+    void testWriteReadInt(int value) throws IOException {
+        final int size = VarInts.sizeOf(value);
+        assertThat(size).isBetween(1, VarInts.MAX_INT_SIZE);
+
+        // byte[]
+        byte[] array = new byte[size + 2];
+        assertThat(VarInts.writeInt(array, 1, value)).isEqualTo(size + 1);
+        assertThat(VarInts.readInt(array, 1)).isEqualTo(value);
+
+        // ByteBuffer
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        VarInts.writeInt(buffer, value);
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(VarInts.readInt(buffer.flip())).isEqualTo(value);
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        // DataOutput/DataInput
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        VarInts.writeInt(new DataOutputStream(baos), value);
+        assertThat(baos.toByteArray()).isEqualTo(Arrays.copyOfRange(array, 1, size + 1));
+        assertThat(VarInts.readInt(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())))).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 0x7F, 0x80, 0xFFFFFFFFL, 0x100000000L, Long.MAX_VALUE >>> 7, Long.MAX_VALUE, -1, Long.MIN_VALUE})
+    void testWriteReadLong(long value) throws IOException {
+        final int size = VarInts.sizeOf(value);
+        assertThat(size).isBetween(1, VarInts.MAX_LONG_SIZE);
+
+        // byte[]
+        byte[] array = new byte[size + 2];
+        assertThat(VarInts.writeLong(array, 1, value)).isEqualTo(size + 1);
+        assertThat(VarInts.readLong(array, 1)).isEqualTo(value);
+
+        // ByteBuffer
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        VarInts.writeLong(buffer, value);
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(VarInts.readLong(buffer.flip())).isEqualTo(value);
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        // DataOutput/DataInput
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        VarInts.writeLong(new DataOutputStream(baos), value);
+        assertThat(baos.toByteArray()).isEqualTo(Arrays.copyOfRange(array, 1, size + 1));
+        assertThat(VarInts.readLong(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())))).isEqualTo(value);
+    }
+
+    @Test
+    void testSizeOf() {
+        assertThat(VarInts.sizeOf(0)).isEqualTo(1);
+        assertThat(VarInts.sizeOf(0x7F)).isEqualTo(1);
+        assertThat(VarInts.sizeOf(0x80)).isEqualTo(2);
+        assertThat(VarInts.sizeOf(-1)).isEqualTo(VarInts.MAX_INT_SIZE);
+        assertThat(VarInts.sizeOf(0L)).isEqualTo(1);
+        assertThat(VarInts.sizeOf(Long.MAX_VALUE)).isEqualTo(9);
+        assertThat(VarInts.sizeOf(-1L)).isEqualTo(VarInts.MAX_LONG_SIZE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, -1, 63, -64, 64, -65, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE})
+    void testZigZag(long value) {
+        final long encoded = VarInts.encodeZigZag(value);
+        assertThat(VarInts.decodeZigZag(encoded)).isEqualTo(value);
+        assertThat(encoded).isEqualTo(value >= 0 ? value * 2 : -value * 2 - 1);
+
+        if (value == (int) value) {
+            final int encodedInt = VarInts.encodeZigZag((int) value);
+            assertThat(encodedInt).isEqualTo((int) encoded);
+            assertThat(VarInts.decodeZigZag(encodedInt)).isEqualTo((int) value);
+        }
+    }
+
+    @Test
+    void testZigZagKeepsSmallValuesShort() {
+        assertThat(VarInts.sizeOf(VarInts.encodeZigZag(-64L))).isEqualTo(1);
+        assertThat(VarInts.sizeOf(VarInts.encodeZigZag(-1))).isEqualTo(1);
+    }
+
+    @Test
+    void testReadMalformed() {
+        // Trailing zero group
+        byte[] padded = {(byte) 0x80, 0x00};
+        assertThat(catchThrowable(() -> VarInts.readLong(padded, 0))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> VarInts.readInt(ByteBuffer.wrap(padded)))).isInstanceOf(IllegalArgumentException.class);
+
+        // Too large for an int
+        byte[] largeInt = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x1F};
+        assertThat(catchThrowable(() -> VarInts.readInt(largeInt, 0))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(VarInts.readLong(largeInt, 0)).isEqualTo(0x1FFFFFFFFL);
+
+        // Too long for a long
+        byte[] tooLong = new byte[11];
+        Arrays.fill(tooLong, (byte) 0xFF);
+        tooLong[10] = 0x01;
+        assertThat(catchThrowable(() -> VarInts.readLong(tooLong, 0))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> VarInts.readLong(new DataInputStream(new ByteArrayInputStream(tooLong))))).isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void testReadTruncated() {
+        byte[] truncated = {(byte) 0x80, (byte) 0x80};
+        assertThat(catchThrowable(() -> VarInts.readLong(truncated, 0))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> VarInts.readLong(ByteBuffer.wrap(truncated)))).isInstanceOf(BufferUnderflowException.class);
+        assertThat(catchThrowable(() -> VarInts.readInt(new DataInputStream(new ByteArrayInputStream(truncated))))).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void testWriteOverflow() {
+        assertThat(catchThrowable(() -> VarInts.writeLong(new byte[2], 0, 0x4000))).isInstanceOf(IndexOutOfBoundsException.class);
+
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+        assertThat(catchThrowable(() -> VarInts.writeInt(buffer, 0x4000))).isInstanceOf(BufferOverflowException.class);
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1000})
+    void testWriteReadInts(int length) {
+        final int[] values = new Random(length).ints(length).map(i -> i >>> (i & 31)).toArray();
+
+        byte[] data = new byte[VarInts.sizeOf(values, 0, length) + 1];
+        assertThat(VarInts.writeInts(values, 0, length, data, 1)).isEqualTo(data.length);
+
+        int[] actual = new int[length];
+        assertThat(VarInts.readInts(data, 1, actual, 0, length)).isEqualTo(data.length);
+        assertThat(actual).isEqualTo(values);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1000})
+    void testWriteReadLongs(int length) {
+        final long[] values = new Random(length).longs(length).map(l -> l >>> (l & 63)).toArray();
+
+        byte[] data = new byte[VarInts.sizeOf(values, 0, length)];
+        assertThat(VarInts.writeLongs(values, 0, length, data, 0)).isEqualTo(data.length);
+
+        long[] actual = new long[length + 1];
+        assertThat(VarInts.readLongs(data, 0, actual, 1, length)).isEqualTo(data.length);
+        assertThat(Arrays.copyOfRange(actual, 1, length + 1)).isEqualTo(values);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1000})
+    void testWriteReadDeltas(int length) {
+        final Random random = new Random(length);
+        final long[] values = new long[length];
+        long current = Integer.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            current += random.nextInt(100);
+            values[i] = current;
+        }
+
+        final int size = VarInts.deltaSizeOf(values, 0, length);
+        assertThat(size).isLessThanOrEqualTo(VarInts.sizeOf(values, 0, length));
+        if (length > 1) {
+            assertThat(size).isLessThan(VarInts.MAX_LONG_SIZE + length * 2);
+        }
+
+        byte[] data = new byte[size];
+        assertThat(VarInts.writeDeltas(values, 0, length, data, 0)).isEqualTo(size);
+
+        long[] actual = new long[length];
+        assertThat(VarInts.readDeltas(data, 0, actual, 0, length)).isEqualTo(size);
+        assertThat(actual).isEqualTo(values);
+    }
+
+    @Test
+    void testWriteDeltasWithExtremeValues() {
+        final long[] values = {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE};
+
+        byte[] data = new byte[VarInts.deltaSizeOf(values, 0, values.length)];
+        VarInts.writeDeltas(values, 0, values.length, data, 0);
+
+        long[] actual = new long[values.length];
+        VarInts.readDeltas(data, 0, actual, 0, values.length);
+        assertThat(actual).isEqualTo(values);
+    }
+
+    @Test
+    void testWriteDeltasUnsorted() {
+        final long[] values = {1, 3, 2};
+
+        assertThat(catchThrowable(() -> VarInts.writeDeltas(values, 0, values.length, new byte[16], 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sorted");
+    }
+}
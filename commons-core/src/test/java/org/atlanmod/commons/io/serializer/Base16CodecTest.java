@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link Base16Codec}.
+ */
+@ParametersAreNonnullByDefault
+class Base16CodecTest extends AbstractTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 100, 3000})
+    void testEncodeDecode(int length) throws IOException {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        String expected = toHexString(data);
+
+        assertThat(Base16Codec.encodedLength(length)).isEqualTo(expected.length());
+        assertThat(Base16Codec.encode(data)).isEqualTo(expected);
+
+        char[] chars = new char[expected.length() + 2];
+        assertThat(Base16Codec.encode(data, 0, length, chars, 1)).isEqualTo(expected.length());
+        assertThat(new String(chars, 1, expected.length())).isEqualTo(expected);
+
+        byte[] ascii = new byte[expected.length() + 2];
+        assertThat(Base16Codec.encode(data, 0, length, ascii, 2)).isEqualTo(expected.length());
+        assertThat(new String(ascii, 2, expected.length(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+
+        StringBuilder sb = new StringBuilder("id=");
+        Base16Codec.encode(data, 0, length, sb);
+        assertThat(sb.toString()).isEqualTo("id=" + expected);
+
+        assertThat(Base16Codec.decode(expected)).isEqualTo(data);
+        assertThat(Base16Codec.decode(expected.toUpperCase())).isEqualTo(data);
+        assertThat(Base16Codec.decode(CharBuffer.wrap(expected.toCharArray()))).isEqualTo(data);
+
+        byte[] decoded = new byte[length + 1];
+        assertThat(Base16Codec.decode(sb, 3, expected.length(), decoded, 1)).isEqualTo(length);
+        assertThat(decoded).endsWith(data);
+    }
+
+    @Test
+    void testEncodeRange() {
+        byte[] data = {0x00, 0x01, (byte) 0xab, (byte) 0xff, 0x10};
+
+        char[] chars = new char[6];
+        assertThat(Base16Codec.encode(data, 1, 3, chars, 0)).isEqualTo(6);
+        assertThat(new String(chars)).isEqualTo("01abff");
+
+        assertThat(catchThrowable(() -> Base16Codec.encode(data, 1, 3, new char[5], 0)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> Base16Codec.encode(data, 3, 3, chars, 0)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertThat(catchThrowable(() -> Base16Codec.decode("0g")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> Base16Codec.decode("012")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> Base16Codec.decode("0é")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testWrap() throws IOException {
+        byte[] data = new byte[5000];
+        new Random(42).nextBytes(data);
+
+        StringWriter writer = new StringWriter();
+        try (OutputStream os = Base16Codec.wrap(writer)) {
+            os.write(data[0]);
+            os.write(data, 1, data.length - 1);
+        }
+
+        assertThat(writer.toString()).isEqualTo(toHexString(data));
+    }
+
+    /**
+     * Encodes the {@code bytes} digit by digit, as a reference.
+     */
+    private static String toHexString(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit(b >> 4 & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return builder.toString();
+    }
+}
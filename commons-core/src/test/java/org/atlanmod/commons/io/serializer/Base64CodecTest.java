@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.atlanmod.commons.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link Base64Codec}.
+ */
+@ParametersAreNonnullByDefault
+class Base64CodecTest extends AbstractTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 100, 3000, 10001})
+    void testEncodeDecode(int length) throws IOException {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        String expected = Base64.getEncoder().encodeToString(data);
+
+        assertThat(Base64Codec.encodedLength(length)).isEqualTo(expected.length());
+        assertThat(Base64Codec.encode(data)).isEqualTo(expected);
+
+        char[] chars = new char[expected.length() + 2];
+        assertThat(Base64Codec.encode(data, 0, length, chars, 1)).isEqualTo(expected.length());
+        assertThat(new String(chars, 1, expected.length())).isEqualTo(expected);
+
+        byte[] ascii = new byte[expected.length() + 2];
+        assertThat(Base64Codec.encode(data, 0, length, ascii, 2)).isEqualTo(expected.length());
+        assertThat(new String(ascii, 2, expected.length(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+
+        StringBuilder sb = new StringBuilder("id=");
+        Base64Codec.encode(data, 0, length, sb);
+        assertThat(sb.toString()).isEqualTo("id=" + expected);
+
+        assertThat(Base64Codec.decode(expected)).isEqualTo(data);
+        assertThat(Base64Codec.decode(CharBuffer.wrap(expected.toCharArray()))).isEqualTo(data);
+        assertThat(Base64Codec.decode(expected.replace("=", ""))).isEqualTo(data);
+
+        byte[] decoded = new byte[length + 1];
+        assertThat(Base64Codec.decode(sb, 3, expected.length(), decoded, 1)).isEqualTo(length);
+        assertThat(decoded).endsWith(data);
+    }
+
+    @Test
+    void testEncodeRange() {
+        byte[] data = "--Hello--".getBytes(StandardCharsets.US_ASCII);
+
+        char[] chars = new char[8];
+        assertThat(Base64Codec.encode(data, 2, 5, chars, 0)).isEqualTo(8);
+        assertThat(new String(chars)).isEqualTo("SGVsbG8=");
+
+        assertThat(catchThrowable(() -> Base64Codec.encode(data, 2, 5, new char[7], 0)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> Base64Codec.encode(data, 5, 5, chars, 0)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertThat(catchThrowable(() -> Base64Codec.decode("SGVsb?8=")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> Base64Codec.decode("SGVsbG8")))
+                .doesNotThrowAnyException();
+        assertThat(catchThrowable(() -> Base64Codec.decode("SGVsb")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> Base64Codec.decode("SGV=")))
+                .doesNotThrowAnyException();
+        assertThat(catchThrowable(() -> Base64Codec.decode("SG=")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> Base64Codec.decode("S===")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testWrap() throws IOException {
+        byte[] data = new byte[10_000];
+        new Random(42).nextBytes(data);
+
+        StringWriter writer = new StringWriter();
+        try (OutputStream os = Base64Codec.wrap(writer)) {
+            os.write(data, 0, 1);
+            os.write(data[1]);
+            os.write(data, 2, 4000);
+            os.write(data, 4002, data.length - 4002);
+        }
+
+        assertThat(writer.toString()).isEqualTo(Base64.getEncoder().encodeToString(data));
+    }
+}
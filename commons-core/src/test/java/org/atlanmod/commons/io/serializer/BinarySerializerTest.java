@@ -8,15 +8,50 @@
 
 package org.atlanmod.commons.io.serializer;
 
+import org.atlanmod.commons.collect.CloseableIterator;
+import org.atlanmod.commons.collect.CompressedBitmap;
+import org.atlanmod.commons.hash.HashCode;
+import org.atlanmod.commons.hash.StandardHashers;
+import org.atlanmod.commons.io.UnsignedInt;
+import org.atlanmod.commons.io.UnsignedVarInt;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 /**
  * A test-case that checks the behavior of {@link BinarySerializer} instances.
@@ -43,4 +78,394 @@ class BinarySerializerTest extends AbstractSerializerTest {
 
         assertThat(result).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testSerializeIntoArray(boolean perThread) throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<List<Integer>> serializer = perThread ? factory.forAnyPerThread() : factory.forAny();
+
+        List<Integer> object = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        byte[] expected = serializer.serialize(object);
+
+        byte[] dest = new byte[expected.length + 10];
+        int length = serializer.serialize(object, dest, 7);
+
+        assertThat(length).isEqualTo(expected.length);
+        assertThat(Arrays.copyOfRange(dest, 7, 7 + length)).isEqualTo(expected);
+        assertThat(Arrays.copyOfRange(dest, 0, 7)).containsOnly(0);
+
+        List<Integer> result = serializer.deserialize(Arrays.copyOfRange(dest, 7, 7 + length));
+        assertThat(result).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        assertThat(catchThrowable(() -> serializer.serialize(object, dest, 11)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"heap", "direct", "slice"})
+    void testSerializeDeserializeWithByteBuffer(String kind) throws IOException {
+        BinarySerializer<List<Integer>> serializer = BinarySerializerFactory.getInstance().forAny();
+
+        List<List<Integer>> objects = IntStream.range(0, 200)
+                .mapToObj(i -> IntStream.range(0, i).boxed().collect(Collectors.toList()))
+                .collect(Collectors.toList());
+
+        ByteBuffer buffer = allocate(kind, 1 << 18);
+        for (List<Integer> object : objects) {
+            serializer.serialize(object, buffer);
+        }
+        final int written = buffer.position();
+        buffer.flip();
+
+        for (List<Integer> object : objects) {
+            assertThat(serializer.deserialize(buffer)).isEqualTo(object);
+        }
+        assertThat(buffer.position()).isEqualTo(written);
+        assertThat(buffer.limit()).isEqualTo(written);
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    <T> void testSerializeDeserializeValueWithByteBuffer(Class<T> type, T value, int size) throws IOException {
+        BinarySerializer<T> serializer = BinarySerializerFactory.getInstance().forType(type);
+
+        for (String kind : new String[]{"heap", "direct", "slice"}) {
+            ByteBuffer buffer = allocate(kind, size * 3);
+            serializer.serialize(value, buffer);
+            serializer.serialize(value, buffer);
+            assertThat(buffer.position()).isEqualTo(size * 2);
+
+            if (size > 0) {
+                assertThat(catchThrowable(() -> serializer.serialize(value, buffer.limit(size * 3 - 1))))
+                        .isInstanceOf(BufferOverflowException.class);
+                assertThat(buffer.position()).isEqualTo(size * 2);
+            }
+
+            buffer.flip();
+            assertThat(serializer.deserialize(buffer)).isEqualTo(value);
+            assertThat(buffer.position()).isEqualTo(size);
+            assertThat(serializer.deserialize(buffer)).isEqualTo(value);
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+    }
+
+    @Test
+    void testDeserializeDoesNotModifyTheInput() throws IOException {
+        BinarySerializer<List<Integer>> serializer = BinarySerializerFactory.getInstance().forAny();
+
+        byte[] data = serializer.serialize(IntStream.range(0, 5000).boxed().collect(Collectors.toList()));
+        byte[] copy = data.clone();
+        assertThat(serializer.deserialize(data)).hasSize(5000);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.serialize(Arrays.asList(1, 2, 3), baos);
+        assertThat(serializer.deserialize(new ByteArrayInputStream(baos.toByteArray()))).containsExactly(1, 2, 3);
+        assertThat(serializer.deserialize(ByteBuffer.wrap(baos.toByteArray()))).containsExactly(1, 2, 3);
+
+        assertThat(data).isEqualTo(copy);
+    }
+
+    @Test
+    void testSerializeWithByteBufferOverflow() throws IOException {
+        BinarySerializer<List<Integer>> serializer = BinarySerializerFactory.getInstance().forAny();
+        List<Integer> object = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        int length = serializer.serialize(object).length;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length * 2 - 1);
+        serializer.serialize(object, buffer);
+
+        assertThat(catchThrowable(() -> serializer.serialize(object, buffer)))
+                .isInstanceOf(BufferOverflowException.class);
+        assertThat(buffer.position()).isEqualTo(length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"shared", "perThread", "value"})
+    void testSerializeDeserializeAll(String kind) throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<String> serializer = kind.equals("value")
+                ? factory.forType(String.class)
+                : kind.equals("perThread") ? factory.forAnyPerThread() : factory.forAny();
+
+        List<String> objects = IntStream.range(0, 1000)
+                .mapToObj(i -> String.join("", Collections.nCopies(i % 100, "x" + i)))
+                .collect(Collectors.toList());
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.serializeAll(objects, baos);
+
+        byte[] data = baos.toByteArray();
+        byte[] prefix = UnsignedVarInt.fromInt(serializer.serialize(objects.get(0)).length).toBytes();
+        assertThat(Arrays.copyOf(data, prefix.length)).isEqualTo(prefix);
+
+        List<String> result = new ArrayList<>();
+        try (CloseableIterator<String> it = serializer.deserializeAll(new ByteArrayInputStream(data))) {
+            it.forEachRemaining(result::add);
+        }
+        assertThat(result).isEqualTo(objects);
+    }
+
+    @Test
+    void testDeserializeAllIsLazy() throws IOException {
+        BinarySerializer<List<Integer>> serializer = BinarySerializerFactory.getInstance().forAny();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.serializeAll(Arrays.asList(Arrays.asList(1, 2), Collections.emptyList(), Arrays.asList(3)), baos);
+
+        AtomicInteger closed = new AtomicInteger();
+        InputStream is = new ByteArrayInputStream(baos.toByteArray()) {
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+
+        CloseableIterator<List<Integer>> it = serializer.deserializeAll(is);
+        assertThat(it.next()).containsExactly(1, 2);
+        assertThat(is.available()).isGreaterThan(0);
+        assertThat(it.next()).isEmpty();
+        assertThat(it.next()).containsExactly(3);
+        assertThat(closed).hasValue(0);
+
+        assertThat(it.hasNext()).isFalse();
+        assertThat(closed).hasValue(1);
+        assertThat(catchThrowable(it::next)).isInstanceOf(NoSuchElementException.class);
+
+        it.close();
+        assertThat(closed).hasValue(1);
+    }
+
+    @Test
+    void testDeserializeAllWithTruncatedStream() throws IOException {
+        BinarySerializer<Long> serializer = BinarySerializerFactory.getInstance().forType(Long.class);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.serializeAll(Arrays.asList(1L, 2L), baos);
+        byte[] data = Arrays.copyOf(baos.toByteArray(), baos.size() - 1);
+
+        CloseableIterator<Long> it = serializer.deserializeAll(new ByteArrayInputStream(data));
+        assertThat(it.next()).isEqualTo(1L);
+        assertThat(catchThrowable(it::next))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(EOFException.class);
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 9})
+    void testDeserializeAllWithMismatchedLength(int length) throws IOException {
+        BinarySerializer<Long> serializer = BinarySerializerFactory.getInstance().forType(Long.class);
+
+        // A record of `length` bytes that contains a value of 8 bytes, followed by a valid record
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Records.writeLength(baos, length);
+        baos.write(serializer.serialize(1L));
+        baos.write(new byte[Math.max(0, length - Long.BYTES)]);
+        serializer.serializeAll(Collections.singletonList(2L), baos);
+
+        CloseableIterator<Long> it = serializer.deserializeAll(new ByteArrayInputStream(baos.toByteArray()));
+        assertThat(catchThrowable(it::next))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(StreamCorruptedException.class);
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @Test
+    void testSerializeValueIntoArray() throws IOException {
+        BinarySerializer<Long> serializer = BinarySerializerFactory.getInstance().forType(Long.class);
+
+        byte[] dest = new byte[10];
+        assertThat(serializer.serialize(42L, dest, 2)).isEqualTo(Long.BYTES);
+        assertThat(serializer.deserialize(Arrays.copyOfRange(dest, 2, 10))).isEqualTo(42L);
+
+        assertThat(catchThrowable(() -> serializer.serialize(42L, dest, 3)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testConcurrentPerThreadSerialization() throws Exception {
+        BinarySerializer<List<Integer>> shared = BinarySerializerFactory.getInstance().forAny();
+        BinarySerializer<List<Integer>> perThread = BinarySerializerFactory.getInstance().forAnyPerThread();
+
+        List<List<Integer>> objects = IntStream.range(0, 500)
+                .mapToObj(i -> IntStream.range(0, i % 50).boxed().collect(Collectors.toList()))
+                .collect(Collectors.toList());
+
+        List<byte[]> expected = new ArrayList<>();
+        for (List<Integer> object : objects) {
+            expected.add(shared.serialize(object));
+        }
+
+        Callable<Boolean> task = () -> {
+            byte[] dest = new byte[1024];
+            for (int i = 0; i < objects.size(); i++) {
+                int length = perThread.serialize(objects.get(i), dest, 0);
+                if (!Arrays.equals(Arrays.copyOf(dest, length), expected.get(i))
+                        || !perThread.deserialize(expected.get(i)).equals(objects.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<Boolean> result : pool.invokeAll(Collections.nCopies(4, task))) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    <T> void testSerializeDeserializeValue(Class<T> type, T value, int size) throws IOException {
+        BinarySerializer<T> serializer = BinarySerializerFactory.getInstance().forType(type);
+        assertThat(serializer).isNotSameAs(BinarySerializerFactory.getInstance().forAny());
+
+        byte[] data = serializer.serialize(value);
+        assertThat(data).hasSize(size);
+        assertThat(serializer.deserialize(data)).isEqualTo(value);
+
+        assertThat(processWithStream(value, serializer)).isEqualTo(value);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.serialize(value, baos);
+        serializer.serialize(value, baos);
+        assertThat(baos.toByteArray()).hasSize(size * 2);
+
+        InputStream is = new ByteArrayInputStream(baos.toByteArray());
+        assertThat(serializer.deserialize(is)).isEqualTo(value);
+        assertThat(serializer.deserialize(is)).isEqualTo(value);
+        assertThat(is.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void testSerializeDeserializeByteArray() throws IOException {
+        BinarySerializer<byte[]> serializer = BinarySerializerFactory.getInstance().forType(byte[].class);
+
+        byte[] value = {1, 2, 3, -4};
+        byte[] data = serializer.serialize(value);
+        assertThat(data).hasSize(Integer.BYTES + value.length);
+        assertThat(serializer.deserialize(data)).containsExactly(value);
+    }
+
+    @Test
+    void testSerializeDeserializeLargeByteArray() throws IOException {
+        BinarySerializer<byte[]> serializer = BinarySerializerFactory.getInstance().forType(byte[].class);
+
+        byte[] value = new byte[100_000];
+        new Random(42).nextBytes(value);
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    void testDeserializeCorruptedLength() {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        byte[] negative = {(byte) 0x80, 0, 0, 0, 1, 2};
+        byte[] truncated = {0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1, 2};
+
+        assertThat(catchThrowable(() -> factory.forType(String.class).deserialize(negative))).isInstanceOf(StreamCorruptedException.class);
+        assertThat(catchThrowable(() -> factory.forType(String.class).deserialize(truncated))).isInstanceOf(EOFException.class);
+
+        assertThat(catchThrowable(() -> factory.forType(byte[].class).deserialize(negative))).isInstanceOf(StreamCorruptedException.class);
+        assertThat(catchThrowable(() -> factory.forType(byte[].class).deserialize(truncated))).isInstanceOf(EOFException.class);
+
+        assertThat(catchThrowable(() -> factory.forType(HashCode.class).deserialize(new byte[]{0, 1, 2}))).isInstanceOf(StreamCorruptedException.class);
+        assertThat(catchThrowable(() -> factory.forType(HashCode.class).deserialize(new byte[]{8, 1, 2}))).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void testPrimitiveTypes() {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+
+        assertThat(factory.forType(int.class)).isSameAs(factory.forType(Integer.class));
+        assertThat(factory.forType(long.class)).isSameAs(factory.forType(Long.class));
+        assertThat(factory.forType(boolean.class)).isSameAs(factory.forType(Boolean.class));
+    }
+
+    @Test
+    void testUnknownType() {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+
+        assertThat(factory.forType(ArrayList.class)).isSameAs(factory.forAny());
+    }
+
+    @Test
+    void testRegister() throws IOException {
+        BinarySerializerFactory factory = new BinarySerializerFactory();
+        BinarySerializer<Integer> intSerializer = factory.forType(Integer.class);
+
+        BinarySerializer<AtomicInteger> serializer = new AbstractDataBinarySerializer<AtomicInteger>() {
+            @Override
+            public void serialize(AtomicInteger atomicInteger, DataOutput out) throws IOException {
+                intSerializer.serialize(atomicInteger.get(), out);
+            }
+
+            @Nonnull
+            @Override
+            public AtomicInteger deserialize(DataInput in) throws IOException {
+                return new AtomicInteger(intSerializer.deserialize(in));
+            }
+        };
+
+        factory.register(AtomicInteger.class, serializer);
+        assertThat(factory.forType(AtomicInteger.class)).isSameAs(serializer);
+        assertThat(process(new AtomicInteger(42), factory.forType(AtomicInteger.class)).get()).isEqualTo(42);
+
+        assertThat(BinarySerializerFactory.getInstance().forType(AtomicInteger.class)).isSameAs(BinarySerializerFactory.getInstance().forAny());
+    }
+
+    /**
+     * Allocates a buffer of the given {@code kind}: {@code heap}, {@code direct}, or {@code slice} for a heap buffer
+     * whose array offset is not {@code 0}.
+     */
+    @Nonnull
+    private static ByteBuffer allocate(String kind, int capacity) {
+        switch (kind) {
+            case "direct":
+                return ByteBuffer.allocateDirect(capacity);
+            case "slice":
+                return ByteBuffer.allocate(capacity + 5).position(5).slice();
+            default:
+                return ByteBuffer.allocate(capacity);
+        }
+    }
+
+    @Nonnull
+    private static Stream<Arguments> values() {
+        return Stream.of(
+                Arguments.of(Boolean.class, true, 1),
+                Arguments.of(Byte.class, (byte) -42, 1),
+                Arguments.of(Character.class, 'x', 2),
+                Arguments.of(Short.class, (short) -1234, 2),
+                Arguments.of(Integer.class, Integer.MIN_VALUE, 4),
+                Arguments.of(int.class, 42, 4),
+                Arguments.of(Long.class, Long.MAX_VALUE, 8),
+                Arguments.of(Float.class, 3.14f, 4),
+                Arguments.of(Double.class, -2.71d, 8),
+                Arguments.of(String.class, "Lorem ipsum é中", 4 + 17),
+                Arguments.of(String.class, "", 4),
+                Arguments.of(UnsignedInt.class, UnsignedInt.fromLong(UnsignedInt.MAX_VALUE), 4),
+                Arguments.of(UnsignedVarInt.class, UnsignedVarInt.fromLong(0), 1),
+                Arguments.of(UnsignedVarInt.class, UnsignedVarInt.fromLong(300), 2),
+                Arguments.of(UnsignedVarInt.class, UnsignedVarInt.fromLong(1L << 40), 6),
+                Arguments.of(HashCode.class, StandardHashers.XX.hash(42), 1 + 8),
+                Arguments.of(HashCode.class, StandardHashers.SHA256.hash(42), 1 + 32),
+                Arguments.of(HashCode.class, StandardHashers.XX128.hash(42), 1 + 16),
+                Arguments.of(HashCode.class, StandardHashers.MD5.hash(42), 1 + 16),
+                Arguments.of(CompressedBitmap.class, new CompressedBitmap(), 4 + 2),
+                Arguments.of(CompressedBitmap.class, CompressedBitmap.of(1, 70_000), 4 + 2 + 2 * (3 + 2 + 2)),
+                Arguments.of(CompressedBitmap.class, fullBitmap(1 << 20), 4 + 2 + 16 * (3 + 2 + 4)));
+    }
+
+    @Nonnull
+    private static CompressedBitmap fullBitmap(int size) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.set(0, size);
+        return bitmap;
+    }
+}
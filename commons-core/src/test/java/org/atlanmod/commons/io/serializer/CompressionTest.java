@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.io.serializer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link Compression} and of the serializers created by
+ * {@link BinarySerializerFactory#compressed(BinarySerializer, Compression, int)}.
+ */
+@ParametersAreNonnullByDefault
+class CompressionTest extends AbstractSerializerTest {
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    void testCompressDecompress(Compression compression) throws IOException {
+        Random random = new Random(42);
+        for (int length : new int[]{0, 1, 12, 13, 17, 100, 1000, 65535, 65536, 200_000}) {
+            // Repetitive data, with long runs and matches farther than the maximum offset of LZ
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (i % 7 == 0 ? random.nextInt(4) : i / 1000);
+            }
+            assertThat(roundTrip(compression, data)).isEqualTo(data);
+
+            byte[] noise = new byte[length];
+            random.nextBytes(noise);
+            assertThat(roundTrip(compression, noise)).isEqualTo(noise);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    void testCompressWithLimit(Compression compression) {
+        byte[] noise = new byte[1000];
+        new Random(42).nextBytes(noise);
+        assertThat(compression.compress(noise, noise.length, new byte[2000], 900)).isEqualTo(-1);
+
+        byte[] zeros = new byte[1000];
+        assertThat(compression.compress(zeros, zeros.length, new byte[2000], 900)).isBetween(0, 100);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    void testDecompressMalformed(Compression compression) {
+        byte[] data = new byte[1000];
+        Arrays.fill(data, (byte) 'x');
+
+        byte[] compressed = new byte[1000];
+        int length = compression.compress(data, data.length, compressed, compressed.length);
+
+        assertThat(catchThrowable(() -> compression.decompress(compressed, 0, length - 1, data.length)))
+                .isInstanceOf(StreamCorruptedException.class);
+        assertThat(catchThrowable(() -> compression.decompress(compressed, 0, length, data.length + 1)))
+                .isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    void testSerializeDeserialize(Compression compression) throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<List<String>> serializer = factory.compressed(factory.forAny(), compression, 64);
+
+        List<String> small = Arrays.asList("a", "b");
+        byte[] smallData = serializer.serialize(small);
+        assertThat(smallData[0]).isEqualTo(Compression.NONE);
+        assertThat(serializer.deserialize(smallData)).isEqualTo(small);
+
+        List<String> large = IntStream.range(0, 1000).mapToObj(i -> "value" + i % 10).collect(Collectors.toList());
+        byte[] largeData = serializer.serialize(large);
+        assertThat(largeData[0]).isEqualTo(compression.id());
+        assertThat(largeData.length).isLessThan(factory.forAny().serialize(large).length / 2);
+        assertThat(serializer.deserialize(largeData)).isEqualTo(large);
+        assertThat(processWithStream(large, serializer)).isEqualTo(large);
+    }
+
+    @Test
+    void testDeserializeAnyCompression() throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<String> delegate = factory.forType(String.class);
+
+        String value = String.join("", Collections.nCopies(100, "lorem ipsum "));
+
+        List<byte[]> payloads = new ArrayList<>();
+        for (Compression c : Compression.values()) {
+            payloads.add(factory.compressed(delegate, c, 0).serialize(value));
+        }
+        payloads.add(factory.compressed(delegate, Compression.LZ, Integer.MAX_VALUE).serialize(value));
+
+        BinarySerializer<String> serializer = factory.compressed(delegate, Compression.LZ, 0);
+        for (byte[] payload : payloads) {
+            assertThat(serializer.deserialize(payload)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void testSerializeDeserializeAll() throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<String> serializer = factory.compressed(factory.forType(String.class), Compression.LZ, 32);
+
+        List<String> values = IntStream.range(0, 100)
+                .mapToObj(i -> String.join("", Collections.nCopies(i, "x")))
+                .collect(Collectors.toList());
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.serializeAll(values, baos);
+
+        List<String> result = new ArrayList<>();
+        serializer.deserializeAll(new ByteArrayInputStream(baos.toByteArray())).forEachRemaining(result::add);
+        assertThat(result).isEqualTo(values);
+    }
+
+    @Test
+    void testUnknownCompression() throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<String> serializer = factory.compressed(factory.forType(String.class), Compression.LZ, 0);
+
+        byte[] data = serializer.serialize(String.join("", Collections.nCopies(100, "x")));
+        data[0] = 42;
+
+        assertThat(catchThrowable(() -> serializer.deserialize(data)))
+                .isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    void testDecompressImpossibleLength(Compression compression) {
+        assertThat(catchThrowable(() -> compression.decompress(new byte[4], 0, 4, Integer.MAX_VALUE)))
+                .isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void testDeserializeCorruptedLengths() throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<byte[]> serializer = factory.compressed(factory.forType(byte[].class), Compression.LZ, 0);
+
+        // An uncompressed payload that announces 2 GiB, but only contains a few bytes
+        ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+        uncompressed.write(Compression.NONE);
+        Records.writeLength(uncompressed, Integer.MAX_VALUE);
+        uncompressed.write(new byte[16]);
+        assertThat(catchThrowable(() -> serializer.deserialize(uncompressed.toByteArray())))
+                .isInstanceOf(EOFException.class);
+
+        // A compressed payload of 16 bytes that announces more than LZ can produce from them
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        compressed.write(Compression.LZ.id());
+        Records.writeLength(compressed, Integer.MAX_VALUE);
+        Records.writeLength(compressed, 16);
+        compressed.write(new byte[16]);
+        assertThat(catchThrowable(() -> serializer.deserialize(compressed.toByteArray())))
+                .isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void testSerializeDeserializeLargerThanScratch() throws IOException {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+        BinarySerializer<byte[]> serializer = factory.compressed(factory.forType(byte[].class), Compression.LZ, 0);
+
+        byte[] value = new byte[3 << 20];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = (byte) (i / 1000);
+        }
+
+        byte[] data = serializer.serialize(value);
+        assertThat(data[0]).isEqualTo(Compression.LZ.id());
+        assertThat(serializer.deserialize(data)).isEqualTo(value);
+    }
+
+    @Test
+    void testNegativeThreshold() {
+        BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+
+        assertThat(catchThrowable(() -> factory.compressed(factory.forAny(), Compression.LZ, -1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Compresses then decompresses the {@code data}.
+     */
+    @Nonnull
+    private static byte[] roundTrip(Compression compression, byte[] data) throws IOException {
+        byte[] compressed = new byte[data.length + data.length / 8 + 64];
+        int length = compression.compress(data, data.length, compressed, compressed.length);
+        assertThat(length).isNotNegative();
+
+        return compression.decompress(compressed, 0, length, data.length);
+    }
+}
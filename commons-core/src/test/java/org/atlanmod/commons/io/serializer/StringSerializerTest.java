@@ -9,14 +9,21 @@
 package org.atlanmod.commons.io.serializer;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 /**
  * A test-case that checks the behavior of {@link StringSerializer} instances.
@@ -45,4 +52,44 @@ class StringSerializerTest extends AbstractSerializerTest {
 
         assertThat(result).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"base16", "base64"})
+    void testSerializeInDestination(String encoding) throws IOException {
+        BinarySerializer<List<Integer>> binarySerializer = BinarySerializerFactory.getInstance().forAny();
+        StringSerializer<List<Integer>> serializer = "base16".equals(encoding)
+                ? StringSerializerFactory.base16(binarySerializer)
+                : StringSerializerFactory.base64(binarySerializer);
+
+        List<Integer> object = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        String expected = serializer.serialize(object);
+
+        char[] chars = new char[expected.length() + 1];
+        assertThat(serializer.serialize(object, chars, 1)).isEqualTo(expected.length());
+        assertThat(new String(chars, 1, expected.length())).isEqualTo(expected);
+
+        byte[] bytes = new byte[expected.length()];
+        assertThat(serializer.serialize(object, bytes, 0)).isEqualTo(expected.length());
+        assertThat(new String(bytes, StandardCharsets.US_ASCII)).isEqualTo(expected);
+
+        StringBuilder sb = new StringBuilder("key:");
+        serializer.serialize(object, sb);
+        assertThat(sb.toString()).isEqualTo("key:" + expected);
+
+        assertThat(serializer.deserialize(CharBuffer.wrap(sb, 4, sb.length()))).isEqualTo(object);
+        assertThat(serializer.deserialize(expected)).isEqualTo(object);
+
+        assertThat(catchThrowable(() -> serializer.serialize(object, new char[expected.length() - 1], 0)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testSerializeValueInDestination() throws IOException {
+        StringSerializer<Long> serializer = StringSerializerFactory.base16(BinarySerializerFactory.getInstance().forType(Long.class));
+
+        char[] chars = new char[16];
+        assertThat(serializer.serialize(0x0123456789abcdefL, chars, 0)).isEqualTo(16);
+        assertThat(new String(chars)).isEqualTo("0123456789abcdef");
+        assertThat(serializer.deserialize(new StringBuilder("0123456789ABCDEF"))).isEqualTo(0x0123456789abcdefL);
+    }
 }
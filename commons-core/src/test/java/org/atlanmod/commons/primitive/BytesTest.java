@@ -20,6 +20,7 @@ import java.util.List;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 /**
  * A test-case that checks the behavior of {@link Bytes}.
@@ -106,6 +107,22 @@ class BytesTest extends AbstractTest {
         assertThat(Bytes.toString(actualBytes0)).isEqualTo(expected0);
     }
 
+    @Test
+    void testToStringBinaryInArrays() {
+        byte[] bytes = new byte[]{0x00, 0x7f, (byte) 0x80, (byte) 0xff};
+
+        char[] chars = new char[8];
+        assertThat(Bytes.toStringBinary(bytes, 1, 3, chars, 1)).isEqualTo(6);
+        assertThat(new String(chars, 1, 6)).isEqualTo("7f80ff");
+
+        byte[] ascii = new byte[8];
+        assertThat(Bytes.toStringBinary(bytes, 0, 4, ascii, 0)).isEqualTo(8);
+        assertThat(Bytes.toString(ascii)).isEqualTo("007f80ff");
+
+        assertThat(catchThrowable(() -> Bytes.toStringBinary(bytes, 0, 4, new char[7], 0))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> Bytes.toStringBinary(bytes, 2, 3, ascii, 0))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
     @Test
     void testAsList() {
         byte[] bytes = new byte[] {1, 2, 3, 4, 5};